@@ -0,0 +1,66 @@
+package org.example.benchmarks;
+
+import org.example.BinaryMapLoader;
+import org.example.CollisionMap;
+
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 맵/시나리오 도우미
+ *
+ * 실제 게임 맵(magical-school-map)을 JVM마다 한 번만 로드하고,
+ * 고정 시드로 좌표/플레이어 위치를 만들어 실행할 때마다 같은 시나리오를 재현합니다.
+ * 맵 경로는 -Dmap.path로 바꿀 수 있습니다. (기본값은 benchmarks 폴더에서 실행하는 경우)
+ */
+public final class BenchmarkMaps {
+    public static final String MAP_PATH =
+        System.getProperty("map.path", "../untitled/resources/maps/magical-school-map.tmx");
+
+    private static CollisionMap map;
+
+    private BenchmarkMaps() {}
+
+    /**
+     * 실제 맵 (컴파일된 .ymap 우선, 없으면 TMX)
+     */
+    public static synchronized CollisionMap map() {
+        if (map == null) {
+            map = BinaryMapLoader.load(MAP_PATH);
+            if (map == null) {
+                throw new IllegalStateException("맵 로드 실패: " + MAP_PATH + " (-Dmap.path로 지정)");
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 맵 전체에서 균등한 임의 좌표 (xs[i], ys[i])
+     */
+    public static float[][] randomPoints(CollisionMap map, int count, long seed) {
+        Random random = new Random(seed);
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = random.nextFloat() * map.getMapWidth();
+            ys[i] = random.nextFloat() * map.getMapHeight();
+        }
+        return new float[][]{xs, ys};
+    }
+
+    /**
+     * fog 구역 스폰 후보 타일 중 임의 위치 (플레이어/몬스터 배치용, 구역을 돌아가며 선택)
+     */
+    public static float[][] randomZonePositions(CollisionMap map, int count, long seed) {
+        Random random = new Random(seed);
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+        int zoneCount = map.getFogZoneCount();
+        for (int i = 0; i < count; i++) {
+            byte zone = (byte) (i % zoneCount);
+            int tile = map.getSpawnTile(zone, random.nextInt(map.getSpawnTileCount(zone)));
+            xs[i] = map.getTileCenterX(tile);
+            ys[i] = map.getTileCenterY(tile);
+        }
+        return new float[][]{xs, ys};
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.benchmarks;
+
+import org.example.CollisionMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CollisionMap 조회 (몬스터 이동/스폰/fog 판정의 가장 잦은 호출)
+ *
+ * 고정 시드 좌표 4096개를 순환하며 한 번에 하나씩 조회합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionMapBenchmark {
+    private static final int POINTS = 4096;  // 2의 거듭제곱 (인덱스 마스크)
+
+    @Param({"16", "32"})
+    public float radius;
+
+    @Param("42")
+    public long seed;
+
+    private CollisionMap map;
+    private float[] xs;
+    private float[] ys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = BenchmarkMaps.map();
+        float[][] points = BenchmarkMaps.randomPoints(map, POINTS, seed);
+        xs = points[0];
+        ys = points[1];
+    }
+
+    @Benchmark
+    public boolean isWallInArea() {
+        int i = cursor++ & (POINTS - 1);
+        return map.isWallInArea(xs[i], ys[i], radius);
+    }
+
+    @Benchmark
+    public String getFogZoneAt() {
+        int i = cursor++ & (POINTS - 1);
+        return map.getFogZoneAt(xs[i], ys[i]);
+    }
+
+    @Benchmark
+    public byte getFogZoneIdAt() {
+        int i = cursor++ & (POINTS - 1);
+        return map.getFogZoneIdAt(xs[i], ys[i]);
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.benchmarks;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.example.Main;
+import org.example.MonsterSnapshotMsg;
+import org.example.MonsterUpdateMsg;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 직렬화 왕복 (서버와 같은 Kryo 설정: Main.registerMessages)
+ *
+ * 쓰기 후 같은 버퍼에서 다시 읽습니다. 메시지별 직렬화 크기는 setUp에서 한 번 출력합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KryoBenchmark {
+
+    // 스냅샷에 담긴 몬스터 수 (방 상한 50 / 부하 테스트 200)
+    @Param({"50", "200"})
+    public int snapshotSize;
+
+    @Param("42")
+    public long seed;
+
+    private Kryo kryo;
+    private Output output;
+    private Input input;
+
+    private MonsterUpdateMsg monsterUpdate;
+    private Main.SkillCastMsg skillCast;
+    private MonsterSnapshotMsg snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kryo = new Kryo();
+        Main.registerMessages(kryo);
+        output = new Output(16384, -1);
+        input = new Input();
+
+        Random random = new Random(seed);
+
+        monsterUpdate = new MonsterUpdateMsg();
+        monsterUpdate.monsterId = 1000 + random.nextInt(1000);
+        monsterUpdate.x = random.nextFloat() * 4000f;
+        monsterUpdate.y = random.nextFloat() * 4000f;
+        monsterUpdate.vx = random.nextFloat() * 240f - 120f;
+        monsterUpdate.vy = random.nextFloat() * 240f - 120f;
+        monsterUpdate.hp = 60;
+        monsterUpdate.maxHp = 60;
+        monsterUpdate.state = "PURSUING";
+
+        skillCast = new Main.SkillCastMsg();
+        skillCast.playerId = 1;
+        skillCast.skillId = 3;
+        skillCast.targetX = random.nextFloat() * 4000f;
+        skillCast.targetY = random.nextFloat() * 4000f;
+        skillCast.casterX = random.nextFloat() * 4000f;
+        skillCast.casterY = random.nextFloat() * 4000f;
+        skillCast.skillName = "FireBall";
+        skillCast.elementColor = "불";
+        skillCast.baseDamage = 30;
+        skillCast.projectileSpeed = 400f;
+        skillCast.projectileRadius = 16f;
+        skillCast.projectileLifetime = 2f;
+        skillCast.projectileCount = 1;
+
+        snapshot = new MonsterSnapshotMsg(snapshotSize);
+        snapshot.sequence = 1;
+        for (int i = 0; i < snapshotSize; i++) {
+            snapshot.ids[i] = 1000 + i;
+            snapshot.x[i] = MonsterSnapshotMsg.quantize(random.nextFloat() * 4000f);
+            snapshot.y[i] = MonsterSnapshotMsg.quantize(random.nextFloat() * 4000f);
+            snapshot.vx[i] = MonsterSnapshotMsg.quantize(random.nextFloat() * 240f - 120f);
+            snapshot.vy[i] = MonsterSnapshotMsg.quantize(random.nextFloat() * 240f - 120f);
+            snapshot.hp[i] = 60;
+            snapshot.maxHp[i] = 60;
+            snapshot.state[i] = MonsterSnapshotMsg.STATE_PURSUING;
+        }
+
+        System.out.println("[KryoBenchmark] 직렬화 크기: MonsterUpdateMsg " + size(monsterUpdate)
+            + "B, SkillCastMsg " + size(skillCast) + "B, MonsterSnapshotMsg(" + snapshotSize + ") " + size(snapshot) + "B");
+    }
+
+    private int size(Object message) {
+        output.reset();
+        kryo.writeClassAndObject(output, message);
+        return output.position();
+    }
+
+    private Object roundTrip(Object message) {
+        output.reset();
+        kryo.writeClassAndObject(output, message);
+        input.setBuffer(output.getBuffer(), 0, output.position());
+        return kryo.readClassAndObject(input);
+    }
+
+    @Benchmark
+    public Object monsterUpdateMsg() {
+        return roundTrip(monsterUpdate);
+    }
+
+    @Benchmark
+    public Object skillCastMsg() {
+        return roundTrip(skillCast);
+    }
+
+    @Benchmark
+    public Object monsterSnapshotMsg() {
+        return roundTrip(snapshot);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.benchmarks;
+
+import org.example.BinaryMapLoader;
+import org.example.CollisionMap;
+import org.example.TMXCollisionParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 시작 시 맵 로드 (TMX DOM 파싱 vs 컴파일된 .ymap 메모리 매핑)
+ *
+ * 콜드 스타트 한 번의 시간은 org.example.MapLoadBenchmark로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapParseBenchmark {
+    private File source;
+    private File compiled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new File(BenchmarkMaps.MAP_PATH);
+        compiled = new File(BinaryMapLoader.compiledPathFor(BenchmarkMaps.MAP_PATH));
+    }
+
+    @Benchmark
+    public CollisionMap parseTmx() {
+        return TMXCollisionParser.parse(source.getPath());
+    }
+
+    @Benchmark
+    public CollisionMap readCompiled() {
+        return BinaryMapLoader.read(compiled, source);
+    }
+}
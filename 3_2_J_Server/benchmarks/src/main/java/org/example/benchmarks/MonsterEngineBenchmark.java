@@ -0,0 +1,73 @@
+package org.example.benchmarks;
+
+import org.example.CollisionMap;
+import org.example.FlowField;
+import org.example.MonsterEngine;
+import org.example.SpatialHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 몬스터 AI/이동/벽 충돌 슬라이딩 (MonsterEngine.simulate)
+ *
+ * 몬스터와 플레이어를 서로 다른 fog 구역에 배치해 벽을 사이에 두고 추적하게 만듭니다.
+ * flowField=false면 직선 추적 + 축별/법선 슬라이딩만, true면 방 단위 흐름장으로 우회합니다.
+ * 반복(iteration)마다 같은 시드로 다시 배치해 벽에 몰린 상태가 누적되지 않게 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonsterEngineBenchmark {
+    private static final float TICK = 0.05f;
+
+    @Param({"50", "200", "1000"})
+    public int monsters;
+
+    @Param({"4", "16"})
+    public int players;
+
+    @Param({"false", "true"})
+    public boolean flowField;
+
+    @Param("42")
+    public long seed;
+
+    private CollisionMap map;
+    private MonsterEngine engine;
+    private SpatialHash<Void> playerIndex;
+    private FlowField field;
+
+    @Setup(Level.Trial)
+    public void setUpPlayers() {
+        map = BenchmarkMaps.map();
+        playerIndex = new SpatialHash<>(map.getMapWidth(), map.getMapHeight(), 128f);
+        field = new FlowField(map, 16f, 64);
+
+        float[][] positions = BenchmarkMaps.randomZonePositions(map, players, seed);
+        for (int p = 0; p < players; p++) {
+            playerIndex.put(p + 1, positions[0][p], positions[1][p], null);
+            field.setSource(p + 1, positions[0][p], positions[1][p]);
+        }
+        field.rebuildIfDirty();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpMonsters() {
+        engine = new MonsterEngine(map, monsters, new Random(seed));
+        float[][] positions = BenchmarkMaps.randomZonePositions(map, monsters, seed + 1);
+        for (int i = 0; i < monsters; i++) {
+            engine.spawn(1000 + i, engine.randomType(), positions[0][i], positions[1][i]);
+        }
+    }
+
+    @Benchmark
+    public int simulate() {
+        engine.simulate(TICK, playerIndex, flowField ? field : null);
+        return engine.size();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.benchmarks;
+
+import org.example.CollisionMap;
+import org.example.InterestGrid;
+import org.example.PlayerStateTable;
+import org.example.ServerMonsterManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 하나의 몬스터 틱 (ServerMonsterManager.update, 20Hz 기준 delta 0.05초)
+ *
+ * 고정 시드로 플레이어를 fog 구역에 배치하고 몬스터를 상한까지 채운 뒤,
+ * 매 호출마다 플레이어를 원을 그리며 움직이고(흐름장/관심 영역 갱신) 한 틱을 진행합니다.
+ * 메시지 전송은 빈 콜백이므로 직렬화/네트워크 비용은 KryoBenchmark에서 따로 측정합니다.
+ *
+ * 몬스터 상한(monsters.perRoom)은 클래스 로드 시 한 번 읽으므로
+ * 파라미터 조합마다 새 JVM(@Fork)에서 실행되어야 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonsterManagerBenchmark {
+    private static final int ROOM_ID = 1;
+    private static final float TICK = 0.05f;
+    private static final float PLAYER_ORBIT_RADIUS = 48f;
+
+    @Param({"50", "200", "1000"})
+    public int monsters;
+
+    @Param({"4", "16"})
+    public int players;
+
+    @Param("42")
+    public long seed;
+
+    private CollisionMap map;
+    private ServerMonsterManager manager;
+    private InterestGrid interestGrid;
+    private PlayerStateTable states;
+    private float[] anchorX;
+    private float[] anchorY;
+    private int[] slots;
+    private float angle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("monsters.perRoom", Integer.toString(monsters));
+        map = BenchmarkMaps.map();
+
+        manager = new ServerMonsterManager(new ServerMonsterManager.MessageCallback() {
+            @Override public void broadcast(int roomId, Object message) {}
+            @Override public void sendToPlayer(int playerId, Object message) {}
+        }, map);
+        manager.setRandomSeed(seed);
+        manager.initializeRoom(ROOM_ID, players);
+        interestGrid = new InterestGrid(map);
+        manager.setInterestGrid(interestGrid);
+        states = manager.getPlayerStates(ROOM_ID);
+
+        float[][] positions = BenchmarkMaps.randomZonePositions(map, players, seed);
+        anchorX = positions[0];
+        anchorY = positions[1];
+        slots = new int[players];
+        for (int p = 0; p < players; p++) {
+            slots[p] = manager.initializePlayerHp(ROOM_ID, p + 1);
+            movePlayer(p, anchorX[p], anchorY[p]);
+        }
+
+        // 몬스터를 상한까지 채움 (0.5초마다 최대 5마리 스폰)
+        for (int i = 0; i < monsters && manager.getMonsterCount(ROOM_ID) < monsters; i++) {
+            manager.update(0.5f, ROOM_ID);
+        }
+    }
+
+    private void movePlayer(int p, float x, float y) {
+        int playerId = p + 1;
+        manager.updatePlayerPosition(ROOM_ID, playerId, x, y);
+        states.setZone(slots[p], map.getFogZoneIdAt(x, y));
+        interestGrid.setViewerPosition(playerId, x, y);
+    }
+
+    @Benchmark
+    public int update() {
+        angle += 0.1f;
+        float dx = (float) Math.cos(angle) * PLAYER_ORBIT_RADIUS;
+        float dy = (float) Math.sin(angle) * PLAYER_ORBIT_RADIUS;
+        for (int p = 0; p < players; p++) {
+            movePlayer(p, anchorX[p] + dx, anchorY[p] + dy);
+            states.setHp(slots[p], states.getMaxHp(slots[p]));  // 사망으로 시나리오가 바뀌지 않도록 유지
+        }
+        manager.update(TICK, ROOM_ID);
+        return manager.getMonsterCount(ROOM_ID);
+    }
+}
@@ -0,0 +1,187 @@
+// 서버 - org.example.BinaryMapLoader.java
+package org.example;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 미리 컴파일된 맵 파일(.ymap) 로더
+ *
+ * MapCompiler가 TMX에서 만든 충돌 비트셋/거리장/구역 래스터/스폰 후보를 메모리 매핑으로 읽어
+ * XML 파싱이나 거리장 계산 없이 CollisionMap을 만듭니다.
+ * 컴파일 파일이 없거나, 원본 TMX와 맞지 않거나, 손상된 경우 TMXCollisionParser로 대체합니다.
+ *
+ * 파일 형식 (빅 엔디언):
+ * <pre>
+ * 헤더:   int MAGIC, short VERSION, short 0,
+ *         int width, int height, int tileWidth, int tileHeight,
+ *         long 원본 TMX 크기, long 원본 TMX CRC32
+ * 섹션들: int 태그, int 바이트 길이, 데이터 (모르는 태그는 건너뜀)
+ *   WALL  long[(width*height+63)/64]  벽 비트셋 (LibGDX 행 순서)
+ *   SDF   float[width*height]         부호 있는 거리장 (픽셀)
+ *   ZONE  short 구역 수, (short 길이 + UTF-8 이름) * 구역 수, byte[width*height] 구역 ID 래스터
+ *   SPWN  short 구역 수, (int 개수 + int[개수] 타일 인덱스) * 구역 수  구역별 몬스터 스폰 후보
+ *   END   길이 0
+ * </pre>
+ */
+public class BinaryMapLoader {
+    public static final int MAGIC = 0x594D4150;  // "YMAP"
+    public static final short VERSION = 1;
+
+    public static final int TAG_WALL = 0x57414C4C;  // "WALL"
+    public static final int TAG_SDF = 0x53444620;   // "SDF "
+    public static final int TAG_ZONE = 0x5A4F4E45;  // "ZONE"
+    public static final int TAG_SPAWN = 0x5350574E; // "SPWN"
+    public static final int TAG_END = 0x454E4420;   // "END "
+
+    public static final String EXTENSION = ".ymap";
+
+    /**
+     * TMX 경로에 대응하는 컴파일 파일 경로 (magical-school-map.tmx → magical-school-map.ymap)
+     */
+    public static String compiledPathFor(String tmxPath) {
+        int dot = tmxPath.lastIndexOf('.');
+        return (dot > tmxPath.lastIndexOf('/') ? tmxPath.substring(0, dot) : tmxPath) + EXTENSION;
+    }
+
+    /**
+     * 컴파일된 맵을 우선 로드하고, 사용할 수 없으면 TMX를 직접 파싱합니다.
+     *
+     * @param tmxPath 원본 TMX 경로
+     * @return 충돌 맵, 둘 다 실패하면 null
+     */
+    public static CollisionMap load(String tmxPath) {
+        File compiled = new File(compiledPathFor(tmxPath));
+        if (compiled.isFile()) {
+            long start = System.nanoTime();
+            CollisionMap map = read(compiled, new File(tmxPath));
+            if (map != null) {
+                System.out.println("[MapLoader] 컴파일된 맵 로드: " + compiled.getPath()
+                    + " (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+                return map;
+            }
+            System.out.println("[MapLoader] 컴파일된 맵 사용 불가 - TMX 파싱으로 대체");
+        } else {
+            System.out.println("[MapLoader] 컴파일된 맵 없음 (" + compiled.getPath() + ") - TMX 파싱으로 대체");
+        }
+        return TMXCollisionParser.parse(tmxPath);
+    }
+
+    /**
+     * 컴파일된 맵 파일을 읽습니다.
+     *
+     * @param compiled .ymap 파일
+     * @param source 원본 TMX 파일 (있으면 크기/CRC32로 최신 여부 확인, 없으면 확인 생략)
+     * @return 충돌 맵, 형식 오류나 원본 불일치면 null
+     */
+    public static CollisionMap read(File compiled, File source) {
+        try (RandomAccessFile file = new RandomAccessFile(compiled, "r");
+             FileChannel channel = file.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC) {
+                System.err.println("[MapLoader] 맵 파일 형식 아님: " + compiled.getPath());
+                return null;
+            }
+            short version = buffer.getShort();
+            buffer.getShort();
+            if (version != VERSION) {
+                System.err.println("[MapLoader] 지원하지 않는 맵 파일 버전: " + version);
+                return null;
+            }
+
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            int tileWidth = buffer.getInt();
+            int tileHeight = buffer.getInt();
+            long sourceLength = buffer.getLong();
+            long sourceCrc = buffer.getLong();
+
+            if (source != null && source.isFile()
+                    && (source.length() != sourceLength || checksum(source) != sourceCrc)) {
+                System.out.println("[MapLoader] 원본 TMX가 변경됨 - 맵을 다시 컴파일하세요 (MapCompiler)");
+                return null;
+            }
+
+            int tileCount = width * height;
+            long[] wallBits = null;
+            float[] distanceField = null;
+            List<String> zoneNames = new ArrayList<>();
+            byte[] zoneRaster = null;
+            int[][] spawnTables = null;
+
+            while (true) {
+                int tag = buffer.getInt();
+                int length = buffer.getInt();
+                if (tag == TAG_END) {
+                    break;
+                }
+                int next = buffer.position() + length;
+
+                if (tag == TAG_WALL) {
+                    wallBits = new long[(tileCount + 63) >>> 6];
+                    buffer.asLongBuffer().get(wallBits);
+                } else if (tag == TAG_SDF) {
+                    distanceField = new float[tileCount];
+                    buffer.asFloatBuffer().get(distanceField);
+                } else if (tag == TAG_ZONE) {
+                    int zoneCount = buffer.getShort();
+                    for (int i = 0; i < zoneCount; i++) {
+                        byte[] name = new byte[buffer.getShort()];
+                        buffer.get(name);
+                        zoneNames.add(new String(name, StandardCharsets.UTF_8));
+                    }
+                    zoneRaster = new byte[tileCount];
+                    buffer.get(zoneRaster);
+                } else if (tag == TAG_SPAWN) {
+                    spawnTables = new int[buffer.getShort()][];
+                    for (int z = 0; z < spawnTables.length; z++) {
+                        spawnTables[z] = new int[buffer.getInt()];
+                        buffer.asIntBuffer().get(spawnTables[z]);
+                        buffer.position(buffer.position() + spawnTables[z].length * 4);
+                    }
+                }
+                buffer.position(next);
+            }
+
+            if (wallBits == null || distanceField == null) {
+                System.err.println("[MapLoader] 필수 섹션 누락 (WALL/SDF): " + compiled.getPath());
+                return null;
+            }
+
+            CollisionMap map = new CollisionMap(width, height, tileWidth, tileHeight, wallBits, distanceField);
+            if (zoneRaster != null) {
+                map.setZoneRaster(zoneNames, zoneRaster);
+            }
+            if (spawnTables != null && spawnTables.length == zoneNames.size()) {
+                map.setSpawnTables(spawnTables);
+            } else {
+                map.buildSpawnTables();  // 스폰 섹션이 없는 이전 파일
+            }
+            return map;
+
+        } catch (IOException | RuntimeException e) {
+            // 잘린 파일은 BufferUnderflowException 등으로 끝남
+            System.err.println("[MapLoader] 맵 파일 읽기 실패: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * 원본 TMX의 CRC32 (컴파일 파일 최신 여부 확인용)
+     */
+    static long checksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+        return crc.getValue();
+    }
+}
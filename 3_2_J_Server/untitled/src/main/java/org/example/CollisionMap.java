@@ -1,7 +1,10 @@
 // 서버 - org.example.CollisionMap.java
 package org.example;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class CollisionMap {
@@ -11,9 +14,35 @@ public class CollisionMap {
     private int tileWidth;
     private int tileHeight;
 
+    // ===== 로드 시 미리 계산하는 충돌 데이터 =====
+    // 벽 비트셋 (LibGDX 행 순서: 인덱스 = libgdxTileY * width + tileX, 1 = 벽)
+    private long[] wallBits;
+    // 부호 있는 거리장 (픽셀): 빈 타일은 가장 가까운 벽 타일 중심까지 거리(+),
+    // 벽 타일은 가장 가까운 빈 타일 중심까지 거리(-). 인덱스는 wallBits와 동일
+    private float[] distanceField;
+    // 타일 중심에서 타일 안의 임의 점까지 최대 거리 (반 대각선)
+    private float halfTileDiagonal;
+
     // ===== Fog 구역 데이터 (PHASE_24) =====
-    // 각 fog 구역별 타일 데이터 (zoneName -> boolean[height][width])
-    private Map<String, boolean[][]> fogZones = new HashMap<>();
+    // fog 구역 밖
+    public static final byte NO_ZONE = -1;
+    // 활성 fog 비트마스크(int)로 표현할 수 있는 최대 구역 수
+    public static final int MAX_FOG_ZONES = 31;
+    // 타일별 구역 ID (LibGDX 행 순서, 인덱스 = libgdxTileY * width + tileX)
+    private byte[] zoneRaster;
+    // 구역 ID → 구역 이름 (추가된 순서), 구역 이름 → 구역 ID
+    private final List<String> zoneNames = new ArrayList<>();
+    private final Map<String, Integer> zoneIds = new HashMap<>();
+
+    // ===== 몬스터 스폰 후보 타일 (구역별, 로드 시 계산) =====
+    // 스폰 위치 주변에 벽이 없어야 하는 반경
+    public static final float SPAWN_CLEARANCE = 32f;
+    // 맵 중앙(시작 위치) 보호 반경
+    public static final float SPAWN_CENTER_EXCLUSION = 400f;
+    // 맵 가장자리 여백
+    public static final float SPAWN_EDGE_MARGIN = 100f;
+    // 구역 ID → 스폰 가능한 타일 인덱스 (LibGDX 행 순서)
+    private int[][] spawnTiles = new int[0][];
 
     // ⭐ TMX 파서에서 사용할 생성자
     public CollisionMap(boolean[][] walkable, int width, int height,
@@ -24,14 +53,146 @@ public class CollisionMap {
         this.tileWidth = tileWidth;
         this.tileHeight = tileHeight;
 
-        System.out.println("[CollisionMap] 생성 완료");
+        long start = System.nanoTime();
+        buildWallBits();
+        buildDistanceField();
+
+        System.out.println("[CollisionMap] 생성 완료 (비트셋/거리장 " + (System.nanoTime() - start) / 1_000_000 + "ms)");
         System.out.println("  맵 크기: " + width + "x" + height);
         System.out.println("  타일 크기: " + tileWidth + "x" + tileHeight);
     }
 
+    /**
+     * 미리 컴파일된 맵 파일(BinaryMapLoader)에서 사용하는 생성자
+     * 비트셋과 거리장을 그대로 사용하므로 로드 시 다시 계산하지 않습니다.
+     */
+    CollisionMap(int width, int height, int tileWidth, int tileHeight,
+                 long[] wallBits, float[] distanceField) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.wallBits = wallBits;
+        this.distanceField = distanceField;
+        this.halfTileDiagonal = 0.5f * (float) Math.sqrt(tileWidth * tileWidth + tileHeight * tileHeight);
+    }
+
+    /**
+     * walkable 배열을 LibGDX 행 순서의 비트셋으로 압축합니다.
+     */
+    private void buildWallBits() {
+        wallBits = new long[(width * height + 63) >>> 6];
+        for (int libgdxTy = 0; libgdxTy < height; libgdxTy++) {
+            int ty = height - 1 - libgdxTy;  // TMX 좌표계 (Y축 반전)
+            for (int tx = 0; tx < width; tx++) {
+                if (!walkable[ty][tx]) {
+                    int bit = libgdxTy * width + tx;
+                    wallBits[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * 타일 중심 간 유클리드 거리로 부호 있는 거리장을 계산합니다.
+     * 벽 기준 거리와 빈 칸 기준 거리를 각각 정확한 거리 변환(행/열 2회 통과)으로 구합니다.
+     */
+    private void buildDistanceField() {
+        int n = width * height;
+        float[] toWall = new float[n];
+        float[] toFree = new float[n];
+        for (int i = 0; i < n; i++) {
+            boolean wall = isWallBit(i);
+            toWall[i] = wall ? 0f : Float.POSITIVE_INFINITY;
+            toFree[i] = wall ? Float.POSITIVE_INFINITY : 0f;
+        }
+        squaredDistanceTransform(toWall);
+        squaredDistanceTransform(toFree);
+
+        distanceField = new float[n];
+        for (int i = 0; i < n; i++) {
+            distanceField[i] = isWallBit(i)
+                ? -(float) Math.sqrt(toFree[i])
+                : (float) Math.sqrt(toWall[i]);
+        }
+        halfTileDiagonal = 0.5f * (float) Math.sqrt(tileWidth * tileWidth + tileHeight * tileHeight);
+    }
+
+    /**
+     * 2차원 제곱 거리 변환 (픽셀 단위, 제자리 계산)
+     * 0인 칸까지의 제곱 거리로 grid를 덮어씁니다.
+     */
+    private void squaredDistanceTransform(float[] grid) {
+        int max = Math.max(width, height);
+        float[] f = new float[max];
+        float[] d = new float[max];
+        int[] v = new int[max];
+        float[] z = new float[max + 1];
+
+        // 행 방향 (X)
+        float wx = tileWidth * tileWidth;
+        for (int row = 0; row < height; row++) {
+            int offset = row * width;
+            System.arraycopy(grid, offset, f, 0, width);
+            distanceTransform1D(f, width, wx, d, v, z);
+            System.arraycopy(d, 0, grid, offset, width);
+        }
+
+        // 열 방향 (Y)
+        float wy = tileHeight * tileHeight;
+        for (int col = 0; col < width; col++) {
+            for (int row = 0; row < height; row++) {
+                f[row] = grid[row * width + col];
+            }
+            distanceTransform1D(f, height, wy, d, v, z);
+            for (int row = 0; row < height; row++) {
+                grid[row * width + col] = d[row];
+            }
+        }
+    }
+
+    /**
+     * 1차원 제곱 거리 변환 (포물선 하한 포락선)
+     * d[q] = min_p (f[p] + weight * (q - p)^2)
+     */
+    private static void distanceTransform1D(float[] f, int n, float weight, float[] d, int[] v, float[] z) {
+        int k = -1;
+        for (int q = 0; q < n; q++) {
+            if (f[q] == Float.POSITIVE_INFINITY) continue;
+            float s = Float.NEGATIVE_INFINITY;
+            while (k >= 0) {
+                int p = v[k];
+                s = ((f[q] + weight * q * q) - (f[p] + weight * p * p)) / (2f * weight * (q - p));
+                if (s > z[k]) break;
+                k--;
+            }
+            k++;
+            v[k] = q;
+            z[k] = k == 0 ? Float.NEGATIVE_INFINITY : s;
+            z[k + 1] = Float.POSITIVE_INFINITY;
+        }
+
+        if (k < 0) {
+            Arrays.fill(d, 0, n, Float.POSITIVE_INFINITY);
+            return;
+        }
+
+        int j = 0;
+        for (int q = 0; q < n; q++) {
+            while (z[j + 1] < q) j++;
+            int p = v[j];
+            d[q] = weight * (q - p) * (q - p) + f[p];
+        }
+    }
+
+    private boolean isWallBit(int bit) {
+        return (wallBits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
     /**
      * 클라이언트 GameMap.isWall()과 동일한 로직
      * TMX 좌표계(Y=0이 상단)와 LibGDX 좌표계(Y=0이 하단)의 차이를 보정합니다.
+     * (비트셋은 이미 LibGDX 행 순서로 저장되어 있음)
      */
     public boolean isWall(float x, float y) {
         float mapWidth = width * tileWidth;
@@ -44,48 +205,61 @@ public class CollisionMap {
         int tileX = (int)(x / tileWidth);
         int libgdxTileY = (int)(y / tileHeight);
 
-        // TMX 좌표계로 변환 (Y축 반전)
-        int tileY = height - 1 - libgdxTileY;
-
-        if (tileX < 0 || tileX >= width || tileY < 0 || tileY >= height) {
+        if (tileX < 0 || tileX >= width || libgdxTileY < 0 || libgdxTileY >= height) {
             return true;
         }
 
-        return !walkable[tileY][tileX];
+        return isWallBit(libgdxTileY * width + tileX);
     }
 
     /**
-     * 클라이언트 GameMap.isWallInArea()와 동일한 로직
-     * TMX 좌표계(Y=0이 상단)와 LibGDX 좌표계(Y=0이 하단)의 차이를 보정합니다.
+     * 클라이언트 GameMap.isWallInArea()와 동일한 결과
+     * (반경 안에 중심이 들어오는 벽 타일이 있으면 true, 맵 밖 타일은 무시)
+     *
+     * 점이 속한 타일의 거리장 값은 실제 거리와 최대 반 대각선만큼 차이나므로,
+     * 그 오차 밖이면 조회 한 번으로 결정하고 경계 근처일 때만 주변 타일을 확인합니다.
      */
     public boolean isWallInArea(float centerX, float centerY, float radius) {
+        int tileX = (int)(centerX / tileWidth);
+        int libgdxTileY = (int)(centerY / tileHeight);
+
+        if (centerX >= 0 && centerY >= 0 && tileX < width && libgdxTileY < height) {
+            float distance = distanceField[libgdxTileY * width + tileX];
+            if (distance - halfTileDiagonal >= radius) {
+                return false;  // 가장 가까운 벽도 반경 밖
+            }
+            // 벽 타일의 음수 값은 빈 칸까지 거리이므로 0으로 자름 (가장 가까운 벽은 자기 타일)
+            if (Math.max(distance, 0f) + halfTileDiagonal < radius) {
+                return true;   // 반경 안에 벽이 확실히 있음
+            }
+        }
+
+        return scanWallInArea(centerX, centerY, radius);
+    }
+
+    /**
+     * 반경을 덮는 타일을 직접 확인합니다. (거리장으로 결정할 수 없을 때만 사용)
+     */
+    private boolean scanWallInArea(float centerX, float centerY, float radius) {
         // 체크할 타일 범위 계산 (LibGDX 좌표계)
         int minTileX = (int)((centerX - radius) / tileWidth);
         int maxTileX = (int)((centerX + radius) / tileWidth);
         int minLibgdxTileY = (int)((centerY - radius) / tileHeight);
         int maxLibgdxTileY = (int)((centerY + radius) / tileHeight);
+        float radiusSq = radius * radius;
 
-        // 범위 내 모든 타일 체크
-        for (int libgdxTy = minLibgdxTileY; libgdxTy <= maxLibgdxTileY; libgdxTy++) {
-            // TMX 좌표계로 변환 (Y축 반전)
-            int ty = height - 1 - libgdxTy;
-
-            for (int tx = minTileX; tx <= maxTileX; tx++) {
-                if (tx < 0 || tx >= width || ty < 0 || ty >= height) {
+        for (int libgdxTy = Math.max(0, minLibgdxTileY); libgdxTy <= Math.min(height - 1, maxLibgdxTileY); libgdxTy++) {
+            for (int tx = Math.max(0, minTileX); tx <= Math.min(width - 1, maxTileX); tx++) {
+                if (!isWallBit(libgdxTy * width + tx)) {
                     continue;
                 }
 
                 // 타일 중심 좌표 (LibGDX 좌표계)
-                float tileCenterX = (tx + 0.5f) * tileWidth;
-                float tileCenterY = (libgdxTy + 0.5f) * tileHeight;
-
-                // 원과 타일의 거리 체크
-                float dx = centerX - tileCenterX;
-                float dy = centerY - tileCenterY;
-                float distance = (float)Math.sqrt(dx * dx + dy * dy);
+                float dx = centerX - (tx + 0.5f) * tileWidth;
+                float dy = centerY - (libgdxTy + 0.5f) * tileHeight;
 
                 // 몬스터 반지름 내에 벽 타일이 있으면 true
-                if (distance < radius && !walkable[ty][tx]) {
+                if (dx * dx + dy * dy < radiusSq) {
                     return true;
                 }
             }
@@ -94,6 +268,43 @@ public class CollisionMap {
         return false;
     }
 
+    /**
+     * 좌표의 거리장 값 (픽셀, 타일 해상도)
+     * 양수면 가장 가까운 벽까지 거리, 음수면 벽 안쪽 깊이입니다. 맵 밖이면 0.
+     */
+    public float getWallDistance(float x, float y) {
+        int tileX = (int)(x / tileWidth);
+        int libgdxTileY = (int)(y / tileHeight);
+        if (x < 0 || y < 0 || tileX >= width || libgdxTileY >= height) {
+            return 0f;
+        }
+        return distanceField[libgdxTileY * width + tileX];
+    }
+
+    /**
+     * 벽에서 멀어지는 방향(거리장의 기울기)을 out[0], out[1]에 단위 벡터로 기록합니다.
+     * 몬스터가 벽에 막혔을 때 벽을 따라 미끄러지는 방향을 구하는 데 사용합니다.
+     *
+     * @return 방향을 구할 수 없으면 (평탄한 영역) false
+     */
+    public boolean getWallNormal(float x, float y, float[] out) {
+        float gx = getWallDistance(x + tileWidth, y) - getWallDistance(x - tileWidth, y);
+        float gy = getWallDistance(x, y + tileHeight) - getWallDistance(x, y - tileHeight);
+        float length = (float) Math.sqrt(gx * gx + gy * gy);
+        if (length < 1e-4f || Float.isInfinite(length) || Float.isNaN(length)) {
+            return false;
+        }
+        out[0] = gx / length;
+        out[1] = gy / length;
+        return true;
+    }
+
+    // 맵 컴파일러(MapCompiler)가 그대로 기록하는 내부 배열 (수정 금지)
+    long[] getWallBits() { return wallBits; }
+    float[] getDistanceField() { return distanceField; }
+    byte[] getZoneRaster() { return zoneRaster; }
+    int[][] getSpawnTables() { return spawnTiles; }
+
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public int getTileWidth() { return tileWidth; }
@@ -107,48 +318,108 @@ public class CollisionMap {
 
     /**
      * fog 구역 데이터를 추가합니다.
+     * 구역마다 ID를 배정하고 하나의 구역 ID 래스터에 합칩니다.
+     * 여러 구역이 겹치는 타일은 먼저 추가된 구역을 유지합니다.
      *
      * @param zoneName 구역 이름 (TMX 레이어명)
-     * @param zoneData 해당 구역의 타일 데이터 (true = fog 영역)
+     * @param zoneData 해당 구역의 타일 데이터 (true = fog 영역, TMX 행 순서)
      */
     public void addFogZone(String zoneName, boolean[][] zoneData) {
-        fogZones.put(zoneName, zoneData);
-        System.out.println("[CollisionMap] fog 구역 추가: " + zoneName);
+        if (zoneIds.containsKey(zoneName)) {
+            System.err.println("[CollisionMap] 이미 추가된 fog 구역: " + zoneName);
+            return;
+        }
+        if (zoneNames.size() >= MAX_FOG_ZONES) {
+            System.err.println("[CollisionMap] fog 구역 개수 초과 - 무시: " + zoneName);
+            return;
+        }
+        if (zoneRaster == null) {
+            zoneRaster = new byte[width * height];
+            Arrays.fill(zoneRaster, NO_ZONE);
+        }
+
+        byte zoneId = (byte) zoneNames.size();
+        zoneNames.add(zoneName.intern());
+        zoneIds.put(zoneName, (int) zoneId);
+
+        for (int libgdxTy = 0; libgdxTy < height; libgdxTy++) {
+            boolean[] row = zoneData[height - 1 - libgdxTy];  // TMX 좌표계 (Y축 반전)
+            int offset = libgdxTy * width;
+            for (int tx = 0; tx < width; tx++) {
+                if (row[tx] && zoneRaster[offset + tx] == NO_ZONE) {
+                    zoneRaster[offset + tx] = zoneId;
+                }
+            }
+        }
+        System.out.println("[CollisionMap] fog 구역 추가: " + zoneName + " (ID " + zoneId + ")");
     }
 
     /**
-     * 특정 좌표가 어떤 fog 구역에 있는지 확인합니다.
+     * 컴파일된 구역 래스터를 그대로 설정합니다. (BinaryMapLoader 전용)
      *
-     * TMX 좌표계(Y=0이 상단)와 LibGDX 좌표계(Y=0이 하단)의 차이를 보정합니다.
+     * @param names 구역 ID 순서의 구역 이름
+     * @param raster 타일별 구역 ID (LibGDX 행 순서)
+     */
+    void setZoneRaster(List<String> names, byte[] raster) {
+        zoneNames.clear();
+        zoneIds.clear();
+        for (String name : names) {
+            zoneIds.put(name, zoneNames.size());
+            zoneNames.add(name.intern());
+        }
+        zoneRaster = names.isEmpty() ? null : raster;
+    }
+
+    /**
+     * 특정 좌표의 fog 구역 ID를 반환합니다. (배열 조회 한 번)
      *
      * @param x 월드 X 좌표 (픽셀, LibGDX 좌표계)
      * @param y 월드 Y 좌표 (픽셀, LibGDX 좌표계)
-     * @return 해당 fog 구역 이름, 없으면 null
+     * @return 구역 ID, 없으면 NO_ZONE
      */
-    public String getFogZoneAt(float x, float y) {
-        // 픽셀 좌표를 타일 좌표로 변환
+    public byte getFogZoneIdAt(float x, float y) {
+        if (zoneRaster == null || x < 0 || y < 0) {
+            return NO_ZONE;
+        }
         int tileX = (int)(x / tileWidth);
         int libgdxTileY = (int)(y / tileHeight);
-
-        // TMX 좌표계로 변환 (Y축 반전)
-        int tileY = height - 1 - libgdxTileY;
-
-        // 범위 체크
-        if (tileX < 0 || tileX >= width || tileY < 0 || tileY >= height) {
-            return null;
+        if (tileX >= width || libgdxTileY >= height) {
+            return NO_ZONE;
         }
+        return zoneRaster[libgdxTileY * width + tileX];
+    }
 
-        // 각 fog 구역 확인
-        for (Map.Entry<String, boolean[][]> entry : fogZones.entrySet()) {
-            String zoneName = entry.getKey();
-            boolean[][] zoneData = entry.getValue();
+    /**
+     * 특정 좌표가 어떤 fog 구역에 있는지 확인합니다.
+     *
+     * @param x 월드 X 좌표 (픽셀, LibGDX 좌표계)
+     * @param y 월드 Y 좌표 (픽셀, LibGDX 좌표계)
+     * @return 해당 fog 구역 이름, 없으면 null
+     */
+    public String getFogZoneAt(float x, float y) {
+        return getZoneName(getFogZoneIdAt(x, y));
+    }
 
-            if (zoneData[tileY][tileX]) {
-                return zoneName; // 이 구역에 있음
-            }
-        }
+    /**
+     * 구역 ID의 이름 (NO_ZONE이면 null)
+     */
+    public String getZoneName(byte zoneId) {
+        return zoneId >= 0 && zoneId < zoneNames.size() ? zoneNames.get(zoneId) : null;
+    }
 
-        return null; // fog 구역에 없음
+    /**
+     * 구역 이름의 ID (없으면 NO_ZONE)
+     */
+    public byte getZoneId(String zoneName) {
+        Integer id = zoneIds.get(zoneName);
+        return id != null ? (byte) (int) id : NO_ZONE;
+    }
+
+    /**
+     * 구역 ID의 활성 fog 비트마스크 비트 (NO_ZONE이면 0)
+     */
+    public static int zoneBit(byte zoneId) {
+        return zoneId >= 0 ? 1 << zoneId : 0;
     }
 
     /**
@@ -157,14 +428,14 @@ public class CollisionMap {
      * @return fog 구역이 있으면 true
      */
     public boolean hasFogZones() {
-        return !fogZones.isEmpty();
+        return !zoneNames.isEmpty();
     }
 
     /**
      * fog 구역 개수를 반환합니다.
      */
     public int getFogZoneCount() {
-        return fogZones.size();
+        return zoneNames.size();
     }
 
     /**
@@ -176,6 +447,89 @@ public class CollisionMap {
      * @return fog 구역 내에 있으면 true
      */
     public boolean isInsideAnyFogZone(float x, float y) {
-        return getFogZoneAt(x, y) != null;
+        return getFogZoneIdAt(x, y) != NO_ZONE;
+    }
+
+    // ===== 몬스터 스폰 후보 =====
+
+    /**
+     * fog 구역마다 몬스터를 스폰할 수 있는 타일 목록을 만듭니다. (구역을 모두 추가한 뒤 한 번 호출)
+     * 조건: 타일 중심 반경 SPAWN_CLEARANCE 안에 벽 없음 + 맵 중앙 보호 반경 밖 + 가장자리 여백 안쪽
+     */
+    public void buildSpawnTables() {
+        int zoneCount = zoneNames.size();
+        int[] counts = new int[zoneCount];
+        int[][] tables = new int[zoneCount][];
+        if (zoneRaster != null) {
+            // 두 번 순회: 구역별 개수를 센 뒤 정확한 크기의 배열에 채움
+            for (int pass = 0; pass < 2; pass++) {
+                if (pass == 1) {
+                    for (int z = 0; z < zoneCount; z++) {
+                        tables[z] = new int[counts[z]];
+                        counts[z] = 0;
+                    }
+                }
+                for (int tile = 0; tile < zoneRaster.length; tile++) {
+                    byte zone = zoneRaster[tile];
+                    if (zone == NO_ZONE || !isSpawnable(tile)) continue;
+                    if (pass == 1) {
+                        tables[zone][counts[zone]] = tile;
+                    }
+                    counts[zone]++;
+                }
+            }
+        } else {
+            for (int z = 0; z < zoneCount; z++) {
+                tables[z] = new int[0];
+            }
+        }
+        spawnTiles = tables;
+
+        for (int z = 0; z < zoneCount; z++) {
+            System.out.println("[CollisionMap] 스폰 후보: " + zoneNames.get(z) + " " + tables[z].length + "타일");
+        }
+    }
+
+    private boolean isSpawnable(int tile) {
+        float x = (tile % width + 0.5f) * tileWidth;
+        float y = (tile / width + 0.5f) * tileHeight;
+        float mapWidth = getMapWidth();
+        float mapHeight = getMapHeight();
+        if (x < SPAWN_EDGE_MARGIN || y < SPAWN_EDGE_MARGIN
+                || x > mapWidth - SPAWN_EDGE_MARGIN || y > mapHeight - SPAWN_EDGE_MARGIN) {
+            return false;
+        }
+        float dx = x - mapWidth / 2f;
+        float dy = y - mapHeight / 2f;
+        if (dx * dx + dy * dy < SPAWN_CENTER_EXCLUSION * SPAWN_CENTER_EXCLUSION) {
+            return false;
+        }
+        // 타일 중심의 거리장 값 = 가장 가까운 벽 타일 중심까지 거리 (isWallInArea와 같은 기준)
+        return distanceField[tile] >= SPAWN_CLEARANCE;
+    }
+
+    /**
+     * 컴파일된 스폰 후보를 그대로 설정합니다. (BinaryMapLoader 전용)
+     */
+    void setSpawnTables(int[][] tables) {
+        spawnTiles = tables;
     }
+
+    /**
+     * 구역의 스폰 후보 타일 수 (NO_ZONE이거나 없는 구역이면 0)
+     */
+    public int getSpawnTileCount(byte zoneId) {
+        return zoneId >= 0 && zoneId < spawnTiles.length ? spawnTiles[zoneId].length : 0;
+    }
+
+    /**
+     * 구역의 index번째 스폰 후보 타일
+     */
+    public int getSpawnTile(byte zoneId, int index) {
+        return spawnTiles[zoneId][index];
+    }
+
+    // 타일 인덱스의 중심 좌표 (LibGDX 좌표계)
+    public float getTileCenterX(int tile) { return (tile % width + 0.5f) * tileWidth; }
+    public float getTileCenterY(int tile) { return (tile / width + 0.5f) * tileHeight; }
 }
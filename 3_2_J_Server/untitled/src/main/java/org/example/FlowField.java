@@ -0,0 +1,248 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * 방 단위 몬스터 길찾기용 흐름장 (틱 스레드 전용)
+ *
+ * 살아있는 플레이어들이 서 있는 타일을 시작점으로 CollisionMap 타일 격자 위에서
+ * 다중 시작점 BFS(8방향, 벽 모서리 통과 금지)를 돌려 타일마다 "가장 가까운 플레이어 쪽으로
+ * 한 칸 가는 방향"을 기록합니다. 몬스터는 자기 타일의 방향만 읽으면 되므로 몬스터 수와 무관하게
+ * 틱당 BFS는 최대 한 번이고, 문을 돌아 건물 안으로 들어갈 수 있습니다.
+ *
+ * - 플레이어가 다른 타일로 넘어갈 때만 다시 계산합니다. (dirty 플래그)
+ * - 시작점에서 maxSteps 타일 안쪽만 탐색하고, 다음 계산 때는 이전에 방문한 타일만 초기화합니다.
+ * - 흐름장 밖(너무 멀거나 막힌 곳)의 몬스터는 예전처럼 직선으로 추적합니다.
+ */
+public class FlowField {
+    // 방향 없음 (시작점 타일이거나 도달 불가)
+    public static final byte NO_DIRECTION = -1;
+    // 도달하지 않은 타일의 거리
+    private static final int UNREACHED = -1;
+
+    // 8방향 (0~3 직선, 4~7 대각선)
+    // 짝수/홀수 쌍이 서로 반대 방향 (d ^ 1 = 반대 방향)
+    private static final int[] DIR_X = {1, -1, 0, 0, 1, -1, 1, -1};
+    private static final int[] DIR_Y = {0, 0, 1, -1, 1, -1, -1, 1};
+
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final int maxSteps;
+
+    // 반경 radius의 몬스터 중심이 타일 중심에 있을 수 있는지 (거리장으로 한 번 계산)
+    private final boolean[] passable;
+    // 가장 가까운 시작점까지 단계 수, 다음 타일 방향 (인덱스 = libgdxTileY * width + tileX)
+    private final int[] distance;
+    private final byte[] direction;
+    // BFS 큐 (계산이 끝나면 이번에 방문한 타일 목록으로 재사용)
+    private final int[] queue;
+    private int visitedCount = 0;
+
+    // 시작점 (플레이어 ID → 현재 타일)
+    private int[] sourceIds = new int[8];
+    private int[] sourceTiles = new int[8];
+    private int sourceCount = 0;
+    private boolean dirty = false;
+
+    /**
+     * @param collisionMap 충돌 맵
+     * @param radius 몬스터 충돌 반경 (픽셀)
+     * @param maxSteps 시작점에서 탐색할 최대 타일 수
+     */
+    public FlowField(CollisionMap collisionMap, float radius, int maxSteps) {
+        this.width = collisionMap.getWidth();
+        this.height = collisionMap.getHeight();
+        this.tileWidth = collisionMap.getTileWidth();
+        this.tileHeight = collisionMap.getTileHeight();
+        this.maxSteps = maxSteps;
+
+        int n = width * height;
+        passable = new boolean[n];
+        distance = new int[n];
+        direction = new byte[n];
+        queue = new int[n];
+        Arrays.fill(distance, UNREACHED);
+        Arrays.fill(direction, NO_DIRECTION);
+
+        // 타일 중심의 거리장 값 = 가장 가까운 벽 타일 중심까지 거리이므로
+        // radius 이상이면 isWallInArea(중심, radius)가 false
+        for (int ty = 0; ty < height; ty++) {
+            for (int tx = 0; tx < width; tx++) {
+                float distanceToWall = collisionMap.getWallDistance((tx + 0.5f) * tileWidth, (ty + 0.5f) * tileHeight);
+                passable[ty * width + tx] = distanceToWall >= radius;
+            }
+        }
+    }
+
+    private int tileOf(float x, float y) {
+        int tx = Math.max(0, Math.min(width - 1, (int) (x / tileWidth)));
+        int ty = Math.max(0, Math.min(height - 1, (int) (y / tileHeight)));
+        return ty * width + tx;
+    }
+
+    /**
+     * 시작점(플레이어) 위치를 갱신합니다. 타일이 바뀔 때만 다시 계산하도록 표시합니다.
+     */
+    public void setSource(int playerId, float x, float y) {
+        int tile = tileOf(x, y);
+        for (int s = 0; s < sourceCount; s++) {
+            if (sourceIds[s] == playerId) {
+                if (sourceTiles[s] != tile) {
+                    sourceTiles[s] = tile;
+                    dirty = true;
+                }
+                return;
+            }
+        }
+        if (sourceCount == sourceIds.length) {
+            sourceIds = Arrays.copyOf(sourceIds, sourceCount * 2);
+            sourceTiles = Arrays.copyOf(sourceTiles, sourceCount * 2);
+        }
+        sourceIds[sourceCount] = playerId;
+        sourceTiles[sourceCount] = tile;
+        sourceCount++;
+        dirty = true;
+    }
+
+    /**
+     * 시작점을 제거합니다. (퇴장/사망)
+     */
+    public void removeSource(int playerId) {
+        for (int s = 0; s < sourceCount; s++) {
+            if (sourceIds[s] == playerId) {
+                sourceCount--;
+                sourceIds[s] = sourceIds[sourceCount];
+                sourceTiles[s] = sourceTiles[sourceCount];
+                dirty = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 시작점이 바뀌었으면 흐름장을 다시 계산합니다.
+     *
+     * @return 다시 계산했으면 true
+     */
+    public boolean rebuildIfDirty() {
+        if (!dirty) {
+            return false;
+        }
+        dirty = false;
+
+        // 이전 계산에서 방문한 타일만 초기화
+        for (int k = 0; k < visitedCount; k++) {
+            int tile = queue[k];
+            distance[tile] = UNREACHED;
+            direction[tile] = NO_DIRECTION;
+        }
+
+        int tail = 0;
+        for (int s = 0; s < sourceCount; s++) {
+            int tile = sourceTiles[s];
+            if (distance[tile] == UNREACHED) {
+                distance[tile] = 0;
+                queue[tail++] = tile;
+            }
+        }
+
+        int head = 0;
+        while (head < tail) {
+            int tile = queue[head++];
+            int step = distance[tile] + 1;
+            if (step > maxSteps) {
+                continue;
+            }
+            int tx = tile % width;
+            int ty = tile / width;
+
+            for (int d = 0; d < 8; d++) {
+                int nx = tx + DIR_X[d];
+                int ny = ty + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                int next = ny * width + nx;
+                if (distance[next] != UNREACHED || !passable[next]) continue;
+                // 대각선은 양옆 두 타일이 모두 통과 가능할 때만 (벽 모서리 통과 금지)
+                if (d >= 4 && (!passable[ty * width + nx] || !passable[ny * width + tx])) continue;
+
+                distance[next] = step;
+                direction[next] = (byte) (d ^ 1);  // next → tile 방향 (반대 방향)
+                queue[tail++] = next;
+            }
+        }
+        visitedCount = tail;
+        return true;
+    }
+
+    /**
+     * 좌표에서 가장 가까운 플레이어 쪽으로 가는 다음 타일의 중심을 out에 기록합니다.
+     *
+     * @return 흐름장 밖이거나 이미 플레이어 타일이면 false (직선 추적 사용)
+     */
+    public boolean getNextWaypoint(float x, float y, float[] out) {
+        if (x < 0 || y < 0) {
+            return false;
+        }
+        int tx = (int) (x / tileWidth);
+        int ty = (int) (y / tileHeight);
+        if (tx >= width || ty >= height) {
+            return false;
+        }
+        int tile = ty * width + tx;
+        byte d = direction[tile];
+        if (d == NO_DIRECTION) {
+            if (distance[tile] == 0) {
+                return false;  // 플레이어와 같은 타일
+            }
+            // 벽에 붙어 통과 불가 타일에 걸친 경우: 도달한 이웃 중 가장 가까운 타일로
+            d = nearestReachedNeighbor(tx, ty);
+            if (d == NO_DIRECTION) {
+                return false;
+            }
+        }
+        out[0] = (tx + DIR_X[d] + 0.5f) * tileWidth;
+        out[1] = (ty + DIR_Y[d] + 0.5f) * tileHeight;
+        return true;
+    }
+
+    private byte nearestReachedNeighbor(int tx, int ty) {
+        byte best = NO_DIRECTION;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int d = 0; d < 8; d++) {
+            int nx = tx + DIR_X[d];
+            int ny = ty + DIR_Y[d];
+            if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+            int neighborDistance = distance[ny * width + nx];
+            if (neighborDistance != UNREACHED && neighborDistance < bestDistance) {
+                bestDistance = neighborDistance;
+                best = (byte) d;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 좌표에서 가장 가까운 플레이어까지 타일 단계 수 (도달 불가면 -1)
+     */
+    public int getDistance(float x, float y) {
+        if (x < 0 || y < 0) {
+            return UNREACHED;
+        }
+        int tx = (int) (x / tileWidth);
+        int ty = (int) (y / tileHeight);
+        if (tx >= width || ty >= height) {
+            return UNREACHED;
+        }
+        return distance[ty * width + tx];
+    }
+
+    public int getSourceCount() {
+        return sourceCount;
+    }
+
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+}
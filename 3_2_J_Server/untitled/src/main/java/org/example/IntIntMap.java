@@ -0,0 +1,116 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * int → int 해시맵 (개방 주소법, 선형 탐사)
+ *
+ * HashMap<Integer, Integer>와 달리 박싱이 없어 틱마다 조회해도 객체가 생성되지 않습니다.
+ * 키로 Integer.MIN_VALUE는 사용할 수 없습니다.
+ */
+public class IntIntMap {
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size = 0;
+
+    public IntIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @return 키에 해당하는 값, 없으면 defaultValue
+     */
+    public int get(int key, int defaultValue) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public void put(int key, int value) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    public void remove(int key) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                keys[i] = EMPTY;
+                size--;
+                shiftBack(i);
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * 삭제한 칸 뒤의 원소들을 당겨서 탐사 체인이 끊어지지 않게 합니다.
+     */
+    private void shiftBack(int hole) {
+        int i = (hole + 1) & mask;
+        while (keys[i] != EMPTY) {
+            int home = slot(keys[i]);
+            // home이 (hole, i] 구간 밖이면 hole로 옮길 수 있음
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                keys[i] = EMPTY;
+                hole = i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * int 집합 (개방 주소법, 선형 탐사)
+ *
+ * HashSet<Integer>와 달리 박싱이 없어 틱마다 조회/추가해도 객체가 생성되지 않습니다.
+ * 원소로 Integer.MIN_VALUE는 사용할 수 없습니다.
+ */
+public class IntSet {
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private int mask;
+    private int size = 0;
+
+    public IntSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public boolean contains(int key) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return 새로 추가했으면 true, 이미 있었으면 false
+     */
+    public boolean add(int key) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @return 있어서 제거했으면 true
+     */
+    public boolean remove(int key) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                keys[i] = EMPTY;
+                size--;
+                shiftBack(i);
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * 삭제한 칸 뒤의 원소들을 당겨서 탐사 체인이 끊어지지 않게 합니다.
+     */
+    private void shiftBack(int hole) {
+        int i = (hole + 1) & mask;
+        while (keys[i] != EMPTY) {
+            int home = slot(keys[i]);
+            // home이 (hole, i] 구간 밖이면 hole로 옮길 수 있음
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                keys[i] = EMPTY;
+                hole = i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        keys = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int key : oldKeys) {
+            if (key != EMPTY) {
+                add(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.example;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 관심 영역(Area of Interest) 관리
+ *
+ * CollisionMap 타일 좌표를 CELL_TILES 단위로 묶은 격자로 맵을 나누고,
+ * 플레이어(관찰자)마다 어떤 엔티티(몬스터/다른 플레이어)의 갱신을 받아야 하는지 판단합니다.
+ *
+ * 몬스터 ID(1000부터)와 플레이어 연결 ID는 겹칠 수 있으므로 종류별 가시 목록을 따로 둡니다.
+ *
+ * 경계에서 보였다/안 보였다를 반복하지 않도록 히스테리시스를 둡니다:
+ * - 관찰자 셀에서 ENTER_RADIUS 셀 이내로 들어오면 보이기 시작 (ENTERED → 전체 상태 전송)
+ * - EXIT_RADIUS 셀을 넘어가야 안 보이는 것으로 처리
+ *
+ * 방의 틱 스레드에서만 사용합니다.
+ */
+public class InterestGrid {
+    // 셀 하나의 크기 (타일 단위, 16타일 = 256px)
+    public static final int CELL_TILES = 16;
+    // 보이기 시작하는 거리 (셀, 체비쇼프 거리)
+    public static final int ENTER_RADIUS = 2;
+    // 안 보이게 되는 거리 (셀, 이 값을 초과해야 제거)
+    public static final int EXIT_RADIUS = 3;
+
+    // check() 결과
+    public static final int HIDDEN = 0;
+    public static final int VISIBLE = 1;
+    public static final int ENTERED = 2;
+
+    private final float cellWidth;
+    private final float cellHeight;
+    private final Map<Integer, Viewer> viewers = new HashMap<>();
+
+    private static class Viewer {
+        int cellX, cellY;
+        final IntSet monsters = new IntSet(64);
+        final IntSet players = new IntSet(8);
+    }
+
+    public InterestGrid(CollisionMap collisionMap) {
+        int tileWidth = collisionMap != null ? collisionMap.getTileWidth() : 16;
+        int tileHeight = collisionMap != null ? collisionMap.getTileHeight() : 16;
+        this.cellWidth = tileWidth * CELL_TILES;
+        this.cellHeight = tileHeight * CELL_TILES;
+    }
+
+    private int cellX(float x) {
+        return (int) Math.floor(x / cellWidth);
+    }
+
+    private int cellY(float y) {
+        return (int) Math.floor(y / cellHeight);
+    }
+
+    /**
+     * 관찰자 위치를 갱신합니다. 처음 호출되면 관찰자로 등록됩니다.
+     */
+    public void setViewerPosition(int viewerId, float x, float y) {
+        Viewer viewer = viewers.get(viewerId);
+        if (viewer == null) {
+            viewer = new Viewer();
+            viewers.put(viewerId, viewer);
+        }
+        viewer.cellX = cellX(x);
+        viewer.cellY = cellY(y);
+    }
+
+    /**
+     * 관찰자를 제거합니다. (퇴장 시)
+     */
+    public void removeViewer(int viewerId) {
+        viewers.remove(viewerId);
+    }
+
+    /**
+     * 몬스터를 모든 관찰자의 가시 목록에서 제거합니다. (사망 시)
+     */
+    public void forgetMonster(int monsterId) {
+        for (Viewer viewer : viewers.values()) {
+            viewer.monsters.remove(monsterId);
+        }
+    }
+
+    /**
+     * 플레이어를 모든 관찰자의 가시 목록에서 제거합니다. (퇴장 시)
+     */
+    public void forgetPlayer(int playerId) {
+        for (Viewer viewer : viewers.values()) {
+            viewer.players.remove(playerId);
+        }
+    }
+
+    public boolean hasViewers() {
+        return !viewers.isEmpty();
+    }
+
+    public Collection<Integer> viewerIds() {
+        return viewers.keySet();
+    }
+
+    /**
+     * 관찰자 기준 몬스터 가시성을 판정하고 가시 목록을 갱신합니다.
+     *
+     * @return HIDDEN, VISIBLE, ENTERED(이번에 새로 보이기 시작) 중 하나
+     */
+    public int checkMonster(int viewerId, int monsterId, float x, float y) {
+        Viewer viewer = viewers.get(viewerId);
+        if (viewer == null) {
+            return VISIBLE;  // 위치를 모르는 관찰자는 모두 받음
+        }
+        return check(viewer, viewer.monsters, monsterId, x, y);
+    }
+
+    /**
+     * 관찰자 기준 다른 플레이어 가시성을 판정하고 가시 목록을 갱신합니다.
+     *
+     * @return HIDDEN, VISIBLE, ENTERED(이번에 새로 보이기 시작) 중 하나
+     */
+    public int checkPlayer(int viewerId, int playerId, float x, float y) {
+        Viewer viewer = viewers.get(viewerId);
+        if (viewer == null) {
+            return VISIBLE;
+        }
+        return check(viewer, viewer.players, playerId, x, y);
+    }
+
+    private int check(Viewer viewer, IntSet visible, int entityId, float x, float y) {
+        int distance = cellDistance(viewer, x, y);
+        if (visible.contains(entityId)) {
+            if (distance > EXIT_RADIUS) {
+                visible.remove(entityId);
+                return HIDDEN;
+            }
+            return VISIBLE;
+        }
+
+        if (distance <= ENTER_RADIUS) {
+            visible.add(entityId);
+            return ENTERED;
+        }
+        return HIDDEN;
+    }
+
+    /**
+     * 일회성 이벤트(공격, 데미지, 스킬 시전)를 받을 만큼 가까운지 확인합니다.
+     * 가시 목록은 변경하지 않으며, 넉넉하게 EXIT_RADIUS를 기준으로 합니다.
+     */
+    public boolean isNear(int viewerId, float x, float y) {
+        Viewer viewer = viewers.get(viewerId);
+        return viewer == null || cellDistance(viewer, x, y) <= EXIT_RADIUS;
+    }
+
+    private int cellDistance(Viewer viewer, float x, float y) {
+        int dx = Math.abs(cellX(x) - viewer.cellX);
+        int dy = Math.abs(cellY(y) - viewer.cellY);
+        return Math.max(dx, dy);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 나노초 단위 소요 시간 히스토그램 (HDR 방식, lock-free)
+ *
+ * 값을 2의 거듭제곱 구간으로 나누고, 구간마다 16칸으로 다시 나눠 셉니다.
+ * 기록은 배열 칸 하나의 원자적 증가뿐이라 틱 스레드가 부담 없이 호출할 수 있고,
+ * 백분위 오차는 약 6% 이내입니다. (1ns ~ 약 18분, 그 이상은 마지막 칸)
+ *
+ * 읽기(백분위/평균)는 기록 중에도 호출할 수 있으며 근사값을 반환합니다.
+ */
+public class LatencyHistogram {
+    // 구간마다 2^SUB_BITS 칸
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    // 2^MAX_EXPONENT ns (약 18분)까지 구분
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BITS + 2) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 소요 시간을 기록합니다.
+     *
+     * @param nanos 나노초 (음수는 0으로 기록)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // 다른 스레드가 더 큰 값을 기록했으면 다시 비교
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BITS;
+        // 같은 구간 안에서 최상위 비트 아래 SUB_BITS 비트로 칸 선택
+        return (shift + 1) * SUB_COUNT + (int) ((value >>> shift) & (SUB_COUNT - 1));
+    }
+
+    /**
+     * 칸의 대표값 (칸 범위의 중간값)
+     */
+    static long valueAt(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_COUNT - 1;
+        long low = ((long) (SUB_COUNT + index % SUB_COUNT)) << shift;
+        return low + ((1L << shift) >>> 1);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public double getMean() {
+        long n = count.get();
+        return n > 0 ? (double) total.get() / n : 0.0;
+    }
+
+    /**
+     * 백분위 값 (나노초)
+     *
+     * @param percentile 0~100
+     * @return 기록이 없으면 0
+     */
+    public long getPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(valueAt(i), max.get());
+            }
+        }
+        return max.get();
+    }
+}
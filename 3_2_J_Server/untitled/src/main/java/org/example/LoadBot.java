@@ -0,0 +1,619 @@
+// 서버 - org.example.LoadBot.java
+package org.example;
+
+import com.esotericsoftware.kryonet.Client;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.KryoSerialization;
+import com.esotericsoftware.kryonet.Listener;
+import org.example.Main.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤드리스 부하 테스트 봇
+ *
+ * 휴대폰 없이 서버에 N개의 연결을 열고, 방을 만들어 게임을 시작한 뒤 정해진 시나리오대로 플레이합니다.
+ * 서버와 같은 Kryo 등록(Main.registerMessages)을 사용하므로 클라이언트 NetworkManager와 프로토콜이 같습니다.
+ *
+ * 시나리오 (봇마다 시드로 만든 Random 사용, 스텝 = 0.1초):
+ * - 20ms 프레임마다 이동 입력을 기록하고 0.2초(클라이언트 PLAYER_SYNC_INTERVAL)마다
+ *   확인 안 된 입력을 PlayerInputMsg로 상태 채널(UDP)에 전송 (스폰 위치 주변 랜덤 워크, 서버 위치로 보정)
+ * - 주기적으로 SkillCastMsg, AttackBatchMsg(알고 있는 몬스터 / 같은 방 봇 피격을 스텝마다 한 묶음)
+ * - 1초마다 ServerProbeMsg로 왕복 시간과 방 틱 통계 측정
+ *
+ * 보고 항목: 메시지 타입별 수신 개수/바이트(초당), 왕복 시간 p50/p90/p99/최대, 방 틱 초과 횟수/최대 틱 시간,
+ * 상태/이벤트 채널(NetChannel) 손실/늦음/재전송 개수와 이벤트 왕복 시간 (-Dbots.dropPercent로 UDP 수신 손실 흉내)
+ *
+ * 같은 시드면 봇이 보내는 메시지 순서와 내용은 같습니다.
+ * (몬스터 공격 대상은 서버가 알려준 몬스터 목록에 따라 달라질 수 있음)
+ *
+ * 사용법: java -Dbots.count=16 -Dbots.roomSize=4 -Dbots.seconds=60 -Dbots.seed=42 [-Dbots.dropPercent=5] org.example.LoadBot [호스트]
+ */
+public class LoadBot {
+    // 시나리오 스텝 간격
+    private static final long STEP_MILLIS = 100;
+    private static final int STEPS_PER_SECOND = (int) (1000 / STEP_MILLIS);
+    // 이동 전송 간격 (클라이언트 Constants.PLAYER_SYNC_INTERVAL 0.2초 = 2스텝)
+    private static final int MOVE_EVERY_STEPS = 2;
+    // 스텝 하나의 이동 입력 (20ms 프레임 5개)
+    private static final int INPUTS_PER_STEP = 5;
+    private static final int INPUT_MILLIS = (int) (STEP_MILLIS / INPUTS_PER_STEP);
+    // 한 패킷에 담는 최대 입력 수 (클라이언트 MovePredictor.MAX_INPUTS_PER_PACKET)
+    private static final int MAX_PENDING_INPUTS = 48;
+    // 스폰 위치에서 벗어날 수 있는 최대 거리 (픽셀)
+    private static final float WANDER_RADIUS = 400f;
+
+    private static final int TCP_PORT = 5000;
+    private static final int UDP_PORT = 5001;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final long SETUP_TIMEOUT_SECONDS = 10;
+
+    // 원소별 스킬 ID 시작값 (클라이언트 ElementType.getSkillIds, WireSerializers.ELEMENT_NAMES 순서)
+    private static final int[] ELEMENT_SKILL_BASE = {5100, 5200, 5300, 5400, 5000};
+
+    // ===== 통계 (수신 스레드들이 기록, 보고 스레드가 읽음) =====
+    private static final Map<String, AtomicLong[]> inbound = new ConcurrentHashMap<>();
+    private static final List<Long> rttNanos = new ArrayList<>();
+    private static final Map<Integer, ServerProbeMsg> latestProbes = new ConcurrentHashMap<>();
+    // 모든 봇 채널의 누적 통계
+    private static final NetChannel.Stats stateChannel = new NetChannel.Stats();
+    private static final NetChannel.Stats eventChannel = new NetChannel.Stats();
+    // 받은 채널 봉투를 일부러 버리는 비율 (손실 흉내, 0~100)
+    private static final int DROP_PERCENT = Integer.getInteger("bots.dropPercent", 0);
+
+    /**
+     * 수신한 메시지의 타입별 개수/바이트를 기록하는 직렬화
+     */
+    static class CountingSerialization extends KryoSerialization {
+        @Override
+        public synchronized Object read(Connection connection, ByteBuffer buffer) {
+            int start = buffer.position();
+            Object object = super.read(connection, buffer);
+            // 채널 봉투는 안의 메시지 클래스로 집계 (확인응답 전용은 ReliableMsg)
+            Object counted = object;
+            if (object instanceof SequencedMsg) {
+                counted = ((SequencedMsg) object).payload;
+            } else if (object instanceof ReliableMsg && ((ReliableMsg) object).payload != null) {
+                counted = ((ReliableMsg) object).payload;
+            }
+            AtomicLong[] counters = inbound.computeIfAbsent(counted.getClass().getSimpleName(),
+                k -> new AtomicLong[] {new AtomicLong(), new AtomicLong()});
+            counters[0].incrementAndGet();
+            counters[1].addAndGet(buffer.position() - start);
+            return object;
+        }
+    }
+
+    /**
+     * 봇 한 명 (연결 하나)
+     */
+    static class Bot extends Listener {
+        final int index;
+        final Random random;
+        final Client client;
+        final NetChannel channel;
+
+        // 방 설정 단계 응답 대기
+        final CountDownLatch joined = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        volatile int roomId = -1;
+        volatile boolean roomFull = false;
+        int roomSize;
+
+        // 게임 상태
+        volatile int playerId;
+        volatile int[] roomPlayerIds = new int[0];
+        float x, y, spawnX, spawnY;
+        float headingX, headingY;
+        // 서버가 확인하지 않은 이동 입력 (pending[0]의 순번 = pendingFirst, 봇 객체로 동기화)
+        final byte[] pendingDirX = new byte[MAX_PENDING_INPUTS];
+        final byte[] pendingDirY = new byte[MAX_PENDING_INPUTS];
+        final byte[] pendingMillis = new byte[MAX_PENDING_INPUTS];
+        int pendingFirst = 1;
+        int pendingCount = 0;
+        final float[] position = new float[2];
+        final Map<Integer, Boolean> knownMonsters = new ConcurrentHashMap<>();
+
+        // 시나리오 주기 (스텝 단위)
+        final int skillInterval;
+        final int attackInterval;
+        final int pvpInterval;
+        int probeSequence = 0;
+        volatile boolean closing = false;
+
+        Bot(int index, long seed) {
+            this.index = index;
+            this.random = new Random(seed);
+            this.client = new Client(16384, 8192, new CountingSerialization());
+            Main.registerMessages(client.getKryo());
+            client.addListener(this);
+            this.channel = new NetChannel(client, stateChannel, eventChannel);
+
+            this.skillInterval = 10 + random.nextInt(11);   // 1~2초
+            this.attackInterval = 5 + random.nextInt(6);    // 0.5~1초
+            this.pvpInterval = 30 + random.nextInt(31);     // 3~6초
+        }
+
+        void connect(String host) throws IOException {
+            client.start();
+            client.connect(CONNECT_TIMEOUT_MILLIS, host, TCP_PORT, UDP_PORT);
+            playerId = client.getID();
+
+            SetPlayerNameMsg name = new SetPlayerNameMsg();
+            name.playerName = "Bot" + index;
+            client.sendTCP(name);
+        }
+
+        @Override
+        public void received(Connection connection, Object object) {
+            if ((object instanceof SequencedMsg || object instanceof ReliableMsg)
+                && DROP_PERCENT > 0 && ThreadLocalRandom.current().nextInt(100) < DROP_PERCENT) {
+                return;  // 손실 흉내
+            }
+            if (channel.receive(object, payload -> received(connection, payload))) {
+                return;
+            }
+            if (object instanceof CreateRoomResponse) {
+                CreateRoomResponse response = (CreateRoomResponse) object;
+                if (response.success) {
+                    roomId = response.roomId;
+                    joined.countDown();
+                } else {
+                    System.err.println("[LoadBot] Bot" + index + " 방 생성 실패: " + response.message);
+                }
+            } else if (object instanceof JoinRoomResponse) {
+                JoinRoomResponse response = (JoinRoomResponse) object;
+                if (response.success) {
+                    roomId = response.roomInfo.roomId;
+                    joined.countDown();
+                } else {
+                    System.err.println("[LoadBot] Bot" + index + " 방 입장 실패: " + response.message);
+                }
+            } else if (object instanceof RoomUpdateMsg) {
+                RoomUpdateMsg update = (RoomUpdateMsg) object;
+                roomFull = update.players != null && update.players.length >= roomSize;
+            } else if (object instanceof GameStartNotification) {
+                GameStartNotification notification = (GameStartNotification) object;
+                int[] ids = new int[notification.players.length];
+                for (int i = 0; i < ids.length; i++) {
+                    PlayerInfo info = notification.players[i];
+                    ids[i] = info.playerId;
+                    if (info.playerId == playerId) {
+                        spawnX = x = info.spawnX;
+                        spawnY = y = info.spawnY;
+                    }
+                }
+                roomPlayerIds = ids;
+                started.countDown();
+            } else if (object instanceof PlayerStateMsg) {
+                reconcile((PlayerStateMsg) object);
+            } else if (object instanceof MonsterSpawnMsg) {
+                knownMonsters.put(((MonsterSpawnMsg) object).monsterId, Boolean.TRUE);
+            } else if (object instanceof MonsterSnapshotMsg) {
+                MonsterSnapshotMsg snapshot = (MonsterSnapshotMsg) object;
+                for (int i = 0; i < snapshot.count(); i++) {
+                    if (snapshot.state[i] == MonsterSnapshotMsg.STATE_DEAD) {
+                        knownMonsters.remove(snapshot.ids[i]);
+                    } else {
+                        knownMonsters.put(snapshot.ids[i], Boolean.TRUE);
+                    }
+                }
+            } else if (object instanceof MonsterDeathMsg) {
+                knownMonsters.remove(((MonsterDeathMsg) object).monsterId);
+            } else if (object instanceof ServerProbeMsg) {
+                ServerProbeMsg probe = (ServerProbeMsg) object;
+                long rtt = System.nanoTime() - probe.clientNanos;
+                synchronized (rttNanos) {
+                    rttNanos.add(rtt);
+                }
+                if (probe.roomId >= 0) {
+                    latestProbes.put(probe.roomId, probe);
+                }
+            }
+        }
+
+        @Override
+        public void disconnected(Connection connection) {
+            if (!closing && started.getCount() == 0) {
+                System.err.println("[LoadBot] Bot" + index + " 연결 끊김");
+            }
+        }
+
+        /**
+         * 시나리오 한 스텝 (드라이버 스레드에서 호출)
+         */
+        void step(int step) {
+            if (!client.isConnected()) {
+                return;
+            }
+
+            // 랜덤 워크: 2초마다 방향 변경, 스폰 위치에서 너무 멀어지면 되돌아감
+            if (step % (STEPS_PER_SECOND * 2) == 0) {
+                double angle = random.nextDouble() * Math.PI * 2;
+                headingX = (float) Math.cos(angle);
+                headingY = (float) Math.sin(angle);
+            }
+            if (Math.abs(x - spawnX) > WANDER_RADIUS) headingX = -Math.abs(headingX) * Math.signum(x - spawnX);
+            if (Math.abs(y - spawnY) > WANDER_RADIUS) headingY = -Math.abs(headingY) * Math.signum(y - spawnY);
+
+            synchronized (this) {
+                byte dirX = PlayerMotion.quantizeDirection(headingX);
+                byte dirY = PlayerMotion.quantizeDirection(headingY);
+                for (int i = 0; i < INPUTS_PER_STEP; i++) {
+                    addInput(dirX, dirY);
+                }
+                if (step % MOVE_EVERY_STEPS == 0) {
+                    PlayerInputMsg inputs = new PlayerInputMsg(pendingFirst, pendingCount);
+                    System.arraycopy(pendingDirX, 0, inputs.dirX, 0, pendingCount);
+                    System.arraycopy(pendingDirY, 0, inputs.dirY, 0, pendingCount);
+                    System.arraycopy(pendingMillis, 0, inputs.millis, 0, pendingCount);
+                    channel.sendState(NetChannel.STREAM_PLAYER_MOVE, inputs);
+                }
+            }
+
+            if (step % skillInterval == 0) {
+                client.sendTCP(createSkillCast());
+            }
+            // 이번 스텝 피격 보고 (클라이언트 AttackBatcher처럼 한 묶음으로 전송)
+            int monsterId = -1;
+            int monsterDamage = 0;
+            if (step % attackInterval == 0) {
+                monsterId = pickMonster();
+                if (monsterId >= 0) {
+                    monsterDamage = 10 + random.nextInt(20);
+                }
+            }
+            int targetId = playerId;
+            String pvpSkill = null;
+            if (step % pvpInterval == 0 && roomPlayerIds.length > 1) {
+                targetId = roomPlayerIds[random.nextInt(roomPlayerIds.length)];
+                if (targetId != playerId) {
+                    pvpSkill = WireSerializers.ATTACK_SKILLS[random.nextInt(WireSerializers.ATTACK_SKILLS.length)];
+                }
+            }
+            int hits = (monsterId >= 0 ? 1 : 0) + (pvpSkill != null ? 1 : 0);
+            if (hits > 0) {
+                AttackBatchMsg batch = new AttackBatchMsg(hits);
+                int hit = 0;
+                if (monsterId >= 0) {
+                    batch.targetTypes[hit] = AttackBatchMsg.TARGET_MONSTER;
+                    batch.targetIds[hit] = monsterId;
+                    batch.damage[hit] = monsterDamage;
+                    hit++;
+                }
+                if (pvpSkill != null) {
+                    // 봇이 금방 죽지 않도록 최소 데미지
+                    batch.targetTypes[hit] = AttackBatchMsg.TARGET_PLAYER;
+                    batch.targetIds[hit] = targetId;
+                    batch.damage[hit] = 1;
+                    batch.skillTypes[hit] = pvpSkill;
+                }
+                client.sendTCP(batch);
+            }
+            if (step % STEPS_PER_SECOND == index % STEPS_PER_SECOND) {
+                ServerProbeMsg probe = new ServerProbeMsg();
+                probe.sequence = probeSequence++;
+                probe.clientNanos = System.nanoTime();
+                client.sendTCP(probe);
+            }
+        }
+
+        /**
+         * 이동 입력을 기록하고 바로 적용합니다. (봇은 맵이 없으므로 벽 없이 예측, 서버 위치로 보정)
+         */
+        private void addInput(byte dirX, byte dirY) {
+            if (pendingCount == MAX_PENDING_INPUTS) {
+                dropInputs(1);  // 가장 오래된 입력부터 버림 (서버는 움직이지 않은 것으로 처리)
+            }
+            pendingDirX[pendingCount] = dirX;
+            pendingDirY[pendingCount] = dirY;
+            pendingMillis[pendingCount] = (byte) INPUT_MILLIS;
+            pendingCount++;
+
+            position[0] = x;
+            position[1] = y;
+            PlayerMotion.step(position, dirX, dirY, INPUT_MILLIS, null);
+            x = position[0];
+            y = position[1];
+        }
+
+        private void dropInputs(int count) {
+            System.arraycopy(pendingDirX, count, pendingDirX, 0, pendingCount - count);
+            System.arraycopy(pendingDirY, count, pendingDirY, 0, pendingCount - count);
+            System.arraycopy(pendingMillis, count, pendingMillis, 0, pendingCount - count);
+            pendingFirst += count;
+            pendingCount -= count;
+        }
+
+        /**
+         * 서버 위치에서 확인 안 된 입력만 다시 실행합니다. (수신 스레드)
+         */
+        private synchronized void reconcile(PlayerStateMsg state) {
+            int acked = state.lastInput - pendingFirst + 1;
+            if (acked < 0) {
+                return;  // 늦게 온 이전 상태
+            }
+            dropInputs(Math.min(acked, pendingCount));
+            position[0] = state.x;
+            position[1] = state.y;
+            for (int i = 0; i < pendingCount; i++) {
+                PlayerMotion.step(position, pendingDirX[i], pendingDirY[i], pendingMillis[i] & 0xFF, null);
+            }
+            x = position[0];
+            y = position[1];
+        }
+
+        private Main.SkillCastMsg createSkillCast() {
+            int skill = random.nextInt(WireSerializers.SKILL_NAMES.length);
+            double angle = random.nextDouble() * Math.PI * 2;
+
+            Main.SkillCastMsg msg = new Main.SkillCastMsg();  // 서버가 등록한 클래스 (ID 26)
+            msg.playerId = playerId;
+            msg.skillId = ELEMENT_SKILL_BASE[skill / 3] + skill % 3 + 1;
+            msg.casterX = x;
+            msg.casterY = y;
+            msg.directionX = (float) Math.cos(angle);
+            msg.directionY = (float) Math.sin(angle);
+            msg.targetX = x + msg.directionX * 300f;
+            msg.targetY = y + msg.directionY * 300f;
+            msg.skillName = WireSerializers.SKILL_NAMES[skill];
+            msg.elementColor = WireSerializers.ELEMENT_NAMES[skill / 3];
+            msg.baseDamage = 20;
+            msg.projectileSpeed = 400f;
+            msg.projectileRadius = 16f;
+            msg.projectileLifetime = 1.5f;
+            msg.skillType = skill == 4 ? 4 : 0;
+            msg.projectileCount = skill == 4 ? 3 : 1;  // 아이스 스파이크는 3방향
+            msg.angleSpread = skill == 4 ? 15f : 0f;
+            // 서버 피격 판정 (단일 대상 투사체)
+            msg.hitRadius = msg.projectileRadius;
+            msg.maxHits = 1;
+            return msg;
+        }
+
+        /**
+         * 알고 있는 몬스터 중 하나를 고릅니다. (ID 순으로 정렬해 같은 목록이면 같은 선택)
+         */
+        private int pickMonster() {
+            Integer[] ids = knownMonsters.keySet().toArray(new Integer[0]);
+            if (ids.length == 0) {
+                return -1;
+            }
+            Arrays.sort(ids);
+            return ids[random.nextInt(ids.length)];
+        }
+
+        void close() {
+            closing = true;
+            client.stop();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int botCount = Integer.getInteger("bots.count", 8);
+        int roomSize = Math.max(1, Integer.getInteger("bots.roomSize", 4));
+        int seconds = Integer.getInteger("bots.seconds", 60);
+        int reportSeconds = Math.max(1, Integer.getInteger("bots.reportSeconds", 5));
+        long seed = Long.getLong("bots.seed", 42L);
+
+        System.out.println("[LoadBot] 서버 " + host + ":" + TCP_PORT + "/" + UDP_PORT + ", 봇 " + botCount
+            + "개, 방당 " + roomSize + "명, " + seconds + "초, 시드 " + seed);
+
+        Random seeds = new Random(seed);
+        List<Bot> bots = new ArrayList<>();
+        for (int i = 0; i < botCount; i++) {
+            Bot bot = new Bot(i, seeds.nextLong());
+            bot.roomSize = Math.min(roomSize, botCount - (i / roomSize) * roomSize);
+            bot.connect(host);
+            bots.add(bot);
+        }
+        System.out.println("[LoadBot] 연결 완료: " + bots.size() + "개");
+
+        // 방 만들기 → 입장 → 게임 시작 (방 단위로 순서대로)
+        for (int first = 0; first < bots.size(); first += roomSize) {
+            List<Bot> group = bots.subList(first, Math.min(bots.size(), first + roomSize));
+            if (!setupRoom(group)) {
+                System.err.println("[LoadBot] 방 설정 실패 - 종료");
+                for (Bot bot : bots) {
+                    bot.close();
+                }
+                return;
+            }
+        }
+        System.out.println("[LoadBot] 게임 시작 완료: 방 " + ((bots.size() + roomSize - 1) / roomSize) + "개");
+
+        // 설정 단계 트래픽은 통계에서 제외
+        inbound.clear();
+        synchronized (rttNanos) {
+            rttNanos.clear();
+        }
+
+        int totalSteps = seconds * STEPS_PER_SECOND;
+        int reportSteps = reportSeconds * STEPS_PER_SECOND;
+        Map<String, long[]> totals = new TreeMap<>();
+        List<Long> allRtt = new ArrayList<>();
+        long start = System.nanoTime();
+        long windowStart = start;
+
+        for (int step = 0; step < totalSteps; step++) {
+            for (Bot bot : bots) {
+                bot.step(step);
+            }
+
+            if ((step + 1) % reportSteps == 0 || step + 1 == totalSteps) {
+                long now = System.nanoTime();
+                report("구간 " + ((now - start) / 1_000_000_000L) + "초", (now - windowStart) / 1e9, totals, allRtt);
+                windowStart = now;
+            }
+
+            // 고정 간격 (밀린 만큼 다음 스텝을 당겨서 실행)
+            long next = start + (step + 1) * TimeUnit.MILLISECONDS.toNanos(STEP_MILLIS);
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            }
+        }
+
+        printSummary((System.nanoTime() - start) / 1e9, totals, allRtt);
+
+        for (Bot bot : bots) {
+            bot.close();
+        }
+    }
+
+    /**
+     * 한 방을 만들고 나머지 봇을 입장시킨 뒤 게임을 시작합니다.
+     */
+    private static boolean setupRoom(List<Bot> group) throws InterruptedException {
+        Bot host = group.get(0);
+        CreateRoomMsg create = new CreateRoomMsg();
+        create.roomName = "LoadBot-" + host.index;
+        create.maxPlayers = group.size();
+        host.client.sendTCP(create);
+        if (!host.joined.await(SETUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            return false;
+        }
+
+        for (Bot bot : group.subList(1, group.size())) {
+            JoinRoomMsg join = new JoinRoomMsg();
+            join.roomId = host.roomId;
+            bot.client.sendTCP(join);
+            if (!bot.joined.await(SETUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return false;
+            }
+        }
+
+        // 방장이 전원 입장을 확인한 뒤 시작 (혼자인 방은 바로 시작)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SETUP_TIMEOUT_SECONDS);
+        while (group.size() > 1 && !host.roomFull && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        host.client.sendTCP(new StartGameMsg());
+
+        for (Bot bot : group) {
+            if (!bot.started.await(SETUP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 구간 통계를 출력하고 누적합니다.
+     */
+    private static void report(String label, double elapsedSeconds, Map<String, long[]> totals, List<Long> allRtt) {
+        System.out.println();
+        System.out.println("[LoadBot] ===== " + label + " (" + String.format("%.1f", elapsedSeconds) + "초) =====");
+
+        long messages = 0;
+        long bytes = 0;
+        for (Map.Entry<String, AtomicLong[]> entry : new TreeMap<>(inbound).entrySet()) {
+            long count = entry.getValue()[0].getAndSet(0);
+            long size = entry.getValue()[1].getAndSet(0);
+            if (count == 0) {
+                continue;
+            }
+            long[] total = totals.computeIfAbsent(entry.getKey(), k -> new long[2]);
+            total[0] += count;
+            total[1] += size;
+            messages += count;
+            bytes += size;
+            System.out.printf("[LoadBot]   %-24s %8.1f msg/s %10.1f B/s%n",
+                entry.getKey(), count / elapsedSeconds, size / elapsedSeconds);
+        }
+        System.out.printf("[LoadBot]   %-24s %8.1f msg/s %10.1f B/s%n", "합계", messages / elapsedSeconds, bytes / elapsedSeconds);
+
+        List<Long> window;
+        synchronized (rttNanos) {
+            window = new ArrayList<>(rttNanos);
+            rttNanos.clear();
+        }
+        allRtt.addAll(window);
+        printRtt(window);
+        printTicks();
+        printChannels();
+    }
+
+    private static void printSummary(double elapsedSeconds, Map<String, long[]> totals, List<Long> allRtt) {
+        System.out.println();
+        System.out.println("[LoadBot] ===== 전체 (" + String.format("%.1f", elapsedSeconds) + "초) =====");
+        long messages = 0;
+        long bytes = 0;
+        for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+            messages += entry.getValue()[0];
+            bytes += entry.getValue()[1];
+            System.out.printf("[LoadBot]   %-24s %8.1f msg/s %10.1f B/s (총 %d개, %d bytes)%n", entry.getKey(),
+                entry.getValue()[0] / elapsedSeconds, entry.getValue()[1] / elapsedSeconds,
+                entry.getValue()[0], entry.getValue()[1]);
+        }
+        System.out.printf("[LoadBot]   %-24s %8.1f msg/s %10.1f B/s%n", "합계", messages / elapsedSeconds, bytes / elapsedSeconds);
+        printRtt(allRtt);
+        printTicks();
+        printChannels();
+    }
+
+    /**
+     * 채널 누적 통계 (모든 봇 합계, 서버 → 봇 방향 수신 기준)
+     */
+    private static void printChannels() {
+        System.out.println("[LoadBot]   상태 채널 (누적): " + stateChannel.summary());
+        System.out.println("[LoadBot]   이벤트 채널 (누적): " + eventChannel.summary());
+    }
+
+    private static void printRtt(List<Long> samples) {
+        if (samples.isEmpty()) {
+            System.out.println("[LoadBot]   왕복 시간: 측정값 없음");
+            return;
+        }
+        long[] sorted = new long[samples.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        System.out.printf("[LoadBot]   왕복 시간 (%d회): p50 %.2fms, p90 %.2fms, p99 %.2fms, 최대 %.2fms%n",
+            sorted.length, percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.90) / 1e6,
+            percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * 방별 최근 측정 응답에서 틱 통계를 모아 출력합니다.
+     */
+    private static void printTicks() {
+        if (latestProbes.isEmpty()) {
+            System.out.println("[LoadBot]   방 틱: 측정값 없음");
+            return;
+        }
+        int ticks = 0;
+        int overruns = 0;
+        float lastMax = 0f;
+        float max = 0f;
+        int scheduledRooms = 0;
+        for (ServerProbeMsg probe : latestProbes.values()) {
+            ticks += probe.tickCount;
+            overruns += probe.overrunCount;
+            lastMax = Math.max(lastMax, probe.lastTickMillis);
+            max = Math.max(max, probe.maxTickMillis);
+            scheduledRooms = Math.max(scheduledRooms, probe.scheduledRooms);
+        }
+        System.out.printf("[LoadBot]   방 틱 (%d개 방, 서버 전체 %d개): 누적 %d틱, 초과 %d회, 최근 최대 %.2fms, 최대 %.2fms (허용 %dms)%n",
+            latestProbes.size(), scheduledRooms, ticks, overruns, lastMax, max, RoomScheduler.TICK_MILLIS);
+    }
+}
@@ -8,38 +8,80 @@ import com.esotericsoftware.kryo.Kryo;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Main {
-    private static Map<Integer, GameRoom> rooms = new HashMap<>();
+    private static Map<Integer, GameRoom> rooms = new ConcurrentHashMap<>();
     private static Map<Integer, PlayerData> players = new HashMap<>();
     private static int nextRoomId = 1;
 
+    // 방 단위 게임 루프 스케줄러 (코어 수만큼 워커)
+    private static RoomScheduler roomScheduler;
+    // 런타임 지표 (JMX + 로컬 텍스트 엔드포인트)
+    private static final ServerMetrics metrics = new ServerMetrics();
+
     public static class PlayerData {
         int id;
         String name;
         Connection connection;
-        GameRoom currentRoom;
+        volatile GameRoom currentRoom;  // 리스너 스레드가 쓰고 틱 스레드가 퇴장 처리 시 읽음
+        int slot = -1;  // 게임 중 플레이어 상태 테이블 슬롯 (게임 시작 시 배정, 퇴장 시 틱 스레드가 해제)
+        NetChannel channel;  // 게임 중 상태(UDP, 최신 값)/이벤트(UDP, 재전송) 채널
+        int lastInputSequence;    // 마지막으로 실행한 이동 입력 순번 (틱 스레드 전용)
+        float moveBudgetMillis;   // 실행할 수 있는 남은 이동 입력 시간 (실제 경과 시간만큼 쌓임)
     }
 
-    public static class GameRoom {
+    public static class GameRoom implements RoomScheduler.Tickable {
         int roomId;
         String roomName;
         int maxPlayers;
-        List<PlayerData> players = new ArrayList<>();
+        // 입장/퇴장(리스너 스레드)과 틱(워커 스레드)이 동시에 접근하므로 copy-on-write
+        List<PlayerData> players = new CopyOnWriteArrayList<>();
         PlayerData host;
-        boolean isPlaying = false;
+        volatile boolean isPlaying = false;
+
+        // 게임 중 입력 메시지함 (리스너 스레드 → 틱 스레드)
+        // 이동/공격/레벨업/스킬 메시지는 여기에 쌓였다가 틱 시작 시 한꺼번에 처리됩니다.
+        final RoomMailbox<PlayerData> mailbox = new RoomMailbox<>(MAILBOX_CAPACITY);
+        static final int MAILBOX_CAPACITY = 1024;
+        // 한 틱에 처리할 최대 메시지 수 (나머지는 다음 틱으로)
+        static final int MAILBOX_BATCH = 512;
 
-        // 몬스터 시스템
+        // 몬스터 시스템 (틱 스레드 전용)
         ServerMonsterManager monsterManager;
+        // 플레이어 HP/생존/구역 테이블 (monsterManager 소유, 틱 스레드 전용)
+        PlayerStateTable playerStates;
         Map<Integer, PlayerPosition> playerPositions = new HashMap<>();
 
         private CollisionMap collisionMap;
+        // 이동 입력 실행용 벽 조회 (충돌 맵이 없으면 null = 벽 없음) / 좌표 재사용 버퍼
+        private final PlayerMotion.Walls walls;
+        private final float[] moveScratch = new float[2];
+        // 쌓을 수 있는 최대 이동 입력 시간 (ms, 지연으로 몰려온 입력 허용 범위)
+        static final float MAX_MOVE_BUDGET_MILLIS = 1000f;
+
+        // 관심 영역 (틱 스레드 전용) - 이동/스킬/몬스터 갱신을 근처 플레이어에게만 전송
+        final InterestGrid interestGrid;
+
+        // 스킬 피격 판정 (틱 스레드 전용) - 시전 메시지로 투사체/존을 움직이며 몬스터 피격 처리
+        final SkillHitSimulator skillHits = new SkillHitSimulator();
+        private final SkillHitSimulator.HitSink skillHitSink =
+            (index, damage, attackerId) -> monsterManager.applyDamage(roomId, index, damage, attackerId);
+
+        // 피격 보고 묶음의 몬스터/PVP 사거리 (공격자 서버 위치 기준, 최대 시전 거리 + 피격 반경 + 이동 지연 여유)
+        static final float ATTACK_BATCH_RANGE = 800f;
+
+        // 틱 단계별 소요 시간 지표
+        final ServerMetrics.RoomMetrics roomMetrics;
+        // 이번 틱에 몬스터 매니저가 전송에 쓴 시간 (틱 스레드 전용, MONSTER 단계에서 분리)
+        long broadcastNanos = 0;
 
         // ===== Fog 시스템 (PHASE_24) =====
         // fog 활성화 순서 (랜덤, town-square는 마지막)
         List<String> fogActivationOrder = new ArrayList<>();
-        // 현재 활성화된 fog 구역들
-        Set<String> activeFogZones = new HashSet<>();
+        // 현재 활성화된 fog 구역 비트마스크 (비트 = CollisionMap 구역 ID)
+        int activeFogMask = 0;
+        int activeFogCount = 0;
         // 게임 경과 시간 (초)
         float gameTime = 0f;
         // 다음 fog 활성화 인덱스
@@ -52,10 +94,10 @@ public class Main {
         float fogDamageTimer = 0f;
         // 플레이어 최대 HP
         static final int PLAYER_MAX_HP = 100;
-        // 사망한 플레이어 ID 목록 (순서대로)
-        Set<Integer> deadPlayers = new HashSet<>();
+        // 사망한 플레이어 수 (생존 여부는 playerStates에 기록)
+        int deadCount = 0;
         // 게임 종료 여부
-        boolean gameEnded = false;
+        volatile boolean gameEnded = false;
 
         // HP 자동 재생 시스템
         float hpRegenTimer = 0f;
@@ -96,6 +138,9 @@ public class Main {
             this.maxPlayers = max;
             this.host = host;
             this.collisionMap = collisionMap;
+            this.walls = collisionMap != null ? collisionMap::isWall : null;
+            this.interestGrid = new InterestGrid(collisionMap);
+            this.roomMetrics = metrics.registerRoom(id);
             players.add(host);
 
             // MonsterManager 초기화
@@ -103,36 +148,71 @@ public class Main {
                 new ServerMonsterManager.MessageCallback() {
                     @Override
                     public void broadcast(int roomId, Object message) {
+                        long start = System.nanoTime();
                         for (PlayerData player : players) {
-                            player.connection.sendTCP(message);
+                            sendMonsterMessage(player, message);
                         }
+                        broadcastNanos += System.nanoTime() - start;
                     }
 
                     @Override
                     public void sendToPlayer(int playerId, Object message) {
+                        long start = System.nanoTime();
                         for (PlayerData player : players) {
                             if (player.id == playerId) {
-                                player.connection.sendTCP(message);
+                                sendMonsterMessage(player, message);
                                 break;
                             }
                         }
+                        broadcastNanos += System.nanoTime() - start;
                     }
                 },
                 collisionMap  //  MonsterManager에도 전달
             );
-            this.monsterManager.initializeRoom(roomId);
+            this.monsterManager.initializeRoom(roomId, max);
+            this.playerStates = monsterManager.getPlayerStates(roomId);
+            this.monsterManager.setInterestGrid(interestGrid);
 
             // Fog 활성화 순서 초기화 (PHASE_24)
             initializeFogOrder();
         }
 
+        /**
+         * 몬스터 매니저 메시지를 보냅니다.
+         * 스냅샷은 상태 채널(늦은 것은 버림), 스폰/사망/피해/공격은 이벤트 채널(재전송)로 보냅니다.
+         */
+        static void sendMonsterMessage(PlayerData player, Object message) {
+            if (message instanceof MonsterSnapshotMsg) {
+                player.channel.sendState(NetChannel.STREAM_MONSTERS, message);
+            } else {
+                player.channel.sendReliable(message);
+            }
+        }
+
+        /**
+         * 좌표의 fog 구역 ID를 반환합니다. (CollisionMap 구역 ID 래스터 조회)
+         *
+         * @return 구역 ID, fog 구역 밖이면 CollisionMap.NO_ZONE
+         */
+        byte zoneCodeAt(float x, float y) {
+            return collisionMap != null ? collisionMap.getFogZoneIdAt(x, y) : CollisionMap.NO_ZONE;
+        }
+
+        /**
+         * 구역의 fog가 활성화되어 있는지 확인합니다. (비트마스크 검사)
+         */
+        boolean isZoneFogActive(byte zoneCode) {
+            return (activeFogMask & CollisionMap.zoneBit(zoneCode)) != 0;
+        }
+
         /**
          * fog 활성화 순서를 랜덤으로 생성합니다.
          * town-square는 마지막에 활성화됩니다.
          */
         void initializeFogOrder() {
             fogActivationOrder.clear();
-            activeFogZones.clear();
+            activeFogMask = 0;
+            activeFogCount = 0;
 
             // town-square 제외한 구역들
             List<String> otherZones = new ArrayList<>();
@@ -153,6 +233,305 @@ public class Main {
             System.out.println("[방 " + roomId + "] fog 활성화 순서: " + fogActivationOrder);
         }
 
+        /**
+         * 방 한 틱을 실행합니다. (RoomScheduler 워커 스레드에서 호출)
+         * 방 상태는 이 스레드에서만 변경되므로 다른 방의 틱과 락 없이 병렬로 실행됩니다.
+         *
+         * @param delta 이전 틱으로부터 경과 시간 (초)
+         */
+        @Override
+        public void tick(float delta) {
+            if (!isPlaying || players.isEmpty()) {
+                return;
+            }
+
+            long tickStart = System.nanoTime();
+
+            // 이동 입력 시간 한도: 실제 흐른 시간보다 많이 움직일 수 없음 (지연 후 몰려온 입력은 MAX까지 허용)
+            for (PlayerData player : players) {
+                player.moveBudgetMillis = Math.min(MAX_MOVE_BUDGET_MILLIS, player.moveBudgetMillis + delta * 1000f);
+            }
+
+            // 쌓인 입력 메시지 일괄 처리 (방 상태는 이 스레드에서만 변경)
+            mailbox.drain(this::handleMessage, MAILBOX_BATCH);
+            int dropped = mailbox.takeDroppedCount();
+            if (dropped > 0) {
+                System.err.println("[방 " + roomId + "] 메시지함 가득 참 - " + dropped + "개 버림");
+            }
+            long phaseStart = System.nanoTime();
+            roomMetrics.recordPhase(ServerMetrics.Phase.INPUT, phaseStart - tickStart);
+
+            // 스킬 피격 판정 후 이번 틱 피격 결과를 묶어서 전송 (사망 처리 전에 HP가 먼저 도착하도록)
+            skillHits.update(delta, monsterManager.getMonsters(roomId), skillHitSink);
+            monsterManager.flushDamage(roomId);
+            long now = System.nanoTime();
+            roomMetrics.recordPhase(ServerMetrics.Phase.SKILL, now - phaseStart);
+            phaseStart = now;
+
+            // 다른 플레이어가 새로 보이기 시작하면 현재 위치 전송
+            refreshPlayerInterest();
+            now = System.nanoTime();
+            roomMetrics.recordPhase(ServerMetrics.Phase.INTEREST, now - phaseStart);
+            phaseStart = now;
+
+            // 몬스터 매니저 업데이트 (플레이어 위치는 공간 인덱스에 이미 반영됨)
+            broadcastNanos = 0;
+            monsterManager.update(delta, roomId);
+            // 확인응답 없는 이벤트 재전송 (전송 시간에 포함)
+            long flushStart = System.nanoTime();
+            for (PlayerData player : players) {
+                player.channel.update();
+            }
+            now = System.nanoTime();
+            broadcastNanos += now - flushStart;
+            roomMetrics.recordPhase(ServerMetrics.Phase.MONSTER, now - phaseStart - broadcastNanos);
+            roomMetrics.recordPhase(ServerMetrics.Phase.BROADCAST, broadcastNanos);
+            phaseStart = now;
+
+            // ===== Fog 시스템 업데이트 (PHASE_24) =====
+            updateFogSystem(this, delta);
+            now = System.nanoTime();
+            roomMetrics.recordPhase(ServerMetrics.Phase.FOG, now - phaseStart);
+            phaseStart = now;
+
+            // ===== 플레이어 사망 체크 및 1등 판정 (PHASE_26) =====
+            if (!gameEnded) {
+                checkPlayerDeathsAndWinner(this);
+            }
+            now = System.nanoTime();
+            roomMetrics.recordPhase(ServerMetrics.Phase.DEATH, now - phaseStart);
+
+            roomMetrics.recordTick(now - tickStart, monsterManager.getMonsterCount(roomId),
+                players.size(), mailbox.size());
+        }
+
+        /**
+         * 게임 중 입력 메시지를 메시지함에 넣습니다. (리스너 스레드에서 호출)
+         */
+        void post(PlayerData sender, Object message) {
+            mailbox.offer(sender, message);
+        }
+
+        /**
+         * 퇴장처럼 버려지면 안 되는 메시지를 넣습니다. (리스너 스레드에서 호출, 크기 제한 없음)
+         */
+        void postControl(PlayerData sender, Object message) {
+            mailbox.offerControl(sender, message);
+        }
+
+        /**
+         * 메시지함에서 꺼낸 메시지를 처리합니다. (틱 스레드 전용)
+         */
+        private void handleMessage(PlayerData sender, Object message) {
+            if (message instanceof PlayerInputMsg) {
+                handlePlayerInput(sender, (PlayerInputMsg) message);
+            } else if (message instanceof SkillCastMsg) {
+                handleSkillCast(sender, (SkillCastMsg) message);
+            } else if (message instanceof AttackBatchMsg) {
+                handleAttackBatch(sender, (AttackBatchMsg) message);
+            } else if (message instanceof PlayerLevelUpMsg) {
+                handleLevelUp(sender, (PlayerLevelUpMsg) message);
+            } else if (message instanceof ServerProbeMsg) {
+                replyProbe(sender, (ServerProbeMsg) message, this);
+            } else if (message instanceof LeaveRoomMsg) {
+                // 게임 중 퇴장한 플레이어 위치/관심 영역 정리
+                playerPositions.remove(sender.id);
+                skillHits.removeOwner(sender.id);
+                monsterManager.removePlayerPosition(roomId, sender.id);
+                interestGrid.removeViewer(sender.id);
+                interestGrid.forgetPlayer(sender.id);
+                // 슬롯은 틱 스레드에서만 해제 (그 사이 다른 방에 들어갔으면 그 방이 새로 배정)
+                if (sender.currentRoom == null) {
+                    sender.slot = -1;
+                }
+            }
+        }
+
+        /**
+         * 플레이어 간 가시성을 갱신합니다.
+         * 제자리에 서 있는 플레이어는 이동 메시지를 보내지 않으므로,
+         * 새로 보이기 시작한 플레이어의 현재 위치를 여기서 전송합니다.
+         */
+        private void refreshPlayerInterest() {
+            for (PlayerData viewer : players) {
+                for (PlayerData other : players) {
+                    if (other == viewer) continue;
+                    PlayerPosition pos = playerPositions.get(other.id);
+                    if (pos == null) continue;
+
+                    if (interestGrid.checkPlayer(viewer.id, other.id, pos.x, pos.y) == InterestGrid.ENTERED) {
+                        PlayerMoveMsg msg = new PlayerMoveMsg();
+                        msg.playerId = other.id;
+                        msg.x = pos.x;
+                        msg.y = pos.y;
+                        msg.serverTime = RoomScheduler.serverTimeMillis();
+                        viewer.channel.sendState(other.id, msg);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 이동 입력 묶음을 실행합니다. (서버 권한 이동)
+         * 이미 실행한 순번은 건너뛰고, 빠진 순번은 움직이지 않은 것으로 봅니다.
+         * 실행 후 본인에게 권한 위치를, 보이는 다른 플레이어에게 새 위치를 보냅니다.
+         */
+        private void handlePlayerInput(PlayerData player, PlayerInputMsg msg) {
+            PlayerPosition pos = playerPositions.get(player.id);
+            if (pos == null) {
+                return;
+            }
+
+            int count = msg.count();
+            int skip = Math.max(0, player.lastInputSequence + 1 - msg.firstSequence);
+            if (skip >= count) {
+                return;  // 모두 실행한 입력 (중복/늦은 패킷)
+            }
+
+            float[] position = moveScratch;
+            position[0] = pos.x;
+            position[1] = pos.y;
+            for (int i = skip; i < count; i++) {
+                int millis = Math.min(msg.getMillis(i), (int) player.moveBudgetMillis);
+                if (millis > 0) {
+                    PlayerMotion.step(position, msg.dirX[i], msg.dirY[i], millis, walls);
+                    player.moveBudgetMillis -= millis;
+                }
+            }
+            player.lastInputSequence = msg.firstSequence + count - 1;
+
+            PlayerStateMsg state = new PlayerStateMsg();
+            state.lastInput = player.lastInputSequence;
+            state.x = position[0];
+            state.y = position[1];
+            player.channel.sendState(NetChannel.STREAM_PLAYER_STATE, state);
+
+            PlayerMoveMsg move = new PlayerMoveMsg();
+            move.x = position[0];
+            move.y = position[1];
+            move.serverTime = msg.serverTime;
+            handlePlayerMove(player, move);
+        }
+
+        private void handlePlayerMove(PlayerData player, PlayerMoveMsg msg) {
+            msg.playerId = player.id;
+
+            // 플레이어 위치 저장 (몬스터 AI용)
+            PlayerPosition pos = playerPositions.get(player.id);
+            if (pos != null) {
+                pos.x = msg.x;
+                pos.y = msg.y;
+            } else {
+                playerPositions.put(player.id, new PlayerPosition(msg.x, msg.y));
+            }
+            // 죽은 플레이어는 몬스터 추적 대상(공간 해시/흐름장 소스)에서 제외
+            if (player.slot >= 0 && playerStates.isAlive(player.slot)) {
+                monsterManager.updatePlayerPosition(roomId, player.id, msg.x, msg.y);
+            }
+            skillHits.onOwnerMoved(player.id, msg.x, msg.y);
+            if (player.slot >= 0) {
+                playerStates.setZone(player.slot, zoneCodeAt(msg.x, msg.y));
+            }
+            interestGrid.setViewerPosition(player.id, msg.x, msg.y);
+
+            // 같은 방의 다른 플레이어 중 이 플레이어가 보이는 사람에게만 전송
+            for (PlayerData p : players) {
+                if (p.id != player.id &&
+                    interestGrid.checkPlayer(p.id, player.id, msg.x, msg.y) != InterestGrid.HIDDEN) {
+                    p.channel.sendState(player.id, msg);
+                }
+            }
+        }
+
+        private void handleSkillCast(PlayerData player, SkillCastMsg msg) {
+            msg.playerId = player.id;
+
+            // 같은 방의 다른 플레이어 중 시전 위치나 목표 위치 근처에 있는 사람에게만 알림
+            for (PlayerData p : players) {
+                if (p.id != player.id &&
+                    (interestGrid.isNear(p.id, msg.casterX, msg.casterY) ||
+                     interestGrid.isNear(p.id, msg.targetX, msg.targetY))) {
+                    p.channel.sendReliable(msg);
+                }
+            }
+
+            // 피격 규칙이 담긴 스킬은 서버가 직접 판정 (시전자의 서버 위치로 검증, 죽은 플레이어는 무시)
+            PlayerPosition pos = playerPositions.get(player.id);
+            if (pos != null && player.slot >= 0 && playerStates.isAlive(player.slot)) {
+                skillHits.cast(player.id, pos.x, pos.y, msg);
+            }
+            //System.out.println("[스킬] " + player.name + "이(가) 스킬 #" + msg.skillId + " 시전");
+        }
+
+        /**
+         * 피격 보고 묶음을 한 번에 적용합니다.
+         * 몬스터는 ID 인덱스로 찾아 공격자의 서버 위치 기준 사거리만 검증하고 피해 묶음에 기록합니다.
+         * (결과는 SKILL 단계의 flushDamage가 MonsterDamageBatchMsg로 보냄)
+         * PVP는 슬롯으로 찾아 살아 있는 다른 플레이어가 사거리 안에 있을 때만 HP를 줄이고 결과를 중계합니다.
+         * 한 묶음에서 MAX_ENTRIES개까지만 처리하고, 항목 데미지는 MAX_HIT_DAMAGE로 자릅니다.
+         * 예전 단일 피격 메시지도 리스너에서 한 항목짜리 묶음으로 바뀌어 여기를 거칩니다.
+         */
+        private void handleAttackBatch(PlayerData player, AttackBatchMsg msg) {
+            PlayerPosition pos = playerPositions.get(player.id);
+            if (pos == null || player.slot < 0 || !playerStates.isAlive(player.slot)) {
+                return;
+            }
+            MonsterEngine monsters = monsterManager.getMonsters(roomId);
+            float rangeSq = ATTACK_BATCH_RANGE * ATTACK_BATCH_RANGE;
+            long now = System.currentTimeMillis();
+
+            int count = Math.min(msg.count(), AttackBatchMsg.MAX_ENTRIES);
+            for (int i = 0; i < count; i++) {
+                int damage = Math.min(msg.damage[i], SkillHitSimulator.MAX_HIT_DAMAGE);
+                if (damage <= 0) {
+                    continue;
+                }
+                if (msg.targetTypes[i] == AttackBatchMsg.TARGET_MONSTER) {
+                    int index = monsters != null ? monsters.indexOf(msg.targetIds[i]) : -1;
+                    if (index < 0 || !monsters.isAlive(index)) {
+                        continue;
+                    }
+                    float dx = monsters.getX(index) - pos.x;
+                    float dy = monsters.getY(index) - pos.y;
+                    if (dx * dx + dy * dy <= rangeSq) {
+                        monsterManager.applyDamage(roomId, index, damage, player.id);
+                    }
+                } else {
+                    int targetId = msg.targetIds[i];
+                    int targetSlot = targetId != player.id ? playerStates.slotOf(targetId) : -1;
+                    if (targetSlot < 0 || !playerStates.isAlive(targetSlot)) {
+                        continue;
+                    }
+                    PlayerPosition targetPos = playerPositions.get(targetId);
+                    if (targetPos == null) {
+                        continue;
+                    }
+                    float dx = targetPos.x - pos.x;
+                    float dy = targetPos.y - pos.y;
+                    if (dx * dx + dy * dy > rangeSq) {
+                        continue;
+                    }
+                    int newHp = playerStates.damage(targetSlot, damage, now);
+                    PlayerAttackPlayerMsg result = new PlayerAttackPlayerMsg(player.id, targetId,
+                        damage, newHp, playerStates.getMaxHp(targetSlot), msg.skillTypes[i]);
+                    for (PlayerData p : players) {
+                        p.channel.sendReliable(result);
+                    }
+                }
+            }
+        }
+
+        private void handleLevelUp(PlayerData player, PlayerLevelUpMsg msg) {
+            // 상태 테이블의 최대 HP/HP 업데이트 (단일 HP 저장소 사용)
+            if (player.slot >= 0) {
+                playerStates.setMaxHp(player.slot, msg.newMaxHp);
+                playerStates.setHp(player.slot, msg.newCurrentHp);
+            }
+
+            System.out.println("[레벨업] " + player.name + " → Lv." + msg.newLevel +
+                ", HP: " + msg.newCurrentHp + "/" + msg.newMaxHp);
+        }
+
         boolean addPlayer(PlayerData player) {
             if (players.size() >= maxPlayers || isPlaying) {
                 return false;
@@ -165,14 +544,22 @@ public class Main {
         void removePlayer(PlayerData player) {
             players.remove(player);
             player.currentRoom = null;
-            playerPositions.remove(player.id);  // 플레이어 위치 제거
+            if (isPlaying) {
+                // 게임 중에는 위치/슬롯 정리를 틱 스레드에 맡김 (메시지함이 가득 차도 버리지 않음)
+                postControl(player, new LeaveRoomMsg());
+            } else {
+                player.slot = -1;
+                playerPositions.remove(player.id);  // 플레이어 위치 제거
+            }
 
             System.out.println("[방] 플레이어 퇴장: " + player.name + " (남은 인원: " + players.size() + ")");
 
             if (host == player) {
                 if (players.isEmpty()) {
-                    monsterManager.cleanupRoom(this.roomId);  // MonsterManager 정리
+                    // 방 틱 중지 후 같은 워커에서 MonsterManager 정리
+                    roomScheduler.unschedule(this.roomId, () -> monsterManager.cleanupRoom(this.roomId));
                     rooms.remove(this.roomId);
+                    metrics.removeRoom(this.roomId);
                     System.out.println("[방] 방 " + roomId + " (" + roomName + ") 삭제됨 - 모든 플레이어 퇴장");
                 } else {
                     host = players.get(0);
@@ -181,8 +568,10 @@ public class Main {
                 }
             } else {
                 if (players.isEmpty()) {
-                    monsterManager.cleanupRoom(this.roomId);  // MonsterManager 정리
+                    // 방 틱 중지 후 같은 워커에서 MonsterManager 정리
+                    roomScheduler.unschedule(this.roomId, () -> monsterManager.cleanupRoom(this.roomId));
                     rooms.remove(this.roomId);
+                    metrics.removeRoom(this.roomId);
                     System.out.println("[방] 방 " + roomId + " (" + roomName + ") 삭제됨 - 마지막 플레이어 퇴장");
                 } else {
                     notifyRoomUpdate();
@@ -336,6 +725,7 @@ public class Main {
     public static class PlayerMoveMsg {
         public int playerId;
         public float x, y;
+        public int serverTime;  // 서버가 받은 시각 (RoomScheduler.serverTimeMillis, 클라이언트 → 서버는 0)
 
         public PlayerMoveMsg() {}
     }
@@ -368,6 +758,13 @@ public class Main {
         public int projectileCount;      // 발사체 개수 (1이면 단일, 3이면 3방향 등)
         public float angleSpread;        // 발사 각도 간격 (도)
 
+        // 서버 피격 판정 규칙 (SkillHitSimulator, hitRadius 0이면 클라이언트가 직접 피격 보고)
+        public float hitRadius;          // 피격 반경 (타원이면 가로 반지름)
+        public float hitRadiusY;         // 타원 세로 반지름 (0이면 원)
+        public float hitInterval;        // > 0 재피격 간격(초), 0 대상마다 한 번, < 0 hitDelay 시점에 한 번만 판정
+        public float hitDelay;           // 첫 판정까지 지연 (초)
+        public int maxHits;              // 최대 피격 수 (관통, 0이면 무제한)
+
         public SkillCastMsg() {}
     }
 
@@ -390,17 +787,21 @@ public class Main {
             if (room.gameTime >= nextActivationTime) {
                 // 새로운 fog 구역 활성화
                 String zoneName = room.fogActivationOrder.get(room.nextFogIndex);
-                room.activeFogZones.add(zoneName);
+                if (room.collisionMap != null) {
+                    room.activeFogMask |= CollisionMap.zoneBit(room.collisionMap.getZoneId(zoneName));
+                }
+                room.monsterManager.setActiveFogMask(room.roomId, room.activeFogMask);
+                room.activeFogCount++;
                 room.nextFogIndex++;
 
                 // 모든 플레이어에게 fog 활성화 알림
                 FogZoneMsg fogMsg = new FogZoneMsg(zoneName, true, room.gameTime);
                 for (PlayerData player : room.players) {
-                    player.connection.sendTCP(fogMsg);
+                    player.channel.sendReliable(fogMsg);
                 }
 
                 System.out.println("[방 " + room.roomId + "] ★ fog 활성화: " + zoneName +
-                    " (" + room.activeFogZones.size() + "/" + room.fogActivationOrder.size() + ") - 게임시간: " + (int)room.gameTime + "초");
+                    " (" + room.activeFogCount + "/" + room.fogActivationOrder.size() + ") - 게임시간: " + (int)room.gameTime + "초");
             }
         }
 
@@ -426,31 +827,24 @@ public class Main {
      * @param room 게임방
      */
     private static void applyHpRegenerationToPlayers(GameRoom room) {
+        PlayerStateTable states = room.playerStates;
         for (PlayerData player : room.players) {
-            // 사망한 플레이어는 스킵
-            if (room.deadPlayers.contains(player.id)) {
-                continue;
-            }
-
-            GameRoom.PlayerPosition pos = room.playerPositions.get(player.id);
-            if (pos == null) {
+            int slot = player.slot;
+            // 슬롯이 없거나 사망한 플레이어는 스킵
+            if (slot < 0 || !states.isAlive(slot)) {
                 continue;
             }
 
             // 현재 HP 확인
-            int currentHp = room.monsterManager.getPlayerHp(room.roomId, player.id);
-            if (currentHp >= GameRoom.PLAYER_MAX_HP) {
+            int currentHp = states.getHp(slot);
+            if (currentHp >= states.getMaxHp(slot)) {
                 continue;  // 이미 최대 HP
             }
 
-            // fog 구역 체크: fog 구역 밖에서만 재생
-            String playerZone = getPlayerZone(pos.x, pos.y, room.collisionMap);
-            boolean inActiveFogZone = (playerZone != null && room.activeFogZones.contains(playerZone));
-
-            if (!inActiveFogZone) {
+            // fog 구역 체크: fog 구역 밖에서만 재생 (구역은 이동 처리 시 기록됨)
+            if (!room.isZoneFogActive(states.getZone(slot))) {
                 // fog 밖에서만 HP 재생
-                int newHp = Math.min(GameRoom.PLAYER_MAX_HP, currentHp + GameRoom.HP_REGEN_AMOUNT);
-                room.monsterManager.setPlayerHp(room.roomId, player.id, newHp);
+                int newHp = states.heal(slot, GameRoom.HP_REGEN_AMOUNT);
 
                 // HP 재생 알림 (FogDamageMsg를 재사용, damage를 음수로 표시하여 회복 의미)
                 FogDamageMsg regenMsg = new FogDamageMsg(
@@ -459,7 +853,7 @@ public class Main {
                     newHp,
                     "hp_regen"  // 특수 구역 이름
                 );
-                player.connection.sendTCP(regenMsg);
+                player.channel.sendReliable(regenMsg);
 
                 //System.out.println("[HP 재생] " + player.name + ": " + currentHp + " → " + newHp + " HP");
             }
@@ -473,26 +867,24 @@ public class Main {
      */
     private static void applyFogDamageToPlayers(GameRoom room) {
         // 활성화된 fog 구역이 없으면 리턴
-        if (room.activeFogZones.isEmpty()) {
+        if (room.activeFogMask == 0) {
             return;
         }
 
         // 각 플레이어 체크
+        PlayerStateTable states = room.playerStates;
+        long now = System.currentTimeMillis();
         for (PlayerData player : room.players) {
-            GameRoom.PlayerPosition pos = room.playerPositions.get(player.id);
-            if (pos == null) {
-                continue; // 위치 정보 없음
+            int slot = player.slot;
+            if (slot < 0) {
+                continue; // 상태 정보 없음
             }
 
-            // 플레이어가 어떤 fog 구역에 있는지 확인
-            String playerZone = getPlayerZone(pos.x, pos.y, room.collisionMap);
-
-            // 해당 구역의 fog가 활성화되어 있으면 데미지
-            if (playerZone != null && room.activeFogZones.contains(playerZone)) {
-                // MonsterManager에서 HP 가져오기 (단일 HP 저장소 사용)
-                int currentHp = room.monsterManager.getPlayerHp(room.roomId, player.id);
-                int newHp = Math.max(0, currentHp - GameRoom.FOG_DAMAGE_PER_SECOND);
-                room.monsterManager.setPlayerHp(room.roomId, player.id, newHp);
+            // 플레이어가 있는 구역의 fog가 활성화되어 있으면 데미지
+            byte zoneCode = states.getZone(slot);
+            if (room.isZoneFogActive(zoneCode)) {
+                String playerZone = room.collisionMap.getZoneName(zoneCode);
+                int newHp = states.damage(slot, GameRoom.FOG_DAMAGE_PER_SECOND, now);
 
                 // 데미지 메시지 전송
                 FogDamageMsg damageMsg = new FogDamageMsg(
@@ -501,7 +893,7 @@ public class Main {
                     newHp,
                     playerZone
                 );
-                player.connection.sendTCP(damageMsg);
+                player.channel.sendReliable(damageMsg);
 
                 // 디버그 로그 (매 10초마다만 출력)
                 if ((int)room.gameTime % 10 == 0) {
@@ -513,22 +905,27 @@ public class Main {
     }
 
     /**
-     * 플레이어의 좌표를 기반으로 어떤 구역에 있는지 판별합니다.
-     * TMX 맵의 fog 레이어 타일 데이터를 기반으로 정확히 판별합니다.
-     *
-     * @param x 플레이어 X 좌표 (픽셀)
-     * @param y 플레이어 Y 좌표 (픽셀)
-     * @param collisionMap 충돌 맵 (fog 구역 데이터 포함)
-     * @return 구역 이름 (null이면 fog 구역 밖)
+     * 예전 단일 피격 메시지를 한 항목짜리 피격 묶음으로 바꿉니다.
+     * 모든 피격이 handleAttackBatch의 검증(생존/대상/서버 위치 기준 사거리/데미지 한도)을 거치게 합니다.
      */
-    private static String getPlayerZone(float x, float y, CollisionMap collisionMap) {
-        // CollisionMap의 fog 구역 데이터를 사용하여 정확하게 판별
-        if (collisionMap != null && collisionMap.hasFogZones()) {
-            return collisionMap.getFogZoneAt(x, y);
+    private static AttackBatchMsg toAttackBatch(Object object) {
+        if (object instanceof AttackBatchMsg) {
+            return (AttackBatchMsg) object;
         }
-
-        // fog 구역 데이터가 없으면 null 반환 (데미지 없음)
-        return null;
+        AttackBatchMsg batch = new AttackBatchMsg(1);
+        if (object instanceof PlayerAttackMonsterMsg) {
+            PlayerAttackMonsterMsg msg = (PlayerAttackMonsterMsg) object;
+            batch.targetTypes[0] = AttackBatchMsg.TARGET_MONSTER;
+            batch.targetIds[0] = msg.monsterId;
+            batch.damage[0] = (int) msg.skillDamage;
+        } else {
+            PlayerAttackPlayerMsg msg = (PlayerAttackPlayerMsg) object;
+            batch.targetTypes[0] = AttackBatchMsg.TARGET_PLAYER;
+            batch.targetIds[0] = msg.targetId;
+            batch.damage[0] = msg.damage;
+            batch.skillTypes[0] = msg.skillType;
+        }
+        return batch;
     }
 
     /**
@@ -536,19 +933,23 @@ public class Main {
      * MonsterManager의 HP를 체크하고 사망 처리를 합니다.
      */
     private static void checkPlayerDeathsAndWinner(GameRoom room) {
-        // 생존 플레이어 목록 계산
-        List<PlayerData> alivePlayers = new ArrayList<>();
+        PlayerStateTable states = room.playerStates;
+        // 생존 플레이어 수 계산 (마지막 생존자 기억)
+        int aliveCount = 0;
+        PlayerData lastAlive = null;
         for (PlayerData p : room.players) {
-            if (!room.deadPlayers.contains(p.id)) {
-                // HP 체크 (MonsterManager에서 단일 HP 저장소 사용)
-                int effectiveHp = room.monsterManager.getPlayerHp(room.roomId, p.id);
-
-                if (effectiveHp <= 0) {
+            int slot = p.slot;
+            if (slot >= 0 && states.isAlive(slot)) {
+                // HP 체크 (상태 테이블 단일 HP 저장소 사용)
+                if (states.getHp(slot) <= 0) {
                     // 사망 처리
-                    room.deadPlayers.add(p.id);
+                    states.setAlive(slot, false);
+                    room.skillHits.removeOwner(p.id);
+                    room.monsterManager.removePlayerPosition(room.roomId, p.id);
+                    room.deadCount++;
 
                     // 사망 순위 = 현재 생존자 수 + 이미 죽은 사람 수
-                    int rank = room.players.size() - room.deadPlayers.size() + 1;
+                    int rank = room.players.size() - room.deadCount + 1;
 
                     // 사망 원인 판별 (환경 사망)
                     String killerName = "안개/몬스터";
@@ -562,19 +963,20 @@ public class Main {
                     );
 
                     for (PlayerData player : room.players) {
-                        player.connection.sendTCP(deathMsg);
+                        player.channel.sendReliable(deathMsg);
                     }
 
                     System.out.println("[사망] " + p.name + " (" + killerName + "에게 사망) - 순위: " + rank + "등");
                 } else {
-                    alivePlayers.add(p);
+                    aliveCount++;
+                    lastAlive = p;
                 }
             }
         }
 
         // 1등 판정: 생존자가 1명만 남으면 우승
-        if (alivePlayers.size() == 1 && room.players.size() > 1) {
-            PlayerData winner = alivePlayers.get(0);
+        if (aliveCount == 1 && room.players.size() > 1) {
+            PlayerData winner = lastAlive;
 
             // 1등 우승 메시지 전송
             PlayerDeathMsg winMsg = new PlayerDeathMsg(
@@ -584,24 +986,50 @@ public class Main {
             );
 
             for (PlayerData player : room.players) {
-                player.connection.sendTCP(winMsg);
+                player.channel.sendReliable(winMsg);
             }
 
             room.gameEnded = true;
             System.out.println("[우승] " + winner.name + " - 1등!");
         }
         // 모든 플레이어가 죽으면 게임 종료
-        else if (alivePlayers.isEmpty()) {
+        else if (aliveCount == 0) {
             room.gameEnded = true;
             System.out.println("[게임 종료] 모든 플레이어 사망");
         }
     }
 
+    /**
+     * 측정 메시지에 방 틱 통계를 채워 돌려보냅니다.
+     *
+     * @param room 보낸 플레이어의 방 (없으면 null)
+     */
+    private static void replyProbe(PlayerData player, ServerProbeMsg probe, GameRoom room) {
+        int roomId = room != null ? room.roomId : -1;
+        probe.roomId = roomId;
+        probe.tickCount = roomScheduler.getTickCount(roomId);
+        probe.overrunCount = roomScheduler.getOverrunCount(roomId);
+        probe.lastTickMillis = roomScheduler.getLastTickMillis(roomId);
+        probe.maxTickMillis = roomScheduler.getMaxTickMillis(roomId);
+        probe.scheduledRooms = roomScheduler.getScheduledRoomCount();
+        player.connection.sendTCP(probe);
+    }
+
+    /**
+     * Kryo 설정 및 메시지 등록 (고정 ID 등록표 Protocol 사용)
+     * 벤치마크/부하 테스트 봇에서도 서버와 같은 설정으로 직렬화하기 위해 사용합니다.
+     */
+    public static void registerMessages(Kryo kryo) {
+        Protocol.register(kryo);
+    }
+
     public static void main(String[] args) {
         try {
-            Server server = new Server(16384, 8192);
+            // 메시지 클래스별 수신/송신 개수와 바이트를 세는 직렬화
+            Server server = new Server(16384, 8192, metrics.new MeteredSerialization());
 
-            CollisionMap collisionMap = TMXCollisionParser.parse(
+            // 컴파일된 맵(.ymap)을 우선 사용하고, 없거나 오래되면 TMX 파싱
+            CollisionMap collisionMap = BinaryMapLoader.load(
                 "resources/maps/magical-school-map.tmx"
             );
 
@@ -612,43 +1040,9 @@ public class Main {
 
             System.out.println("[서버] 충돌 맵 로드 완료 - 몬스터 이동에 사용");
 
-            Kryo kryo = server.getKryo();
-
-            // ReflectASM 비활성화 (Java 모듈 문제 회피)
-            kryo.setRegistrationRequired(false);
-            kryo.setReferences(true);
-
-            kryo.register(CreateRoomMsg.class);                      // ID: 10
-            kryo.register(CreateRoomResponse.class);                 // ID: 11
-            kryo.register(GetRoomListMsg.class);                     // ID: 12
-            kryo.register(RoomInfo.class);                           // ID: 13
-            kryo.register(RoomInfo[].class);                         // ID: 14
-            kryo.register(RoomListResponse.class);                   // ID: 15
-            kryo.register(JoinRoomMsg.class);                        // ID: 16
-            kryo.register(JoinRoomResponse.class);                   // ID: 17
-            kryo.register(PlayerInfo.class);                         // ID: 18
-            kryo.register(PlayerInfo[].class);                       // ID: 19
-            kryo.register(LeaveRoomMsg.class);                       // ID: 20
-            kryo.register(RoomUpdateMsg.class);                      // ID: 21
-            kryo.register(StartGameMsg.class);                       // ID: 22
-            kryo.register(GameStartNotification.class);              // ID: 23
-            kryo.register(ChatMsg.class);                            // ID: 24
-            kryo.register(PlayerMoveMsg.class);                      // ID: 25
-            kryo.register(SkillCastMsg.class);                       // ID: 26
-            kryo.register(MonsterSpawnMsg.class);                    // ID: 27
-            kryo.register(MonsterUpdateMsg.class);                   // ID: 28
-            kryo.register(MonsterDeathMsg.class);                    // ID: 29
-            kryo.register(PlayerAttackMonsterMsg.class);             // ID: 30
-            kryo.register(MonsterDamageMsg.class);                   // ID: 31
-            kryo.register(ProjectileFiredMsg.class);                 // ID: 32
-            kryo.register(SetPlayerNameMsg.class);                   // ID: 33
-            kryo.register(SetPlayerNameResponse.class);              // ID: 34
-            kryo.register(FogZoneMsg.class);                         // ID: 35 (PHASE_24)
-            kryo.register(FogDamageMsg.class);                       // ID: 36 (PHASE_24)
-            kryo.register(MonsterAttackPlayerMsg.class);             // ID: 37 (PHASE_25)
-            kryo.register(PlayerAttackPlayerMsg.class);              // ID: 38 (PHASE_25 PVP)
-            kryo.register(PlayerDeathMsg.class);                     // ID: 39 (PHASE_25)
-            kryo.register(PlayerLevelUpMsg.class);                   // ID: 40 (레벨업 HP 동기화)
+            roomScheduler = new RoomScheduler(Runtime.getRuntime().availableProcessors());
+
+            registerMessages(server.getKryo());
 
             server.addListener(new Listener() {
                 @Override
@@ -659,6 +1053,8 @@ public class Main {
                     player.id = connection.getID();
                     player.name = "Player" + connection.getID();
                     player.connection = connection;
+                    player.channel = new NetChannel(connection,
+                        metrics.getStateChannelStats(), metrics.getEventChannelStats());
                     players.put(connection.getID(), player);
                 }
 
@@ -680,6 +1076,11 @@ public class Main {
                 public void received(Connection connection, Object object) {
                     PlayerData player = players.get(connection.getID());
 
+                    // UDP 채널 봉투는 풀어서 안의 메시지를 처리 (늦게 온 상태/중복 이벤트는 버림)
+                    if (player != null && player.channel.receive(object, payload -> received(connection, payload))) {
+                        return;
+                    }
+
                     if (object instanceof CreateRoomMsg) {
                         CreateRoomMsg msg = (CreateRoomMsg) object;
 
@@ -793,6 +1194,9 @@ public class Main {
                             System.out.println("[게임 시작 실패] " + player.name + "은(는) 방에 없음");
                         } else if (room.host != player) {
                             System.out.println("[게임 시작 실패] " + player.name + "은(는) 방장이 아님 (방장: " + room.host.name + ")");
+                        } else if (room.isPlaying) {
+                            // 게임 중 방 상태는 틱 스레드만 변경 (재시작 요청으로 리스너 스레드가 건드리지 않게 함)
+                            System.out.println("[게임 시작 실패] 룸 " + room.roomId + "은(는) 이미 게임 중");
                         } else {
                             room.isPlaying = true;
 
@@ -801,7 +1205,9 @@ public class Main {
 
                             // ===== 플레이어 HP 초기화 (PHASE_25) =====
                             for (PlayerData p : room.players) {
-                                room.monsterManager.initializePlayerHp(room.roomId, p.id);
+                                p.slot = room.monsterManager.initializePlayerHp(room.roomId, p.id);
+                                p.lastInputSequence = 0;
+                                p.moveBudgetMillis = 0f;
                             }
 
                             GameStartNotification notification = new GameStartNotification();
@@ -823,6 +1229,11 @@ public class Main {
                                 // 플레이어 위치 초기화 (몬스터 AI용)
                                 room.playerPositions.put(room.players.get(i).id,
                                     new GameRoom.PlayerPosition(spawnPos[0], spawnPos[1]));
+                                room.interestGrid.setViewerPosition(room.players.get(i).id, spawnPos[0], spawnPos[1]);
+                                room.monsterManager.updatePlayerPosition(room.roomId, room.players.get(i).id, spawnPos[0], spawnPos[1]);
+                                if (room.players.get(i).slot >= 0) {
+                                    room.playerStates.setZone(room.players.get(i).slot, room.zoneCodeAt(spawnPos[0], spawnPos[1]));
+                                }
 
                                 notification.players[i] = info;
                                 //System.out.println("[스폰] " + info.playerName + " → (" + info.spawnX + ", " + info.spawnY + ")");
@@ -833,6 +1244,9 @@ public class Main {
                                 System.out.println("[게임 시작 알림] " + p.name + "에게 GameStartNotification 전송");
                             }
 
+                            // 방 전용 틱 시작
+                            roomScheduler.schedule(room.roomId, room);
+
                             System.out.println("[게임 시작 성공] 방: " + room.roomName + " (" + room.players.size() + "명)");
                         }
                     }
@@ -848,40 +1262,15 @@ public class Main {
                         }
                     }
 
-                    else if (object instanceof PlayerMoveMsg) {
-                        PlayerMoveMsg msg = (PlayerMoveMsg) object;
-                        msg.playerId = connection.getID();
-
+                    // ===== 게임 중 입력 메시지: 방 메시지함으로 전달 (틱 스레드에서 처리) =====
+                    else if (object instanceof PlayerInputMsg || object instanceof SkillCastMsg) {
                         GameRoom room = player.currentRoom;
                         if (room != null && room.isPlaying) {
-                            // 플레이어 위치 저장 (몬스터 AI용)
-                            room.playerPositions.put(
-                                player.id,
-                                new GameRoom.PlayerPosition(msg.x, msg.y)
-                            );
-
-                            // 같은 방의 다른 플레이어들에게 전송
-                            for (PlayerData p : room.players) {
-                                if (p.id != player.id) {
-                                    p.connection.sendTCP(msg);
-                                }
+                            if (object instanceof PlayerInputMsg) {
+                                // 틱 경계가 아니라 받은 시각으로 기록해야 다른 클라이언트의 보간 간격이 고르게 됨
+                                ((PlayerInputMsg) object).serverTime = RoomScheduler.serverTimeMillis();
                             }
-                        }
-                    }
-
-                    else if (object instanceof SkillCastMsg) {
-                        SkillCastMsg msg = (SkillCastMsg) object;
-                        msg.playerId = connection.getID();
-
-                        GameRoom room = player.currentRoom;
-                        if (room != null && room.isPlaying) {
-                            // 같은 방의 다른 플레이어들에게 스킬 시전 알림
-                            for (PlayerData p : room.players) {
-                                if (p.id != player.id) {
-                                    p.connection.sendTCP(msg);
-                                }
-                            }
-                            //System.out.println("[스킬] " + player.name + "이(가) 스킬 #" + msg.skillId + " 시전");
+                            room.post(player, object);
                         }
                     }
 
@@ -895,7 +1284,7 @@ public class Main {
                             // 같은 방의 모든 플레이어에게 발사체 정보 전송 (자신 제외 - 자신은 이미 발사체 생성함)
                             for (PlayerData p : room.players) {
                                 if (p.id != msg.playerId) {
-                                    p.connection.sendTCP(msg);
+                                    p.channel.sendReliable(msg);
                                 }
                             }
 
@@ -909,79 +1298,12 @@ public class Main {
                         }
                     }
 
-                    // ===== 몬스터 공격 처리 =====
-                    else if (object instanceof PlayerAttackMonsterMsg) {
-                        PlayerAttackMonsterMsg attackMsg =
-                            (PlayerAttackMonsterMsg) object;
-
-                        GameRoom room = player.currentRoom;
-                        if (room != null && room.isPlaying) {
-                            // 몬스터 찾기
-                            org.example.ServerMonster targetMonster = null;
-                            List<org.example.ServerMonster> monsters = room.monsterManager.getAllMonsters(room.roomId);
-
-                            for (org.example.ServerMonster monster : monsters) {
-                                if (monster.id == attackMsg.monsterId) {
-                                    targetMonster = monster;
-                                    break;
-                                }
-                            }
-
-                            if (targetMonster != null && targetMonster.isAlive()) {
-                                // 거리 검증 (공격 사거리 내인지 확인)
-                                double distance = Math.sqrt(
-                                    Math.pow(attackMsg.attackerX - targetMonster.x, 2) +
-                                    Math.pow(attackMsg.attackerY - targetMonster.y, 2)
-                                );
-
-                                // 공격 사거리: 250 픽셀 (세로 화면 기준 + 여유)
-                                if (distance <= 250.0) {
-                                    // 데미지 적용 (ServerMonsterManager를 통해 처리)
-                                    int damageAmount = (int) attackMsg.skillDamage;
-                                    room.monsterManager.damageMonster(room.roomId, attackMsg.monsterId, damageAmount, player.id);
-
-                                    //System.out.println("[공격 성공] " + player.name + " → 몬스터 ID=" + attackMsg.monsterId +
-                                    //    ", 데미지=" + damageAmount);
-                                }
-                                // 공격 실패 로그 제거 (범위 밖 공격은 무시)
-                            }
-                        }
-                    }
-
-                    // ===== PVP 공격 처리 (PHASE_25) =====
-                    else if (object instanceof PlayerAttackPlayerMsg) {
-                        PlayerAttackPlayerMsg msg = (PlayerAttackPlayerMsg) object;
-                        msg.attackerId = connection.getID();  // 공격자 ID 설정
-
+                    // ===== 몬스터 공격 / PVP 공격 처리 (PHASE_25) =====
+                    else if (object instanceof AttackBatchMsg
+                        || object instanceof PlayerAttackMonsterMsg || object instanceof PlayerAttackPlayerMsg) {
                         GameRoom room = player.currentRoom;
                         if (room != null && room.isPlaying) {
-                            // 타겟 플레이어 찾기
-                            PlayerData target = null;
-                            for (PlayerData p : room.players) {
-                                if (p.id == msg.targetId) {
-                                    target = p;
-                                    break;
-                                }
-                            }
-
-                            if (target != null) {
-                                // MonsterManager에서 HP 감소
-                                int currentHp = room.monsterManager.getPlayerHp(room.roomId, target.id);
-                                int newHp = Math.max(0, currentHp - msg.damage);
-                                room.monsterManager.setPlayerHp(room.roomId, target.id, newHp);
-
-                                // 응답 메시지 설정
-                                msg.newHp = newHp;
-                                msg.maxHp = GameRoom.PLAYER_MAX_HP;
-
-                                // 모든 플레이어에게 브로드캐스트
-                                for (PlayerData p : room.players) {
-                                    p.connection.sendTCP(msg);
-                                }
-
-                                //System.out.println("[PVP] " + player.name + " → " + target.name +
-                                //    " (" + msg.damage + " 데미지, HP: " + newHp + ")");
-                            }
+                            room.post(player, toAttackBatch(object));
                         }
                     }
 
@@ -1019,17 +1341,21 @@ public class Main {
                         connection.sendTCP(response);
                     }
 
+                    // ===== 부하 테스트 측정: 게임 중이면 틱 스레드에서 응답 =====
+                    else if (object instanceof ServerProbeMsg) {
+                        GameRoom room = player.currentRoom;
+                        if (room != null && room.isPlaying) {
+                            room.post(player, object);
+                        } else {
+                            replyProbe(player, (ServerProbeMsg) object, room);
+                        }
+                    }
+
                     // ===== 레벨업 HP 동기화 처리 =====
                     else if (object instanceof PlayerLevelUpMsg) {
-                        PlayerLevelUpMsg msg = (PlayerLevelUpMsg) object;
-
                         GameRoom room = player.currentRoom;
                         if (room != null && room.isPlaying) {
-                            // MonsterManager의 HP 업데이트 (단일 HP 저장소 사용)
-                            room.monsterManager.setPlayerHp(room.roomId, player.id, msg.newCurrentHp);
-
-                            System.out.println("[레벨업] " + player.name + " → Lv." + msg.newLevel +
-                                ", HP: " + msg.newCurrentHp + "/" + msg.newMaxHp);
+                            room.post(player, object);
                         }
                     }
                 }
@@ -1038,85 +1364,24 @@ public class Main {
             server.bind(5000, 5001);
             server.start();
 
+            // 런타임 지표: JMX + http://127.0.0.1:9100/metrics (-Dmetrics.port=0 이면 엔드포인트 끔)
+            metrics.setConnections(server::getConnections);
+            metrics.start(Integer.getInteger("metrics.port", 9100));
+
             System.out.println("=================================");
             System.out.println("  방 기반 게임 서버 시작!");
             System.out.println("  TCP 포트: 5000");
-            System.out.println("  UDP 포트: 5001 (미사용)");
+            System.out.println("  UDP 포트: 5001 (상태/이벤트 채널)");
             System.out.println("=================================");
 
-            // ===== 서버 게임 루프 (20Hz) =====
-            Thread gameLoopThread = new Thread(() -> {
-                final float TICK_DURATION = 50f; // 20Hz (50ms)
-                System.err.println("[게임 루프] 서버 게임 루프 시작 (20Hz) !!!");
-                int tickCount = 0;
-
-                while (true) {
-                    long startTime = System.currentTimeMillis();
-
-                    try {
-                        // 모든 게임 중인 방 업데이트
-                        synchronized (rooms) {
-                            if (tickCount % 20 == 0) {
-                                System.err.println("[게임 루프] 틱 #" + tickCount + " - 활성 방: " + rooms.size());
-                            }
-
-                            for (GameRoom room : rooms.values()) {
-                                if (room.isPlaying && !room.players.isEmpty()) {
-                                    // 활성 플레이어 ID 목록
-                                    List<Integer> activePlayerIds = new ArrayList<>();
-                                    for (PlayerData p : room.players) {
-                                        activePlayerIds.add(p.id);
-                                    }
-
-                                    // playerPositions를 float[] 형식으로 변환
-                                    Map<Integer, float[]> playerPosMap = new HashMap<>();
-                                    for (Map.Entry<Integer, GameRoom.PlayerPosition> entry : room.playerPositions.entrySet()) {
-                                        playerPosMap.put(entry.getKey(), new float[]{entry.getValue().x, entry.getValue().y});
-                                    }
-
-                                    // 몬스터 매니저 업데이트 (플레이어 위치 전달)
-                                    room.monsterManager.update(0.05f, room.roomId, activePlayerIds, playerPosMap);
-
-                                    // ===== Fog 시스템 업데이트 (PHASE_24) =====
-                                    updateFogSystem(room, 0.05f);
-
-                                    // ===== 플레이어 사망 체크 및 1등 판정 (PHASE_26) =====
-                                    if (!room.gameEnded) {
-                                        checkPlayerDeathsAndWinner(room);
-                                    }
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        System.err.println("[게임 루프] 에러: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-
-                    // 틱 속도 유지
-                    long elapsed = System.currentTimeMillis() - startTime;
-                    if (elapsed < TICK_DURATION) {
-                        try {
-                            Thread.sleep((long)(TICK_DURATION - elapsed));
-                        } catch (InterruptedException e) {
-                            break;
-                        }
-                    }
-
-                    tickCount++;
-                }
-            });
-            System.err.println("#### 게임 루프 스레드 생성 완료 ####");
-            System.err.flush();
-            gameLoopThread.setDaemon(true);
-            gameLoopThread.setName("GameLoopThread");
-            System.err.println("#### 게임 루프 스레드 시작 전 ####");
-            System.err.flush();
-            gameLoopThread.start();
-            System.err.println("#### 게임 루프 스레드 시작 후 ####");
-            System.err.flush();
+            // ===== 서버 게임 루프 (20Hz, 방 단위 스케줄링) =====
+            // 방은 게임 시작 시 RoomScheduler에 등록되어 각자의 틱 시계로 실행됩니다.
+            System.out.println("[게임 루프] 방 단위 스케줄러 사용 (20Hz)");
 
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 System.out.println("\n서버 종료 중...");
+                roomScheduler.shutdown();
+                metrics.stop();
                 server.stop();
             }));
 
@@ -0,0 +1,113 @@
+// 서버 - org.example.MapCompiler.java
+package org.example;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 오프라인 맵 컴파일러
+ *
+ * TMX를 한 번 파싱해서 충돌 비트셋/거리장/구역 래스터/스폰 후보를 .ymap 파일로 기록합니다.
+ * 서버는 시작 시 BinaryMapLoader로 이 파일을 읽으므로 XML 파싱과 거리장 계산을 건너뜁니다.
+ * 맵을 수정한 뒤에는 다시 실행해야 합니다. (원본과 다르면 로더가 TMX 파싱으로 대체)
+ *
+ * 사용법: java org.example.MapCompiler [tmx 경로] [출력 경로]
+ */
+public class MapCompiler {
+
+    public static void main(String[] args) throws IOException {
+        String tmxPath = args.length > 0 ? args[0] : "resources/maps/magical-school-map.tmx";
+        String outPath = args.length > 1 ? args[1] : BinaryMapLoader.compiledPathFor(tmxPath);
+
+        CollisionMap map = TMXCollisionParser.parse(tmxPath);
+        if (map == null) {
+            System.err.println("[MapCompiler] TMX 파싱 실패: " + tmxPath);
+            System.exit(1);
+            return;
+        }
+
+        File out = new File(outPath);
+        write(map, new File(tmxPath), out);
+        System.out.println("[MapCompiler] 컴파일 완료: " + out.getPath() + " (" + out.length() + " bytes)");
+    }
+
+    /**
+     * 충돌 맵을 .ymap 형식으로 기록합니다. (임시 파일에 쓴 뒤 교체)
+     *
+     * @param map 기록할 충돌 맵
+     * @param source 원본 TMX 파일 (크기/CRC32를 헤더에 기록)
+     * @param out 출력 파일
+     */
+    public static void write(CollisionMap map, File source, File out) throws IOException {
+        File temp = new File(out.getPath() + ".tmp");
+        try (DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp), 1 << 16))) {
+            data.writeInt(BinaryMapLoader.MAGIC);
+            data.writeShort(BinaryMapLoader.VERSION);
+            data.writeShort(0);
+            data.writeInt(map.getWidth());
+            data.writeInt(map.getHeight());
+            data.writeInt(map.getTileWidth());
+            data.writeInt(map.getTileHeight());
+            data.writeLong(source.length());
+            data.writeLong(BinaryMapLoader.checksum(source));
+
+            long[] wallBits = map.getWallBits();
+            data.writeInt(BinaryMapLoader.TAG_WALL);
+            data.writeInt(wallBits.length * 8);
+            for (long bits : wallBits) {
+                data.writeLong(bits);
+            }
+
+            float[] distanceField = map.getDistanceField();
+            data.writeInt(BinaryMapLoader.TAG_SDF);
+            data.writeInt(distanceField.length * 4);
+            for (float distance : distanceField) {
+                data.writeFloat(distance);
+            }
+
+            byte[] zoneRaster = map.getZoneRaster();
+            if (zoneRaster != null) {
+                ByteArrayOutputStream section = new ByteArrayOutputStream();
+                DataOutputStream zone = new DataOutputStream(section);
+                zone.writeShort(map.getFogZoneCount());
+                for (int i = 0; i < map.getFogZoneCount(); i++) {
+                    byte[] name = map.getZoneName((byte) i).getBytes(StandardCharsets.UTF_8);
+                    zone.writeShort(name.length);
+                    zone.write(name);
+                }
+                zone.write(zoneRaster);
+
+                data.writeInt(BinaryMapLoader.TAG_ZONE);
+                data.writeInt(section.size());
+                section.writeTo(data);
+            }
+
+            int[][] spawnTables = map.getSpawnTables();
+            int spawnBytes = 2;
+            for (int[] table : spawnTables) {
+                spawnBytes += 4 + table.length * 4;
+            }
+            data.writeInt(BinaryMapLoader.TAG_SPAWN);
+            data.writeInt(spawnBytes);
+            data.writeShort(spawnTables.length);
+            for (int[] table : spawnTables) {
+                data.writeInt(table.length);
+                for (int tile : table) {
+                    data.writeInt(tile);
+                }
+            }
+
+            data.writeInt(BinaryMapLoader.TAG_END);
+            data.writeInt(0);
+        }
+        Files.move(temp.toPath(), out.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,104 @@
+// 서버 - org.example.MapLoadBenchmark.java
+package org.example;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * 서버 시작 시 맵 로드 시간 비교 (TMX 파싱 vs 컴파일된 맵)
+ *
+ * 각 방식을 워밍업 후 여러 번 반복해서 평균/최소 시간을 출력하고,
+ * 두 결과의 벽/구역 데이터가 타일 단위로 같은지 확인합니다.
+ * 첫 회(콜드 스타트) 시간도 따로 출력합니다. (실제 서버 시작은 한 번만 로드하므로)
+ *
+ * 사용법: java org.example.MapLoadBenchmark [tmx 경로] [반복 횟수]
+ */
+public class MapLoadBenchmark {
+
+    public static void main(String[] args) {
+        String tmxPath = args.length > 0 ? args[0] : "resources/maps/magical-school-map.tmx";
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        File source = new File(tmxPath);
+        File compiled = new File(BinaryMapLoader.compiledPathFor(tmxPath));
+
+        if (!compiled.isFile()) {
+            System.err.println("[Benchmark] 컴파일된 맵 없음 - 먼저 MapCompiler를 실행하세요: " + compiled.getPath());
+            return;
+        }
+
+        long coldBinary = System.nanoTime();
+        CollisionMap binaryMap = BinaryMapLoader.read(compiled, source);
+        coldBinary = System.nanoTime() - coldBinary;
+
+        long coldTmx = System.nanoTime();
+        CollisionMap tmxMap = TMXCollisionParser.parse(tmxPath);
+        coldTmx = System.nanoTime() - coldTmx;
+
+        if (binaryMap == null || tmxMap == null) {
+            System.err.println("[Benchmark] 맵 로드 실패");
+            return;
+        }
+
+        long[] tmxTimes = new long[iterations];
+        long[] binaryTimes = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            TMXCollisionParser.parse(tmxPath);
+            tmxTimes[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            BinaryMapLoader.read(compiled, source);
+            binaryTimes[i] = System.nanoTime() - start;
+        }
+
+        System.out.println();
+        System.out.println("[Benchmark] 데이터 일치: " + (sameData(tmxMap, binaryMap) ? "예" : "아니오"));
+        System.out.println("[Benchmark] 파일 크기: TMX " + source.length() + " bytes, 컴파일 " + compiled.length() + " bytes");
+        System.out.printf("[Benchmark] 콜드 스타트: TMX %.1fms, 컴파일 %.1fms%n", coldTmx / 1e6, coldBinary / 1e6);
+        printStats("TMX 파싱", tmxTimes);
+        printStats("컴파일된 맵", binaryTimes);
+    }
+
+    private static void printStats(String label, long[] times) {
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        for (long t : times) {
+            total += t;
+            min = Math.min(min, t);
+        }
+        System.out.printf("[Benchmark] %s: 평균 %.2fms, 최소 %.2fms (%d회)%n",
+            label, total / 1e6 / times.length, min / 1e6, times.length);
+    }
+
+    /**
+     * 스폰 후보와 모든 타일 중심의 벽/거리장/구역 결과가 같은지 확인합니다.
+     */
+    private static boolean sameData(CollisionMap a, CollisionMap b) {
+        if (a.getWidth() != b.getWidth() || a.getHeight() != b.getHeight()
+                || a.getFogZoneCount() != b.getFogZoneCount()) {
+            return false;
+        }
+        for (byte z = 0; z < a.getFogZoneCount(); z++) {
+            if (a.getSpawnTileCount(z) != b.getSpawnTileCount(z)) {
+                return false;
+            }
+            for (int i = 0; i < a.getSpawnTileCount(z); i++) {
+                if (a.getSpawnTile(z, i) != b.getSpawnTile(z, i)) {
+                    return false;
+                }
+            }
+        }
+        for (int ty = 0; ty < a.getHeight(); ty++) {
+            for (int tx = 0; tx < a.getWidth(); tx++) {
+                float x = (tx + 0.5f) * a.getTileWidth();
+                float y = (ty + 0.5f) * a.getTileHeight();
+                if (a.isWall(x, y) != b.isWall(x, y)
+                        || a.getWallDistance(x, y) != b.getWallDistance(x, y)
+                        || !Objects.equals(a.getFogZoneAt(x, y), b.getFogZoneAt(x, y))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
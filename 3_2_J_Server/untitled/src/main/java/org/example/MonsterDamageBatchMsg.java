@@ -0,0 +1,36 @@
+// 서버 - org.example.MonsterDamageBatchMsg.java
+package org.example;
+
+/**
+ * 한 틱 동안의 몬스터 피격 결과 묶음 (서버 → 클라이언트)
+ *
+ * 서버 피격 판정(SkillHitSimulator)과 공격 요청 처리 결과를 틱마다 모아
+ * 관심 영역 안의 피격만 플레이어별로 한 번에 보냅니다.
+ * 같은 틱에 같은 몬스터가 여러 번 맞으면 데미지를 합쳐 한 항목으로 보냅니다.
+ * 항목 i = (monsterIds[i], newHp[i], damage[i], attackerIds[i])
+ */
+public class MonsterDamageBatchMsg {
+    // 한 묶음의 최대 항목 수 (방의 몬스터 수 상한, 받는 쪽은 넘는 묶음을 거부)
+    public static final int MAX_ENTRIES = 1024;
+
+    public int[] monsterIds;    // 피해 입은 몬스터
+    public int[] newHp;         // 갱신된 HP
+    public int[] damage;        // 이번 틱에 입은 데미지 합
+    public int[] attackerIds;   // 마지막 공격자 ID
+
+    public MonsterDamageBatchMsg() {}
+
+    public MonsterDamageBatchMsg(int count) {
+        this.monsterIds = new int[count];
+        this.newHp = new int[count];
+        this.damage = new int[count];
+        this.attackerIds = new int[count];
+    }
+
+    /**
+     * 담긴 피격 개수
+     */
+    public int count() {
+        return monsterIds != null ? monsterIds.length : 0;
+    }
+}
@@ -0,0 +1,593 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 방 단위 몬스터 시뮬레이션 (구조체 배열 방식, 틱 스레드 전용)
+ *
+ * 몬스터 하나를 객체 하나로 두는 대신 위치/속도/HP/쿨다운/상태/타입/타겟을
+ * 인덱스가 같은 기본형 배열에 나누어 저장합니다.
+ * - 상태와 타입은 byte 코드 (MonsterSnapshotMsg.STATE_*, TYPE_*)
+ * - 타입별 행동은 가상 호출 없이 배열을 순회하는 루프 안의 switch로 처리
+ * - 제거는 마지막 원소를 빈 자리로 옮기는 swap-remove (O(1))
+ * - ID → 인덱스는 IntIntMap, 반경 검색은 틱마다 다시 만드는 셀 연결 리스트
+ * - 추적 방향은 방 단위 FlowField에서 읽음 (흐름장 밖이면 직선 추적)
+ *
+ * 배열은 필요하면 자동으로 늘어나므로 방당 몬스터 수 상한은 ServerMonsterManager가 정합니다.
+ */
+public class MonsterEngine {
+    // 타입 코드
+    public static final byte TYPE_GHOST = 0;
+    public static final byte TYPE_BAT = 1;
+    public static final byte TYPE_GOLEM = 2;
+    private static final String[] TYPE_NAMES = {"Ghost", "Bat", "Golem"};
+
+    // 타입별 능력치 (인덱스 = 타입 코드)
+    private static final int[] TYPE_MAX_HP = {60, 50, 150};
+    private static final float[] TYPE_SPEED = {120f, 100f, 50f};
+    private static final float[] TYPE_AGGRO_RANGE = {300f, 250f, 350f};
+    private static final float[] TYPE_ATTACK_RANGE = {20f, 16f, 24f};   // 스프라이트 근접
+    private static final int[] TYPE_ATTACK_DAMAGE = {5, 3, 10};
+    private static final float[] TYPE_ATTACK_COOLDOWN = {2.0f, 1.8f, 4.0f};
+    private static final float[] TYPE_DAMAGE_TAKEN = {1f, 1f, 0.7f};   // 골렘 방어력: 피해의 70%만 적용
+
+    // 고스트 투명화
+    private static final float GHOST_INVISIBILITY_COOLDOWN = 5f;
+    private static final float GHOST_INVISIBILITY_DURATION = 2f;
+    // 골렘 충전 시간
+    private static final float GOLEM_CHARGING_DURATION = 3.0f;
+
+    private static final float COLLISION_RADIUS = 16f;  // 벽 충돌 반경
+    private static final float BOUNDS_MARGIN = 20f;     // 맵 경계 여백
+    private static final float GRID_CELL_SIZE = 128f;   // 반경 검색 셀 크기
+    private static final byte SYNC_REPEATS = 2;         // 변경 후 추가로 스냅샷에 담을 횟수 (UDP 손실 대비)
+
+    private final CollisionMap collisionMap;
+    private final Random random;
+    private final float mapWidth;
+    private final float mapHeight;
+
+    private int count = 0;
+
+    // 몬스터별 데이터 (인덱스 = 몬스터 슬롯)
+    private int[] ids;
+    private byte[] types;
+    private float[] xs, ys;
+    private float[] vxs, vys;
+    private int[] hps;
+    private int[] maxHps;
+    private float[] cooldowns;           // 남은 공격 쿨다운
+    private byte[] states;               // MonsterSnapshotMsg.STATE_*
+    private int[] targets;               // 공격 대상 플레이어 ID (-1 없음)
+    private int[] lastAttackers;         // 마지막 공격자 ID (경험치 지급용)
+    private boolean[] attackedThisCycle; // 이번 공격 사이클에서 공격했는지
+    private float[] specialTimers;       // 고스트: 투명화 남은 시간 / 골렘: 충전 경과 시간
+    private float[] specialCooldowns;    // 고스트: 투명화 쿨다운
+    private boolean[] specialActive;     // 고스트: 투명 상태 / 골렘: 충전 중
+
+    // 마지막으로 스냅샷에 담아 보낸 값 (변경 감지용)
+    private short[] syncedX, syncedY, syncedVx, syncedVy;
+    private int[] syncedHp;
+    private byte[] syncedState;
+    // 변경 후 스냅샷에 더 담을 남은 횟수 (UDP 상태 채널은 재전송이 없으므로 마지막 변경이 빠져도 복구)
+    private byte[] syncRepeats;
+
+    private final IntIntMap indexById;
+
+    // 반경 검색용 격자 (셀마다 연결 리스트: cellHead → next → ...)
+    private final int gridCols;
+    private final int gridRows;
+    private final int[] cellHead;
+    private int[] cellNext;
+    private boolean gridDirty = true;
+
+    // 벽 법선 계산용 재사용 버퍼
+    private final float[] wallNormal = new float[2];
+
+    // 추적 경로 (이번 틱의 흐름장, null이면 직선 추적)
+    private FlowField flowField;
+    private final float[] waypoint = new float[2];
+
+    /**
+     * @param collisionMap 벽 충돌 맵 (null이면 충돌 없음)
+     * @param initialCapacity 초기 배열 크기
+     */
+    public MonsterEngine(CollisionMap collisionMap, int initialCapacity) {
+        this(collisionMap, initialCapacity, new Random());
+    }
+
+    /**
+     * @param random 타입 선택/고스트 투명화용 난수 (벤치마크에서 고정 시드 사용)
+     */
+    public MonsterEngine(CollisionMap collisionMap, int initialCapacity, Random random) {
+        this.collisionMap = collisionMap;
+        this.random = random;
+        this.mapWidth = collisionMap != null ? collisionMap.getMapWidth() : 4000f;
+        this.mapHeight = collisionMap != null ? collisionMap.getMapHeight() : 4000f;
+        this.indexById = new IntIntMap(initialCapacity);
+        this.gridCols = Math.max(1, (int) Math.ceil(mapWidth / GRID_CELL_SIZE));
+        this.gridRows = Math.max(1, (int) Math.ceil(mapHeight / GRID_CELL_SIZE));
+        this.cellHead = new int[gridCols * gridRows];
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(int capacity) {
+        ids = grow(ids, capacity);
+        types = grow(types, capacity);
+        xs = grow(xs, capacity);
+        ys = grow(ys, capacity);
+        vxs = grow(vxs, capacity);
+        vys = grow(vys, capacity);
+        hps = grow(hps, capacity);
+        maxHps = grow(maxHps, capacity);
+        cooldowns = grow(cooldowns, capacity);
+        states = grow(states, capacity);
+        targets = grow(targets, capacity);
+        lastAttackers = grow(lastAttackers, capacity);
+        attackedThisCycle = grow(attackedThisCycle, capacity);
+        specialTimers = grow(specialTimers, capacity);
+        specialCooldowns = grow(specialCooldowns, capacity);
+        specialActive = grow(specialActive, capacity);
+        syncedX = grow(syncedX, capacity);
+        syncedY = grow(syncedY, capacity);
+        syncedVx = grow(syncedVx, capacity);
+        syncedVy = grow(syncedVy, capacity);
+        syncedHp = grow(syncedHp, capacity);
+        syncedState = grow(syncedState, capacity);
+        syncRepeats = grow(syncRepeats, capacity);
+        cellNext = grow(cellNext, capacity);
+    }
+
+    private static int[] grow(int[] a, int n) { return a == null ? new int[n] : Arrays.copyOf(a, n); }
+    private static float[] grow(float[] a, int n) { return a == null ? new float[n] : Arrays.copyOf(a, n); }
+    private static short[] grow(short[] a, int n) { return a == null ? new short[n] : Arrays.copyOf(a, n); }
+    private static byte[] grow(byte[] a, int n) { return a == null ? new byte[n] : Arrays.copyOf(a, n); }
+    private static boolean[] grow(boolean[] a, int n) { return a == null ? new boolean[n] : Arrays.copyOf(a, n); }
+
+    // ===== 생성 / 제거 =====
+
+    /**
+     * 랜덤 타입 (고스트/박쥐/골렘 균등)
+     */
+    public byte randomType() {
+        return (byte) random.nextInt(TYPE_NAMES.length);
+    }
+
+    /**
+     * 몬스터를 추가합니다.
+     *
+     * @return 슬롯 인덱스
+     */
+    public int spawn(int id, byte type, float x, float y) {
+        if (count == ids.length) {
+            allocate(ids.length * 2);
+        }
+
+        int i = count++;
+        ids[i] = id;
+        types[i] = type;
+        xs[i] = x;
+        ys[i] = y;
+        vxs[i] = 0;
+        vys[i] = 0;
+        hps[i] = TYPE_MAX_HP[type];
+        maxHps[i] = TYPE_MAX_HP[type];
+        cooldowns[i] = 0;
+        states[i] = MonsterSnapshotMsg.STATE_IDLE;
+        targets[i] = -1;
+        lastAttackers[i] = -1;
+        attackedThisCycle[i] = false;
+        specialTimers[i] = 0;
+        specialCooldowns[i] = 0;
+        specialActive[i] = false;
+        syncedHp[i] = -1;
+        syncedState[i] = -1;
+        syncRepeats[i] = 0;
+
+        indexById.put(id, i);
+        gridDirty = true;
+        return i;
+    }
+
+    /**
+     * 슬롯의 몬스터를 제거합니다. 마지막 몬스터가 이 슬롯으로 옮겨집니다.
+     */
+    public void removeAt(int i) {
+        indexById.remove(ids[i]);
+        int last = --count;
+        if (i != last) {
+            ids[i] = ids[last];
+            types[i] = types[last];
+            xs[i] = xs[last];
+            ys[i] = ys[last];
+            vxs[i] = vxs[last];
+            vys[i] = vys[last];
+            hps[i] = hps[last];
+            maxHps[i] = maxHps[last];
+            cooldowns[i] = cooldowns[last];
+            states[i] = states[last];
+            targets[i] = targets[last];
+            lastAttackers[i] = lastAttackers[last];
+            attackedThisCycle[i] = attackedThisCycle[last];
+            specialTimers[i] = specialTimers[last];
+            specialCooldowns[i] = specialCooldowns[last];
+            specialActive[i] = specialActive[last];
+            syncedX[i] = syncedX[last];
+            syncedY[i] = syncedY[last];
+            syncedVx[i] = syncedVx[last];
+            syncedVy[i] = syncedVy[last];
+            syncedHp[i] = syncedHp[last];
+            syncedState[i] = syncedState[last];
+            syncRepeats[i] = syncRepeats[last];
+            indexById.put(ids[i], i);
+        }
+        gridDirty = true;
+    }
+
+    public void clear() {
+        count = 0;
+        indexById.clear();
+        gridDirty = true;
+    }
+
+    // ===== 시뮬레이션 =====
+
+    /**
+     * 모든 몬스터의 AI, 이동, 쿨다운을 한 틱 진행합니다.
+     * 단계마다 배열 전체를 한 번씩 순회합니다.
+     *
+     * @param players 방의 플레이어 공간 인덱스
+     * @param flowField 플레이어 쪽 흐름장 (null이면 직선 추적)
+     */
+    public void simulate(float delta, SpatialHash<?> players, FlowField flowField) {
+        this.flowField = flowField;
+        if (flowField != null) {
+            flowField.rebuildIfDirty();
+        }
+        updateAI(delta, players);
+        move(delta);
+
+        // 쿨다운 감소
+        for (int i = 0; i < count; i++) {
+            if (states[i] != MonsterSnapshotMsg.STATE_DEAD && cooldowns[i] > 0) {
+                cooldowns[i] -= delta;
+            }
+        }
+        gridDirty = true;
+    }
+
+    /**
+     * AI: 가장 가까운 플레이어를 찾아 공격/추적/대기를 결정합니다.
+     */
+    private void updateAI(float delta, SpatialHash<?> players) {
+        boolean hasPlayers = players != null && players.size() > 0;
+
+        for (int i = 0; i < count; i++) {
+            if (states[i] == MonsterSnapshotMsg.STATE_DEAD) continue;
+            byte type = types[i];
+
+            // 고스트 투명화 타이머
+            if (type == TYPE_GHOST) {
+                if (specialActive[i]) {
+                    specialTimers[i] -= delta;
+                    if (specialTimers[i] <= 0) {
+                        specialActive[i] = false;
+                    }
+                } else {
+                    specialCooldowns[i] -= delta;
+                }
+            }
+
+            SpatialHash.Entry<?> nearest = hasPlayers ? players.nearest(xs[i], ys[i], TYPE_AGGRO_RANGE[type], -1) : null;
+
+            if (nearest == null) {
+                // 대기
+                states[i] = MonsterSnapshotMsg.STATE_IDLE;
+                vxs[i] = 0;
+                vys[i] = 0;
+                if (type == TYPE_GOLEM) {
+                    specialActive[i] = false;
+                    specialTimers[i] = 0;
+                }
+            } else {
+                targets[i] = nearest.id;
+                float dx = xs[i] - nearest.x;
+                float dy = ys[i] - nearest.y;
+                float distSq = dx * dx + dy * dy;
+                float attackRange = TYPE_ATTACK_RANGE[type];
+                boolean inRange = distSq <= attackRange * attackRange;
+
+                switch (type) {
+                    case TYPE_GOLEM:
+                        if (cooldowns[i] <= 0 && inRange) {
+                            if (!specialActive[i]) {
+                                // 충전 시작
+                                specialActive[i] = true;
+                                specialTimers[i] = 0;
+                                states[i] = MonsterSnapshotMsg.STATE_ATTACKING;
+                                vxs[i] = 0;
+                                vys[i] = 0;
+                            } else {
+                                // 충전 중
+                                specialTimers[i] += delta;
+                                if (specialTimers[i] >= GOLEM_CHARGING_DURATION) {
+                                    // 충전 완료 - 즉시 추적으로 전환
+                                    specialActive[i] = false;
+                                    specialTimers[i] = 0;
+                                    cooldowns[i] = TYPE_ATTACK_COOLDOWN[type];
+                                    states[i] = MonsterSnapshotMsg.STATE_PURSUING;
+                                    moveTowards(i, nearest.x, nearest.y);
+                                }
+                            }
+                        } else {
+                            // 공격 범위 밖이거나 쿨다운 중 - 추적
+                            specialActive[i] = false;
+                            specialTimers[i] = 0;
+                            states[i] = MonsterSnapshotMsg.STATE_PURSUING;
+                            moveTowards(i, nearest.x, nearest.y);
+                        }
+                        break;
+
+                    default:  // 고스트, 박쥐
+                        if (inRange && cooldowns[i] <= 0) {
+                            states[i] = MonsterSnapshotMsg.STATE_ATTACKING;
+                            cooldowns[i] = TYPE_ATTACK_COOLDOWN[type];
+                            vxs[i] = 0;
+                            vys[i] = 0;
+                        } else {
+                            states[i] = MonsterSnapshotMsg.STATE_PURSUING;
+                            moveTowards(i, nearest.x, nearest.y);
+                        }
+                        break;
+                }
+            }
+
+            // 고스트: 대기 중 10% 확률로 투명화 시작
+            if (type == TYPE_GHOST && !specialActive[i] &&
+                states[i] == MonsterSnapshotMsg.STATE_IDLE && random.nextFloat() < 0.1f * delta) {
+                specialActive[i] = true;
+                specialTimers[i] = GHOST_INVISIBILITY_DURATION;
+                specialCooldowns[i] = GHOST_INVISIBILITY_COOLDOWN;
+            }
+        }
+    }
+
+    /**
+     * 타겟 위치로 이동 속도 설정
+     * 흐름장 안이면 가장 가까운 플레이어 쪽 다음 타일 중심으로 향합니다. (벽/문 우회)
+     */
+    private void moveTowards(int i, float targetX, float targetY) {
+        if (flowField != null && flowField.getNextWaypoint(xs[i], ys[i], waypoint)) {
+            targetX = waypoint[0];
+            targetY = waypoint[1];
+        }
+        float dx = targetX - xs[i];
+        float dy = targetY - ys[i];
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        float speed = TYPE_SPEED[types[i]];
+
+        if (distance > 0) {
+            vxs[i] = (dx / distance) * speed;
+            vys[i] = (dy / distance) * speed;
+        } else {
+            vxs[i] = 0;
+            vys[i] = 0;
+        }
+    }
+
+    /**
+     * 이동: 벽 충돌 시 축별 슬라이딩, 맵 경계 제한
+     */
+    private void move(float delta) {
+        for (int i = 0; i < count; i++) {
+            if (states[i] == MonsterSnapshotMsg.STATE_DEAD) continue;
+
+            float oldX = xs[i];
+            float oldY = ys[i];
+            float newX = oldX + vxs[i] * delta;
+            float newY = oldY + vys[i] * delta;
+
+            if (collisionMap != null && (newX != oldX || newY != oldY)) {
+                // X축, Y축 각각 체크하여 슬라이딩 이동
+                boolean canMoveX = !collisionMap.isWallInArea(newX, oldY, COLLISION_RADIUS);
+                boolean canMoveY = !collisionMap.isWallInArea(oldX, newY, COLLISION_RADIUS);
+
+                if (canMoveX && canMoveY) {
+                    if (!collisionMap.isWallInArea(newX, newY, COLLISION_RADIUS)) {
+                        xs[i] = newX;
+                        ys[i] = newY;
+                    } else {
+                        // 대각선 불가, X축만 이동
+                        xs[i] = newX;
+                    }
+                } else if (canMoveX) {
+                    xs[i] = newX;
+                    vys[i] = 0;
+                } else if (canMoveY) {
+                    ys[i] = newY;
+                    vxs[i] = 0;
+                } else if (collisionMap.getWallNormal(oldX, oldY, wallNormal)) {
+                    // 완전히 막힌 경우 - 거리장 기울기(벽 법선)에 수직인 방향으로 미끄러짐
+                    float dot = vxs[i] * wallNormal[0] + vys[i] * wallNormal[1];
+                    float slideVx = vxs[i] - dot * wallNormal[0];
+                    float slideVy = vys[i] - dot * wallNormal[1];
+                    float slideX = oldX + slideVx * delta;
+                    float slideY = oldY + slideVy * delta;
+                    if (!collisionMap.isWallInArea(slideX, slideY, COLLISION_RADIUS)) {
+                        xs[i] = slideX;
+                        ys[i] = slideY;
+                        vxs[i] = slideVx;
+                        vys[i] = slideVy;
+                    } else {
+                        vxs[i] = 0;
+                        vys[i] = 0;
+                    }
+                } else {
+                    // 미끄러질 방향도 없으면 제자리 대기 (순간이동 방지)
+                    vxs[i] = 0;
+                    vys[i] = 0;
+                }
+            } else {
+                xs[i] = newX;
+                ys[i] = newY;
+            }
+
+            // 맵 경계 제한
+            xs[i] = Math.max(BOUNDS_MARGIN, Math.min(mapWidth - BOUNDS_MARGIN, xs[i]));
+            ys[i] = Math.max(BOUNDS_MARGIN, Math.min(mapHeight - BOUNDS_MARGIN, ys[i]));
+        }
+    }
+
+    /**
+     * 현재 공격 가능 상태인지 반환
+     * ATTACKING 상태이고, 쿨다운이 막 리셋되었고, 아직 이번 사이클에서 공격하지 않았을 때 true
+     */
+    public boolean canAttackNow(int i) {
+        float attackCooldown = TYPE_ATTACK_COOLDOWN[types[i]];
+        if (states[i] == MonsterSnapshotMsg.STATE_ATTACKING &&
+            cooldowns[i] >= attackCooldown * 0.9f && !attackedThisCycle[i]) {
+            attackedThisCycle[i] = true;  // 공격했음을 표시
+            return true;
+        }
+        // 쿨다운이 절반 이하로 내려가면 다음 공격 가능하도록 리셋
+        if (cooldowns[i] < attackCooldown * 0.5f) {
+            attackedThisCycle[i] = false;
+        }
+        return false;
+    }
+
+    /**
+     * 피해 입기 (타입별 방어력 적용)
+     */
+    public void damage(int i, int amount, int attackerId) {
+        hps[i] -= (int) (amount * TYPE_DAMAGE_TAKEN[types[i]]);
+        lastAttackers[i] = attackerId;  // 마지막 공격자 기록
+        if (hps[i] <= 0) {
+            hps[i] = 0;
+            states[i] = MonsterSnapshotMsg.STATE_DEAD;
+            if (types[i] == TYPE_GOLEM) {
+                specialActive[i] = false;
+            }
+        }
+    }
+
+    // ===== 조회 =====
+
+    public int size() { return count; }
+
+    /**
+     * @return ID에 해당하는 슬롯 인덱스, 없으면 -1
+     */
+    public int indexOf(int id) {
+        return indexById.get(id, -1);
+    }
+
+    public int getId(int i) { return ids[i]; }
+    public float getX(int i) { return xs[i]; }
+    public float getY(int i) { return ys[i]; }
+    public int getHp(int i) { return hps[i]; }
+    public int getMaxHp(int i) { return maxHps[i]; }
+    public boolean isAlive(int i) { return states[i] != MonsterSnapshotMsg.STATE_DEAD; }
+    public byte getStateCode(int i) { return states[i]; }
+    public byte getTypeCode(int i) { return types[i]; }
+    public String getTypeName(int i) { return TYPE_NAMES[types[i]]; }
+    public int getTargetPlayerId(int i) { return targets[i]; }
+    public int getLastAttackerId(int i) { return lastAttackers[i]; }
+    public int getAttackDamage(int i) { return TYPE_ATTACK_DAMAGE[types[i]]; }
+
+    /**
+     * 반경 안의 몬스터 슬롯 인덱스를 out에 채웁니다.
+     *
+     * @return 찾은 개수 (out 길이를 넘지 않음)
+     */
+    public int queryRadius(float x, float y, float radius, int[] out) {
+        if (gridDirty) {
+            rebuildGrid();
+        }
+
+        int minCol = gridCol(x - radius), maxCol = gridCol(x + radius);
+        int minRow = gridRow(y - radius), maxRow = gridRow(y + radius);
+        float radiusSq = radius * radius;
+
+        int found = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int i = cellHead[row * gridCols + col]; i >= 0; i = cellNext[i]) {
+                    float dx = xs[i] - x;
+                    float dy = ys[i] - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        if (found == out.length) {
+                            return found;
+                        }
+                        out[found++] = i;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int gridCol(float x) {
+        return Math.max(0, Math.min(gridCols - 1, (int) (x / GRID_CELL_SIZE)));
+    }
+
+    private int gridRow(float y) {
+        return Math.max(0, Math.min(gridRows - 1, (int) (y / GRID_CELL_SIZE)));
+    }
+
+    private void rebuildGrid() {
+        Arrays.fill(cellHead, -1);
+        for (int i = 0; i < count; i++) {
+            int cell = gridRow(ys[i]) * gridCols + gridCol(xs[i]);
+            cellNext[i] = cellHead[cell];
+            cellHead[cell] = i;
+        }
+        gridDirty = false;
+    }
+
+    // ===== 스냅샷 =====
+
+    /**
+     * 마지막 스냅샷 이후 (양자화 기준으로) 변경되었거나, 최근 변경을 아직 반복 전송 중인지 여부
+     */
+    public boolean hasChangedSinceSync(int i) {
+        return syncRepeats[i] > 0 || differsFromSynced(i);
+    }
+
+    private boolean differsFromSynced(int i) {
+        return syncedHp[i] != hps[i]
+            || syncedState[i] != states[i]
+            || syncedX[i] != MonsterSnapshotMsg.quantize(xs[i])
+            || syncedY[i] != MonsterSnapshotMsg.quantize(ys[i])
+            || syncedVx[i] != MonsterSnapshotMsg.quantize(vxs[i])
+            || syncedVy[i] != MonsterSnapshotMsg.quantize(vys[i]);
+    }
+
+    /**
+     * 현재 상태를 동기화 기준값으로 표시합니다.
+     */
+    public void markSynced(int i) {
+        syncRepeats[i] = differsFromSynced(i) ? SYNC_REPEATS : (byte) Math.max(0, syncRepeats[i] - 1);
+        syncedX[i] = MonsterSnapshotMsg.quantize(xs[i]);
+        syncedY[i] = MonsterSnapshotMsg.quantize(ys[i]);
+        syncedVx[i] = MonsterSnapshotMsg.quantize(vxs[i]);
+        syncedVy[i] = MonsterSnapshotMsg.quantize(vys[i]);
+        syncedHp[i] = hps[i];
+        syncedState[i] = states[i];
+    }
+
+    /**
+     * 스냅샷의 index 위치에 슬롯 i의 현재 상태를 기록합니다.
+     */
+    public void writeSnapshot(int i, MonsterSnapshotMsg msg, int index) {
+        msg.ids[index] = ids[i];
+        msg.x[index] = MonsterSnapshotMsg.quantize(xs[i]);
+        msg.y[index] = MonsterSnapshotMsg.quantize(ys[i]);
+        msg.vx[index] = MonsterSnapshotMsg.quantize(vxs[i]);
+        msg.vy[index] = MonsterSnapshotMsg.quantize(vys[i]);
+        msg.hp[index] = (short) hps[i];
+        msg.maxHp[index] = (short) maxHps[i];
+        msg.state[index] = states[i];
+    }
+}
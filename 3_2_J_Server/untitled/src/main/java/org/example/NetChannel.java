@@ -0,0 +1,421 @@
+// 서버 - org.example.NetChannel.java
+package org.example;
+
+import com.esotericsoftware.kryonet.Connection;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * KryoNet UDP 위의 채널 계층 (연결 하나당 하나, 서버/클라이언트/LoadBot 공용)
+ *
+ * - 상태 채널 (sendState): 위치, 몬스터 스냅샷처럼 최신 값만 의미 있는 메시지.
+ *   스트림마다 순번을 붙여 UDP로 보내고, 받는 쪽은 스트림의 마지막 순번 이하(늦게 온 것)를 버립니다.
+ *   재전송하지 않으므로 패킷 하나가 빠져도 뒤의 상태가 막히지 않습니다.
+ * - 이벤트 채널 (sendReliable): 스폰/사망/피해/fog처럼 빠지면 안 되는 메시지.
+ *   순번을 붙여 UDP로 보내고, 받는 쪽은 누적 ack + 뒤 32개 수신 비트(선택적 ack)로 바로 응답합니다.
+ *   보낸 쪽은 응답이 없는 것만 RTT 기반 시간이 지나면 다시 보내고(update), 받는 쪽은 순서대로 전달합니다.
+ *
+ * UDP로 접속하지 않은 연결은 두 채널 모두 TCP로 그대로 보냅니다.
+ * 확인응답을 받지 못한 이벤트가 MAX_PENDING을 넘으면 UDP가 막힌 것으로 보고 TCP로 전환합니다.
+ * 전환할 때는 누적 ack 이후 이벤트를 순번째로 TCP로 다시 보내 받는 쪽 순서 맞춤 버퍼의 빈칸을 채우고,
+ * 전환 표시(FALLBACK_SEQUENCE)를 보내 받는 쪽이 버퍼를 비우게 한 뒤 이후 이벤트는 봉투 없이 TCP로 보냅니다.
+ *
+ * 송신(틱 스레드)과 수신(네트워크 스레드)이 동시에 일어나므로 상태를 바꾸는 메서드는 synchronized입니다.
+ * 손실/늦음/재전송 개수와 이벤트 채널 RTT는 생성자에 넘긴 Stats에 누적됩니다. (여러 연결이 공유 가능)
+ */
+public class NetChannel {
+    // 스트림 ID
+    public static final int STREAM_PLAYER_MOVE = 0;   // 클라이언트 → 서버 이동 입력 (서버 → 클라이언트 다른 플레이어 이동은 플레이어 ID)
+    public static final int STREAM_MONSTERS = -1;     // 서버 → 클라이언트 몬스터 스냅샷
+    public static final int STREAM_PLAYER_STATE = -2; // 서버 → 본인 권한 위치 (PlayerStateMsg)
+
+    // 선택적 ack 비트 수 (= 받는 쪽 순서 맞춤 버퍼 크기)
+    static final int ACK_WINDOW = 32;
+    // 재전송 대기 시간 (RTT 측정 전 초기값, 하한, 상한)
+    static final long INITIAL_RESEND_NANOS = 200_000_000L;
+    static final long MIN_RESEND_NANOS = 30_000_000L;
+    static final long MAX_RESEND_NANOS = 1_000_000_000L;
+    // 확인응답 없이 쌓일 수 있는 이벤트 수 (넘으면 TCP 전환)
+    static final int MAX_PENDING = 512;
+    // TCP 전환 표시 봉투의 순번 (받는 쪽은 순서 맞춤 버퍼를 비움)
+    static final int FALLBACK_SEQUENCE = -1;
+
+    /**
+     * 채널 하나의 누적 통계 (lock-free, 여러 연결이 공유 가능)
+     */
+    public static class Stats {
+        final LongAdder sent = new LongAdder();       // 보낸 메시지 (재전송 제외)
+        final LongAdder received = new LongAdder();   // 전달한 메시지
+        final LongAdder lost = new LongAdder();       // 상태: 순번이 건너뛴 개수 / 이벤트: 재전송이 필요했던 개수
+        final LongAdder late = new LongAdder();       // 상태: 늦게 와서 버린 개수 / 이벤트: 중복 수신
+        final LongAdder resent = new LongAdder();     // 이벤트 재전송 횟수
+        final LatencyHistogram rtt = new LatencyHistogram();  // 이벤트 왕복 시간 (재전송 안 된 것만)
+
+        public long getSent() { return sent.sum(); }
+        public long getReceived() { return received.sum(); }
+        public long getLost() { return lost.sum(); }
+        public long getLate() { return late.sum(); }
+        public long getResent() { return resent.sum(); }
+        public LatencyHistogram getRtt() { return rtt; }
+
+        /**
+         * 로그용 한 줄 요약
+         */
+        public String summary() {
+            long total = getReceived() + getLost();
+            double lossPercent = total > 0 ? getLost() * 100.0 / total : 0.0;
+            String text = String.format("송신 %d, 수신 %d, 손실 %d (%.1f%%), 늦음/중복 %d",
+                getSent(), getReceived(), getLost(), lossPercent, getLate());
+            if (rtt.getCount() > 0) {
+                text += String.format(", 재전송 %d, RTT p50 %.2fms p99 %.2fms",
+                    getResent(), rtt.getPercentile(50) / 1e6, rtt.getPercentile(99) / 1e6);
+            } else if (getResent() > 0) {
+                text += ", 재전송 " + getResent();
+            }
+            return text;
+        }
+    }
+
+    /**
+     * 확인응답을 기다리는 이벤트
+     */
+    private static class Pending {
+        final int sequence;
+        final Object payload;
+        final long firstSentNanos;
+        long lastSentNanos;
+        int sendCount = 1;
+        // 선택적 ack로 도착 확인 (재전송 중단, 누적 ack가 덮을 때까지는 보관)
+        boolean selectivelyAcked;
+
+        Pending(int sequence, Object payload, long now) {
+            this.sequence = sequence;
+            this.payload = payload;
+            this.firstSentNanos = now;
+            this.lastSentNanos = now;
+        }
+    }
+
+    private final Connection connection;
+    private final Stats stateStats;
+    private final Stats eventStats;
+
+    // 상태 채널: 스트림별 마지막 송신/수신 순번
+    private final IntIntMap sendSequences = new IntIntMap(16);
+    private final IntIntMap receiveSequences = new IntIntMap(16);
+
+    // 이벤트 채널 송신: 순번 순서로 쌓인 미확인 이벤트
+    private int nextSequence = 1;
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    private long smoothedRttNanos = -1;
+    private long rttVarianceNanos = 0;
+
+    // 이벤트 채널 수신: 순서대로 전달한 마지막 순번, 그 뒤 순번의 대기 버퍼 (순번 % ACK_WINDOW)
+    private int delivered = 0;
+    private final Object[] reorder = new Object[ACK_WINDOW];
+
+    private boolean tcpFallback = false;
+    // 상대가 TCP로 전환했음 (더 이상 확인응답을 보내지 않음)
+    private boolean peerFallback = false;
+
+    public NetChannel(Connection connection) {
+        this(connection, new Stats(), new Stats());
+    }
+
+    public NetChannel(Connection connection, Stats stateStats, Stats eventStats) {
+        this.connection = connection;
+        this.stateStats = stateStats;
+        this.eventStats = eventStats;
+    }
+
+    public Stats getStateStats() {
+        return stateStats;
+    }
+
+    public Stats getEventStats() {
+        return eventStats;
+    }
+
+    private boolean useUdp() {
+        return !tcpFallback && connection.getRemoteAddressUDP() != null;
+    }
+
+    /**
+     * 상태 메시지를 보냅니다. (최신 값 우선, 재전송 없음)
+     *
+     * @param stream 스트림 ID (같은 스트림 안에서만 순서를 비교)
+     */
+    public void sendState(int stream, Object message) {
+        stateStats.sent.increment();
+        if (!useUdp()) {
+            connection.sendTCP(message);
+            return;
+        }
+        int sequence;
+        synchronized (this) {
+            sequence = sendSequences.get(stream, 0) + 1;
+            sendSequences.put(stream, sequence);
+        }
+        connection.sendUDP(new SequencedMsg(stream, sequence, message));
+    }
+
+    /**
+     * 이벤트 메시지를 보냅니다. (확인응답이 올 때까지 update에서 재전송)
+     */
+    public synchronized void sendReliable(Object message) {
+        eventStats.sent.increment();
+        if (!useUdp()) {
+            connection.sendTCP(message);
+            return;
+        }
+        Pending entry = new Pending(nextSequence++, message, System.nanoTime());
+        pending.addLast(entry);
+        connection.sendUDP(new ReliableMsg(entry.sequence, delivered, receivedBits(), message));
+
+        if (pending.size() > MAX_PENDING) {
+            switchToTcp();
+        }
+    }
+
+    /**
+     * 확인응답이 없는 이벤트를 재전송합니다. (송신 쪽에서 주기적으로 호출, 서버는 방 틱마다)
+     */
+    public synchronized void update() {
+        if (pending.isEmpty() || tcpFallback) {
+            return;
+        }
+        long now = System.nanoTime();
+        long timeout = resendTimeoutNanos();
+        for (Pending entry : pending) {
+            if (entry.selectivelyAcked || now - entry.lastSentNanos < timeout) {
+                continue;
+            }
+            if (entry.sendCount == 1) {
+                eventStats.lost.increment();
+            }
+            entry.sendCount++;
+            entry.lastSentNanos = now;
+            eventStats.resent.increment();
+            connection.sendUDP(new ReliableMsg(entry.sequence, delivered, receivedBits(), entry.payload));
+        }
+    }
+
+    /**
+     * 수신한 객체가 채널 봉투이면 풀어서 전달합니다.
+     *
+     * @param handler 봉투 안의 메시지를 처리할 함수 (순서/중복 정리 후 호출)
+     * @return 채널 봉투였으면 true (처리 완료), 일반 메시지면 false
+     */
+    public boolean receive(Object object, Consumer<Object> handler) {
+        if (object instanceof SequencedMsg) {
+            SequencedMsg msg = (SequencedMsg) object;
+            if (acceptState(msg.stream, msg.sequence)) {
+                handler.accept(msg.payload);
+            }
+            return true;
+        }
+        if (object instanceof ReliableMsg) {
+            receiveReliable((ReliableMsg) object, handler);
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized boolean acceptState(int stream, int sequence) {
+        int last = receiveSequences.get(stream, 0);
+        if (sequence <= last) {
+            stateStats.late.increment();
+            return false;
+        }
+        if (sequence > last + 1) {
+            stateStats.lost.add(sequence - last - 1);
+        }
+        receiveSequences.put(stream, sequence);
+        stateStats.received.increment();
+        return true;
+    }
+
+    private void receiveReliable(ReliableMsg msg, Consumer<Object> handler) {
+        Object[] ready;
+        synchronized (this) {
+            if (msg.sequence == FALLBACK_SEQUENCE) {
+                ready = flushReorder();
+            } else {
+                acknowledge(msg.ack, msg.ackBits);
+                if (msg.payload == null) {
+                    return;  // 확인응답 전용
+                }
+                ready = store(msg.sequence, msg.payload);
+                // 바로 응답 (중복이어도 응답해야 앞선 응답이 빠졌을 때 상대가 재전송을 멈춤)
+                if (!peerFallback) {
+                    connection.sendUDP(new ReliableMsg(0, delivered, receivedBits(), null));
+                }
+            }
+        }
+        // 처리 함수는 락 밖에서 호출 (처리 중 이 채널로 전송 가능)
+        if (ready != null) {
+            for (Object payload : ready) {
+                handler.accept(payload);
+            }
+        }
+    }
+
+    /**
+     * 받은 이벤트를 순서 맞춤 버퍼에 넣고, 순서대로 전달할 수 있게 된 메시지를 반환합니다.
+     */
+    private Object[] store(int sequence, Object payload) {
+        if (sequence > delivered + ACK_WINDOW) {
+            return null;  // 창 밖: 확인응답에 포함되지 않으므로 상대가 다시 보냄
+        }
+        int slot = sequence % ACK_WINDOW;
+        if (sequence <= delivered || reorder[slot] != null) {
+            eventStats.late.increment();
+            return null;
+        }
+        reorder[slot] = payload;
+
+        int count = 0;
+        while (count < ACK_WINDOW && reorder[(delivered + 1 + count) % ACK_WINDOW] != null) {
+            count++;
+        }
+        if (count == 0) {
+            return null;
+        }
+        Object[] ready = new Object[count];
+        for (int i = 0; i < count; i++) {
+            int next = (delivered + 1 + i) % ACK_WINDOW;
+            ready[i] = reorder[next];
+            reorder[next] = null;
+        }
+        delivered += count;
+        eventStats.received.add(count);
+        return ready;
+    }
+
+    /**
+     * 상대가 TCP로 전환했을 때 순서 맞춤 버퍼에 남은 메시지를 순번 순서로 모두 꺼냅니다.
+     * (전환 전에 빈칸을 TCP로 채워 보내므로 보통은 비어 있음, 빈칸이 남았어도 뒤 메시지를 붙잡아 두지 않음)
+     */
+    private Object[] flushReorder() {
+        peerFallback = true;
+        int count = 0;
+        int last = delivered;
+        for (int i = 1; i <= ACK_WINDOW; i++) {
+            if (reorder[(delivered + i) % ACK_WINDOW] != null) {
+                count++;
+                last = delivered + i;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        Object[] ready = new Object[count];
+        int index = 0;
+        for (int sequence = delivered + 1; sequence <= last; sequence++) {
+            int slot = sequence % ACK_WINDOW;
+            if (reorder[slot] != null) {
+                ready[index++] = reorder[slot];
+                reorder[slot] = null;
+            }
+        }
+        delivered = last;
+        eventStats.received.add(count);
+        return ready;
+    }
+
+    /**
+     * 순서 맞춤 버퍼에 있는 순번의 비트 (비트 i = delivered + 1 + i)
+     */
+    private int receivedBits() {
+        int bits = 0;
+        for (int i = 0; i < ACK_WINDOW; i++) {
+            if (reorder[(delivered + 1 + i) % ACK_WINDOW] != null) {
+                bits |= 1 << i;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 상대의 확인응답으로 미확인 이벤트를 정리하고, 한 번에 전달된 이벤트로 RTT를 측정합니다.
+     * 누적 ack가 덮은 이벤트만 목록에서 빼고, 선택적 ack만 받은 이벤트는 재전송만 멈춥니다.
+     * (앞 순번이 빠진 채 TCP로 전환하면 받는 쪽 버퍼의 빈칸을 채우려고 함께 다시 보내야 하므로)
+     */
+    private void acknowledge(int ack, int ackBits) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Iterator<Pending> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Pending entry = iterator.next();
+            boolean cumulative = entry.sequence <= ack;
+            int offset = entry.sequence - ack - 1;
+            if (!cumulative && (offset >= ACK_WINDOW || (ackBits & (1 << offset)) == 0)) {
+                continue;
+            }
+            if (entry.sendCount == 1 && !entry.selectivelyAcked) {
+                sampleRtt(now - entry.firstSentNanos);
+            }
+            if (cumulative) {
+                iterator.remove();
+            } else {
+                entry.selectivelyAcked = true;
+            }
+        }
+    }
+
+    /**
+     * RTT 표본 반영 (TCP와 같은 평활 RTT/편차, 재전송된 이벤트는 표본에서 제외)
+     */
+    private void sampleRtt(long rttNanos) {
+        eventStats.rtt.record(rttNanos);
+        if (smoothedRttNanos < 0) {
+            smoothedRttNanos = rttNanos;
+            rttVarianceNanos = rttNanos / 2;
+        } else {
+            rttVarianceNanos += (Math.abs(smoothedRttNanos - rttNanos) - rttVarianceNanos) / 4;
+            smoothedRttNanos += (rttNanos - smoothedRttNanos) / 8;
+        }
+    }
+
+    private long resendTimeoutNanos() {
+        if (smoothedRttNanos < 0) {
+            return INITIAL_RESEND_NANOS;
+        }
+        long timeout = smoothedRttNanos + 4 * rttVarianceNanos;
+        return Math.max(MIN_RESEND_NANOS, Math.min(MAX_RESEND_NANOS, timeout));
+    }
+
+    /**
+     * UDP로 확인응답이 오지 않으면 누적 ack 이후 이벤트를 순번째로 TCP로 다시 보내고 이후 모든 전송을 TCP로 합니다.
+     * 받는 쪽은 순번으로 중복을 거르고(선택적 ack된 것 포함) 빈칸이 채워지는 대로 순서대로 전달합니다.
+     */
+    private void switchToTcp() {
+        System.err.println("[NetChannel] 연결 " + connection.getID() + " UDP 확인응답 없음 - 미확인 이벤트 "
+            + pending.size() + "개를 TCP로 전송하고 TCP로 전환");
+        tcpFallback = true;
+        for (Pending entry : pending) {
+            connection.sendTCP(new ReliableMsg(entry.sequence, delivered, receivedBits(), entry.payload));
+        }
+        connection.sendTCP(new ReliableMsg(FALLBACK_SEQUENCE, delivered, receivedBits(), null));
+        pending.clear();
+    }
+
+    /**
+     * 평활 RTT (밀리초, 측정 전이면 -1)
+     */
+    public synchronized float getSmoothedRttMillis() {
+        return smoothedRttNanos < 0 ? -1f : smoothedRttNanos / 1e6f;
+    }
+
+    /**
+     * 확인응답을 기다리는 이벤트 수
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+}
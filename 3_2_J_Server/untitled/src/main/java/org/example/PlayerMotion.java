@@ -0,0 +1,90 @@
+// 서버 - org.example.PlayerMotion.java
+package org.example;
+
+/**
+ * 플레이어 이동 규칙 (서버 권한 이동 + 클라이언트 예측 공용)
+ *
+ * 서버는 PlayerInputMsg의 입력을 이 규칙으로 CollisionMap 위에서 실행하고,
+ * 클라이언트는 같은 입력을 GameMap 위에서 먼저 실행(예측)한 뒤
+ * 서버 위치(PlayerStateMsg)를 받으면 확인되지 않은 입력만 다시 실행합니다.
+ * 두 쪽 결과가 같도록 입력은 양자화된 값(방향 byte, 시간 ms)만 사용합니다.
+ */
+public final class PlayerMotion {
+    // 기본 이동 속도 (픽셀/초, 클라이언트 Constants.PLAYER_MOVE_SPEED)
+    public static final float MOVE_SPEED = 150f;
+    // 충돌 반경 (캐릭터 48px의 절반보다 작게 - 좁은 문 통과 가능)
+    public static final float RADIUS = 12f;
+    // 방향 양자화 배율 (byte ±127 → 최대 약 1.98배, 속도 버프 포함)
+    public static final float DIRECTION_SCALE = 64f;
+    // 허용하는 최대 속도 배수 (폭풍 스킬 가속 1.5배)
+    public static final float MAX_SPEED_MULTIPLIER = 1.5f;
+    // 입력 하나의 최대 시간 (ms, 프레임이 끊겨도 한 번에 순간이동하지 않도록)
+    public static final int MAX_INPUT_MILLIS = 250;
+
+    /**
+     * 벽 조회 (서버 CollisionMap / 클라이언트 GameMap)
+     */
+    public interface Walls {
+        boolean isWall(float x, float y);
+    }
+
+    private PlayerMotion() {}
+
+    /**
+     * 이동 방향(속도 배수 포함)을 byte로 양자화합니다.
+     */
+    public static byte quantizeDirection(float value) {
+        int q = Math.round(value * DIRECTION_SCALE);
+        return (byte) Math.max(-127, Math.min(127, q));
+    }
+
+    /**
+     * 입력 하나를 실행합니다. 벽에 막히면 X축만, Y축만 순서로 미끄러집니다.
+     *
+     * @param position [x, y] (결과로 덮어씀)
+     * @param dirX 양자화된 X 방향 (quantizeDirection)
+     * @param dirY 양자화된 Y 방향
+     * @param millis 입력 시간 (ms)
+     * @param walls 벽 조회 (null이면 벽 없음)
+     */
+    public static void step(float[] position, byte dirX, byte dirY, int millis, Walls walls) {
+        float vx = dirX / DIRECTION_SCALE;
+        float vy = dirY / DIRECTION_SCALE;
+        // 가속 한도를 넘는 입력은 한도로 줄임 (조작된 클라이언트 대비)
+        float lengthSq = vx * vx + vy * vy;
+        if (lengthSq > MAX_SPEED_MULTIPLIER * MAX_SPEED_MULTIPLIER) {
+            float scale = MAX_SPEED_MULTIPLIER / (float) Math.sqrt(lengthSq);
+            vx *= scale;
+            vy *= scale;
+        }
+
+        float seconds = Math.min(millis, MAX_INPUT_MILLIS) / 1000f;
+        float oldX = position[0];
+        float oldY = position[1];
+        float newX = oldX + vx * MOVE_SPEED * seconds;
+        float newY = oldY + vy * MOVE_SPEED * seconds;
+
+        if (walls != null && isWallInArea(walls, newX, newY)) {
+            if (!isWallInArea(walls, newX, oldY)) {
+                newY = oldY;        // X축만 이동
+            } else if (!isWallInArea(walls, oldX, newY)) {
+                newX = oldX;        // Y축만 이동
+            } else {
+                newX = oldX;        // 원위치
+                newY = oldY;
+            }
+        }
+        position[0] = newX;
+        position[1] = newY;
+    }
+
+    /**
+     * 클라이언트 GameMap.isWallInArea와 같은 4방향 끝점 검사
+     */
+    private static boolean isWallInArea(Walls walls, float x, float y) {
+        return walls.isWall(x - RADIUS, y) ||
+               walls.isWall(x + RADIUS, y) ||
+               walls.isWall(x, y - RADIUS) ||
+               walls.isWall(x, y + RADIUS);
+    }
+}
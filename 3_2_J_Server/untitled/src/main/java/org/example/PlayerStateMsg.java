@@ -0,0 +1,16 @@
+// 서버 - org.example.PlayerStateMsg.java
+package org.example;
+
+/**
+ * 서버 권한 위치 (서버 → 본인, 상태 채널)
+ *
+ * lastInput까지의 입력을 실행한 서버 위치입니다.
+ * 클라이언트는 그 뒤의 입력만 이 위치에서 다시 실행해 예측 위치를 맞춥니다.
+ * 다시 실행한 결과가 서버와 같도록 좌표는 양자화하지 않고 float 그대로 보냅니다.
+ */
+public class PlayerStateMsg {
+    public int lastInput;    // 마지막으로 처리한 입력 순번
+    public float x, y;       // 서버 위치
+
+    public PlayerStateMsg() {}
+}
@@ -0,0 +1,120 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * 방 단위 플레이어 상태 테이블 (틱 스레드 전용)
+ *
+ * 게임 시작 시 플레이어마다 슬롯 번호를 배정하고, HP/최대 HP/생존 여부/현재 구역/마지막 피격 시각을
+ * 슬롯 인덱스의 기본형 배열에 보관합니다.
+ * Map<Integer, Integer> 대신 배열을 사용하므로 조회/갱신 시 박싱이나 객체 생성이 없습니다.
+ */
+public class PlayerStateTable {
+    // 구역 없음 (fog 구역 밖)
+    public static final byte NO_ZONE = CollisionMap.NO_ZONE;
+
+    private final int[] playerIds;
+    private final int[] hp;
+    private final int[] maxHp;
+    private final boolean[] alive;
+    private final byte[] zone;
+    private final long[] lastDamageMillis;
+    private int size = 0;
+
+    /**
+     * @param capacity 최대 플레이어 수
+     */
+    public PlayerStateTable(int capacity) {
+        playerIds = new int[capacity];
+        hp = new int[capacity];
+        maxHp = new int[capacity];
+        alive = new boolean[capacity];
+        zone = new byte[capacity];
+        lastDamageMillis = new long[capacity];
+        Arrays.fill(playerIds, -1);
+    }
+
+    /**
+     * 플레이어에게 슬롯을 배정하고 HP를 최대치로 초기화합니다.
+     * 이미 배정된 플레이어면 기존 슬롯을 재사용합니다.
+     *
+     * @return 슬롯 번호, 가득 차면 -1
+     */
+    public int assign(int playerId, int initialMaxHp) {
+        int slot = slotOf(playerId);
+        if (slot < 0) {
+            if (size >= playerIds.length) {
+                return -1;
+            }
+            slot = size++;
+            playerIds[slot] = playerId;
+        }
+        hp[slot] = initialMaxHp;
+        maxHp[slot] = initialMaxHp;
+        alive[slot] = true;
+        zone[slot] = NO_ZONE;
+        lastDamageMillis[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * 플레이어의 슬롯 번호를 찾습니다. (방 인원이 적으므로 선형 탐색)
+     *
+     * @return 슬롯 번호, 없으면 -1
+     */
+    public int slotOf(int playerId) {
+        for (int i = 0; i < size; i++) {
+            if (playerIds[i] == playerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int size() { return size; }
+    public int getPlayerId(int slot) { return playerIds[slot]; }
+
+    public int getHp(int slot) { return hp[slot]; }
+    public int getMaxHp(int slot) { return maxHp[slot]; }
+    public boolean isAlive(int slot) { return alive[slot]; }
+    public byte getZone(int slot) { return zone[slot]; }  // CollisionMap 구역 ID
+    public long getLastDamageMillis(int slot) { return lastDamageMillis[slot]; }
+
+    /**
+     * HP를 설정합니다. (0 ~ 최대 HP로 제한)
+     */
+    public void setHp(int slot, int value) {
+        hp[slot] = Math.max(0, Math.min(value, maxHp[slot]));
+    }
+
+    public void setMaxHp(int slot, int value) {
+        maxHp[slot] = Math.max(1, value);
+        if (hp[slot] > maxHp[slot]) {
+            hp[slot] = maxHp[slot];
+        }
+    }
+
+    /**
+     * 피해를 적용하고 피격 시각을 기록합니다.
+     *
+     * @return 적용 후 HP
+     */
+    public int damage(int slot, int amount, long nowMillis) {
+        hp[slot] = Math.max(0, hp[slot] - amount);
+        lastDamageMillis[slot] = nowMillis;
+        return hp[slot];
+    }
+
+    /**
+     * HP를 회복합니다.
+     *
+     * @return 적용 후 HP
+     */
+    public int heal(int slot, int amount) {
+        hp[slot] = Math.min(maxHp[slot], hp[slot] + amount);
+        return hp[slot];
+    }
+
+    public void setAlive(int slot, boolean value) { alive[slot] = value; }
+    public void setZone(int slot, byte value) { zone[slot] = value; }
+}
@@ -0,0 +1,101 @@
+// 서버 - org.example.Protocol.java
+package org.example;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Registration;
+import org.example.Main.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 네트워크 프로토콜 등록표
+ *
+ * 모든 메시지 클래스를 고정 ID로 등록합니다. (등록 순서와 무관)
+ * - 등록되지 않은 클래스는 전송 시 예외 (클래스 이름 문자열 전송 금지)
+ * - 참조 추적 끔 (메시지는 순환 참조가 없음)
+ * - 자주 오가는 메시지는 WireSerializers의 전용 직렬화 사용
+ *
+ * ID 0~9는 Kryo 기본 타입, 그 다음은 KryoNet 내부 메시지(RegisterTCP 등)가 사용하므로 FIRST_ID부터 씁니다.
+ * 클라이언트 com.example.yugeup.network.Protocol과 ID/직렬화가 정확히 일치해야 합니다.
+ * (클라이언트 테스트 TestProtocolRegistry가 확인)
+ */
+public final class Protocol {
+    public static final int FIRST_ID = 20;
+
+    private Protocol() {}
+
+    /**
+     * Kryo 설정 및 메시지 등록
+     */
+    public static void register(Kryo kryo) {
+        kryo.setRegistrationRequired(true);
+        kryo.setReferences(false);
+
+        kryo.register(CreateRoomMsg.class, 20);
+        kryo.register(CreateRoomResponse.class, 21);
+        kryo.register(GetRoomListMsg.class, 22);
+        kryo.register(RoomInfo.class, 23);
+        kryo.register(RoomInfo[].class, 24);
+        kryo.register(RoomListResponse.class, 25);
+        kryo.register(JoinRoomMsg.class, 26);
+        kryo.register(JoinRoomResponse.class, 27);
+        kryo.register(PlayerInfo.class, 28);
+        kryo.register(PlayerInfo[].class, 29);
+        kryo.register(LeaveRoomMsg.class, 30);
+        kryo.register(RoomUpdateMsg.class, 31);
+        kryo.register(StartGameMsg.class, 32);
+        kryo.register(GameStartNotification.class, 33);
+        kryo.register(ChatMsg.class, 34);
+        kryo.register(PlayerMoveMsg.class, new WireSerializers.PlayerMoveSerializer(), 35);
+        // 같은 패키지에 쓰이지 않는 org.example.SkillCastMsg가 있으므로 Main의 클래스를 명시
+        kryo.register(Main.SkillCastMsg.class, new WireSerializers.SkillCastSerializer(), 36);
+        kryo.register(MonsterSpawnMsg.class, 37);
+        kryo.register(MonsterUpdateMsg.class, new WireSerializers.MonsterUpdateSerializer(), 38);
+        kryo.register(MonsterDeathMsg.class, 39);
+        kryo.register(PlayerAttackMonsterMsg.class, new WireSerializers.PlayerAttackMonsterSerializer(), 40);
+        kryo.register(MonsterDamageMsg.class, new WireSerializers.MonsterDamageSerializer(), 41);
+        kryo.register(ProjectileFiredMsg.class, 42);
+        kryo.register(SetPlayerNameMsg.class, 43);
+        kryo.register(SetPlayerNameResponse.class, 44);
+        kryo.register(FogZoneMsg.class, 45);
+        kryo.register(FogDamageMsg.class, 46);
+        kryo.register(MonsterAttackPlayerMsg.class, 47);
+        kryo.register(PlayerAttackPlayerMsg.class, 48);
+        kryo.register(PlayerDeathMsg.class, 49);
+        kryo.register(PlayerLevelUpMsg.class, 50);
+        kryo.register(MonsterSnapshotMsg.class, 51);
+        kryo.register(int[].class, 52);
+        kryo.register(short[].class, 53);
+        kryo.register(byte[].class, 54);
+        kryo.register(ServerProbeMsg.class, 55);
+        kryo.register(Messages.class, 56);
+        // UDP 채널 봉투 (NetChannel)
+        kryo.register(SequencedMsg.class, new WireSerializers.SequencedSerializer(), 57);
+        kryo.register(ReliableMsg.class, new WireSerializers.ReliableSerializer(), 58);
+        // 서버 권한 이동 (입력 묶음 / 본인 위치 확인)
+        kryo.register(PlayerInputMsg.class, new WireSerializers.PlayerInputSerializer(), 59);
+        kryo.register(PlayerStateMsg.class, new WireSerializers.PlayerStateSerializer(), 60);
+        // 서버 피격 판정 결과 묶음
+        kryo.register(MonsterDamageBatchMsg.class, new WireSerializers.MonsterDamageBatchSerializer(), 61);
+        // 클라이언트 피격 보고 묶음
+        kryo.register(AttackBatchMsg.class, new WireSerializers.AttackBatchSerializer(), 62);
+    }
+
+    /**
+     * 등록 내용을 "ID 클래스 직렬화" 줄 목록으로 반환합니다. (클라이언트와 비교용)
+     * 클래스는 단순 이름으로 비교합니다. (서버/클라이언트 패키지가 다름)
+     */
+    public static List<String> describe(Kryo kryo) {
+        List<String> lines = new ArrayList<>();
+        for (int id = FIRST_ID; ; id++) {
+            Registration registration = kryo.getRegistration(id);
+            if (registration == null) {
+                break;
+            }
+            lines.add(id + " " + registration.getType().getSimpleName()
+                + " " + registration.getSerializer().getClass().getSimpleName());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,145 @@
+package org.example;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 방 전용 메시지함 (bounded, lock-free)
+ *
+ * KryoNet 리스너 스레드(여러 생산자)가 offer()로 메시지를 넣고,
+ * 방의 틱 스레드(단일 소비자)가 drain()으로 한꺼번에 꺼내 처리합니다.
+ * 방 상태는 틱 스레드에서만 변경되므로 게임 로직에 락이 필요 없습니다.
+ *
+ * 링 버퍼 슬롯마다 시퀀스 번호를 두는 방식이며, 가득 차면 offer()가 false를 반환합니다.
+ * 퇴장/연결 끊김처럼 버려지면 안 되는 메시지는 offerControl()로 크기 제한 없는 별도 큐에 넣습니다.
+ *
+ * @param <S> 발신자 타입
+ */
+public class RoomMailbox<S> {
+
+    /**
+     * 꺼낸 메시지를 처리하는 콜백
+     */
+    public interface Handler<S> {
+        void handle(S sender, Object message);
+    }
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final Object[] senders;
+    private final Object[] messages;
+
+    private final AtomicLong tail = new AtomicLong();  // 다음 쓰기 위치 (생산자)
+    private long head = 0;                              // 다음 읽기 위치 (소비자 전용)
+
+    // 가득 차서 버려진 메시지 수
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    // 버리지 않는 제어 메시지 (퇴장 등, 드물게 들어옴)
+    private final ConcurrentLinkedQueue<Object[]> control = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param capacity 최대 보관 개수 (2의 거듭제곱으로 올림)
+     */
+    public RoomMailbox(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.senders = new Object[size];
+        this.messages = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 메시지를 넣습니다. (아무 스레드에서나 호출 가능)
+     *
+     * @return 가득 차서 넣지 못하면 false
+     */
+    public boolean offer(S sender, Object message) {
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos & mask);
+            long seq = sequences.get(index);
+            long diff = seq - pos;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    senders[index] = sender;
+                    messages[index] = message;
+                    sequences.set(index, pos + 1);  // 소비자에게 공개
+                    return true;
+                }
+            } else if (diff < 0) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 가져감 - 재시도
+        }
+    }
+
+    /**
+     * 버려지면 안 되는 제어 메시지를 넣습니다. (아무 스레드에서나 호출 가능, 항상 성공)
+     */
+    public void offerControl(S sender, Object message) {
+        control.offer(new Object[] { sender, message });
+    }
+
+    /**
+     * 쌓인 메시지를 최대 maxBatch개까지 꺼내 처리한 뒤,
+     * 제어 메시지를 개수 제한 없이 모두 처리합니다. (틱 스레드 전용)
+     *
+     * @return 처리한 메시지 수
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Handler<S> handler, int maxBatch) {
+        int count = 0;
+        while (count < maxBatch) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;  // 비어 있음 (또는 생산자가 아직 쓰는 중)
+            }
+
+            S sender = (S) senders[index];
+            Object message = messages[index];
+            senders[index] = null;
+            messages[index] = null;
+            sequences.set(index, head + mask + 1);  // 생산자에게 슬롯 반환
+            head++;
+
+            handler.handle(sender, message);
+            count++;
+        }
+
+        Object[] entry;
+        while ((entry = control.poll()) != null) {
+            handler.handle((S) entry[0], entry[1]);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 현재 대기 중인 메시지 수 (근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head) + control.size();
+    }
+
+    /**
+     * 용량
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 가득 차서 버려진 메시지 수를 반환하고 0으로 초기화합니다.
+     */
+    public int takeDroppedCount() {
+        return dropped.getAndSet(0);
+    }
+}
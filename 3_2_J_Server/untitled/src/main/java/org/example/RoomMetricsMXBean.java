@@ -0,0 +1,22 @@
+package org.example;
+
+import java.util.Map;
+
+/**
+ * JMX 방별 지표 (org.example:type=Room,id=방 ID)
+ */
+public interface RoomMetricsMXBean {
+    long getTickCount();
+    double getTickP50Millis();
+    double getTickP99Millis();
+    double getTickMaxMillis();
+
+    /**
+     * 틱 단계별 p99 소요 시간 (ServerMetrics.Phase 이름 → 밀리초)
+     */
+    Map<String, Double> getPhaseP99Millis();
+
+    int getMonsterCount();
+    int getPlayerCount();
+    int getMailboxDepth();
+}
@@ -0,0 +1,225 @@
+package org.example;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 단위 게임 루프 스케줄러
+ *
+ * 기존의 단일 GameLoopThread 대신, 방마다 독립된 틱 시계를 두고
+ * roomId 기준으로 워커 스레드(샤드)에 분산하여 실행합니다.
+ * 느린 방 하나가 다른 방의 틱을 지연시키지 않으며, 여러 코어를 사용합니다.
+ *
+ * 틱은 블로킹 없는 CPU 작업이고 고정 주기 예약이 필요하므로 가상 스레드 대신
+ * 코어 수만큼의 플랫폼 스레드 ScheduledExecutorService를 씁니다. (방은 항상 같은 워커에서 실행)
+ */
+public class RoomScheduler {
+    // 틱 간격 (20Hz = 50ms)
+    public static final long TICK_MILLIS = 50;
+    // 한 틱에 허용하는 최대 delta (초) - GC 정지 등으로 인한 순간이동 방지
+    private static final float MAX_DELTA = 0.25f;
+    // 틱 초과 로그 최소 간격 (같은 방에서 로그가 폭주하지 않도록)
+    private static final long OVERRUN_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // 서버 시각 기준점 (상태 메시지 타임스탬프)
+    private static final long EPOCH_NANOS = System.nanoTime();
+
+    /**
+     * 스케줄러가 주기적으로 호출하는 대상 (게임방)
+     */
+    public interface Tickable {
+        /**
+         * 한 틱을 실행합니다.
+         *
+         * @param delta 이전 틱으로부터 경과 시간 (초)
+         */
+        void tick(float delta);
+    }
+
+    private final ScheduledExecutorService[] shards;
+    private final Map<Integer, RoomClock> clocks = new ConcurrentHashMap<>();
+
+    /**
+     * @param workerCount 워커 스레드 개수 (1 이상)
+     */
+    public RoomScheduler(int workerCount) {
+        int count = Math.max(1, workerCount);
+        this.shards = new ScheduledExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            final int shardIndex = i;
+            shards[i] = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "RoomWorker-" + shardIndex);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        System.out.println("[RoomScheduler] 워커 " + count + "개로 시작 (틱: " + TICK_MILLIS + "ms)");
+    }
+
+    /**
+     * 방의 틱을 시작합니다. 이미 등록된 방이면 무시합니다.
+     *
+     * @param roomId 방 ID (샤드 선택 기준)
+     * @param room 틱 대상
+     */
+    public void schedule(int roomId, Tickable room) {
+        RoomClock clock = new RoomClock(roomId, room);
+        if (clocks.putIfAbsent(roomId, clock) != null) {
+            return;
+        }
+
+        ScheduledExecutorService shard = shards[Math.floorMod(roomId, shards.length)];
+        clock.future = shard.scheduleAtFixedRate(clock, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        System.out.println("[RoomScheduler] 방 " + roomId + " 틱 시작 (워커 " + Math.floorMod(roomId, shards.length) + ")");
+    }
+
+    /**
+     * 방의 틱을 중지합니다.
+     *
+     * @param roomId 방 ID
+     */
+    public void unschedule(int roomId) {
+        unschedule(roomId, null);
+    }
+
+    /**
+     * 방의 틱을 중지하고, 진행 중인 틱이 끝난 뒤 같은 워커에서 정리 작업을 실행합니다.
+     * 방이 등록되어 있지 않으면 정리 작업을 호출 스레드에서 바로 실행합니다.
+     *
+     * @param roomId 방 ID
+     * @param onStopped 정리 작업 (null 가능)
+     */
+    public void unschedule(int roomId, Runnable onStopped) {
+        RoomClock clock = clocks.remove(roomId);
+        if (clock == null || clock.future == null) {
+            if (onStopped != null) {
+                onStopped.run();
+            }
+            return;
+        }
+
+        clock.future.cancel(false);
+        if (onStopped != null) {
+            // 단일 스레드 워커이므로 진행 중인 틱 이후에 실행됨
+            shards[Math.floorMod(roomId, shards.length)].execute(onStopped);
+        }
+        System.out.println("[RoomScheduler] 방 " + roomId + " 틱 중지 (총 " + clock.tickCount.get() +
+            "틱, 초과 " + clock.overrunCount.get() + "회)");
+    }
+
+    /**
+     * 방의 누적 틱 초과 횟수를 반환합니다.
+     */
+    public int getOverrunCount(int roomId) {
+        RoomClock clock = clocks.get(roomId);
+        return clock != null ? clock.overrunCount.get() : 0;
+    }
+
+    /**
+     * 방의 최근 틱 소요 시간을 반환합니다. (밀리초)
+     */
+    public float getLastTickMillis(int roomId) {
+        RoomClock clock = clocks.get(roomId);
+        return clock != null ? clock.lastTickNanos / 1_000_000f : 0f;
+    }
+
+    /**
+     * 방의 최대 틱 소요 시간을 반환합니다. (밀리초)
+     */
+    public float getMaxTickMillis(int roomId) {
+        RoomClock clock = clocks.get(roomId);
+        return clock != null ? clock.maxTickNanos / 1_000_000f : 0f;
+    }
+
+    /**
+     * 방의 누적 틱 수를 반환합니다.
+     */
+    public int getTickCount(int roomId) {
+        RoomClock clock = clocks.get(roomId);
+        return clock != null ? clock.tickCount.get() : 0;
+    }
+
+    /**
+     * 서버 시작 이후 경과 시간 (밀리초)
+     * 몬스터 스냅샷/플레이어 이동 메시지에 담아 보내며, 클라이언트는 이 시각 기준으로 보간합니다.
+     */
+    public static int serverTimeMillis() {
+        return (int) ((System.nanoTime() - EPOCH_NANOS) / 1_000_000L);
+    }
+
+    /**
+     * 현재 틱 중인 방 개수
+     */
+    public int getScheduledRoomCount() {
+        return clocks.size();
+    }
+
+    /**
+     * 모든 워커를 종료합니다.
+     */
+    public void shutdown() {
+        for (ScheduledExecutorService shard : shards) {
+            shard.shutdownNow();
+        }
+        clocks.clear();
+    }
+
+    /**
+     * 방 하나의 틱 시계
+     * 자신의 마지막 틱 시각을 기준으로 delta를 계산하고, 틱 초과를 기록합니다.
+     */
+    private static class RoomClock implements Runnable {
+        final int roomId;
+        final Tickable room;
+        volatile ScheduledFuture<?> future;
+
+        long lastTickStart = 0;
+        volatile long lastTickNanos = 0;
+        volatile long maxTickNanos = 0;
+        long lastOverrunLog = 0;
+        final AtomicInteger tickCount = new AtomicInteger();
+        final AtomicInteger overrunCount = new AtomicInteger();
+
+        RoomClock(int roomId, Tickable room) {
+            this.roomId = roomId;
+            this.room = room;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            float delta = lastTickStart == 0
+                ? TICK_MILLIS / 1000f
+                : Math.min(MAX_DELTA, (start - lastTickStart) / 1_000_000_000f);
+            lastTickStart = start;
+
+            try {
+                room.tick(delta);
+            } catch (Exception e) {
+                // 예외가 전파되면 스케줄이 취소되므로 여기서 잡음
+                System.err.println("[게임 루프] 방 " + roomId + " 에러: " + e.getMessage());
+                e.printStackTrace();
+            }
+
+            long elapsed = System.nanoTime() - start;
+            lastTickNanos = elapsed;
+            if (elapsed > maxTickNanos) {
+                maxTickNanos = elapsed;
+            }
+            tickCount.incrementAndGet();
+
+            if (elapsed > TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS)) {
+                int overruns = overrunCount.incrementAndGet();
+                if (start - lastOverrunLog >= OVERRUN_LOG_INTERVAL_NANOS) {
+                    lastOverrunLog = start;
+                    System.err.println("[RoomScheduler] 방 " + roomId + " 틱 초과: " +
+                        (elapsed / 1_000_000) + "ms (허용 " + TICK_MILLIS + "ms, 누적 " + overruns + "회)");
+                }
+            }
+        }
+    }
+}
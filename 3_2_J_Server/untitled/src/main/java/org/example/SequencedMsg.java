@@ -0,0 +1,22 @@
+// 서버 - org.example.SequencedMsg.java
+package org.example;
+
+/**
+ * 상태 채널 봉투 (NetChannel, UDP)
+ *
+ * 위치/몬스터 스냅샷처럼 최신 값만 의미 있는 메시지를 담습니다.
+ * 받는 쪽은 스트림별로 마지막으로 받은 순번 이하의 봉투를 버립니다. (재전송 없음)
+ */
+public class SequencedMsg {
+    public int stream;       // 스트림 ID (플레이어 이동 = 플레이어 ID, 몬스터 = NetChannel.STREAM_MONSTERS)
+    public int sequence;     // 스트림 안의 순번 (1부터 증가)
+    public Object payload;   // 실제 메시지
+
+    public SequencedMsg() {}
+
+    public SequencedMsg(int stream, int sequence, Object payload) {
+        this.stream = stream;
+        this.sequence = sequence;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,364 @@
+package org.example;
+
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.KryoSerialization;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 서버 런타임 지표 저장소
+ *
+ * - 방별 틱 소요 시간 (전체 + 단계별 히스토그램), 몬스터/플레이어 수, 메시지함 대기 개수
+ * - 메시지 클래스별 수신/송신 개수와 바이트 (MeteredSerialization이 기록)
+ * - 연결 수, KryoNet TCP 쓰기 버퍼 사용량 (조회 시 계산)
+ * - UDP 상태/이벤트 채널 송수신/손실/늦음/재전송 개수, 이벤트 왕복 시간 (모든 연결의 NetChannel이 공유)
+ *
+ * 기록은 모두 lock-free(LongAdder, 원자적 배열)라 틱 스레드와 리스너 스레드에서 바로 호출합니다.
+ * JMX(org.example:type=ServerMetrics, org.example:type=Room,id=N)와
+ * 로컬 전용 텍스트 엔드포인트(http://127.0.0.1:포트/metrics, Prometheus 텍스트 형식)로 노출합니다.
+ */
+public class ServerMetrics implements ServerMetricsMXBean {
+
+    /**
+     * 방 틱 단계 (GameRoom.tick 순서)
+     */
+    public enum Phase {
+        INPUT,      // 메시지함 처리 (이동/스킬/공격 중계 포함)
+        SKILL,      // 스킬 피격 판정 + 피격 결과 묶음 전송
+        INTEREST,   // 관심 영역 갱신
+        MONSTER,    // 몬스터 스폰/AI/이동 (전송 제외)
+        BROADCAST,  // 몬스터 스냅샷/스폰/사망/공격 전송
+        FOG,        // fog 갱신/데미지/회복
+        DEATH       // 사망/우승 판정
+    }
+
+    /**
+     * 메시지 클래스 하나의 개수/바이트
+     */
+    static class MessageCounter {
+        final LongAdder messages = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+    }
+
+    /**
+     * 방 하나의 지표 (히스토그램은 틱 스레드가 기록, 게이지는 틱 끝에 갱신)
+     */
+    public static class RoomMetrics implements RoomMetricsMXBean {
+        final int roomId;
+        final LatencyHistogram tick = new LatencyHistogram();
+        final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+        volatile int monsterCount;
+        volatile int playerCount;
+        volatile int mailboxDepth;
+
+        RoomMetrics(int roomId) {
+            this.roomId = roomId;
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        public void recordPhase(Phase phase, long nanos) {
+            phases[phase.ordinal()].record(nanos);
+        }
+
+        public void recordTick(long nanos, int monsters, int players, int mailbox) {
+            tick.record(nanos);
+            monsterCount = monsters;
+            playerCount = players;
+            mailboxDepth = mailbox;
+        }
+
+        @Override public long getTickCount() { return tick.getCount(); }
+        @Override public double getTickP50Millis() { return tick.getPercentile(50) / 1e6; }
+        @Override public double getTickP99Millis() { return tick.getPercentile(99) / 1e6; }
+        @Override public double getTickMaxMillis() { return tick.getMax() / 1e6; }
+        @Override public int getMonsterCount() { return monsterCount; }
+        @Override public int getPlayerCount() { return playerCount; }
+        @Override public int getMailboxDepth() { return mailboxDepth; }
+
+        @Override
+        public Map<String, Double> getPhaseP99Millis() {
+            Map<String, Double> result = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                result.put(phase.name(), phases[phase.ordinal()].getPercentile(99) / 1e6);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 수신/송신 메시지를 클래스별로 세는 KryoNet 직렬화
+     * (직렬화 전후 버퍼 위치 차이 = 길이 헤더를 제외한 메시지 바이트)
+     */
+    public class MeteredSerialization extends KryoSerialization {
+        @Override
+        public synchronized Object read(Connection connection, ByteBuffer buffer) {
+            int start = buffer.position();
+            Object object = super.read(connection, buffer);
+            count(inbound, object, buffer.position() - start);
+            return object;
+        }
+
+        @Override
+        public synchronized void write(Connection connection, ByteBuffer buffer, Object object) {
+            int start = buffer.position();
+            super.write(connection, buffer, object);
+            count(outbound, object, buffer.position() - start);
+        }
+    }
+
+    private final Map<Class<?>, MessageCounter> inbound = new ConcurrentHashMap<>();
+    private final Map<Class<?>, MessageCounter> outbound = new ConcurrentHashMap<>();
+    private final Map<Integer, RoomMetrics> rooms = new ConcurrentHashMap<>();
+    private final NetChannel.Stats stateChannel = new NetChannel.Stats();
+    private final NetChannel.Stats eventChannel = new NetChannel.Stats();
+
+    // 현재 연결 목록 (Server::getConnections)
+    private Supplier<Connection[]> connections = () -> new Connection[0];
+    private HttpServer httpServer;
+
+    private static void count(Map<Class<?>, MessageCounter> counters, Object object, int bytes) {
+        if (object == null) {
+            return;
+        }
+        // 채널 봉투는 안의 메시지 클래스로 집계 (바이트에는 봉투 헤더 포함, 확인응답 전용은 ReliableMsg)
+        if (object instanceof SequencedMsg) {
+            object = ((SequencedMsg) object).payload;
+        } else if (object instanceof ReliableMsg && ((ReliableMsg) object).payload != null) {
+            object = ((ReliableMsg) object).payload;
+        }
+        MessageCounter counter = counters.computeIfAbsent(object.getClass(), k -> new MessageCounter());
+        counter.messages.increment();
+        counter.bytes.add(bytes);
+    }
+
+    public NetChannel.Stats getStateChannelStats() {
+        return stateChannel;
+    }
+
+    public NetChannel.Stats getEventChannelStats() {
+        return eventChannel;
+    }
+
+    @Override public long getStateChannelLost() { return stateChannel.getLost(); }
+    @Override public long getStateChannelLate() { return stateChannel.getLate(); }
+    @Override public long getEventChannelResent() { return eventChannel.getResent(); }
+    @Override public double getEventRttP99Millis() { return eventChannel.getRtt().getPercentile(99) / 1e6; }
+
+    public void setConnections(Supplier<Connection[]> connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * 방 지표를 만들고 JMX에 등록합니다.
+     */
+    public RoomMetrics registerRoom(int roomId) {
+        RoomMetrics room = new RoomMetrics(roomId);
+        rooms.put(roomId, room);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(room, roomObjectName(roomId));
+        } catch (Exception e) {
+            System.err.println("[Metrics] 방 " + roomId + " JMX 등록 실패: " + e);
+        }
+        return room;
+    }
+
+    /**
+     * 방 지표를 제거합니다. (방 삭제 시)
+     */
+    public void removeRoom(int roomId) {
+        if (rooms.remove(roomId) == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(roomObjectName(roomId));
+        } catch (Exception e) {
+            // 등록 실패했던 방
+        }
+    }
+
+    private static ObjectName roomObjectName(int roomId) throws Exception {
+        return new ObjectName("org.example:type=Room,id=" + roomId);
+    }
+
+    /**
+     * 서버 전체 지표를 JMX에 등록하고, port > 0이면 127.0.0.1에 텍스트 엔드포인트를 엽니다.
+     *
+     * @param port 텍스트 엔드포인트 포트 (0 이하면 열지 않음)
+     */
+    public void start(int port) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName("org.example:type=ServerMetrics"));
+        } catch (Exception e) {
+            System.err.println("[Metrics] JMX 등록 실패: " + e);
+        }
+
+        if (port <= 0) {
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext("/metrics", exchange -> {
+                byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            httpServer.start();
+            System.out.println("[Metrics] 지표 엔드포인트: http://127.0.0.1:" + port + "/metrics");
+        } catch (IOException e) {
+            System.err.println("[Metrics] 지표 엔드포인트 시작 실패 (포트 " + port + "): " + e.getMessage());
+        }
+    }
+
+    public void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+    }
+
+    // ===== JMX 서버 전체 지표 =====
+
+    @Override
+    public int getConnectionCount() {
+        return connections.get().length;
+    }
+
+    @Override
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    @Override public long getInboundMessages() { return sum(inbound, false); }
+    @Override public long getInboundBytes() { return sum(inbound, true); }
+    @Override public long getOutboundMessages() { return sum(outbound, false); }
+    @Override public long getOutboundBytes() { return sum(outbound, true); }
+
+    private static long sum(Map<Class<?>, MessageCounter> counters, boolean bytes) {
+        long total = 0;
+        for (MessageCounter counter : counters.values()) {
+            total += bytes ? counter.bytes.sum() : counter.messages.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 연결 중 TCP 쓰기 버퍼에 가장 많이 쌓인 바이트 수 (느린 클라이언트 감지용)
+     */
+    @Override
+    public int getMaxWriteBufferBytes() {
+        int max = 0;
+        for (Connection connection : connections.get()) {
+            max = Math.max(max, connection.getTcpWriteBufferSize());
+        }
+        return max;
+    }
+
+    /**
+     * 모든 지표를 Prometheus 텍스트 형식으로 출력합니다.
+     */
+    @Override
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        Connection[] current = connections.get();
+        long pending = 0;
+        int maxPending = 0;
+        for (Connection connection : current) {
+            int size = connection.getTcpWriteBufferSize();
+            pending += size;
+            maxPending = Math.max(maxPending, size);
+        }
+        out.append("# TYPE yugeup_connections gauge\n");
+        out.append("yugeup_connections ").append(current.length).append('\n');
+        out.append("# TYPE yugeup_write_buffer_bytes gauge\n");
+        out.append("yugeup_write_buffer_bytes{stat=\"total\"} ").append(pending).append('\n');
+        out.append("yugeup_write_buffer_bytes{stat=\"max\"} ").append(maxPending).append('\n');
+
+        appendMessages(out, "yugeup_inbound", inbound);
+        appendMessages(out, "yugeup_outbound", outbound);
+
+        out.append("# TYPE yugeup_channel_messages_total counter\n");
+        appendChannel(out, "state", stateChannel);
+        appendChannel(out, "event", eventChannel);
+        out.append("# TYPE yugeup_channel_rtt_seconds summary\n");
+        appendSummary(out, "yugeup_channel_rtt_seconds", "channel=\"event\"", eventChannel.getRtt());
+
+        out.append("# TYPE yugeup_room_tick_seconds summary\n");
+        out.append("# TYPE yugeup_room_phase_seconds summary\n");
+        out.append("# TYPE yugeup_room_monsters gauge\n");
+        out.append("# TYPE yugeup_room_players gauge\n");
+        out.append("# TYPE yugeup_room_mailbox_depth gauge\n");
+        for (RoomMetrics room : new TreeMap<>(rooms).values()) {
+            String label = "room=\"" + room.roomId + "\"";
+            appendSummary(out, "yugeup_room_tick_seconds", label, room.tick);
+            for (Phase phase : Phase.values()) {
+                appendSummary(out, "yugeup_room_phase_seconds",
+                    label + ",phase=\"" + phase.name().toLowerCase() + "\"", room.phases[phase.ordinal()]);
+            }
+            out.append("yugeup_room_monsters{").append(label).append("} ").append(room.monsterCount).append('\n');
+            out.append("yugeup_room_players{").append(label).append("} ").append(room.playerCount).append('\n');
+            out.append("yugeup_room_mailbox_depth{").append(label).append("} ").append(room.mailboxDepth).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void appendMessages(StringBuilder out, String prefix, Map<Class<?>, MessageCounter> counters) {
+        Map<String, MessageCounter> sorted = new TreeMap<>();
+        for (Map.Entry<Class<?>, MessageCounter> entry : counters.entrySet()) {
+            sorted.put(entry.getKey().getSimpleName(), entry.getValue());
+        }
+        out.append("# TYPE ").append(prefix).append("_messages_total counter\n");
+        for (Map.Entry<String, MessageCounter> entry : sorted.entrySet()) {
+            out.append(prefix).append("_messages_total{type=\"").append(entry.getKey()).append("\"} ")
+                .append(entry.getValue().messages.sum()).append('\n');
+        }
+        out.append("# TYPE ").append(prefix).append("_bytes_total counter\n");
+        for (Map.Entry<String, MessageCounter> entry : sorted.entrySet()) {
+            out.append(prefix).append("_bytes_total{type=\"").append(entry.getKey()).append("\"} ")
+                .append(entry.getValue().bytes.sum()).append('\n');
+        }
+    }
+
+    private static void appendChannel(StringBuilder out, String channel, NetChannel.Stats stats) {
+        String prefix = "yugeup_channel_messages_total{channel=\"" + channel + "\",kind=\"";
+        out.append(prefix).append("sent\"} ").append(stats.getSent()).append('\n');
+        out.append(prefix).append("received\"} ").append(stats.getReceived()).append('\n');
+        out.append(prefix).append("lost\"} ").append(stats.getLost()).append('\n');
+        out.append(prefix).append("late\"} ").append(stats.getLate()).append('\n');
+        out.append(prefix).append("resent\"} ").append(stats.getResent()).append('\n');
+    }
+
+    private static void appendSummary(StringBuilder out, String name, String labels, LatencyHistogram histogram) {
+        for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+            out.append(name).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                .append(seconds(histogram.getPercentile(quantile * 100))).append('\n');
+        }
+        out.append(name).append("_max{").append(labels).append("} ").append(seconds(histogram.getMax())).append('\n');
+        out.append(name).append("_count{").append(labels).append("} ").append(histogram.getCount()).append('\n');
+        out.append(name).append("_sum{").append(labels).append("} ")
+            .append(seconds(histogram.getTotal())).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1e9);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example;
+
+/**
+ * JMX 서버 전체 지표 (org.example:type=ServerMetrics)
+ */
+public interface ServerMetricsMXBean {
+    int getConnectionCount();
+    int getRoomCount();
+    long getInboundMessages();
+    long getInboundBytes();
+    long getOutboundMessages();
+    long getOutboundBytes();
+    int getMaxWriteBufferBytes();
+    long getStateChannelLost();
+    long getStateChannelLate();
+    long getEventChannelResent();
+    double getEventRttP99Millis();
+
+    /**
+     * 전체 지표 텍스트 (/metrics 엔드포인트와 같은 내용)
+     */
+    String scrape();
+}
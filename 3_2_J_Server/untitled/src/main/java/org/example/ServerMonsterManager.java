@@ -7,13 +7,31 @@ import java.util.*;
  * 게임 룸별로 몬스터를 관리하고 클라이언트로 동기화
  */
 public class ServerMonsterManager {
-    private Map<Integer, List<ServerMonster>> roomMonsters = new HashMap<>();
+    private Map<Integer, MonsterEngine> roomMonsters = new HashMap<>();   // 각 방별 몬스터 (구조체 배열)
     private Map<Integer, Float> roomSpawnTimers = new HashMap<>();  // 각 방별 스폰 타이머
+    private Map<Integer, float[]> roomSyncTimers = new HashMap<>();  // 각 방별 스냅샷 타이머
+    private Map<Integer, int[]> roomSnapshotSeq = new HashMap<>();   // 각 방별 스냅샷 번호
+    private Map<Integer, SpatialHash<Void>> roomPlayerIndex = new HashMap<>();            // 각 방별 플레이어 공간 인덱스
+    private static final float INDEX_CELL_SIZE = 128f;  // 공간 인덱스 셀 크기 (8타일)
+    private Map<Integer, FlowField> roomFlowFields = new HashMap<>();  // 각 방별 추적 흐름장
+    private static final float FLOW_RADIUS = 16f;   // 몬스터 충돌 반경 (MonsterEngine과 동일)
+    private static final int FLOW_MAX_STEPS = 64;   // 흐름장 탐색 범위 (타일, 최대 어그로 범위의 약 3배)
+    private static final float SYNC_INTERVAL = 0.15f;  // 150ms(3틱)마다 스냅샷 전송 (클라이언트가 서버 시각 기준으로 보간)
+    private static final int FULL_SNAPSHOT_EVERY = 14;  // 14번(약 2초)마다 전체 스냅샷
     private static final float SPAWN_INTERVAL = 0.5f;  // 0.5초마다 스폰 체크
-    private static final int MAX_MONSTERS_PER_ROOM = 50;  // 최대 50마리 유지
+    private static final float PLAYER_ZONE_SPAWN_WEIGHT = 3f;  // 플레이어 1명이 있는 구역의 추가 스폰 가중치
+    private Map<Integer, int[]> roomActiveFogMasks = new HashMap<>();  // 각 방별 활성 fog 비트마스크
+    private Map<Integer, PendingDamage> roomPendingDamage = new HashMap<>();  // 각 방별 이번 틱 피격 결과 (틱마다 묶어서 전송)
+    // 스폰 할당량 계산용 재사용 버퍼 (구역 ID별)
+    private final int[] zoneMonsterScratch = new int[CollisionMap.MAX_FOG_ZONES];
+    private final float[] zoneWeightScratch = new float[CollisionMap.MAX_FOG_ZONES];
+    // 최대 몬스터 수 유지 (기본 50마리, 부하 테스트 시 -Dmonsters.perRoom으로 조정, 피격 묶음 한도를 넘지 않음)
+    private static final int MAX_MONSTERS_PER_ROOM =
+        Math.min(Integer.getInteger("monsters.perRoom", 50), MonsterDamageBatchMsg.MAX_ENTRIES);
     private static final float MAP_WIDTH = 4000f;  // 전체 맵 너비
     private static final float MAP_HEIGHT = 4000f;  // 전체 맵 높이
     private int nextMonsterId = 1000;  // 몬스터 ID는 1000부터 시작 (플레이어 ID와 구분)
+    private Random random = new Random();  // 스폰 위치/타입 (벤치마크는 setRandomSeed로 고정)
 
     // NEW : 충돌 맵 추가
     private CollisionMap collisionMap;
@@ -26,9 +44,16 @@ public class ServerMonsterManager {
 
     private MessageCallback messageCallback;
 
-    // 플레이어 HP 관리 (roomId -> (playerId -> HP))
-    private Map<Integer, Map<Integer, Integer>> roomPlayerHp = new HashMap<>();
+    // 관심 영역 (null이면 방 전체에 전송)
+    private InterestGrid interestGrid;
+    // 스냅샷 작성용 재사용 버퍼 (몬스터별 변경 여부 / 관찰자별 가시성)
+    private boolean[] changedScratch = new boolean[MAX_MONSTERS_PER_ROOM];
+    private int[] visibilityScratch = new int[MAX_MONSTERS_PER_ROOM];
+
+    // 플레이어 상태 관리 (roomId -> 슬롯 기반 HP/생존/구역 테이블)
+    private Map<Integer, PlayerStateTable> roomPlayerStates = new HashMap<>();
     private static final int PLAYER_MAX_HP = 100;
+    private static final int DEFAULT_PLAYER_CAPACITY = 8;
 
     // NEW : 생성자에 CollisionMap 매개변수 추가
     public ServerMonsterManager(MessageCallback callback, CollisionMap collisionMap) {
@@ -36,6 +61,15 @@ public class ServerMonsterManager {
         this.collisionMap = collisionMap;
     }
 
+    /**
+     * 관심 영역을 설정합니다.
+     * 설정하면 스냅샷/공격/피격 묶음 메시지를 근처 플레이어에게만 전송합니다.
+     * 스폰/사망 메시지는 클라이언트가 전체 몬스터 목록을 유지하도록 계속 방 전체에 전송합니다.
+     */
+    public void setInterestGrid(InterestGrid interestGrid) {
+        this.interestGrid = interestGrid;
+    }
+
     // NEW : 클라이언트 GameMap.isWall()과 동일한 로직
     public boolean isWall(float x, float y) {
         if (collisionMap == null) {
@@ -56,41 +90,80 @@ public class ServerMonsterManager {
      * 룸의 몬스터 리스트 초기화
      */
     public void initializeRoom(int roomId) {
-        roomMonsters.put(roomId, new ArrayList<>());
+        initializeRoom(roomId, DEFAULT_PLAYER_CAPACITY);
+    }
+
+    /**
+     * 룸의 몬스터 리스트 초기화
+     * @param maxPlayers 방 최대 인원 (플레이어 상태 테이블 크기)
+     */
+    public void initializeRoom(int roomId, int maxPlayers) {
+        roomMonsters.put(roomId, new MonsterEngine(collisionMap, MAX_MONSTERS_PER_ROOM, new Random(random.nextLong())));
         roomSpawnTimers.put(roomId, 0.0f);  // 각 방의 스폰 타이머 초기화
-        roomPlayerHp.put(roomId, new HashMap<>());  // 플레이어 HP 맵 초기화
+        roomSyncTimers.put(roomId, new float[1]);
+        roomSnapshotSeq.put(roomId, new int[1]);
+        roomActiveFogMasks.put(roomId, new int[1]);
+        float mapWidth = (collisionMap != null) ? collisionMap.getMapWidth() : MAP_WIDTH;
+        float mapHeight = (collisionMap != null) ? collisionMap.getMapHeight() : MAP_HEIGHT;
+        roomPlayerIndex.put(roomId, new SpatialHash<>(mapWidth, mapHeight, INDEX_CELL_SIZE));
+        roomPlayerStates.put(roomId, new PlayerStateTable(Math.max(1, maxPlayers)));  // 플레이어 상태 테이블 초기화
+        if (collisionMap != null) {
+            roomFlowFields.put(roomId, new FlowField(collisionMap, FLOW_RADIUS, FLOW_MAX_STEPS));
+        }
         System.out.println("[ServerMonsterManager] 룸 " + roomId + " 몬스터 시스템 초기화됨");
     }
 
     /**
-     * 플레이어 HP 초기화 (게임 시작 시)
+     * 난수 시드를 고정합니다. (벤치마크/재현용, initializeRoom 전에 호출)
+     */
+    public void setRandomSeed(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * 활성 fog 구역 비트마스크를 설정합니다. (fog 활성화 시 호출)
+     * fog가 활성화된 구역에는 더 이상 몬스터를 스폰하지 않습니다.
      */
-    public void initializePlayerHp(int roomId, int playerId) {
-        Map<Integer, Integer> hpMap = roomPlayerHp.get(roomId);
-        if (hpMap != null) {
-            hpMap.put(playerId, PLAYER_MAX_HP);
-            //System.out.println("[ServerMonsterManager] 플레이어 " + playerId + " HP 초기화: " + PLAYER_MAX_HP);
+    public void setActiveFogMask(int roomId, int activeFogMask) {
+        int[] mask = roomActiveFogMasks.get(roomId);
+        if (mask != null) {
+            mask[0] = activeFogMask;
         }
     }
 
+    /**
+     * 플레이어 HP 초기화 (게임 시작 시)
+     * @return 배정된 슬롯 번호, 실패 시 -1
+     */
+    public int initializePlayerHp(int roomId, int playerId) {
+        PlayerStateTable states = roomPlayerStates.get(roomId);
+        return states != null ? states.assign(playerId, PLAYER_MAX_HP) : -1;
+    }
+
+    /**
+     * 룸의 플레이어 상태 테이블 반환 (틱 스레드에서 슬롯 번호로 직접 읽고 씀)
+     */
+    public PlayerStateTable getPlayerStates(int roomId) {
+        return roomPlayerStates.get(roomId);
+    }
+
     /**
      * 플레이어 HP 가져오기
      */
     public int getPlayerHp(int roomId, int playerId) {
-        Map<Integer, Integer> hpMap = roomPlayerHp.get(roomId);
-        if (hpMap != null && hpMap.containsKey(playerId)) {
-            return hpMap.get(playerId);
-        }
-        return PLAYER_MAX_HP;
+        PlayerStateTable states = roomPlayerStates.get(roomId);
+        int slot = states != null ? states.slotOf(playerId) : -1;
+        return slot >= 0 ? states.getHp(slot) : PLAYER_MAX_HP;
     }
 
     /**
      * 플레이어 HP 설정
      */
     public void setPlayerHp(int roomId, int playerId, int hp) {
-        Map<Integer, Integer> hpMap = roomPlayerHp.get(roomId);
-        if (hpMap != null) {
-            hpMap.put(playerId, Math.max(0, Math.min(hp, PLAYER_MAX_HP)));
+        PlayerStateTable states = roomPlayerStates.get(roomId);
+        int slot = states != null ? states.slotOf(playerId) : -1;
+        if (slot >= 0) {
+            states.setHp(slot, hp);
         }
     }
 
@@ -100,19 +173,70 @@ public class ServerMonsterManager {
     public void cleanupRoom(int roomId) {
         roomMonsters.remove(roomId);
         roomSpawnTimers.remove(roomId);
-        roomPlayerHp.remove(roomId);
+        roomSyncTimers.remove(roomId);
+        roomSnapshotSeq.remove(roomId);
+        roomActiveFogMasks.remove(roomId);
+        roomPendingDamage.remove(roomId);
+        roomPlayerIndex.remove(roomId);
+        roomFlowFields.remove(roomId);
+        roomPlayerStates.remove(roomId);
+    }
+
+    /**
+     * 플레이어 위치 갱신 (이동 메시지 처리 시 호출)
+     */
+    public void updatePlayerPosition(int roomId, int playerId, float x, float y) {
+        SpatialHash<Void> players = roomPlayerIndex.get(roomId);
+        if (players != null) {
+            players.put(playerId, x, y, null);
+        }
+        FlowField flowField = roomFlowFields.get(roomId);
+        if (flowField != null) {
+            flowField.setSource(playerId, x, y);
+        }
+    }
+
+    /**
+     * 플레이어 위치 제거 (퇴장 시)
+     */
+    public void removePlayerPosition(int roomId, int playerId) {
+        SpatialHash<Void> players = roomPlayerIndex.get(roomId);
+        if (players != null) {
+            players.remove(playerId);
+        }
+        FlowField flowField = roomFlowFields.get(roomId);
+        if (flowField != null) {
+            flowField.removeSource(playerId);
+        }
+    }
+
+    /**
+     * 룸의 몬스터 저장소 반환 (틱 스레드에서 슬롯 인덱스로 직접 읽음)
+     * @return 몬스터 저장소, 없으면 null
+     */
+    public MonsterEngine getMonsters(int roomId) {
+        return roomMonsters.get(roomId);
+    }
+
+    /**
+     * 반경 안의 몬스터 슬롯 인덱스를 out에 채웁니다.
+     * @return 찾은 개수
+     */
+    public int findMonstersInRadius(int roomId, float x, float y, float radius, int[] out) {
+        MonsterEngine monsters = roomMonsters.get(roomId);
+        return monsters != null ? monsters.queryRadius(x, y, radius, out) : 0;
     }
 
     /**
      * 매 프레임 업데이트 (메인 게임 루프에서 호출)
      * @param delta 프레임 시간 (초)
      * @param roomId 업데이트할 룸 ID
-     * @param activePlayers 룸의 활성 플레이어들 (AI 판정용)
-     * @param playerPositions 플레이어 위치 맵 (key: playerId, value: [x, y])
      */
-    public void update(float delta, int roomId, List<Integer> activePlayers, Map<Integer, float[]> playerPositions) {
-        List<ServerMonster> monsters = roomMonsters.get(roomId);
-        if (monsters == null) {
+    public void update(float delta, int roomId) {
+        MonsterEngine monsters = roomMonsters.get(roomId);
+        SpatialHash<Void> players = roomPlayerIndex.get(roomId);
+        PlayerStateTable states = roomPlayerStates.get(roomId);
+        if (monsters == null || players == null || states == null) {
             System.err.println("[ServerMonsterManager] 룸 " + roomId + " 찾을 수 없음!");
             return;
         }
@@ -130,9 +254,7 @@ public class ServerMonsterManager {
                 int spawnCount = Math.min(monstersToSpawn, 5);
                 //System.out.println("[몬스터 스폰] 룸 " + roomId + ": " + spawnCount + "마리 스폰 시도 (현재: " + monsters.size() + "/" + MAX_MONSTERS_PER_ROOM + ")");
 
-                for (int i = 0; i < spawnCount; i++) {
-                    spawnMonster(roomId, activePlayers);
-                }
+                spawnMonsters(roomId, spawnCount, monsters, players, states);
             } else {
                 // 50마리 다 찼을 때는 로그 출력 안 함 (너무 많음)
             }
@@ -141,226 +263,374 @@ public class ServerMonsterManager {
 
         roomSpawnTimers.put(roomId, spawnTimer);
 
-        // NEW : 모든 몬스터 업데이트 (플레이어 위치 + 충돌 맵 전달)
-        Iterator<ServerMonster> iterator = monsters.iterator();
-        while (iterator.hasNext()) {
-            ServerMonster monster = iterator.next();
-            monster.update(delta, activePlayers, playerPositions, this);  // NEW : this(ServerMonsterManager) 전달
+        // 모든 몬스터 AI/이동 (플레이어 공간 인덱스 + 흐름장 + 충돌 맵 사용)
+        monsters.simulate(delta, players, roomFlowFields.get(roomId));
 
+        int i = 0;
+        while (i < monsters.size()) {
             // ===== 몬스터 → 플레이어 공격 처리 (PHASE_25) =====
-            if (monster.canAttackNow()) {
-                Integer targetId = monster.getTargetPlayerId();
-                if (targetId != null) {
-                    // fog 구역 검증: 플레이어가 건물(fog 구역) 안에 있을 때만 공격
-                    float[] targetPos = playerPositions.get(targetId);
-                    if (targetPos != null && collisionMap != null) {
-                        String targetZone = collisionMap.getFogZoneAt(targetPos[0], targetPos[1]);
-                        if (targetZone == null) {
-                            // 플레이어가 fog 구역 밖에 있으면 공격하지 않음
-                            continue;
-                        }
-                    }
+            if (monsters.canAttackNow(i)) {
+                attackTarget(roomId, monsters, i, states);
+            }
+
+            // 죽은 몬스터 처리
+            if (!monsters.isAlive(i)) {
+                // 아이템 드롭 위치 전송
+                sendMonsterDeath(roomId, monsters, i);
+                if (interestGrid != null) {
+                    interestGrid.forgetMonster(monsters.getId(i));
+                }
+                // 마지막 몬스터가 i로 옮겨지므로 인덱스를 증가시키지 않음
+                monsters.removeAt(i);
+                continue;
+            }
+            i++;
+        }
 
-                    int damage = monster.getAttackDamage();
-                    int currentHp = getPlayerHp(roomId, targetId);
-                    int newHp = Math.max(0, currentHp - damage);
-                    setPlayerHp(roomId, targetId, newHp);
+        // 위치/상태 동기화 (100ms마다 방 단위 스냅샷 1개)
+        float[] syncTimer = roomSyncTimers.get(roomId);
+        if (syncTimer != null) {
+            syncTimer[0] += delta;
+            if (syncTimer[0] >= SYNC_INTERVAL) {
+                syncTimer[0] = 0f;
+                sendMonsterSnapshot(roomId, monsters);
+            }
+        }
+    }
 
-                    // 공격 메시지 전송
-                    MonsterAttackPlayerMsg attackMsg = new MonsterAttackPlayerMsg(
-                        monster.id, targetId, damage, newHp, PLAYER_MAX_HP
-                    );
-                    messageCallback.broadcast(roomId, attackMsg);
+    /**
+     * 몬스터가 타겟 플레이어를 공격합니다.
+     */
+    private void attackTarget(int roomId, MonsterEngine monsters, int i, PlayerStateTable states) {
+        int targetId = monsters.getTargetPlayerId(i);
+        int targetSlot = targetId >= 0 ? states.slotOf(targetId) : -1;
+        if (targetSlot < 0) {
+            return;
+        }
 
-                    //System.out.println("[몬스터 공격] " + monster.getType() + "(ID:" + monster.id +
-                    //    ") → 플레이어 " + targetId + " (데미지: " + damage + ", HP: " + newHp + "/" + PLAYER_MAX_HP + ")");
-                }
+        // fog 구역 검증: 플레이어가 건물(fog 구역) 안에 있을 때만 공격
+        // (구역은 이동 처리 시 상태 테이블에 기록됨)
+        if (collisionMap != null && states.getZone(targetSlot) == PlayerStateTable.NO_ZONE) {
+            return;
+        }
+
+        int damage = monsters.getAttackDamage(i);
+        int newHp = states.damage(targetSlot, damage, System.currentTimeMillis());
+
+        // 공격 메시지 전송
+        MonsterAttackPlayerMsg attackMsg = new MonsterAttackPlayerMsg(
+            monsters.getId(i), targetId, damage, newHp, states.getMaxHp(targetSlot)
+        );
+        broadcastNear(roomId, monsters.getX(i), monsters.getY(i), attackMsg);
+    }
+
+    /**
+     * 구역별 할당량에 맞춰 몬스터를 스폰합니다.
+     * fog 구역(건물 내부)의 미리 계산된 스폰 후보 타일 중 하나를 골라 잔디/외부에 스폰되지 않도록 합니다.
+     *
+     * 구역마다 가중치(기본 1 + 구역 안 생존 플레이어 수 * PLAYER_ZONE_SPAWN_WEIGHT)를 매겨
+     * 방 최대 몬스터 수를 나눈 할당량을 정하고, 할당량 대비 가장 부족한 구역에 스폰합니다.
+     * fog가 활성화된 구역은 제외합니다. (모든 구역이 활성화되면 전체 구역 균등)
+     */
+    private void spawnMonsters(int roomId, int spawnCount, MonsterEngine monsters,
+                               SpatialHash<Void> players, PlayerStateTable states) {
+        if (players.size() == 0 || collisionMap == null) return;
+
+        int zoneCount = Math.min(collisionMap.getFogZoneCount(), CollisionMap.MAX_FOG_ZONES);
+        int[] activeMask = roomActiveFogMasks.get(roomId);
+        int activeFogMask = activeMask != null ? activeMask[0] : 0;
+
+        // 구역별 가중치 (스폰 후보가 있고 fog가 활성화되지 않은 구역만)
+        float totalWeight = 0f;
+        for (int pass = 0; pass < 2 && totalWeight == 0f; pass++) {
+            for (byte z = 0; z < zoneCount; z++) {
+                boolean fogged = pass == 0 && (activeFogMask & CollisionMap.zoneBit(z)) != 0;
+                zoneWeightScratch[z] = (fogged || collisionMap.getSpawnTileCount(z) == 0) ? 0f : 1f;
+                totalWeight += zoneWeightScratch[z];
             }
+        }
+        if (totalWeight == 0f) {
+            return;  // 스폰 후보 타일 없음
+        }
+        for (int slot = 0; slot < states.size(); slot++) {
+            byte zone = states.getZone(slot);
+            if (states.isAlive(slot) && zone >= 0 && zone < zoneCount && zoneWeightScratch[zone] > 0f) {
+                zoneWeightScratch[zone] += PLAYER_ZONE_SPAWN_WEIGHT;
+                totalWeight += PLAYER_ZONE_SPAWN_WEIGHT;
+            }
+        }
 
-            // 위치 동기화 (100ms마다)
-            if (monster.shouldSyncPosition()) {
-                sendMonsterUpdate(roomId, monster);
+        // 구역별 현재 몬스터 수
+        Arrays.fill(zoneMonsterScratch, 0, zoneCount, 0);
+        for (int i = 0; i < monsters.size(); i++) {
+            byte zone = collisionMap.getFogZoneIdAt(monsters.getX(i), monsters.getY(i));
+            if (zone >= 0 && zone < zoneCount) {
+                zoneMonsterScratch[zone]++;
             }
+        }
 
-            // 죽은 몬스터 처리
-            if (!monster.isAlive()) {
-                //System.out.println("[몬스터 사망] 룸 " + roomId + ": ID=" + monster.id + " 타입=" + monster.getType() + " (남은 몬스터: " + (monsters.size() - 1) + "마리)");
-                // 아이템 드롭 위치 전송
-                sendMonsterDeath(roomId, monster);
-                iterator.remove();
+        for (int n = 0; n < spawnCount; n++) {
+            // 할당량 대비 가장 부족한 구역
+            byte bestZone = CollisionMap.NO_ZONE;
+            float bestDeficit = -Float.MAX_VALUE;
+            for (byte z = 0; z < zoneCount; z++) {
+                if (zoneWeightScratch[z] == 0f) continue;
+                float deficit = MAX_MONSTERS_PER_ROOM * zoneWeightScratch[z] / totalWeight - zoneMonsterScratch[z];
+                if (deficit > bestDeficit) {
+                    bestDeficit = deficit;
+                    bestZone = z;
+                }
             }
+
+            int tile = collisionMap.getSpawnTile(bestZone,
+                random.nextInt(collisionMap.getSpawnTileCount(bestZone)));
+            float x = collisionMap.getTileCenterX(tile);
+            float y = collisionMap.getTileCenterY(tile);
+            zoneMonsterScratch[bestZone]++;
+
+            int index = monsters.spawn(nextMonsterId++, monsters.randomType(), x, y);
+            sendMonsterSpawn(roomId, monsters, index);
         }
     }
 
     /**
-     * 랜덤 몬스터 스폰
-     * fog 구역(건물 내부) 안에서만 스폰하여 잔디/외부에 스폰되지 않도록 합니다.
+     * 몬스터 스폰 메시지 전송
      */
-    private void spawnMonster(int roomId, List<Integer> activePlayers) {
-        if (activePlayers.isEmpty()) return;
-
-        // 실제 맵 크기 가져오기 (CollisionMap에서)
-        float actualMapWidth = (collisionMap != null) ? collisionMap.getMapWidth() : MAP_WIDTH;
-        float actualMapHeight = (collisionMap != null) ? collisionMap.getMapHeight() : MAP_HEIGHT;
-
-        // 벽이 아닌 위치를 찾을 때까지 반복 (최대 50번 시도)
-        float x = 0, y = 0;
-        boolean validPosition = false;
-        int attempts = 0;
-
-        while (!validPosition && attempts < 50) {
-            // 실제 맵 범위에서 랜덤 스폰 (맵 가장자리 100픽셀 제외)
-            float margin = 100f;
-            x = margin + (float)(Math.random() * (actualMapWidth - margin * 2));
-            y = margin + (float)(Math.random() * (actualMapHeight - margin * 2));
-
-            // 중앙에서 멀리 떨어진 곳만 스폰 (시작 위치 보호)
-            float centerX = actualMapWidth / 2f;
-            float centerY = actualMapHeight / 2f;
-            float distance = (float)Math.sqrt((x - centerX) * (x - centerX) + (y - centerY) * (y - centerY));
-
-            // 조건: 중앙 보호 + 벽이 아닌 곳 + fog 구역 내부(건물 내부)
-            boolean notNearCenter = distance >= 400f;
-            boolean notWall = !isWallInArea(x, y, 32f);
-            boolean insideBuilding = (collisionMap != null && collisionMap.isInsideAnyFogZone(x, y));
-
-            if (notNearCenter && notWall && insideBuilding) {
-                validPosition = true;
-            }
+    private void sendMonsterSpawn(int roomId, MonsterEngine monsters, int index) {
+        MonsterSpawnMsg msg = new MonsterSpawnMsg();
+        msg.monsterId = monsters.getId(index);
+        msg.x = monsters.getX(index);
+        msg.y = monsters.getY(index);
+        msg.monsterType = monsters.getTypeName(index);
+        msg.elementType = "";
+
+        messageCallback.broadcast(roomId, msg);
+    }
 
-            attempts++;
+    /**
+     * 몬스터 스냅샷 전송
+     * 직전 스냅샷 이후 변경된 몬스터만 담아 전송합니다.
+     * 스냅샷은 UDP 상태 채널(NetChannel)로 가므로 중간 것이 빠지거나 늦으면 버려집니다.
+     * 변경된 몬스터는 이후 몇 번 더 포함하고(MonsterEngine 반복 전송),
+     * 주기적으로 전체 스냅샷을 보내 클라이언트 상태 어긋남을 복구합니다.
+     *
+     * 관심 영역이 설정되어 있으면 관찰자마다 보이는 몬스터만 담아 따로 전송하고,
+     * 새로 보이기 시작한 몬스터는 변경 여부와 관계없이 포함합니다.
+     */
+    private void sendMonsterSnapshot(int roomId, MonsterEngine monsters) {
+        int[] seq = roomSnapshotSeq.get(roomId);
+        int sequence = ++seq[0];
+        boolean full = (sequence % FULL_SNAPSHOT_EVERY == 0);
+
+        int size = monsters.size();
+        if (changedScratch.length < size) {
+            changedScratch = new boolean[size];
+            visibilityScratch = new int[size];
         }
 
-        // 유효한 위치를 못 찾으면 스폰 포기
-        if (!validPosition) {
-            //System.err.println("[몬스터 스폰] 룸 " + roomId + ": 유효한 스폰 위치를 찾지 못함 (50번 시도 실패)");
-            return;
+        int changed = 0;
+        for (int i = 0; i < size; i++) {
+            changedScratch[i] = full || monsters.hasChangedSinceSync(i);
+            if (changedScratch[i]) {
+                changed++;
+            }
         }
 
-        ServerMonster monster = createRandomMonster(nextMonsterId++, x, y);
-        if (monster != null) {
-            List<ServerMonster> monsters = roomMonsters.get(roomId);
-            if (monsters != null) {
-                monsters.add(monster);
-                sendMonsterSpawn(roomId, monster);
+        if (interestGrid == null || !interestGrid.hasViewers()) {
+            if (changed > 0) {
+                messageCallback.broadcast(roomId, buildSnapshot(monsters, sequence, full, changed, null));
+            }
+        } else {
+            for (int viewerId : interestGrid.viewerIds()) {
+                int count = 0;
+                for (int i = 0; i < size; i++) {
+                    int visibility = interestGrid.checkMonster(viewerId, monsters.getId(i), monsters.getX(i), monsters.getY(i));
+                    // 새로 보인 몬스터는 전체 상태, 계속 보이는 몬스터는 변경 시에만
+                    if (visibility == InterestGrid.VISIBLE && !changedScratch[i]) {
+                        visibility = InterestGrid.HIDDEN;
+                    }
+                    visibilityScratch[i] = visibility;
+                    if (visibility != InterestGrid.HIDDEN) {
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    messageCallback.sendToPlayer(viewerId,
+                        buildSnapshot(monsters, sequence, full, count, visibilityScratch));
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (changedScratch[i]) {
+                monsters.markSynced(i);
             }
         }
     }
 
     /**
-     * 랜덤 몬스터 타입 생성
+     * 스냅샷 메시지를 만듭니다.
+     * @param include 관찰자별 포함 여부 (HIDDEN이 아니면 포함), null이면 변경된 몬스터 전부
      */
-    private ServerMonster createRandomMonster(int id, float x, float y) {
-        int typeRoll = (int)(Math.random() * 3);
-
-        switch (typeRoll) {
-            case 0:  // Ghost
-                return new ServerMonster.Ghost(id, x, y);
-            case 1:  // Bat
-                return new ServerMonster.Bat(id, x, y);
-            case 2:  // Golem
-                return new ServerMonster.Golem(id, x, y);
-            default:
-                return new ServerMonster.Ghost(id, x, y);
+    private MonsterSnapshotMsg buildSnapshot(MonsterEngine monsters, int sequence, boolean full,
+                                             int count, int[] include) {
+        MonsterSnapshotMsg msg = new MonsterSnapshotMsg(count);
+        msg.sequence = sequence;
+        msg.full = full;
+        msg.serverTime = RoomScheduler.serverTimeMillis();
+
+        int index = 0;
+        for (int i = 0; i < monsters.size(); i++) {
+            boolean included = include != null ? include[i] != InterestGrid.HIDDEN : changedScratch[i];
+            if (included) {
+                monsters.writeSnapshot(i, msg, index++);
+            }
         }
+        return msg;
     }
 
     /**
-     * 몬스터 스폰 메시지 전송
+     * 위치 근처의 플레이어에게만 메시지를 전송합니다. (관심 영역 없으면 방 전체)
      */
-    private void sendMonsterSpawn(int roomId, ServerMonster monster) {
-        MonsterSpawnMsg msg = new MonsterSpawnMsg();
-        msg.monsterId = monster.id;
-        msg.x = monster.x;
-        msg.y = monster.y;
-        msg.monsterType = monster.getType();
-        msg.elementType = monster.getElementType();
-
-        //System.out.println("[서버] 몬스터 스폰 메시지 전송 - ID: " + monster.id + ", 타입: " + monster.getType() +
-        //    ", 위치: (" + monster.x + "," + monster.y + ")");
-        messageCallback.broadcast(roomId, msg);
+    private void broadcastNear(int roomId, float x, float y, Object message) {
+        if (interestGrid == null || !interestGrid.hasViewers()) {
+            messageCallback.broadcast(roomId, message);
+            return;
+        }
+        for (int viewerId : interestGrid.viewerIds()) {
+            if (interestGrid.isNear(viewerId, x, y)) {
+                messageCallback.sendToPlayer(viewerId, message);
+            }
+        }
     }
 
     /**
-     * 몬스터 위치/상태 업데이트 메시지 전송
+     * 몬스터 사망 메시지 전송
      */
-    private void sendMonsterUpdate(int roomId, ServerMonster monster) {
-        MonsterUpdateMsg msg = new MonsterUpdateMsg();
-        msg.monsterId = monster.id;
-        msg.x = monster.x;
-        msg.y = monster.y;
-        msg.vx = monster.vx;
-        msg.vy = monster.vy;
-        msg.hp = monster.hp;
-        msg.maxHp = monster.maxHp;
-        msg.state = monster.getState();
+    private void sendMonsterDeath(int roomId, MonsterEngine monsters, int index) {
+        MonsterDeathMsg msg = new MonsterDeathMsg();
+        msg.monsterId = monsters.getId(index);
+        msg.dropX = monsters.getX(index);
+        msg.dropY = monsters.getY(index);
+        msg.killerId = monsters.getLastAttackerId(index);  // 막타친 플레이어 ID
 
         messageCallback.broadcast(roomId, msg);
-        monster.markSynced();
     }
 
     /**
-     * 몬스터 사망 메시지 전송
+     * 슬롯 인덱스로 몬스터에 피해를 주고 이번 틱 피격 묶음에 기록합니다. (서버 피격 판정에서 호출)
+     * 이미 죽은 몬스터는 무시합니다.
      */
-    private void sendMonsterDeath(int roomId, ServerMonster monster) {
-        MonsterDeathMsg msg = new MonsterDeathMsg();
-        msg.monsterId = monster.id;
-        msg.dropX = monster.x;
-        msg.dropY = monster.y;
-        msg.killerId = monster.getLastAttackerId();  // 막타친 플레이어 ID
+    public void applyDamage(int roomId, int index, int damage, int attackerId) {
+        MonsterEngine monsters = roomMonsters.get(roomId);
+        if (monsters == null || !monsters.isAlive(index)) return;
 
-        //System.out.println("[몬스터 사망] 룸 " + roomId + ": 몬스터 ID=" + monster.id +
-        //    ", 타입=" + monster.getType() + ", killerId=" + msg.killerId + " (lastAttackerId=" + monster.getLastAttackerId() + ")");
+        // 데미지 적용 (attackerId 전달)
+        monsters.damage(index, damage, attackerId);
 
-        messageCallback.broadcast(roomId, msg);
+        PendingDamage pending = roomPendingDamage.computeIfAbsent(roomId, id -> new PendingDamage());
+        pending.add(monsters.getId(index), monsters.getHp(index), damage, attackerId,
+            monsters.getX(index), monsters.getY(index));
     }
 
     /**
-     * 몬스터 피해 처리 (스킬 맞았을 때 서버에서 호출)
-     * @param roomId 룸 ID
-     * @param monsterId 몬스터 ID
-     * @param damage 데미지
-     * @param attackerId 공격자 ID
+     * 이번 틱에 모인 피격 결과를 전송합니다. (틱마다 사망 처리 전에 호출)
+     * 관심 영역이 있으면 관찰자마다 근처 피격만 담아 하나씩, 없으면 방 전체에 하나를 보냅니다.
      */
-    public void damageMonster(int roomId, int monsterId, int damage, int attackerId) {
-        List<ServerMonster> monsters = roomMonsters.get(roomId);
-        if (monsters == null) return;
-
-        for (ServerMonster monster : monsters) {
-            if (monster.id == monsterId) {
-                // 데미지 적용 (attackerId 전달)
-                monster.takeDamage(damage, attackerId);
-
-                // 데미지 결과를 모든 클라이언트에게 브로드캐스트
-                MonsterDamageMsg damageMsg = new MonsterDamageMsg();
-                damageMsg.monsterId = monster.id;
-                damageMsg.newHp = monster.hp;
-                damageMsg.damageAmount = damage;
-                damageMsg.attackerId = attackerId;
-
-                messageCallback.broadcast(roomId, damageMsg);
-
-                //System.out.println("[ServerMonsterManager] 몬스터 피격: ID=" + monster.id +
-                //    ", 데미지=" + damage + ", 공격자 ID=" + attackerId +
-                //    ", 남은 HP=" + monster.hp + "/" + monster.maxHp + ", lastAttackerId=" + monster.getLastAttackerId());
-                break;
+    public void flushDamage(int roomId) {
+        PendingDamage pending = roomPendingDamage.get(roomId);
+        if (pending == null || pending.count == 0) {
+            return;
+        }
+
+        if (interestGrid == null || !interestGrid.hasViewers()) {
+            messageCallback.broadcast(roomId, pending.build(null, pending.count));
+        } else {
+            for (int viewerId : interestGrid.viewerIds()) {
+                int count = 0;
+                for (int i = 0; i < pending.count; i++) {
+                    pending.near[i] = interestGrid.isNear(viewerId, pending.xs[i], pending.ys[i]);
+                    if (pending.near[i]) {
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    messageCallback.sendToPlayer(viewerId, pending.build(pending.near, count));
+                }
             }
         }
+        pending.clear();
     }
 
     /**
-     * 룸의 활성 몬스터 개수 반환
+     * 한 틱 동안의 몬스터 피격 결과 (같은 몬스터는 한 항목으로 합침)
      */
-    public int getMonsterCount(int roomId) {
-        List<ServerMonster> monsters = roomMonsters.get(roomId);
-        return monsters != null ? monsters.size() : 0;
+    private static final class PendingDamage {
+        private final IntIntMap indexById = new IntIntMap(32);
+        int count;
+        int[] ids = new int[32];
+        int[] hps = new int[32];
+        int[] damages = new int[32];
+        int[] attackers = new int[32];
+        float[] xs = new float[32];
+        float[] ys = new float[32];
+        boolean[] near = new boolean[32];
+
+        void add(int monsterId, int hp, int damage, int attackerId, float x, float y) {
+            int i = indexById.get(monsterId, -1);
+            if (i < 0) {
+                if (count == ids.length) {
+                    grow();
+                }
+                i = count++;
+                indexById.put(monsterId, i);
+                ids[i] = monsterId;
+                damages[i] = 0;
+            }
+            hps[i] = hp;
+            damages[i] += damage;
+            attackers[i] = attackerId;
+            xs[i] = x;
+            ys[i] = y;
+        }
+
+        MonsterDamageBatchMsg build(boolean[] include, int size) {
+            MonsterDamageBatchMsg msg = new MonsterDamageBatchMsg(size);
+            int index = 0;
+            for (int i = 0; i < count; i++) {
+                if (include == null || include[i]) {
+                    msg.monsterIds[index] = ids[i];
+                    msg.newHp[index] = hps[i];
+                    msg.damage[index] = damages[i];
+                    msg.attackerIds[index] = attackers[i];
+                    index++;
+                }
+            }
+            return msg;
+        }
+
+        void clear() {
+            indexById.clear();
+            count = 0;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            hps = Arrays.copyOf(hps, capacity);
+            damages = Arrays.copyOf(damages, capacity);
+            attackers = Arrays.copyOf(attackers, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            near = Arrays.copyOf(near, capacity);
+        }
     }
 
     /**
-     * 룸의 모든 활성 몬스터 반환
+     * 룸의 활성 몬스터 개수 반환
      */
-    public List<ServerMonster> getAllMonsters(int roomId) {
-        List<ServerMonster> monsters = roomMonsters.get(roomId);
-        return monsters != null ? new java.util.ArrayList<>(monsters) : new java.util.ArrayList<>();
+    public int getMonsterCount(int roomId) {
+        MonsterEngine monsters = roomMonsters.get(roomId);
+        return monsters != null ? monsters.size() : 0;
     }
 }
@@ -0,0 +1,25 @@
+// 서버 - org.example.ServerProbeMsg.java
+package org.example;
+
+/**
+ * 서버 상태 측정용 메시지 (부하 테스트 봇 LoadBot 전용)
+ *
+ * 클라이언트가 보내면 서버가 같은 객체에 방 틱 통계를 채워 TCP로 돌려줍니다.
+ * 게임 중인 방이면 방 메시지함을 거쳐 틱 스레드에서 응답하므로,
+ * 왕복 시간에 입력 메시지가 실제로 처리되기까지의 대기 시간이 포함됩니다.
+ */
+public class ServerProbeMsg {
+    // 클라이언트 → 서버 (그대로 돌려받음)
+    public int sequence;          // 측정 번호
+    public long clientNanos;      // 전송 시각 (클라이언트 System.nanoTime)
+
+    // 서버 → 클라이언트
+    public int roomId;            // 방 ID (방에 없으면 -1)
+    public int tickCount;         // 방 누적 틱 수
+    public int overrunCount;      // 방 누적 틱 초과 횟수
+    public float lastTickMillis;  // 최근 틱 소요 시간
+    public float maxTickMillis;   // 최대 틱 소요 시간
+    public int scheduledRooms;    // 서버 전체에서 틱 중인 방 개수
+
+    public ServerProbeMsg() {}
+}
@@ -0,0 +1,300 @@
+// 서버 - org.example.SkillHitSimulator.java
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스킬 피격 판정 (방 단위, 틱 스레드 전용)
+ *
+ * 클라이언트가 보낸 SkillCastMsg의 피격 규칙(hitRadius, hitInterval, hitDelay, maxHits)으로
+ * 투사체/존을 서버에서 직접 움직이고, MonsterEngine 반경 검색으로 몬스터 피격을 판정합니다.
+ * 클라이언트는 몬스터마다 PlayerAttackMonsterMsg를 보내지 않고, 피해 결과는
+ * ServerMonsterManager가 틱마다 MonsterDamageBatchMsg 하나로 모아 보냅니다.
+ *
+ * - 시전 위치는 서버가 아는 플레이어 위치 기준으로 검증 (너무 멀면 서버 위치에서 시전)
+ * - 데미지/반경/속도/수명은 한도로 자름
+ * - 빠른 투사체가 몬스터를 건너뛰지 않도록 한 틱 이동을 반경 단위로 나누어 검사
+ * - PVP 피격은 판정하지 않음 (클라이언트가 계속 PlayerAttackPlayerMsg로 보고)
+ */
+public class SkillHitSimulator {
+    // SkillCastMsg.skillType (클라이언트 ElementalSkill.SKILL_TYPE_*)
+    static final int TYPE_PROJECTILE = 0;
+    static final int TYPE_ZONE_FIXED = 1;
+    static final int TYPE_ZONE_MOVING = 2;
+    static final int TYPE_ZONE_PLAYER_FOLLOW = 3;
+    static final int TYPE_PROJECTILE_MULTI = 4;
+
+    // 검증 한도
+    static final float MAX_CASTER_OFFSET = 200f;   // 서버 위치와 시전 위치 차이 (지연 + 예측 오차)
+    static final float MAX_CAST_RANGE = 600f;      // 고정 존을 놓을 수 있는 거리 (화면 크기)
+    static final int MAX_HIT_DAMAGE = 1000;
+    static final float MAX_HIT_RADIUS = 160f;
+    static final float MAX_SPEED = 600f;
+    static final float MAX_LIFETIME = 10f;
+    static final float MIN_HIT_INTERVAL = 0.1f;    // 재피격 간격 하한 (틱 2번)
+    static final int MAX_PROJECTILES_PER_CAST = 8;
+    static final int MAX_ACTIVE = 256;             // 방 전체 동시 판정 수
+
+    private static final int QUERY_CAPACITY = 64;
+
+    /**
+     * 판정 중인 투사체/존 하나
+     */
+    static final class ActiveSkill {
+        int ownerId;
+        int damage;
+        float x, y;
+        float vx, vy;
+        float radiusX, radiusY;   // 같으면 원, 다르면 축 정렬 타원
+        float age;
+        float lifetime;
+        float delay;
+        float interval;           // > 0 재피격 간격, 0 대상마다 한 번, < 0 지연 시점에 한 번만 판정
+        int hitsLeft;             // 남은 피격 수 (0이 되면 소멸, 무제한이면 Integer.MAX_VALUE)
+        boolean followOwner;
+        boolean burstDone;
+        // 몬스터 ID → 마지막 피격 시각 (age, ms)
+        final IntIntMap lastHitMillis = new IntIntMap(16);
+    }
+
+    /**
+     * 피격 결과를 받는 쪽 (ServerMonsterManager.applyDamage)
+     */
+    public interface HitSink {
+        void hit(int monsterIndex, int damage, int attackerId);
+    }
+
+    private final List<ActiveSkill> active = new ArrayList<>();
+    private final int[] queryScratch = new int[QUERY_CAPACITY];
+
+    /**
+     * 시전 메시지로 판정할 투사체/존을 만듭니다.
+     * 피격 반경이 없으면(hitRadius 0) 클라이언트가 직접 보고하는 스킬이므로 만들지 않습니다.
+     *
+     * @param ownerX 시전자의 서버 위치 X
+     * @param ownerY 시전자의 서버 위치 Y
+     * @return 만든 개수
+     */
+    public int cast(int ownerId, float ownerX, float ownerY, Main.SkillCastMsg msg) {
+        if (msg.hitRadius <= 0f || msg.baseDamage <= 0 || !isFinite(msg)) {
+            return 0;
+        }
+
+        // 시전 위치: 서버 위치와 가까우면 클라이언트 값 사용 (예측 위치), 아니면 서버 위치
+        float originX = ownerX;
+        float originY = ownerY;
+        if (distanceSq(msg.casterX, msg.casterY, ownerX, ownerY) <= MAX_CASTER_OFFSET * MAX_CASTER_OFFSET) {
+            originX = msg.casterX;
+            originY = msg.casterY;
+        }
+
+        float dirLength = (float) Math.sqrt(msg.directionX * msg.directionX + msg.directionY * msg.directionY);
+        float dirX = dirLength > 0f ? msg.directionX / dirLength : 1f;
+        float dirY = dirLength > 0f ? msg.directionY / dirLength : 0f;
+        float speed = clamp(msg.projectileSpeed, 0f, MAX_SPEED);
+
+        switch (msg.skillType) {
+            case TYPE_PROJECTILE:
+                return add(ownerId, msg, originX, originY, dirX * speed, dirY * speed, false);
+
+            case TYPE_PROJECTILE_MULTI: {
+                // 클라이언트 IceSpike와 같은 배치: 가운데를 기준으로 angleSpread 간격
+                int count = Math.max(1, Math.min(msg.projectileCount, MAX_PROJECTILES_PER_CAST));
+                double baseAngle = Math.atan2(dirY, dirX);
+                int created = 0;
+                for (int i = 0; i < count; i++) {
+                    double angle = baseAngle + Math.toRadians((i - (count - 1) / 2f) * msg.angleSpread);
+                    created += add(ownerId, msg, originX, originY,
+                        (float) Math.cos(angle) * speed, (float) Math.sin(angle) * speed, false);
+                }
+                return created;
+            }
+
+            case TYPE_ZONE_FIXED:
+                if (distanceSq(msg.targetX, msg.targetY, ownerX, ownerY) > MAX_CAST_RANGE * MAX_CAST_RANGE) {
+                    return 0;
+                }
+                return add(ownerId, msg, msg.targetX, msg.targetY, 0f, 0f, false);
+
+            case TYPE_ZONE_MOVING:
+                return add(ownerId, msg, originX, originY, dirX * speed, dirY * speed, false);
+
+            case TYPE_ZONE_PLAYER_FOLLOW:
+                return add(ownerId, msg, ownerX, ownerY, 0f, 0f, true);
+
+            default:
+                return 0;
+        }
+    }
+
+    private int add(int ownerId, Main.SkillCastMsg msg, float x, float y, float vx, float vy, boolean followOwner) {
+        if (active.size() >= MAX_ACTIVE) {
+            return 0;
+        }
+        ActiveSkill skill = new ActiveSkill();
+        skill.ownerId = ownerId;
+        skill.damage = Math.min(msg.baseDamage, MAX_HIT_DAMAGE);
+        skill.x = x;
+        skill.y = y;
+        skill.vx = vx;
+        skill.vy = vy;
+        skill.radiusX = clamp(msg.hitRadius, 0f, MAX_HIT_RADIUS);
+        skill.radiusY = msg.hitRadiusY > 0f ? clamp(msg.hitRadiusY, 0f, MAX_HIT_RADIUS) : skill.radiusX;
+        skill.lifetime = clamp(msg.projectileLifetime, 0f, MAX_LIFETIME);
+        skill.delay = clamp(msg.hitDelay, 0f, skill.lifetime);
+        skill.interval = msg.hitInterval > 0f ? Math.max(MIN_HIT_INTERVAL, msg.hitInterval) : msg.hitInterval;
+        skill.hitsLeft = msg.maxHits > 0 ? msg.maxHits : Integer.MAX_VALUE;
+        skill.followOwner = followOwner;
+        active.add(skill);
+        return 1;
+    }
+
+    /**
+     * 플레이어 추적형 존의 위치를 시전자 위치로 옮깁니다. (서버 권한 이동 처리 시 호출)
+     */
+    public void onOwnerMoved(int ownerId, float x, float y) {
+        for (int i = 0; i < active.size(); i++) {
+            ActiveSkill skill = active.get(i);
+            if (skill.followOwner && skill.ownerId == ownerId) {
+                skill.x = x;
+                skill.y = y;
+            }
+        }
+    }
+
+    /**
+     * 퇴장/사망한 플레이어의 판정을 모두 없앱니다.
+     */
+    public void removeOwner(int ownerId) {
+        active.removeIf(skill -> skill.ownerId == ownerId);
+    }
+
+    public void clear() {
+        active.clear();
+    }
+
+    /**
+     * 한 틱 동안 투사체/존을 움직이고 피격을 판정합니다.
+     *
+     * @param delta 틱 시간 (초)
+     * @param monsters 방의 몬스터 저장소 (null이면 이동만)
+     * @param sink 피격 결과 (몬스터 슬롯 인덱스, 데미지, 공격자)
+     */
+    public void update(float delta, MonsterEngine monsters, HitSink sink) {
+        int i = 0;
+        while (i < active.size()) {
+            ActiveSkill skill = active.get(i);
+            if (step(skill, delta, monsters, sink)) {
+                i++;
+            } else {
+                // swap-remove (순서는 상관없음)
+                int last = active.size() - 1;
+                active.set(i, active.get(last));
+                active.remove(last);
+            }
+        }
+    }
+
+    /**
+     * @return 계속 판정하면 true, 수명이 다했거나 피격 수를 다 쓰면 false
+     */
+    private boolean step(ActiveSkill skill, float delta, MonsterEngine monsters, HitSink sink) {
+        float previousAge = skill.age;
+        skill.age += delta;
+
+        // 이동 거리를 반경 단위로 나누어 검사 (이번 틱에 지나간 자리도 판정)
+        float moveX = skill.vx * delta;
+        float moveY = skill.vy * delta;
+        float distance = (float) Math.sqrt(moveX * moveX + moveY * moveY);
+        int substeps = Math.max(1, (int) Math.ceil(distance / Math.max(4f, Math.min(skill.radiusX, skill.radiusY))));
+
+        for (int s = 1; s <= substeps; s++) {
+            skill.x += moveX / substeps;
+            skill.y += moveY / substeps;
+            float subAge = previousAge + (skill.age - previousAge) * s / substeps;
+            if (subAge > skill.lifetime) {
+                return false;
+            }
+            if (subAge < skill.delay || monsters == null) {
+                continue;
+            }
+            if (skill.interval < 0f) {
+                // 즉발: 지연 시점에 범위 안의 대상만 한 번
+                if (!skill.burstDone) {
+                    skill.burstDone = true;
+                    applyHits(skill, subAge, monsters, sink);
+                }
+                continue;
+            }
+            if (!applyHits(skill, subAge, monsters, sink)) {
+                return false;
+            }
+        }
+        return skill.age < skill.lifetime;
+    }
+
+    /**
+     * @return 남은 피격 수가 있으면 true
+     */
+    private boolean applyHits(ActiveSkill skill, float age, MonsterEngine monsters, HitSink sink) {
+        float queryRadius = Math.max(skill.radiusX, skill.radiusY);
+        int found = monsters.queryRadius(skill.x, skill.y, queryRadius, queryScratch);
+        int ageMillis = (int) (age * 1000f);
+        int intervalMillis = (int) (skill.interval * 1000f);
+
+        for (int k = 0; k < found; k++) {
+            int index = queryScratch[k];
+            if (!monsters.isAlive(index)) {
+                continue;
+            }
+            if (skill.radiusX != skill.radiusY) {
+                float dx = (monsters.getX(index) - skill.x) / skill.radiusX;
+                float dy = (monsters.getY(index) - skill.y) / skill.radiusY;
+                if (dx * dx + dy * dy > 1f) {
+                    continue;
+                }
+            }
+
+            int monsterId = monsters.getId(index);
+            int lastHit = skill.lastHitMillis.get(monsterId, Integer.MIN_VALUE);
+            if (lastHit != Integer.MIN_VALUE && (intervalMillis <= 0 || ageMillis - lastHit < intervalMillis)) {
+                continue;
+            }
+
+            skill.lastHitMillis.put(monsterId, ageMillis);
+            sink.hit(index, skill.damage, skill.ownerId);
+            if (--skill.hitsLeft <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 판정 중인 투사체/존 수 (지표용)
+     */
+    public int size() {
+        return active.size();
+    }
+
+    private static boolean isFinite(Main.SkillCastMsg msg) {
+        return Float.isFinite(msg.casterX) && Float.isFinite(msg.casterY)
+            && Float.isFinite(msg.targetX) && Float.isFinite(msg.targetY)
+            && Float.isFinite(msg.directionX) && Float.isFinite(msg.directionY)
+            && Float.isFinite(msg.hitRadius) && Float.isFinite(msg.hitRadiusY)
+            && Float.isFinite(msg.projectileSpeed) && Float.isFinite(msg.projectileLifetime)
+            && Float.isFinite(msg.hitDelay) && Float.isFinite(msg.hitInterval)
+            && Float.isFinite(msg.angleSpread);
+    }
+
+    private static float distanceSq(float x1, float y1, float x2, float y2) {
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,207 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 균일 격자 공간 해시 (방 단위, 틱 스레드 전용)
+ *
+ * 맵을 cellSize 픽셀 정사각형 셀로 나누고 엔티티를 위치한 셀에 보관합니다.
+ * 엔티티가 이동하면 셀이 바뀔 때만 목록을 옮기므로 갱신 비용이 작고,
+ * 최근접/반경 검색은 주변 셀만 확인하므로 전체 엔티티 수가 아닌 주변 밀도에 비례합니다.
+ *
+ * @param <T> 엔티티와 함께 보관할 값 (몬스터 객체 등, null 가능)
+ */
+public class SpatialHash<T> {
+
+    /**
+     * 격자에 보관되는 엔티티
+     */
+    public static class Entry<T> {
+        public final int id;
+        public float x, y;
+        public T value;
+        int cell;
+        int indexInCell;
+
+        Entry(int id) {
+            this.id = id;
+        }
+    }
+
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final List<Entry<T>>[] cells;
+    private final Map<Integer, Entry<T>> byId = new HashMap<>();
+
+    /**
+     * @param mapWidth 맵 너비 (픽셀)
+     * @param mapHeight 맵 높이 (픽셀)
+     * @param cellSize 셀 크기 (픽셀)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SpatialHash(float mapWidth, float mapHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(mapWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(mapHeight / cellSize));
+        this.cells = new List[cols * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new ArrayList<>(4);
+        }
+    }
+
+    private int cellCol(float x) {
+        return Math.max(0, Math.min(cols - 1, (int) (x / cellSize)));
+    }
+
+    private int cellRow(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) (y / cellSize)));
+    }
+
+    /**
+     * 엔티티를 추가하거나, 이미 있으면 위치와 값을 갱신합니다.
+     */
+    public void put(int id, float x, float y, T value) {
+        Entry<T> entry = byId.get(id);
+        if (entry == null) {
+            entry = new Entry<>(id);
+            entry.x = x;
+            entry.y = y;
+            entry.value = value;
+            byId.put(id, entry);
+            addToCell(entry, cellRow(y) * cols + cellCol(x));
+        } else {
+            entry.value = value;
+            move(entry, x, y);
+        }
+    }
+
+    /**
+     * 엔티티 위치를 갱신합니다. 없는 ID면 무시합니다.
+     */
+    public void move(int id, float x, float y) {
+        Entry<T> entry = byId.get(id);
+        if (entry != null) {
+            move(entry, x, y);
+        }
+    }
+
+    private void move(Entry<T> entry, float x, float y) {
+        entry.x = x;
+        entry.y = y;
+        int cell = cellRow(y) * cols + cellCol(x);
+        if (cell != entry.cell) {
+            removeFromCell(entry);
+            addToCell(entry, cell);
+        }
+    }
+
+    /**
+     * 엔티티를 제거합니다.
+     */
+    public void remove(int id) {
+        Entry<T> entry = byId.remove(id);
+        if (entry != null) {
+            removeFromCell(entry);
+        }
+    }
+
+    public void clear() {
+        byId.clear();
+        for (List<Entry<T>> cell : cells) {
+            cell.clear();
+        }
+    }
+
+    public Entry<T> getEntry(int id) {
+        return byId.get(id);
+    }
+
+    public T get(int id) {
+        Entry<T> entry = byId.get(id);
+        return entry != null ? entry.value : null;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 반경 안에서 가장 가까운 엔티티를 찾습니다.
+     *
+     * @param excludeId 제외할 ID (없으면 아무 음수)
+     * @return 가장 가까운 엔티티, 없으면 null
+     */
+    public Entry<T> nearest(float x, float y, float radius, int excludeId) {
+        int minCol = cellCol(x - radius), maxCol = cellCol(x + radius);
+        int minRow = cellRow(y - radius), maxRow = cellRow(y + radius);
+
+        Entry<T> nearest = null;
+        float minDistanceSq = radius * radius;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Entry<T>> cell = cells[row * cols + col];
+                for (int i = 0, n = cell.size(); i < n; i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.id == excludeId) continue;
+                    float dx = entry.x - x;
+                    float dy = entry.y - y;
+                    float distSq = dx * dx + dy * dy;
+                    if (distSq < minDistanceSq) {
+                        minDistanceSq = distSq;
+                        nearest = entry;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * 반경 안의 모든 엔티티 값을 out에 추가합니다.
+     *
+     * @return 추가한 개수
+     */
+    public int queryRadius(float x, float y, float radius, List<T> out) {
+        int minCol = cellCol(x - radius), maxCol = cellCol(x + radius);
+        int minRow = cellRow(y - radius), maxRow = cellRow(y + radius);
+        float radiusSq = radius * radius;
+
+        int found = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Entry<T>> cell = cells[row * cols + col];
+                for (int i = 0, n = cell.size(); i < n; i++) {
+                    Entry<T> entry = cell.get(i);
+                    float dx = entry.x - x;
+                    float dy = entry.y - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(entry.value);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private void addToCell(Entry<T> entry, int cell) {
+        List<Entry<T>> list = cells[cell];
+        entry.cell = cell;
+        entry.indexInCell = list.size();
+        list.add(entry);
+    }
+
+    private void removeFromCell(Entry<T> entry) {
+        // 마지막 원소와 자리를 바꿔 O(1) 제거
+        List<Entry<T>> list = cells[entry.cell];
+        int last = list.size() - 1;
+        Entry<T> moved = list.get(last);
+        list.set(entry.indexInCell, moved);
+        moved.indexInCell = entry.indexInCell;
+        list.remove(last);
+    }
+}
@@ -99,6 +99,9 @@ public class TMXCollisionParser {
             // ===== Fog 레이어 파싱 (PHASE_24) =====
             parseFogLayers(doc, collisionMap, width, height);
 
+            // 구역별 몬스터 스폰 후보 타일
+            collisionMap.buildSpawnTables();
+
             System.out.println("[TMX Parser] 파싱 완료!");
 
             return collisionMap;
@@ -0,0 +1,409 @@
+// 서버 - org.example.WireSerializers.java
+package org.example;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.example.Main.PlayerMoveMsg;
+import org.example.Main.SkillCastMsg;
+
+/**
+ * 자주 오가는 메시지의 전용 직렬화 (Protocol에서 등록)
+ *
+ * FieldSerializer 대신 필드를 정해진 순서로 직접 기록합니다.
+ * - 정수: 가변 길이(varint), ID/HP처럼 음수가 없는 값은 양수 최적화
+ * - 좌표: MonsterSnapshotMsg.quantize (1/8 픽셀 short)
+ * - 그 밖의 실수: 배율을 곱한 varint (속도/반경/각도 1/8, 방향 1/16384, 수명 ms)
+ * - 문자열(스킬 이름, 원소, 몬스터 상태): 알려진 값 표의 순번, 표에 없으면 문자열 그대로
+ *
+ * 클라이언트 com.example.yugeup.network.WireSerializers와 기록 순서/배율/표가 정확히 일치해야 합니다.
+ */
+public final class WireSerializers {
+    // 실수 배율
+    static final float FIXED_SCALE = 8f;
+    static final float DIRECTION_SCALE = 16384f;
+    static final float MILLIS_SCALE = 1000f;
+
+    // 문자열 표 (순번 + 1로 기록, 0 = null, 표 크기 + 1 = 뒤에 문자열이 따라옴)
+    // 클라이언트 ElementType.getSkillNames() 순서
+    static final String[] SKILL_NAMES = {
+        "파이어볼", "플레임 웨이브", "인페르노",
+        "워터 샷", "아이스 스파이크", "플러드",
+        "에어 슬래시", "토네이도", "폭풍",
+        "라이트닝 볼트", "체인 라이트닝", "썬더 스톰",
+        "록 스매시", "어스 스파이크", "스톤 실드"
+    };
+    // 클라이언트 ElementType 표시 이름 순서
+    static final String[] ELEMENT_NAMES = {"불", "물", "바람", "번개", "흙"};
+    // MonsterSnapshotMsg.STATE_* 순서
+    static final String[] MONSTER_STATES = {"IDLE", "PURSUING", "ATTACKING", "DEAD"};
+    // PVP 공격 스킬 타입 (sendPvpAttack 호출 값)
+    static final String[] ATTACK_SKILLS = {
+        "projectile", "ZoneSkill", "MagicMissile",
+        "FlameWave", "Inferno", "Flood", "Storm",
+        "LightningBolt", "ThunderStorm", "RockSmash", "EarthSpike"
+    };
+
+    private WireSerializers() {}
+
+    static void writeFixed(Output output, float value, float scale) {
+        output.writeVarInt(Math.round(value * scale), false);
+    }
+
+    static float readFixed(Input input, float scale) {
+        return input.readVarInt(false) / scale;
+    }
+
+    static void writeName(Output output, String value, String[] table) {
+        if (value == null) {
+            output.writeVarInt(0, true);
+            return;
+        }
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].equals(value)) {
+                output.writeVarInt(i + 1, true);
+                return;
+            }
+        }
+        output.writeVarInt(table.length + 1, true);
+        output.writeString(value);
+    }
+
+    static String readName(Input input, String[] table) {
+        int code = input.readVarInt(true);
+        if (code == 0) {
+            return null;
+        }
+        if (code <= table.length) {
+            return table[code - 1];
+        }
+        return input.readString();
+    }
+
+    /**
+     * 플레이어 이동: ID, 좌표, 서버 시각 (보낼 때 약 6바이트, 중계 시 약 9바이트)
+     */
+    public static class PlayerMoveSerializer extends Serializer<PlayerMoveMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, PlayerMoveMsg msg) {
+            output.writeVarInt(msg.playerId, true);
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.x));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.y));
+            output.writeVarInt(msg.serverTime, true);
+        }
+
+        @Override
+        public PlayerMoveMsg read(Kryo kryo, Input input, Class<? extends PlayerMoveMsg> type) {
+            PlayerMoveMsg msg = new PlayerMoveMsg();
+            msg.playerId = input.readVarInt(true);
+            msg.x = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.y = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.serverTime = input.readVarInt(true);
+            return msg;
+        }
+    }
+
+    /**
+     * 몬스터 상태 (구형 개별 갱신): ID, 좌표, 속도, HP, 상태 코드
+     */
+    public static class MonsterUpdateSerializer extends Serializer<MonsterUpdateMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, MonsterUpdateMsg msg) {
+            output.writeVarInt(msg.monsterId, true);
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.x));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.y));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.vx));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.vy));
+            output.writeVarInt(msg.hp, false);
+            output.writeVarInt(msg.maxHp, true);
+            writeName(output, msg.state, MONSTER_STATES);
+        }
+
+        @Override
+        public MonsterUpdateMsg read(Kryo kryo, Input input, Class<? extends MonsterUpdateMsg> type) {
+            MonsterUpdateMsg msg = new MonsterUpdateMsg();
+            msg.monsterId = input.readVarInt(true);
+            msg.x = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.y = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.vx = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.vy = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.hp = input.readVarInt(false);
+            msg.maxHp = input.readVarInt(true);
+            msg.state = readName(input, MONSTER_STATES);
+            return msg;
+        }
+    }
+
+    /**
+     * 스킬 시전: 위치는 좌표 양자화, 이름/원소는 표 순번
+     */
+    public static class SkillCastSerializer extends Serializer<SkillCastMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, SkillCastMsg msg) {
+            output.writeVarInt(msg.playerId, true);
+            output.writeVarInt(msg.skillId, true);
+            output.writeVarInt(msg.skillType, true);
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.casterX));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.casterY));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.targetX));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.targetY));
+            writeFixed(output, msg.directionX, DIRECTION_SCALE);
+            writeFixed(output, msg.directionY, DIRECTION_SCALE);
+            writeName(output, msg.skillName, SKILL_NAMES);
+            writeName(output, msg.elementColor, ELEMENT_NAMES);
+            output.writeVarInt(msg.baseDamage, false);
+            writeFixed(output, msg.projectileSpeed, FIXED_SCALE);
+            writeFixed(output, msg.projectileRadius, FIXED_SCALE);
+            writeFixed(output, msg.projectileLifetime, MILLIS_SCALE);
+            output.writeVarInt(msg.projectileCount, true);
+            writeFixed(output, msg.angleSpread, FIXED_SCALE);
+            writeFixed(output, msg.hitRadius, FIXED_SCALE);
+            writeFixed(output, msg.hitRadiusY, FIXED_SCALE);
+            writeFixed(output, msg.hitInterval, MILLIS_SCALE);
+            writeFixed(output, msg.hitDelay, MILLIS_SCALE);
+            output.writeVarInt(msg.maxHits, true);
+        }
+
+        @Override
+        public SkillCastMsg read(Kryo kryo, Input input, Class<? extends SkillCastMsg> type) {
+            SkillCastMsg msg = new SkillCastMsg();
+            msg.playerId = input.readVarInt(true);
+            msg.skillId = input.readVarInt(true);
+            msg.skillType = input.readVarInt(true);
+            msg.casterX = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.casterY = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.targetX = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.targetY = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.directionX = readFixed(input, DIRECTION_SCALE);
+            msg.directionY = readFixed(input, DIRECTION_SCALE);
+            msg.skillName = readName(input, SKILL_NAMES);
+            msg.elementColor = readName(input, ELEMENT_NAMES);
+            msg.baseDamage = input.readVarInt(false);
+            msg.projectileSpeed = readFixed(input, FIXED_SCALE);
+            msg.projectileRadius = readFixed(input, FIXED_SCALE);
+            msg.projectileLifetime = readFixed(input, MILLIS_SCALE);
+            msg.projectileCount = input.readVarInt(true);
+            msg.angleSpread = readFixed(input, FIXED_SCALE);
+            msg.hitRadius = readFixed(input, FIXED_SCALE);
+            msg.hitRadiusY = readFixed(input, FIXED_SCALE);
+            msg.hitInterval = readFixed(input, MILLIS_SCALE);
+            msg.hitDelay = readFixed(input, MILLIS_SCALE);
+            msg.maxHits = input.readVarInt(true);
+            return msg;
+        }
+    }
+
+    /**
+     * 몬스터 피격 결과: ID, 새 HP, 데미지, 공격자
+     */
+    public static class MonsterDamageSerializer extends Serializer<MonsterDamageMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, MonsterDamageMsg msg) {
+            output.writeVarInt(msg.monsterId, true);
+            output.writeVarInt(msg.newHp, false);
+            output.writeVarInt(msg.damageAmount, false);
+            output.writeVarInt(msg.attackerId, false);
+        }
+
+        @Override
+        public MonsterDamageMsg read(Kryo kryo, Input input, Class<? extends MonsterDamageMsg> type) {
+            MonsterDamageMsg msg = new MonsterDamageMsg();
+            msg.monsterId = input.readVarInt(true);
+            msg.newHp = input.readVarInt(false);
+            msg.damageAmount = input.readVarInt(false);
+            msg.attackerId = input.readVarInt(false);
+            return msg;
+        }
+    }
+
+    /**
+     * 몬스터 피격 결과 묶음: 개수, 항목마다 ID, 새 HP, 데미지, 공격자
+     */
+    public static class MonsterDamageBatchSerializer extends Serializer<MonsterDamageBatchMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, MonsterDamageBatchMsg msg) {
+            int count = msg.count();
+            output.writeVarInt(count, true);
+            for (int i = 0; i < count; i++) {
+                output.writeVarInt(msg.monsterIds[i], true);
+                output.writeVarInt(msg.newHp[i], false);
+                output.writeVarInt(msg.damage[i], true);
+                output.writeVarInt(msg.attackerIds[i], false);
+            }
+        }
+
+        @Override
+        public MonsterDamageBatchMsg read(Kryo kryo, Input input, Class<? extends MonsterDamageBatchMsg> type) {
+            int count = input.readVarInt(true);
+            if (count < 0 || count > MonsterDamageBatchMsg.MAX_ENTRIES) {
+                throw new KryoException("몬스터 피격 묶음 항목 수 범위 밖: " + count);
+            }
+            MonsterDamageBatchMsg msg = new MonsterDamageBatchMsg(count);
+            for (int i = 0; i < count; i++) {
+                msg.monsterIds[i] = input.readVarInt(true);
+                msg.newHp[i] = input.readVarInt(false);
+                msg.damage[i] = input.readVarInt(true);
+                msg.attackerIds[i] = input.readVarInt(false);
+            }
+            return msg;
+        }
+    }
+
+    /**
+     * 피격 보고 묶음: 개수, 항목마다 (대상 ID << 1 | 종류), 데미지, 스킬 타입 (항목당 약 3바이트)
+     */
+    public static class AttackBatchSerializer extends Serializer<AttackBatchMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, AttackBatchMsg msg) {
+            int count = msg.count();
+            output.writeVarInt(count, true);
+            for (int i = 0; i < count; i++) {
+                output.writeVarInt(msg.targetIds[i] << 1 | msg.targetTypes[i], true);
+                output.writeVarInt(msg.damage[i], true);
+                writeName(output, msg.skillTypes[i], ATTACK_SKILLS);
+            }
+        }
+
+        @Override
+        public AttackBatchMsg read(Kryo kryo, Input input, Class<? extends AttackBatchMsg> type) {
+            int count = input.readVarInt(true);
+            if (count < 0 || count > AttackBatchMsg.MAX_ENTRIES) {
+                throw new KryoException("피격 묶음 항목 수 범위 밖: " + count);
+            }
+            AttackBatchMsg msg = new AttackBatchMsg(count);
+            for (int i = 0; i < count; i++) {
+                int target = input.readVarInt(true);
+                msg.targetIds[i] = target >>> 1;
+                msg.targetTypes[i] = (byte) (target & 1);
+                msg.damage[i] = input.readVarInt(true);
+                msg.skillTypes[i] = readName(input, ATTACK_SKILLS);
+            }
+            return msg;
+        }
+    }
+
+    /**
+     * 몬스터 공격 요청: 공격자, 대상, 공격자 좌표, 데미지 (1/8 단위)
+     */
+    public static class PlayerAttackMonsterSerializer extends Serializer<PlayerAttackMonsterMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, PlayerAttackMonsterMsg msg) {
+            output.writeVarInt(msg.playerId, true);
+            output.writeVarInt(msg.monsterId, true);
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.attackerX));
+            output.writeShort(MonsterSnapshotMsg.quantize(msg.attackerY));
+            writeFixed(output, msg.skillDamage, FIXED_SCALE);
+        }
+
+        @Override
+        public PlayerAttackMonsterMsg read(Kryo kryo, Input input, Class<? extends PlayerAttackMonsterMsg> type) {
+            PlayerAttackMonsterMsg msg = new PlayerAttackMonsterMsg();
+            msg.playerId = input.readVarInt(true);
+            msg.monsterId = input.readVarInt(true);
+            msg.attackerX = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.attackerY = MonsterSnapshotMsg.dequantize(input.readShort());
+            msg.skillDamage = readFixed(input, FIXED_SCALE);
+            return msg;
+        }
+    }
+
+    /**
+     * 상태 채널 봉투: 스트림, 순번, 메시지 (NetChannel)
+     */
+    public static class SequencedSerializer extends Serializer<SequencedMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, SequencedMsg msg) {
+            output.writeVarInt(msg.stream, false);
+            output.writeVarInt(msg.sequence, true);
+            kryo.writeClassAndObject(output, msg.payload);
+        }
+
+        @Override
+        public SequencedMsg read(Kryo kryo, Input input, Class<? extends SequencedMsg> type) {
+            SequencedMsg msg = new SequencedMsg();
+            msg.stream = input.readVarInt(false);
+            msg.sequence = input.readVarInt(true);
+            msg.payload = kryo.readClassAndObject(input);
+            return msg;
+        }
+    }
+
+    /**
+     * 이벤트 채널 봉투: 순번, 확인응답, 메시지 (NetChannel, 확인응답 전용이면 메시지 null)
+     */
+    public static class ReliableSerializer extends Serializer<ReliableMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, ReliableMsg msg) {
+            output.writeVarInt(msg.sequence, true);
+            output.writeVarInt(msg.ack, true);
+            output.writeInt(msg.ackBits);
+            kryo.writeClassAndObject(output, msg.payload);
+        }
+
+        @Override
+        public ReliableMsg read(Kryo kryo, Input input, Class<? extends ReliableMsg> type) {
+            ReliableMsg msg = new ReliableMsg();
+            msg.sequence = input.readVarInt(true);
+            msg.ack = input.readVarInt(true);
+            msg.ackBits = input.readInt();
+            msg.payload = kryo.readClassAndObject(input);
+            return msg;
+        }
+    }
+
+    /**
+     * 이동 입력 묶음: 첫 순번, 개수, 입력마다 방향 2바이트 + 시간 1바이트
+     */
+    public static class PlayerInputSerializer extends Serializer<PlayerInputMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, PlayerInputMsg msg) {
+            int count = msg.count();
+            output.writeVarInt(msg.firstSequence, true);
+            output.writeVarInt(count, true);
+            for (int i = 0; i < count; i++) {
+                output.writeByte(msg.dirX[i]);
+                output.writeByte(msg.dirY[i]);
+                output.writeByte(msg.millis[i]);
+            }
+        }
+
+        @Override
+        public PlayerInputMsg read(Kryo kryo, Input input, Class<? extends PlayerInputMsg> type) {
+            int firstSequence = input.readVarInt(true);
+            int count = input.readVarInt(true);
+            if (count < 0 || count > PlayerInputMsg.MAX_INPUTS) {
+                throw new KryoException("이동 입력 개수 범위 밖: " + count);
+            }
+            PlayerInputMsg msg = new PlayerInputMsg(firstSequence, count);
+            for (int i = 0; i < count; i++) {
+                msg.dirX[i] = input.readByte();
+                msg.dirY[i] = input.readByte();
+                msg.millis[i] = input.readByte();
+            }
+            return msg;
+        }
+    }
+
+    /**
+     * 서버 권한 위치: 마지막 입력 순번, 좌표 (재실행 결과가 같도록 float 그대로)
+     */
+    public static class PlayerStateSerializer extends Serializer<PlayerStateMsg> {
+        @Override
+        public void write(Kryo kryo, Output output, PlayerStateMsg msg) {
+            output.writeVarInt(msg.lastInput, true);
+            output.writeFloat(msg.x);
+            output.writeFloat(msg.y);
+        }
+
+        @Override
+        public PlayerStateMsg read(Kryo kryo, Input input, Class<? extends PlayerStateMsg> type) {
+            PlayerStateMsg msg = new PlayerStateMsg();
+            msg.lastInput = input.readVarInt(true);
+            msg.x = input.readFloat();
+            msg.y = input.readFloat();
+            return msg;
+        }
+    }
+}
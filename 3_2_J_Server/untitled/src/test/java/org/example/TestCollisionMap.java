@@ -0,0 +1,123 @@
+// 서버 - org.example.TestCollisionMap.java
+package org.example;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CollisionMap 테스트
+ *
+ * 거리장으로 빠르게 결정하는 isWallInArea가
+ * 예전 타일 중심 전체 검사와 모든 반경에서 같은 결과를 내는지 확인합니다.
+ * (반 대각선보다 작은 반경 포함)
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestCollisionMap {
+
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 48;
+    private static final int TILE = 16;
+
+    private boolean[][] walkable;
+    private CollisionMap map;
+
+    @BeforeEach
+    public void setUp() {
+        // 무작위 벽 + 벽 덩어리 (TMX 행 순서)
+        Random random = new Random(42);
+        walkable = new boolean[HEIGHT][WIDTH];
+        for (int ty = 0; ty < HEIGHT; ty++) {
+            for (int tx = 0; tx < WIDTH; tx++) {
+                walkable[ty][tx] = random.nextFloat() >= 0.15f;
+            }
+        }
+        for (int block = 0; block < 12; block++) {
+            int bx = random.nextInt(WIDTH - 6);
+            int by = random.nextInt(HEIGHT - 6);
+            for (int ty = by; ty < by + 5; ty++) {
+                for (int tx = bx; tx < bx + 5; tx++) {
+                    walkable[ty][tx] = false;
+                }
+            }
+        }
+        map = new CollisionMap(walkable, WIDTH, HEIGHT, TILE, TILE);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("거리장 판정 = 타일 중심 전체 검사")
+    public void 모든_반경에서_예전_전체_검사와_결과가_같다() {
+        // Given
+        float[] radii = {1f, 2f, 4f, 8f, 10f, 11f, 11.5f, 12f, 16f, 24f, 32f, 48f};
+        Random random = new Random(7);
+        float mapWidth = WIDTH * TILE;
+        float mapHeight = HEIGHT * TILE;
+
+        for (float radius : radii) {
+            int mismatches = 0;
+            for (int i = 0; i < 100_000; i++) {
+                // 맵 가장자리 바깥도 조금 포함
+                float x = random.nextFloat() * (mapWidth + 2 * TILE) - TILE;
+                float y = random.nextFloat() * (mapHeight + 2 * TILE) - TILE;
+
+                // When
+                boolean expected = baselineWallInArea(x, y, radius);
+                boolean actual = map.isWallInArea(x, y, radius);
+
+                if (expected != actual) {
+                    mismatches++;
+                }
+            }
+
+            // Then
+            assertEquals(0, mismatches, "반경 " + radius + "에서 전체 검사와 결과가 달랐습니다");
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("벽 타일 안 작은 반경 테스트")
+    public void 벽_타일_안에서도_반경이_작으면_중심이_멀면_벽이_아니다() {
+        // Given: 벽 타일 하나만 있는 맵
+        boolean[][] single = new boolean[4][4];
+        for (boolean[] row : single) {
+            java.util.Arrays.fill(row, true);
+        }
+        single[1][1] = false;  // TMX (1,1) → LibGDX 행 2
+        CollisionMap singleMap = new CollisionMap(single, 4, 4, TILE, TILE);
+
+        // When & Then: 타일 모서리 근처 (중심에서 약 9.9px)
+        assertFalse(singleMap.isWallInArea(TILE + 1f, 2 * TILE + 1f, 4f));
+        assertTrue(singleMap.isWallInArea(TILE + 1f, 2 * TILE + 1f, 10f));
+        assertTrue(singleMap.isWallInArea(TILE + 8f, 2 * TILE + 8f, 1f));
+    }
+
+    /**
+     * 거리장 도입 전 isWallInArea (반경 안에 중심이 들어오는 벽 타일이 있으면 true)
+     */
+    private boolean baselineWallInArea(float centerX, float centerY, float radius) {
+        int minTileX = (int)((centerX - radius) / TILE);
+        int maxTileX = (int)((centerX + radius) / TILE);
+        int minLibgdxTileY = (int)((centerY - radius) / TILE);
+        int maxLibgdxTileY = (int)((centerY + radius) / TILE);
+
+        for (int libgdxTy = minLibgdxTileY; libgdxTy <= maxLibgdxTileY; libgdxTy++) {
+            int ty = HEIGHT - 1 - libgdxTy;
+            for (int tx = minTileX; tx <= maxTileX; tx++) {
+                if (tx < 0 || tx >= WIDTH || ty < 0 || ty >= HEIGHT) {
+                    continue;
+                }
+                float dx = centerX - (tx + 0.5f) * TILE;
+                float dy = centerY - (libgdxTy + 0.5f) * TILE;
+                float distance = (float) Math.sqrt(dx * dx + dy * dy);
+                if (distance < radius && !walkable[ty][tx]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
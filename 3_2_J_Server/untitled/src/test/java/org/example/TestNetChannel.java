@@ -0,0 +1,136 @@
+// 서버 - org.example.TestNetChannel.java
+package org.example;
+
+import com.esotericsoftware.kryonet.Connection;
+import org.junit.jupiter.api.*;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NetChannel 이벤트 채널 테스트
+ *
+ * 앞 순번이 빠진 채 선택적 ack를 받은 뒤 TCP로 전환해도
+ * 받는 쪽이 모든 이벤트를 순번 순서대로 한 번씩 전달하는지 확인합니다.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestNetChannel {
+
+    /**
+     * 보낸 객체를 기록만 하는 연결 (UDP 접속 상태)
+     */
+    private static class RecordingConnection extends Connection {
+        final List<Object> udp = new ArrayList<>();
+        final List<Object> tcp = new ArrayList<>();
+
+        @Override
+        public int sendUDP(Object object) {
+            udp.add(object);
+            return 0;
+        }
+
+        @Override
+        public int sendTCP(Object object) {
+            tcp.add(object);
+            return 0;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddressUDP() {
+            return new InetSocketAddress("127.0.0.1", 54778);
+        }
+    }
+
+    private RecordingConnection senderConnection;
+    private RecordingConnection receiverConnection;
+    private NetChannel sender;
+    private NetChannel receiver;
+    private List<Object> delivered;
+
+    @BeforeEach
+    public void setUp() {
+        senderConnection = new RecordingConnection();
+        receiverConnection = new RecordingConnection();
+        sender = new NetChannel(senderConnection);
+        receiver = new NetChannel(receiverConnection);
+        delivered = new ArrayList<>();
+    }
+
+    /**
+     * 리스너처럼 받은 객체를 처리 (봉투가 아니면 그대로 전달)
+     */
+    private void deliver(Object object) {
+        if (!receiver.receive(object, delivered::add)) {
+            delivered.add(object);
+        }
+    }
+
+    /**
+     * 받는 쪽이 보낸 확인응답을 보낸 쪽에 전달
+     */
+    private void deliverAcks() {
+        for (Object ack : receiverConnection.udp) {
+            sender.receive(ack, payload -> fail("확인응답에는 내용이 없어야 합니다"));
+        }
+        receiverConnection.udp.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("선택적 ack 후 TCP 전환 테스트")
+    public void 빠진_순번이_있어도_TCP_전환_후_모두_순서대로_전달된다() {
+        // Given: 이벤트 5개 중 2번만 UDP에서 빠짐
+        for (int i = 1; i <= 5; i++) {
+            sender.sendReliable("event-" + i);
+        }
+        for (Object object : senderConnection.udp) {
+            if (((ReliableMsg) object).sequence != 2) {
+                deliver(object);
+            }
+        }
+        senderConnection.udp.clear();
+        deliverAcks();
+        assertEquals(List.of("event-1"), delivered, "2번이 오기 전에는 1번만 전달돼야 합니다");
+        assertEquals(4, sender.getPendingCount(), "선택적 ack만 받은 이벤트는 누적 ack 전까지 보관해야 합니다");
+
+        // When: 이후 UDP가 모두 막혀 TCP로 전환
+        int total = 5;
+        while (senderConnection.tcp.isEmpty()) {
+            sender.sendReliable("event-" + (++total));
+        }
+        sender.sendReliable("after-fallback");
+        for (Object object : senderConnection.tcp) {
+            deliver(object);
+        }
+
+        // Then
+        assertEquals(total + 1, delivered.size(), "모든 이벤트가 한 번씩 전달돼야 합니다");
+        for (int i = 1; i <= total; i++) {
+            assertEquals("event-" + i, delivered.get(i - 1));
+        }
+        assertEquals("after-fallback", delivered.get(total));
+        assertEquals(0, sender.getPendingCount());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("TCP 전환 표시 시 버퍼 비우기 테스트")
+    public void 전환_표시를_받으면_순서_맞춤_버퍼를_비운다() {
+        // Given: 3번만 도착 (1, 2번 빠짐)
+        for (int i = 1; i <= 3; i++) {
+            sender.sendReliable("event-" + i);
+        }
+        deliver(senderConnection.udp.get(2));
+        assertTrue(delivered.isEmpty());
+
+        // When
+        deliver(new ReliableMsg(NetChannel.FALLBACK_SEQUENCE, 0, 0, null));
+        deliver(new ReliableMsg(3, 0, 0, "event-3"));
+
+        // Then: 버퍼에 있던 3번을 한 번만 전달
+        assertEquals(List.of("event-3"), delivered);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.yugeup.game.effect;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * 원형 임시 이펙트 클래스
@@ -19,19 +20,45 @@ public class CircleEffect extends TempEffect {
     // 외곽선 굵기
     private float lineWidth;
 
+    // 이펙트 풀 (끝난 이펙트를 재사용)
+    private static final Pool<CircleEffect> POOL = new Pool<CircleEffect>() {
+        @Override
+        protected CircleEffect newObject() {
+            return new CircleEffect();
+        }
+    };
+
+    private CircleEffect() {
+    }
+
     /**
-     * 원형 이펙트 생성자
+     * 풀에서 원형 이펙트를 꺼냅니다.
      *
      * @param x 중심 X 좌표
      * @param y 중심 Y 좌표
      * @param radius 반경
      * @param duration 지속시간 (초)
      * @param color 색상
+     * @return 초기화된 이펙트
      */
-    public CircleEffect(float x, float y, float radius, float duration, Color color) {
-        super(x, y, duration, color);
-        this.radius = radius;
-        this.lineWidth = 2f;
+    public static CircleEffect obtain(float x, float y, float radius, float duration, Color color) {
+        CircleEffect effect = POOL.obtain();
+        effect.init(x, y, duration, color);
+        effect.radius = radius;
+        effect.lineWidth = 2f;
+        return effect;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        radius = 0f;
+        lineWidth = 0f;
     }
 
     /**
@@ -44,10 +71,7 @@ public class CircleEffect extends TempEffect {
         if (!isActive) return;
 
         // 시간 경과에 따라 투명도 변경
-        Color renderColor = new Color(color);
-        renderColor.a = getAlpha();
-
-        shapeRenderer.setColor(renderColor);
+        shapeRenderer.setColor(color.r, color.g, color.b, getAlpha());
 
         // 원 그리기 (채우지 않음 - 외곽선만)
         shapeRenderer.circle(position.x, position.y, radius, 32);
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.game.skill.SkillEffectManager;
@@ -20,20 +21,22 @@ import com.example.yugeup.network.messages.SkillCastMsg;
  * - Zone Player Follow (플레이어 추적 Zone): 플레이어를 따라다님
  * - Projectile Multi (다방향 투사체): 여러 방향으로 발사
  *
+ * 풀에서 obtain으로 꺼내고, 수명이 끝나면 free로 반납합니다.
+ *
  * @author YuGeup Development Team
  * @version 2.0
  */
-public class RemoteSkillEffect {
+public class RemoteSkillEffect implements Pool.Poolable {
     private int skillId;
-    private Vector2 startPosition;
-    private Vector2 direction;
+    private final Vector2 startPosition = new Vector2();
+    private final Vector2 direction = new Vector2();
     private Animation<TextureRegion> animation;
     private float animationTime;
     private float lifetime;
     private float maxLifetime = 3.0f;
     private boolean isAlive;
     private float speed = 200f;
-    private Vector2 currentPosition;
+    private final Vector2 currentPosition = new Vector2();
     private float size = 48f;
     private float width = 48f;   // 렌더링 너비 (비율 지원)
     private float height = 48f;  // 렌더링 높이 (비율 지원)
@@ -53,43 +56,112 @@ public class RemoteSkillEffect {
     // 다방향 발사체용 (메인 이펙트만 표시, 추가 발사체는 별도 생성)
     private int projectileIndex = 0;  // 다방향 발사 시 몇 번째 발사체인지
 
+    // 이펙트 풀 (수명이 끝난 이펙트를 다음 시전에 재사용)
+    private static final Pool<RemoteSkillEffect> POOL = new Pool<RemoteSkillEffect>() {
+        @Override
+        protected RemoteSkillEffect newObject() {
+            return new RemoteSkillEffect();
+        }
+    };
+
+    private RemoteSkillEffect() {
+    }
+
     /**
-     * 원격 스킬 이펙트 생성자 (레거시)
+     * 풀에서 원격 스킬 이펙트를 꺼냅니다. (레거시)
      *
      * @param skillId 스킬 ID
      * @param startX 시작 X 좌표
      * @param startY 시작 Y 좌표
      * @param targetX 목표 X 좌표
      * @param targetY 목표 Y 좌표
-     * @deprecated SkillCastMsg를 받는 생성자 사용 권장
+     * @return 초기화된 이펙트
+     * @deprecated SkillCastMsg를 받는 obtain 사용 권장
      */
     @Deprecated
-    public RemoteSkillEffect(int skillId, float startX, float startY, float targetX, float targetY) {
-        this.skillId = skillId;
-        this.startPosition = new Vector2(startX, startY);
-        this.animationTime = 0f;
-        this.lifetime = 0f;
-        this.isAlive = true;
+    public static RemoteSkillEffect obtain(int skillId, float startX, float startY, float targetX, float targetY) {
+        RemoteSkillEffect effect = POOL.obtain();
+        effect.skillId = skillId;
+        effect.startPosition.set(startX, startY);
+        effect.animationTime = 0f;
+        effect.lifetime = 0f;
+        effect.isAlive = true;
 
         // 방향 계산
-        this.direction = new Vector2(targetX - startX, targetY - startY).nor();
+        effect.direction.set(targetX - startX, targetY - startY).nor();
 
         // 스킬 ID에 따라 애니메이션 로드
-        loadAnimationForSkill(skillId);
+        effect.loadAnimationForSkill(skillId);
 
         // 스킬 타입에 따라 시작 위치 결정
-        determineStartPosition(startX, startY, targetX, targetY);
+        effect.determineStartPosition(startX, startY, targetX, targetY);
+        return effect;
     }
 
     /**
-     * 원격 스킬 이펙트 생성자 (SkillCastMsg 버전)
+     * 풀에서 원격 스킬 이펙트를 꺼냅니다. (SkillCastMsg 버전)
      * 스킬의 상세 정보를 SkillCastMsg에서 받아서 동적으로 설정합니다.
      *
      * @param msg 스킬 시전 메시지
      * @param startX 시작 X 좌표 (원격 플레이어 위치)
      * @param startY 시작 Y 좌표 (원격 플레이어 위치)
+     * @return 초기화된 이펙트
      */
-    public RemoteSkillEffect(SkillCastMsg msg, float startX, float startY) {
+    public static RemoteSkillEffect obtain(SkillCastMsg msg, float startX, float startY) {
+        RemoteSkillEffect effect = POOL.obtain();
+        effect.init(msg, startX, startY);
+        return effect;
+    }
+
+    /**
+     * 풀에서 원격 스킬 이펙트를 꺼냅니다. (플레이어 추적형)
+     *
+     * @param msg 스킬 시전 메시지
+     * @param player 추적할 플레이어
+     * @return 초기화된 이펙트
+     */
+    public static RemoteSkillEffect obtain(SkillCastMsg msg, Player player) {
+        RemoteSkillEffect effect = obtain(msg, player.getX(), player.getY());
+        effect.followPlayer = player;
+        effect.skillType = ElementalSkill.SKILL_TYPE_ZONE_PLAYER_FOLLOW;
+        return effect;
+    }
+
+    /**
+     * 풀에서 다방향 발사체용 이펙트를 꺼냅니다.
+     *
+     * @param msg 스킬 시전 메시지
+     * @param startX 시작 X
+     * @param startY 시작 Y
+     * @param index 발사체 인덱스 (0: 중앙, 1: 왼쪽, 2: 오른쪽 등)
+     * @return 초기화된 이펙트
+     */
+    public static RemoteSkillEffect obtain(SkillCastMsg msg, float startX, float startY, int index) {
+        RemoteSkillEffect effect = obtain(msg, startX, startY);
+        effect.projectileIndex = index;
+
+        // 다방향 발사체의 방향 조정
+        if (msg.projectileCount > 1 && msg.angleSpread > 0) {
+            float baseAngle = effect.direction.angleDeg();
+            float angleOffset = 0;
+
+            // 중앙(0), 왼쪽(-angleSpread), 오른쪽(+angleSpread) 순서로 계산
+            if (index == 1) {
+                angleOffset = -msg.angleSpread;
+            } else if (index == 2) {
+                angleOffset = msg.angleSpread;
+            }
+
+            float newAngle = baseAngle + angleOffset;
+            effect.direction.set(1, 0).setAngleDeg(newAngle);
+        }
+        return effect;
+    }
+
+    /**
+     * SkillCastMsg로 이펙트를 초기화합니다.
+     */
+    private void init(SkillCastMsg msg, float startX, float startY) {
         this.skillId = msg.skillId;
         this.animationTime = 0f;
         this.lifetime = 0f;
@@ -101,13 +173,13 @@ public class RemoteSkillEffect {
         // 시전자 위치 사용 (메시지에 포함된 경우)
         float casterX = msg.casterX > 0 ? msg.casterX : startX;
         float casterY = msg.casterY > 0 ? msg.casterY : startY;
-        this.startPosition = new Vector2(casterX, casterY);
+        this.startPosition.set(casterX, casterY);
 
         // 방향 계산 (메시지에 directionX/Y가 있으면 사용, 없으면 계산)
         if (msg.directionX != 0 || msg.directionY != 0) {
-            this.direction = new Vector2(msg.directionX, msg.directionY).nor();
+            this.direction.set(msg.directionX, msg.directionY).nor();
         } else {
-            this.direction = new Vector2(msg.targetX - casterX, msg.targetY - casterY).nor();
+            this.direction.set(msg.targetX - casterX, msg.targetY - casterY).nor();
         }
 
         // 스킬 ID에 따라 애니메이션, 크기, 속도 등 모든 속성 로드
@@ -119,44 +191,35 @@ public class RemoteSkillEffect {
     }
 
     /**
-     * 원격 스킬 이펙트 생성자 (플레이어 추적형)
-     *
-     * @param msg 스킬 시전 메시지
-     * @param player 추적할 플레이어
+     * 이펙트를 풀에 반납합니다. (반납 후에는 참조를 버려야 함)
      */
-    public RemoteSkillEffect(SkillCastMsg msg, Player player) {
-        this(msg, player.getX(), player.getY());
-        this.followPlayer = player;
-        this.skillType = ElementalSkill.SKILL_TYPE_ZONE_PLAYER_FOLLOW;
+    public void free() {
+        POOL.free(this);
     }
 
     /**
-     * 다방향 발사체용 생성자
-     *
-     * @param msg 스킬 시전 메시지
-     * @param startX 시작 X
-     * @param startY 시작 Y
-     * @param index 발사체 인덱스 (0: 중앙, 1: 왼쪽, 2: 오른쪽 등)
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
      */
-    public RemoteSkillEffect(SkillCastMsg msg, float startX, float startY, int index) {
-        this(msg, startX, startY);
-        this.projectileIndex = index;
-
-        // 다방향 발사체의 방향 조정
-        if (msg.projectileCount > 1 && msg.angleSpread > 0) {
-            float baseAngle = direction.angleDeg();
-            float angleOffset = 0;
-
-            // 중앙(0), 왼쪽(-angleSpread), 오른쪽(+angleSpread) 순서로 계산
-            if (index == 1) {
-                angleOffset = -msg.angleSpread;
-            } else if (index == 2) {
-                angleOffset = msg.angleSpread;
-            }
-
-            float newAngle = baseAngle + angleOffset;
-            this.direction = new Vector2(1, 0).setAngleDeg(newAngle);
-        }
+    @Override
+    public void reset() {
+        skillId = 0;
+        startPosition.setZero();
+        direction.setZero();
+        currentPosition.setZero();
+        animation = null;
+        animationTime = 0f;
+        lifetime = 0f;
+        maxLifetime = 3.0f;
+        isAlive = false;
+        speed = 200f;
+        size = 48f;
+        width = 48f;
+        height = 48f;
+        flipY = false;
+        fixedAngle = false;
+        skillType = ElementalSkill.SKILL_TYPE_PROJECTILE;
+        followPlayer = null;
+        projectileIndex = 0;
     }
 
     /**
@@ -167,27 +230,27 @@ public class RemoteSkillEffect {
             case ElementalSkill.SKILL_TYPE_PROJECTILE:
             case ElementalSkill.SKILL_TYPE_PROJECTILE_MULTI:
                 // 투사체: 시전자 위치에서 시작
-                this.currentPosition = new Vector2(casterX, casterY);
+                this.currentPosition.set(casterX, casterY);
                 break;
 
             case ElementalSkill.SKILL_TYPE_ZONE_FIXED:
                 // 고정 Zone: 목표 위치에 생성
-                this.currentPosition = new Vector2(msg.targetX, msg.targetY);
+                this.currentPosition.set(msg.targetX, msg.targetY);
                 break;
 
             case ElementalSkill.SKILL_TYPE_ZONE_MOVING:
                 // 이동 Zone: 시전자 위치에서 시작
-                this.currentPosition = new Vector2(casterX, casterY);
+                this.currentPosition.set(casterX, casterY);
                 break;
 
             case ElementalSkill.SKILL_TYPE_ZONE_PLAYER_FOLLOW:
                 // 플레이어 추적 Zone: 시전자 위치에서 시작 (이후 플레이어 따라감)
-                this.currentPosition = new Vector2(casterX, casterY);
+                this.currentPosition.set(casterX, casterY);
                 break;
 
             default:
                 // 기본: 시전자 위치
-                this.currentPosition = new Vector2(casterX, casterY);
+                this.currentPosition.set(casterX, casterY);
                 break;
         }
     }
@@ -202,9 +265,9 @@ public class RemoteSkillEffect {
                                 skillType == ElementalSkill.SKILL_TYPE_ZONE_MOVING);
 
         if (isProjectile) {
-            this.currentPosition = new Vector2(startX, startY);
+            this.currentPosition.set(startX, startY);
         } else {
-            this.currentPosition = new Vector2(targetX, targetY);
+            this.currentPosition.set(targetX, targetY);
         }
     }
 
@@ -3,20 +3,22 @@ package com.example.yugeup.game.effect;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * 임시 이펙트 클래스 (Phase 14+용)
  *
  * 스킬 이펙트를 임시로 표시하기 위해 ShapeRenderer를 사용합니다.
  * Phase 27에서 파티클 시스템으로 대체될 예정입니다.
+ * 하위 클래스는 타입별 Pool에서 obtain으로 꺼내고, 끝나면 free로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public abstract class TempEffect {
+public abstract class TempEffect implements Pool.Poolable {
 
     // 이펙트 위치
-    protected Vector2 position;
+    protected final Vector2 position = new Vector2();
 
     // 이펙트 지속시간 (초)
     protected float maxDuration;
@@ -27,25 +29,48 @@ public abstract class TempEffect {
     // 이펙트가 활성화되어 있는지
     protected boolean isActive;
 
-    // 이펙트 색상
-    protected Color color;
+    // 이펙트 색상 (전달받은 색상을 복사해 보관)
+    protected final Color color = new Color();
 
     /**
-     * 임시 이펙트 생성자
+     * 풀 생성용 생성자
+     */
+    protected TempEffect() {
+    }
+
+    /**
+     * 임시 이펙트 초기화
      *
      * @param x 이펙트 X 좌표
      * @param y 이펙트 Y 좌표
      * @param duration 지속시간 (초)
      * @param color 이펙트 색상
      */
-    public TempEffect(float x, float y, float duration, Color color) {
-        this.position = new Vector2(x, y);
+    protected void init(float x, float y, float duration, Color color) {
+        this.position.set(x, y);
         this.maxDuration = duration;
         this.remainingDuration = duration;
         this.isActive = true;
-        this.color = color;
+        this.color.set(color);
     }
 
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        maxDuration = 0f;
+        remainingDuration = 0f;
+        isActive = false;
+        color.set(Color.WHITE);
+    }
+
+    /**
+     * 이펙트를 자신의 풀에 반납합니다. (반납 후에는 참조를 버려야 함)
+     */
+    public abstract void free();
+
     /**
      * 이펙트를 업데이트합니다.
      *
@@ -35,6 +35,27 @@ public class GameMap {
     // fog 그룹 레이어 (PHASE_24)
     private MapGroupLayer fogGroupLayer;
 
+    // 충돌 판정할 레이어 정의 (그룹명:레이어명 형식)
+    // door-frame, open-door-wall, door는 통과 가능 (충돌 판정 제외)
+    private static final String[][] COLLISION_LAYERS = {
+        {"wall", "wall"},              // wall 그룹의 wall 레이어만
+        {"item", "furniture1"},         // item 그룹의 furniture1
+        {"item", "furniture2"},         // item 그룹의 furniture2
+        {"item", "furniture3"}          // item 그룹의 furniture3
+    };
+
+    // 로드 시 충돌 레이어를 합쳐 만든 벽 비트셋 (인덱스 = tileY * mapWidthInTiles + tileX, 1 = 벽)
+    private long[] wallBits;
+
+    // fog 레이어 최대 개수 (타일 마스크 int 비트 수)
+    private static final int MAX_FOG_LAYERS = 32;
+    // 타일별 fog 레이어 비트마스크 (비트 i = fog 그룹의 i번째 레이어에 타일이 있음)
+    private int[] fogTileMasks;
+    // fog 레이어 이름 (비트 순서)
+    private String[] fogLayerNames = new String[0];
+    // 활성화된 fog 레이어 비트마스크
+    private int activeFogMask = 0;
+
     /**
      * GameMap 생성자
      */
@@ -97,6 +118,9 @@ public class GameMap {
                 System.out.println("[GameMap] 경고: fog 그룹 레이어를 찾을 수 없음");
             }
 
+            buildWallBits();
+            buildFogTileMasks();
+
         } catch (Exception e) {
             System.err.println("[GameMap] 오류: TMX 파일 로드 실패 - " + e.getMessage());
             e.printStackTrace();
@@ -111,6 +135,86 @@ public class GameMap {
         }
     }
 
+    /**
+     * 충돌 레이어들을 한 번 훑어 벽 비트셋을 만듭니다.
+     * 이후 isWall/isWallInArea는 레이어 이름 조회 없이 비트 하나만 확인합니다.
+     */
+    private void buildWallBits() {
+        wallBits = new long[(mapWidthInTiles * mapHeightInTiles + 63) >>> 6];
+        int wallCount = 0;
+
+        for (String[] layerInfo : COLLISION_LAYERS) {
+            MapLayer groupLayer = tiledMap.getLayers().get(layerInfo[0]);
+            if (!(groupLayer instanceof MapGroupLayer)) {
+                continue;
+            }
+            MapLayer innerLayer = ((MapGroupLayer) groupLayer).getLayers().get(layerInfo[1]);
+            if (!(innerLayer instanceof TiledMapTileLayer)) {
+                continue;
+            }
+
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) innerLayer;
+            for (int tileY = 0; tileY < mapHeightInTiles; tileY++) {
+                for (int tileX = 0; tileX < mapWidthInTiles; tileX++) {
+                    TiledMapTileLayer.Cell cell = tileLayer.getCell(tileX, tileY);
+                    if (cell != null && cell.getTile() != null) {
+                        int bit = tileY * mapWidthInTiles + tileX;
+                        if ((wallBits[bit >>> 6] & (1L << bit)) == 0) {
+                            wallBits[bit >>> 6] |= 1L << bit;
+                            wallCount++;
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println("[GameMap] 벽 비트셋 생성 - 벽 타일: " + wallCount + " / " + (mapWidthInTiles * mapHeightInTiles));
+    }
+
+    /**
+     * fog 레이어마다 타일 마스크 비트를 배정하고 타일별 비트마스크를 만듭니다.
+     * 레이어 표시 여부는 렌더링용으로 그대로 두고, 판정은 activeFogMask로 합니다.
+     */
+    private void buildFogTileMasks() {
+        if (fogGroupLayer == null) {
+            return;
+        }
+
+        int layerCount = Math.min(fogGroupLayer.getLayers().getCount(), MAX_FOG_LAYERS);
+        fogLayerNames = new String[layerCount];
+        fogTileMasks = new int[mapWidthInTiles * mapHeightInTiles];
+
+        for (int i = 0; i < layerCount; i++) {
+            MapLayer layer = fogGroupLayer.getLayers().get(i);
+            fogLayerNames[i] = layer.getName();
+            if (!(layer instanceof TiledMapTileLayer)) {
+                continue;
+            }
+
+            TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+            for (int tileY = 0; tileY < mapHeightInTiles; tileY++) {
+                for (int tileX = 0; tileX < mapWidthInTiles; tileX++) {
+                    TiledMapTileLayer.Cell cell = tileLayer.getCell(tileX, tileY);
+                    if (cell != null && cell.getTile() != null) {
+                        fogTileMasks[tileY * mapWidthInTiles + tileX] |= 1 << i;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * fog 레이어 이름의 비트 번호 (없으면 -1)
+     */
+    private int fogLayerIndex(String zoneName) {
+        for (int i = 0; i < fogLayerNames.length; i++) {
+            if (fogLayerNames[i].equals(zoneName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * 업데이트 (자기장 시스템 등)
      *
@@ -177,8 +281,7 @@ public class GameMap {
      * @return 벽이 있으면 true
      */
     public boolean isWall(float x, float y) {
-        if (tiledMap == null) {
-            System.out.println("[GameMap] isWall: tiledMap is null!");
+        if (wallBits == null) {
             return false;
         }
 
@@ -191,46 +294,13 @@ public class GameMap {
         int tileX = (int)(x / tileWidth);
         int tileY = (int)(y / tileHeight);
 
-        // 충돌 판정할 레이어 정의 (그룹명:레이어명 형식)
-        String[][] collisionLayers = {
-            {"wall", "wall"},              // wall 그룹의 wall 레이어만
-            {"item", "furniture1"},         // item 그룹의 furniture1
-            {"item", "furniture2"},         // item 그룹의 furniture2
-            {"item", "furniture3"}          // item 그룹의 furniture3
-        };
-        // door-frame, open-door-wall, door는 통과 가능 (충돌 판정 제외)
-
-        // 각 충돌 레이어 확인
-        for (String[] layerInfo : collisionLayers) {
-            String groupName = layerInfo[0];
-            String targetLayerName = layerInfo[1];
-
-            MapLayer groupLayer = tiledMap.getLayers().get(groupName);
-            if (groupLayer == null) {
-                continue;
-            }
-
-            // 그룹인 경우: 특정 레이어만 확인
-            if (groupLayer instanceof MapGroupLayer) {
-                MapGroupLayer group = (MapGroupLayer) groupLayer;
-                MapLayer innerLayer = group.getLayers().get(targetLayerName);
-
-                if (innerLayer != null && innerLayer instanceof TiledMapTileLayer) {
-                    TiledMapTileLayer tileLayer = (TiledMapTileLayer) innerLayer;
-                    TiledMapTileLayer.Cell cell = tileLayer.getCell(tileX, tileY);
-
-                    if (cell != null && cell.getTile() != null) {
-                        // 디버그 로그 (필요시 주석 해제)
-                        // System.out.println("[GameMap] 벽 감지! 그룹:" + groupName +
-                        //                  ", 레이어:" + targetLayerName +
-                        //                  ", 좌표:(" + x + "," + y + "), 타일:(" + tileX + "," + tileY + ")");
-                        return true;
-                    }
-                }
-            }
+        // 맵 오른쪽/위쪽 경계선 위의 좌표는 타일이 없음
+        if (tileX >= mapWidthInTiles || tileY >= mapHeightInTiles) {
+            return false;
         }
 
-        return false;
+        int bit = tileY * mapWidthInTiles + tileX;
+        return (wallBits[bit >>> 6] & (1L << bit)) != 0;
     }
 
     /**
@@ -265,6 +335,10 @@ public class GameMap {
         MapLayer layer = fogGroupLayer.getLayers().get(zoneName);
         if (layer != null) {
             layer.setVisible(true);
+            int index = fogLayerIndex(zoneName);
+            if (index >= 0) {
+                activeFogMask |= 1 << index;
+            }
             System.out.println("[GameMap] ★ fog 레이어 활성화: " + zoneName);
         } else {
             System.out.println("[GameMap] fog 레이어를 찾을 수 없음: " + zoneName);
@@ -284,6 +358,10 @@ public class GameMap {
         MapLayer layer = fogGroupLayer.getLayers().get(zoneName);
         if (layer != null) {
             layer.setVisible(false);
+            int index = fogLayerIndex(zoneName);
+            if (index >= 0) {
+                activeFogMask &= ~(1 << index);
+            }
             System.out.println("[GameMap] fog 레이어 비활성화: " + zoneName);
         }
     }
@@ -296,33 +374,23 @@ public class GameMap {
      * @return fog 구역 내에 있으면 해당 구역 이름, 아니면 null
      */
     public String isInActiveFog(float x, float y) {
-        if (fogGroupLayer == null || tiledMap == null) {
+        if (fogTileMasks == null || activeFogMask == 0) {
             return null;
         }
 
         // 픽셀 좌표를 타일 좌표로 변환
         int tileX = (int)(x / tileWidth);
         int tileY = (int)(y / tileHeight);
-
-        // 각 fog 레이어 확인
-        for (MapLayer layer : fogGroupLayer.getLayers()) {
-            // 비활성화된 레이어는 건너뜀
-            if (!layer.isVisible()) {
-                continue;
-            }
-
-            // TiledMapTileLayer인 경우 타일 확인
-            if (layer instanceof TiledMapTileLayer) {
-                TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
-                TiledMapTileLayer.Cell cell = tileLayer.getCell(tileX, tileY);
-
-                if (cell != null && cell.getTile() != null) {
-                    return layer.getName(); // fog 구역 이름 반환
-                }
-            }
+        if (tileX < 0 || tileY < 0 || tileX >= mapWidthInTiles || tileY >= mapHeightInTiles) {
+            return null;
         }
 
-        return null; // fog 구역에 없음
+        // 활성 레이어 중 이 타일이 포함된 첫 번째 레이어 (fog 그룹 순서)
+        int mask = fogTileMasks[tileY * mapWidthInTiles + tileX] & activeFogMask;
+        if (mask == 0) {
+            return null; // fog 구역에 없음
+        }
+        return fogLayerNames[Integer.numberOfTrailingZeros(mask)];
     }
 
     /**
@@ -31,6 +31,16 @@ public class Bat extends Monster {
         this.height = 32f;
     }
 
+    /**
+     * 풀에서 다시 꺼낼 때 박쥐 기본 체력으로 되돌립니다.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.maxHealth = Constants.BAT_HP;
+        this.currentHealth = Constants.BAT_HP;
+    }
+
     /**
      * 특수 능력: 급습
      *
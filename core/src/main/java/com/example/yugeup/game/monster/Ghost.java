@@ -30,6 +30,16 @@ public class Ghost extends Monster {
         this.height = 32f;
     }
 
+    /**
+     * 풀에서 다시 꺼낼 때 고스트 기본 체력으로 되돌립니다.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.maxHealth = Constants.GHOST_HP;
+        this.currentHealth = Constants.GHOST_HP;
+    }
+
     /**
      * 특수 능력: 투명화
      *
@@ -31,6 +31,16 @@ public class Golem extends Monster {
         this.height = Constants.GOLEM_SIZE;  // 32 → 64 (2배)
     }
 
+    /**
+     * 풀에서 다시 꺼낼 때 골렘 기본 체력으로 되돌립니다.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        this.maxHealth = Constants.GOLEM_HP;
+        this.currentHealth = Constants.GOLEM_HP;
+    }
+
     /**
      * 특수 능력: 강타
      *
@@ -5,7 +5,10 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.example.yugeup.game.buff.Buff;
 import com.example.yugeup.game.animation.MonsterAnimation;
+import com.example.yugeup.network.ServerClock;
+import com.example.yugeup.network.SnapshotBuffer;
 import com.example.yugeup.ui.hud.HPBar;
+import com.example.yugeup.utils.Constants;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -64,6 +67,12 @@ public class Monster {
     // 마지막 공격 시간 (밀리초)
     protected long lastAttackTime = 0;
 
+    // 마지막 서버 피해 메시지 수신 시각 (밀리초, 스냅샷 HP보다 피해 메시지 HP를 우선하는 기간 판단용)
+    protected long lastDamageMillis = 0;
+
+    // 풀에 반납된 프레임 (MonsterManager 전용, 같은 프레임에 바로 재사용하지 않기 위함)
+    int releasedFrame;
+
     /**
      * 몬스터 생성자 (버프 목록 초기화)
      */
@@ -71,10 +80,6 @@ public class Monster {
         this.activeBuffs = new ArrayList<>();
         this.defenseBonus = 0;
         this.hpBar = new HPBar(this);
-
-        // 초기 위치와 목표 위치 동기화
-        this.targetX = this.x;
-        this.targetY = this.y;
     }
 
     /**
@@ -94,9 +99,8 @@ public class Monster {
     private float aiTargetY = 0;
     private boolean hasTarget = false;
 
-    // 실제 이동 목표 위치 (보간 이동용)
-    private float targetX = 0;
-    private float targetY = 0;
+    // 서버 스냅샷 버퍼 (서버 시각 기준 보간 이동용)
+    private final SnapshotBuffer positionBuffer = new SnapshotBuffer(Constants.MONSTER_SYNC_INTERVAL);
 
     // GameMap 참조 (벽 충돌 감지용)
     private com.example.yugeup.game.map.GameMap gameMap;
@@ -157,59 +161,42 @@ public class Monster {
 
     /**
      * 서버 위치로의 보간 이동 (부드러운 동기화)
+     * 렌더 시각(현재 서버 시각 - 보간 지연)의 위치를 스냅샷 버퍼에서 구합니다.
      *
      * @param delta 이전 프레임으로부터의 시간 (초)
      */
     private void updateInterpolation(float delta) {
-        // 이동 전 위치 저장
-        float oldX = x;
-        float oldY = y;
-
-        // 목표 위치까지의 거리
-        float dx = targetX - x;
-        float dy = targetY - y;
-        float distance = (float) Math.sqrt(dx * dx + dy * dy);
-
-        // 거리가 매우 가까우면 즉시 목표 위치로 이동 (멈춤 감지)
-        if (distance < 2f) {
-            x = targetX;
-            y = targetY;
-            setState(MonsterState.IDLE);
-            return;
+        ServerClock clock = ServerClock.getInstance();
+        if (!clock.isSynced() || !positionBuffer.sample(clock.getRenderTime())) {
+            return;  // 아직 서버 위치를 받지 못함 (스폰 위치 유지)
         }
 
-        // 보간 속도: 서버 최대 속도의 1.5배 (Ghost: 120 픽셀/초 → 180)
-        // 서버가 0.1초마다 위치 전송하므로 빠르게 따라가야 함
-        float interpolationSpeed = 180f;  // 증가된 보간 속도
-        float lerpAmount = Math.min(1f, interpolationSpeed * delta);
-
-        // 선형 보간으로 부드럽게 이동
-        x += dx * lerpAmount;
-        y += dy * lerpAmount;
+        float newX = positionBuffer.getX();
+        float newY = positionBuffer.getY();
 
-        // 벽 충돌 체크
-        if (gameMap != null) {
+        // 외삽 구간은 서버 확인 전 추정이므로 벽을 넘어가지 않게 멈춤
+        // (보간 구간은 서버가 충돌 처리한 위치 사이이므로 검사하지 않음)
+        if (positionBuffer.isExtrapolating() && gameMap != null) {
             float radius = 12f;  // 몬스터 충돌 반경
-            if (gameMap.isWallInArea(x, y, radius)) {
-                // 벽에 부딪히면 원위치
-                x = oldX;
-                y = oldY;
-                // 목표 위치도 현재 위치로 리셋 (벽 너머로 이동하지 않도록)
-                targetX = x;
-                targetY = y;
+            if (gameMap.isWallInArea(newX, newY, radius)) {
+                return;
             }
         }
-
-        // 방향 업데이트 (dx가 음수면 왼쪽, 양수면 오른쪽)
-        if (Math.abs(dx) > 1f) {  // 이동량이 충분히 클 때만 방향 변경
-            direction = (dx < 0) ? 0 : 1;  // 0=left, 1=right
+        x = newX;
+        y = newY;
+
+        // 방향 업데이트 (속도 x가 음수면 왼쪽, 양수면 오른쪽)
+        float vx = positionBuffer.getVelocityX();
+        float vy = positionBuffer.getVelocityY();
+        if (Math.abs(vx) > 1f) {  // 이동량이 충분히 클 때만 방향 변경
+            direction = (vx < 0) ? 0 : 1;  // 0=left, 1=right
         }
 
         // 서버가 ATTACKING 상태를 전송한 경우 클라이언트에서 덮어쓰지 않음
         // 서버 상태가 우선순위를 가짐
         if (state != MonsterState.ATTACKING) {
-            // 이동 중이면 MOVING 상태로 변경
-            if (distance > 5f) {
+            // 이동 중이면 MOVING 상태로 변경 (초당 5픽셀 이상)
+            if (vx * vx + vy * vy > 25f) {
                 setState(MonsterState.MOVING);
             } else {
                 setState(MonsterState.IDLE);
@@ -444,6 +431,30 @@ public class Monster {
         defenseBonus = 0;
     }
 
+    /**
+     * 풀에서 다시 꺼낸 몬스터를 새로 생성한 상태로 되돌립니다.
+     * 애니메이션과 HP 바는 그대로 재사용합니다.
+     * 서브클래스는 타입별 기본 체력을 다시 설정합니다.
+     */
+    public void reset() {
+        monsterId = 0;
+        level = 0;
+        x = 0;
+        y = 0;
+        isDead = false;
+        direction = 1;
+        defenseBonus = 0;
+        lastAttackTime = 0;
+        lastDamageMillis = 0;
+        hasTarget = false;
+        activeBuffs.clear();
+        positionBuffer.clear();
+        state = MonsterState.IDLE;
+        if (animation != null) {
+            animation.resetStateTime();
+        }
+    }
+
     // Getter & Setter
     public int getMonsterId() { return monsterId; }
     public void setMonsterId(int monsterId) { this.monsterId = monsterId; }
@@ -475,20 +486,21 @@ public class Monster {
     public void setPosition(float x, float y) {
         this.x = x;
         this.y = y;
-        // 목표 위치도 동기화 (초기 스폰 시)
-        this.targetX = x;
-        this.targetY = y;
+        // 이전 스냅샷은 버림 (초기 스폰 시)
+        positionBuffer.clear();
     }
 
     /**
-     * 서버로부터 받은 목표 위치를 설정합니다 (보간 이동)
+     * 서버 스냅샷의 위치를 추가합니다 (서버 시각 기준 보간 이동)
      *
-     * @param x 목표 X 좌표
-     * @param y 목표 Y 좌표
+     * @param serverTime 스냅샷 서버 시각 (ms)
+     * @param x X 좌표
+     * @param y Y 좌표
+     * @param vx X 속도 (외삽용)
+     * @param vy Y 속도 (외삽용)
      */
-    public void setTargetPosition(float x, float y) {
-        this.targetX = x;
-        this.targetY = y;
+    public void addSnapshot(int serverTime, float x, float y, float vx, float vy) {
+        positionBuffer.add(serverTime, x, y, vx, vy);
     }
 
     public int getCurrentHealth() { return currentHealth; }
@@ -533,6 +545,28 @@ public class Monster {
         }
     }
 
+    /**
+     * 스냅샷 상태 코드로부터 상태 설정 (서버 동기화용)
+     *
+     * @param code MonsterSnapshotMsg.STATE_* 코드
+     */
+    public void setStateFromCode(byte code) {
+        switch (code) {
+            case org.example.MonsterSnapshotMsg.STATE_PURSUING:
+                setState(MonsterState.PURSUING);
+                break;
+            case org.example.MonsterSnapshotMsg.STATE_ATTACKING:
+                setState(MonsterState.ATTACKING);
+                break;
+            case org.example.MonsterSnapshotMsg.STATE_DEAD:
+                setState(MonsterState.DEAD);
+                break;
+            default:
+                setState(MonsterState.IDLE);
+                break;
+        }
+    }
+
     public float getWidth() { return width; }
     public void setWidth(float width) { this.width = width; }
 
@@ -546,4 +580,7 @@ public class Monster {
 
     public long getLastAttackTime() { return lastAttackTime; }
     public void setLastAttackTime(long time) { this.lastAttackTime = time; }
+
+    public long getLastDamageMillis() { return lastDamageMillis; }
+    public void setLastDamageMillis(long time) { this.lastDamageMillis = time; }
 }
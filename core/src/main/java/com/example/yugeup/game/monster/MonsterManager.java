@@ -1,9 +1,11 @@
 package com.example.yugeup.game.monster;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.Queue;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.EnumMap;
 import java.util.List;
 
 /**
@@ -12,6 +14,10 @@ import java.util.List;
  * 게임 내 모든 몬스터를 관리합니다.
  * 서버로부터 받은 몬스터 정보를 기반으로 생성/업데이트/삭제를 처리합니다.
  *
+ * 몬스터 ID → 목록 위치 인덱스(IntIntMap, 오픈 어드레싱)로 메시지마다 O(1)로 찾고,
+ * 제거는 마지막 몬스터를 빈자리로 옮겨 O(1)로 처리합니다. (목록 순서는 유지하지 않음)
+ * 제거된 몬스터는 타입별 풀에 반납했다가 다음 스폰에 애니메이션/HP 바째로 재사용합니다.
+ *
  * @author YuGeup Development Team
  * @version 1.0
  */
@@ -20,6 +26,15 @@ public class MonsterManager {
     // 활성화된 몬스터 목록
     private List<Monster> monsters;
 
+    // 몬스터 ID → monsters 인덱스
+    private final IntIntMap indexById = new IntIntMap();
+
+    // 타입별 재사용 대기 몬스터 (먼저 반납된 것부터 재사용)
+    private final EnumMap<MonsterType, Queue<Monster>> pools = new EnumMap<>(MonsterType.class);
+
+    // update 호출 수 (반납한 프레임에는 재사용하지 않음 - 이전 참조가 사망 상태를 확인할 시간)
+    private int frame;
+
     // GameMap 참조 (몬스터 벽 충돌 감지용)
     private com.example.yugeup.game.map.GameMap gameMap;
 
@@ -28,6 +43,9 @@ public class MonsterManager {
      */
     public MonsterManager() {
         this.monsters = new ArrayList<>();
+        for (MonsterType type : MonsterType.values()) {
+            pools.put(type, new Queue<>());
+        }
     }
 
     /**
@@ -38,9 +56,46 @@ public class MonsterManager {
     public void setGameMap(com.example.yugeup.game.map.GameMap gameMap) {
         this.gameMap = gameMap;
         // 기존 몬스터들에게도 GameMap 설정
-        for (Monster monster : monsters) {
-            monster.setGameMap(gameMap);
+        for (int i = 0; i < monsters.size(); i++) {
+            monsters.get(i).setGameMap(gameMap);
+        }
+    }
+
+    /**
+     * 서버 스폰 정보로 몬스터를 생성합니다.
+     * 같은 타입의 반납된 몬스터가 있으면 재사용합니다.
+     *
+     * @param type 몬스터 타입
+     * @param monsterId 몬스터 ID
+     * @param x 스폰 X 좌표
+     * @param y 스폰 Y 좌표
+     * @return 생성(또는 이미 존재하는) 몬스터
+     */
+    public Monster spawnMonster(MonsterType type, int monsterId, float x, float y) {
+        Monster existing = getMonster(monsterId);
+        if (existing != null) {
+            System.out.println("[MonsterManager] 이미 존재하는 몬스터 ID: " + monsterId);
+            return existing;
+        }
+
+        Monster monster = obtain(type);
+        monster.setMonsterId(monsterId);
+        monster.setPosition(x, y);
+        addMonster(monster);
+        return monster;
+    }
+
+    /**
+     * 타입별 풀에서 몬스터를 꺼냅니다. (없거나 이번 프레임에 반납된 것뿐이면 새로 생성)
+     */
+    private Monster obtain(MonsterType type) {
+        Queue<Monster> pool = pools.get(type);
+        if (pool.notEmpty() && pool.first().releasedFrame != frame) {
+            Monster monster = pool.removeFirst();
+            monster.reset();
+            return monster;
         }
+        return MonsterFactory.createMonster(type);
     }
 
     /**
@@ -55,11 +110,9 @@ public class MonsterManager {
         }
 
         // 이미 존재하는지 확인
-        for (Monster m : monsters) {
-            if (m.getMonsterId() == monster.getMonsterId()) {
-                System.out.println("[MonsterManager] 이미 존재하는 몬스터 ID: " + monster.getMonsterId());
-                return;
-            }
+        if (indexById.containsKey(monster.getMonsterId())) {
+            System.out.println("[MonsterManager] 이미 존재하는 몬스터 ID: " + monster.getMonsterId());
+            return;
         }
 
         // GameMap 설정 (벽 충돌 감지용)
@@ -67,6 +120,7 @@ public class MonsterManager {
             monster.setGameMap(gameMap);
         }
 
+        indexById.put(monster.getMonsterId(), monsters.size());
         monsters.add(monster);
         System.out.println("[MonsterManager] 몬스터 추가: ID=" + monster.getMonsterId() +
                           ", Type=" + monster.getType());
@@ -78,16 +132,13 @@ public class MonsterManager {
      * @param monsterId 제거할 몬스터 ID
      */
     public void removeMonster(int monsterId) {
-        Iterator<Monster> iterator = monsters.iterator();
-        while (iterator.hasNext()) {
-            Monster monster = iterator.next();
-            if (monster.getMonsterId() == monsterId) {
-                iterator.remove();
-                System.out.println("[MonsterManager] 몬스터 제거: ID=" + monsterId);
-                return;
-            }
+        int index = indexById.get(monsterId, -1);
+        if (index < 0) {
+            System.out.println("[MonsterManager] 제거할 몬스터를 찾을 수 없음: ID=" + monsterId);
+            return;
         }
-        System.out.println("[MonsterManager] 제거할 몬스터를 찾을 수 없음: ID=" + monsterId);
+        release(removeAt(index));
+        System.out.println("[MonsterManager] 몬스터 제거: ID=" + monsterId);
     }
 
     /**
@@ -96,11 +147,41 @@ public class MonsterManager {
      * @param monster 제거할 몬스터
      */
     public void removeMonster(Monster monster) {
-        if (monsters.remove(monster)) {
+        int index = indexById.get(monster.getMonsterId(), -1);
+        if (index >= 0 && monsters.get(index) == monster) {
+            release(removeAt(index));
             System.out.println("[MonsterManager] 몬스터 제거: ID=" + monster.getMonsterId());
         }
     }
 
+    /**
+     * index 위치의 몬스터를 빼고 마지막 몬스터를 그 자리로 옮깁니다.
+     */
+    private Monster removeAt(int index) {
+        Monster removed = monsters.get(index);
+        int last = monsters.size() - 1;
+        if (index != last) {
+            Monster moved = monsters.get(last);
+            monsters.set(index, moved);
+            indexById.put(moved.getMonsterId(), index);
+        }
+        monsters.remove(last);
+        indexById.remove(removed.getMonsterId(), -1);
+        return removed;
+    }
+
+    /**
+     * 제거한 몬스터를 타입 풀에 반납합니다.
+     * 재사용 전까지 사망 상태로 두어 투사체 타겟 등 남은 참조가 놓도록 합니다.
+     */
+    private void release(Monster monster) {
+        monster.setDead(true);
+        if (monster.getType() != null) {
+            monster.releasedFrame = frame;
+            pools.get(monster.getType()).addLast(monster);
+        }
+    }
+
     /**
      * ID로 몬스터를 찾습니다.
      *
@@ -108,12 +189,8 @@ public class MonsterManager {
      * @return 몬스터 객체 (없으면 null)
      */
     public Monster getMonster(int monsterId) {
-        for (Monster monster : monsters) {
-            if (monster.getMonsterId() == monsterId) {
-                return monster;
-            }
-        }
-        return null;
+        int index = indexById.get(monsterId, -1);
+        return index >= 0 ? monsters.get(index) : null;
     }
 
     // 몬스터 사망 리스너
@@ -137,32 +214,28 @@ public class MonsterManager {
 
     /**
      * 모든 몬스터를 업데이트합니다.
+     * 뒤에서부터 순회하므로 사망한 몬스터를 바로 빼도 아직 업데이트하지 않은 몬스터를 건너뛰지 않습니다.
      *
      * @param delta 이전 프레임으로부터의 시간 (초)
      */
     public void update(float delta) {
-        // 사망한 몬스터를 임시 리스트에 저장
-        java.util.List<Monster> deadMonsters = new java.util.ArrayList<>();
+        frame++;
 
-        // 모든 몬스터 업데이트 및 사망 체크
-        for (Monster monster : monsters) {
+        for (int i = monsters.size() - 1; i >= 0; i--) {
+            Monster monster = monsters.get(i);
             monster.update(delta);
 
-            if (monster.isDead() && !deadMonsters.contains(monster)) {
-                deadMonsters.add(monster);
-            }
-        }
+            if (monster.isDead()) {
+                System.out.println("[MonsterManager] 사망한 몬스터 제거: ID=" + monster.getMonsterId());
 
-        // 사망한 몬스터 제거 및 리스너 호출
-        for (Monster deadMonster : deadMonsters) {
-            System.out.println("[MonsterManager] 사망한 몬스터 제거: ID=" + deadMonster.getMonsterId());
+                // 먼저 목록에서 제거
+                removeAt(i);
 
-            // 먼저 리스트에서 제거
-            monsters.remove(deadMonster);
-
-            // 그 다음 리스너 호출 (경험치 획득 등)
-            if (deathListener != null) {
-                deathListener.onMonsterDeath(deadMonster);
+                // 그 다음 리스너 호출 (경험치 획득 등)
+                if (deathListener != null) {
+                    deathListener.onMonsterDeath(monster);
+                }
+                release(monster);
             }
         }
     }
@@ -173,7 +246,8 @@ public class MonsterManager {
      * @param batch 스프라이트 배치
      */
     public void render(SpriteBatch batch) {
-        for (Monster monster : monsters) {
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster monster = monsters.get(i);
             if (!monster.isDead()) {
                 monster.render(batch);
             }
@@ -181,10 +255,14 @@ public class MonsterManager {
     }
 
     /**
-     * 모든 몬스터를 제거합니다.
+     * 모든 몬스터를 제거합니다. (풀에 반납)
      */
     public void clear() {
+        for (int i = 0; i < monsters.size(); i++) {
+            release(monsters.get(i));
+        }
         monsters.clear();
+        indexById.clear();
         System.out.println("[MonsterManager] 모든 몬스터 제거됨");
     }
 
@@ -10,7 +10,10 @@ import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.skill.ElementSkillSet;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.MagicMissile;
+import com.example.yugeup.game.skill.SkillWorld;
 import com.example.yugeup.game.skill.TargetingSystem;
+import com.example.yugeup.network.ServerClock;
+import com.example.yugeup.network.SnapshotBuffer;
 import com.example.yugeup.utils.Constants;
 import java.util.List;
 import java.util.ArrayList;
@@ -35,7 +38,9 @@ public class Player {
     // 이동 속도 벡터 (픽셀/초)
     private Vector2 velocity;
 
-    // 원격 플레이어 보간용 목표 위치 (PHASE_23)
+    // 원격 플레이어 보간용 서버 위치 버퍼 (PHASE_23)
+    private SnapshotBuffer positionBuffer;
+    // 원격 플레이어의 가장 최근 서버 위치 (타게팅/PvP 판정용, 화면 위치보다 보간 지연만큼 앞섬)
     private Vector2 targetPosition;
     private boolean isRemote;
 
@@ -53,6 +58,9 @@ public class Player {
     private ElementType selectedElement = null;
     private ElementSkillSet elementSkillSet = null;
 
+    // 원소 스킬 발사체/존 컨테이너 (PHASE_14~18 스킬 공용)
+    private SkillWorld skillWorld;
+
     // 상태
     private boolean isDead;
 
@@ -83,6 +91,7 @@ public class Player {
     public Player() {
         this.position = new Vector2(0, 0);
         this.velocity = new Vector2(0, 0);
+        this.positionBuffer = new SnapshotBuffer(Constants.PLAYER_SYNC_INTERVAL);
         this.targetPosition = new Vector2(0, 0);
         this.isDead = false;
         this.direction = PlayerDirection.FRONT;  // 기본 방향: 아래
@@ -106,6 +115,7 @@ public class Player {
         // 스킬 시스템 초기화 (PHASE_12)
         this.targetingSystem = new TargetingSystem();
         this.magicMissile = new MagicMissile(this, targetingSystem);
+        this.skillWorld = new SkillWorld(this);
 
         // 업그레이드 관리자 초기화 (PHASE_19)
         this.upgradeManager = new com.example.yugeup.game.upgrade.UpgradeManager(this);
@@ -366,26 +376,15 @@ public class Player {
      * @param delta 이전 프레임으로부터의 시간 (초)
      */
     private void updateRemotePlayerInterpolation(float delta) {
-        // 목표 위치까지의 거리 계산
-        float distance = position.dst(targetPosition);
-
-        // 거리가 매우 가까우면 즉시 목표 위치로 이동 (멈춤 감지)
-        if (distance < 2f) {
-            position.set(targetPosition);
+        ServerClock clock = ServerClock.getInstance();
+        if (!clock.isSynced() || !positionBuffer.sample(clock.getRenderTime())) {
             velocity.set(0, 0);
             return;
         }
 
-        // 보간 속도: 10 unit/s (부드럽게 따라감)
-        float interpolationSpeed = 10f;
-
-        // 현재 위치에서 목표 위치로 선형 보간
-        position.lerp(targetPosition, Math.min(1f, interpolationSpeed * delta));
-
-        // 이동 속도 계산 (방향 업데이트를 위해)
-        float dx = targetPosition.x - position.x;
-        float dy = targetPosition.y - position.y;
-        velocity.set(dx, dy);
+        // 렌더 시각(현재 서버 시각 - 보간 지연)의 위치와 속도 (방향 업데이트용)
+        position.set(positionBuffer.getX(), positionBuffer.getY());
+        velocity.set(positionBuffer.getVelocityX(), positionBuffer.getVelocityY());
     }
 
     /**
@@ -420,19 +419,22 @@ public class Player {
      */
     public void setPosition(float x, float y) {
         this.position.set(x, y);
-        // 원격 플레이어인 경우 목표 위치도 설정 (PHASE_23)
+        // 원격 플레이어인 경우 이전 스냅샷은 버림 (PHASE_23)
         if (isRemote) {
+            positionBuffer.clear();
             this.targetPosition.set(x, y);
         }
     }
 
     /**
-     * 원격 플레이어의 목표 위치를 설정합니다. (PHASE_23)
+     * 원격 플레이어의 서버 위치를 추가합니다. (PHASE_23)
      *
-     * @param x 목표 X 좌표
-     * @param y 목표 Y 좌표
+     * @param serverTime 서버가 이동 메시지를 받은 시각 (ms)
+     * @param x X 좌표
+     * @param y Y 좌표
      */
-    public void setTargetPosition(float x, float y) {
+    public void addSnapshot(int serverTime, float x, float y) {
+        positionBuffer.add(serverTime, x, y);
         this.targetPosition.set(x, y);
     }
 
@@ -539,6 +541,15 @@ public class Player {
         return targetingSystem;
     }
 
+    /**
+     * 원소 스킬 발사체/존 컨테이너를 반환합니다.
+     *
+     * @return 스킬 월드
+     */
+    public SkillWorld getSkillWorld() {
+        return skillWorld;
+    }
+
     /**
      * 원소 설정 (PHASE_13)
      *
@@ -7,16 +7,20 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import com.example.yugeup.game.map.GameMap;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.input.JoystickController;
+import com.example.yugeup.network.MovePredictor;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.ui.hud.HUDRenderer;
 import com.example.yugeup.utils.Constants;
-import org.example.Main.PlayerMoveMsg;
+import org.example.NetChannel;
+import org.example.PlayerInputMsg;
+import org.example.PlayerMotion;
+import org.example.PlayerStateMsg;
 
 /**
  * 플레이어 입력 처리 클래스
  *
  * 조이스틱, 터치 입력 등을 받아 플레이어를 제어합니다.
- * 입력 데이터를 서버로 전송하여 동기화합니다.
+ * 이동은 입력을 서버로 보내고(서버 권한), 결과는 MovePredictor로 먼저 예측하여 바로 보여줍니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
@@ -40,6 +44,11 @@ public class PlayerController implements InputProcessor {
 
     // 게임 맵 (벽 충돌 체크용)
     private GameMap gameMap;
+    private PlayerMotion.Walls walls;
+
+    // 이동 예측 (서버와 같은 규칙으로 입력을 먼저 적용하고 서버 위치로 보정)
+    private final MovePredictor movePredictor = new MovePredictor();
+    private final float[] predictedPosition = new float[2];
 
     // 동기화 타이머
     private float syncTimer;
@@ -75,10 +84,13 @@ public class PlayerController implements InputProcessor {
         // 조이스틱 입력으로 플레이어 방향 결정
         Vector2 direction = joystickController.getDirection();
 
+        // 이동 속도 배율 (폭풍 스킬 등 버프)
+        float speedMultiplier = player.getSpeedMultiplier();
+
         // 플레이어 이동
         if (direction.len() > 0) {
-            // 이동 속도 = 기본 속도 * 버프 배율 (폭풍 스킬 등)
-            float speed = Constants.PLAYER_MOVE_SPEED * player.getSpeedMultiplier();
+            // 이동 속도 = 기본 속도 * 버프 배율 (방향/애니메이션용, 실제 이동은 PlayerMotion)
+            float speed = Constants.PLAYER_MOVE_SPEED * speedMultiplier;
             player.setVelocity(direction.x * speed, direction.y * speed);
         } else {
             // 입력 없음
@@ -86,65 +98,75 @@ public class PlayerController implements InputProcessor {
         }
 
         // 벽 충돌 체크 후 플레이어 업데이트
-        updatePlayerWithCollision(delta);
+        updatePlayerWithCollision(delta, direction.x * speedMultiplier, direction.y * speedMultiplier);
 
-        // 위치 동기화 (주기적)
+        // 확인 안 된 입력 전송 (주기적, 여러 프레임 입력을 한 패킷으로)
         syncTimer += delta;
         if (syncTimer >= Constants.PLAYER_SYNC_INTERVAL) {
-            sendPlayerMove();
+            sendPlayerInputs();
             syncTimer = 0f;
         }
     }
 
     /**
      * 벽 충돌을 체크하면서 플레이어 위치를 업데이트합니다.
+     * 위치는 서버와 같은 이동 규칙(PlayerMotion)으로 예측합니다.
      *
      * @param delta 이전 프레임으로부터의 시간 (초)
+     * @param moveX 이동 방향 X * 속도 배율
+     * @param moveY 이동 방향 Y * 속도 배율
      */
-    private void updatePlayerWithCollision(float delta) {
+    private void updatePlayerWithCollision(float delta, float moveX, float moveY) {
         // 이동 전 위치 저장
         float oldX = player.getX();
         float oldY = player.getY();
 
-        // 플레이어 업데이트 (위치 이동)
+        // 플레이어 업데이트 (버프/방향/스킬, 위치 이동은 아래에서 다시 계산)
         player.update(delta);
+        if (player.isDead()) {
+            return;
+        }
 
         // 벽 충돌 체크 (GameMap이 설정된 경우만)
         if (gameMap == null) {
             System.out.println("[PlayerController] 경고: gameMap이 null입니다! 벽 충돌 체크 불가능");
-            return;
         }
 
-        float newX = player.getX();
-        float newY = player.getY();
-        float radius = 12f;  // 플레이어 충돌 반경 (캐릭터 48px의 절반보다 작게 - 좁은 문 통과 가능)
-
-        // 새 위치에 벽이 있는지 확인
-        if (gameMap.isWallInArea(newX, newY, radius)) {
-            // X축만 이동 시도
-            player.setPosition(newX, oldY);
-            if (gameMap.isWallInArea(player.getX(), player.getY(), radius)) {
-                // Y축만 이동 시도
-                player.setPosition(oldX, newY);
-                if (gameMap.isWallInArea(player.getX(), player.getY(), radius)) {
-                    // 둘 다 안되면 원위치
-                    player.setPosition(oldX, oldY);
-                }
+        // 입력 기록 + 예측 이동 (벽에 막히면 X축만, Y축만 순서로 미끄러짐)
+        predictedPosition[0] = oldX;
+        predictedPosition[1] = oldY;
+        movePredictor.record(moveX, moveY, delta, predictedPosition, walls);
+        player.setPosition(predictedPosition[0], predictedPosition[1]);
+    }
+
+    /**
+     * 서버 권한 위치를 받아 예측 위치를 보정합니다.
+     * 서버가 아직 실행하지 않은 입력은 서버 위치에서 다시 실행합니다.
+     *
+     * @param state 서버 위치 (마지막으로 처리한 입력 순번 포함)
+     */
+    public void applyServerState(PlayerStateMsg state) {
+        if (movePredictor.reconcile(state, predictedPosition, walls)) {
+            float errorX = predictedPosition[0] - player.getX();
+            float errorY = predictedPosition[1] - player.getY();
+            if (Constants.LOG_NETWORK && errorX * errorX + errorY * errorY > 1f) {
+                System.out.println("[PlayerController] 예측 보정: (" + errorX + ", " + errorY + ")");
             }
+            player.setPosition(predictedPosition[0], predictedPosition[1]);
         }
     }
 
     /**
-     * 서버로 플레이어 위치 전송
-     * 정지 상태여도 전송하여 다른 플레이어가 정확한 위치를 알 수 있도록 함
+     * 서버가 확인하지 않은 이동 입력을 전송합니다.
+     * 확인될 때까지 매번 다시 담으므로 상태 채널에서 패킷 하나가 빠져도 다음 패킷이 채웁니다.
+     * 멈춰 있고 확인 안 된 입력이 없으면 보내지 않습니다.
      */
-    private void sendPlayerMove() {
-        PlayerMoveMsg msg = new PlayerMoveMsg();
-        msg.playerId = player.getPlayerId();
-        msg.x = player.getX();
-        msg.y = player.getY();
-
-        networkManager.sendUDP(msg);
+    private void sendPlayerInputs() {
+        PlayerInputMsg msg = movePredictor.buildMessage();
+        if (msg != null) {
+            // 상태 채널: 늦게 도착한 이전 묶음은 서버가 버림
+            networkManager.sendState(NetChannel.STREAM_PLAYER_MOVE, msg);
+        }
     }
 
     // ===== InputProcessor 구현 =====
@@ -366,6 +388,7 @@ public class PlayerController implements InputProcessor {
 
     public void setGameMap(GameMap gameMap) {
         this.gameMap = gameMap;
+        this.walls = gameMap != null ? gameMap::isWall : null;
     }
 
     public GameMap getGameMap() {
@@ -1,17 +1,18 @@
 package com.example.yugeup.game.skill;
 
-import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,11 +20,13 @@ import java.util.List;
  *
  * 스킬의 발사체를 나타내는 추상 클래스입니다.
  * 유도, 직진, 관통 등 다양한 발사체 타입을 지원합니다.
+ * 하위 클래스는 타입별 Pool에서 obtain으로 꺼내고, 소멸하면 free로 반납합니다.
+ * 스킬이 SkillWorld에 등록하면 공용 타겟 목록이 연결되고, 소멸하면 SkillWorld가 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public abstract class BaseProjectile {
+public abstract class BaseProjectile implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 위치 및 이동
     protected Vector2 position;
@@ -41,9 +44,9 @@ public abstract class BaseProjectile {
     protected int damage;
 
     // 관통 기능
-    protected int maxPierceCount;  // 최대 관통 수
+    protected int maxPierceCount = 1;  // 최대 관통 수 (기본값: 관통 안 함)
     protected int currentPierceCount;  // 현재 관통 수
-    protected List<Integer> hitMonsterIds;  // 이미 타격한 몬스터 ID
+    protected IntArray hitMonsterIds;  // 이미 타격한 몬스터 ID
 
     // 상태
     protected boolean isAlive;
@@ -51,7 +54,8 @@ public abstract class BaseProjectile {
     protected float maxLifetime = 5.0f;  // 최대 수명 (5초)
 
     // 렌더링
-    protected Texture texture;
+    protected Texture texture;  // 폴백 텍스처 (SkillTextures 공용, 애니메이션이 없을 때만)
+    private int textureColor;   // texture를 빌린 색상 (RGBA8888)
     protected float size = 24f;  // 기본 발사체 크기 (각 스킬에서 오버라이드)
     protected static final float COLLISION_RADIUS = 20f;  // 충돌 반경
     protected float red = 0.5f;    // 기본 색상: 파란색
@@ -72,16 +76,29 @@ public abstract class BaseProjectile {
     protected List<Player> playerList;
     protected int ownerPlayerId = -1;  // 발사체 소유자 ID (자기 자신 제외용)
 
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    protected boolean serverHits;
+
+    /**
+     * 풀 생성용 생성자 (벡터/피격 목록은 여기서 한 번만 만들고 재사용)
+     */
+    protected BaseProjectile() {
+        this.position = new Vector2();
+        this.velocity = new Vector2();
+        this.direction = new Vector2();
+        this.hitMonsterIds = new IntArray();
+    }
+
     /**
-     * 발사체 생성자 (유도 미사일)
+     * 발사체 초기화 (유도 미사일)
      *
      * @param origin 발사 위치
      * @param target 타겟 몬스터
      * @param damage 데미지
      * @param speed 이동 속도 (픽셀/초)
      */
-    public BaseProjectile(Vector2 origin, Monster target, int damage, float speed) {
-        this.position = new Vector2(origin);
+    protected void init(Vector2 origin, Monster target, int damage, float speed) {
+        this.position.set(origin);
         this.target = target;
         this.damage = damage;
         this.speed = speed;
@@ -90,34 +107,11 @@ public abstract class BaseProjectile {
         this.lifetime = 0f;
 
         // 초기 방향 설정
-        this.velocity = new Vector2();
-        this.direction = new Vector2();
         updateVelocity();
-
-        // 관통 초기화
-        this.maxPierceCount = 1;  // 기본값: 관통 안 함
-        this.currentPierceCount = 0;
-        this.hitMonsterIds = new ArrayList<>();
-
-        // 텍스처 (임시)
-        createTexture();
-    }
-
-    /**
-     * 발사체 생성자 (직진 미사일)
-     *
-     * @param origin 발사 위치
-     * @param directionX 방향 X
-     * @param directionY 방향 Y
-     * @param damage 데미지
-     * @param speed 이동 속도 (픽셀/초)
-     */
-    public BaseProjectile(Vector2 origin, float directionX, float directionY, int damage, float speed) {
-        this(origin, directionX, directionY, damage, speed, null);
     }
 
     /**
-     * 발사체 생성자 (직진 미사일, 애니메이션 지원)
+     * 발사체 초기화 (직진 미사일, 애니메이션 지원)
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -126,8 +120,8 @@ public abstract class BaseProjectile {
      * @param speed 이동 속도 (픽셀/초)
      * @param animationName 애니메이션 이름 (null이면 기본 텍스처 사용)
      */
-    public BaseProjectile(Vector2 origin, float directionX, float directionY, int damage, float speed, String animationName) {
-        this.position = new Vector2(origin);
+    protected void init(Vector2 origin, float directionX, float directionY, int damage, float speed, String animationName) {
+        this.position.set(origin);
         this.target = null;
         this.damage = damage;
         this.speed = speed;
@@ -136,26 +130,54 @@ public abstract class BaseProjectile {
         this.lifetime = 0f;
 
         // 방향 설정 및 정규화
-        this.direction = new Vector2(directionX, directionY).nor();
-        this.velocity = new Vector2(direction).scl(speed);
+        this.direction.set(directionX, directionY).nor();
+        this.velocity.set(direction).scl(speed);
 
-        // 관통 초기화
-        this.maxPierceCount = 1;  // 기본값: 관통 안 함
-        this.currentPierceCount = 0;
-        this.hitMonsterIds = new ArrayList<>();
-
-        // 애니메이션 로드
+        // 애니메이션 로드 (없으면 렌더링 시 공용 색상 원 텍스처 사용)
         this.animationName = animationName;
         if (animationName != null) {
             this.animation = SkillEffectManager.getInstance().getAnimation(animationName);
         }
+    }
 
-        // 애니메이션이 없으면 폴백으로 Pixmap 텍스처 생성
-        if (this.animation == null) {
-            createTexture();
-        }
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     * 폴백 텍스처는 다음 재사용을 위해 쥐고 있습니다. (같은 색이면 다시 빌리지 않음)
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        velocity.setZero();
+        direction.setZero();
+        speed = 0f;
+        target = null;
+        isHoming = false;
+        damage = 0;
+        maxPierceCount = 1;
+        currentPierceCount = 0;
+        hitMonsterIds.clear();
+        isAlive = false;
+        lifetime = 0f;
+        maxLifetime = 5.0f;
+        size = 24f;
+        red = 0.5f;
+        green = 0.5f;
+        blue = 1.0f;
+        alpha = 1.0f;
+        animation = null;
+        animationTime = 0f;
+        animationName = null;
+        monsterList = null;
+        playerList = null;
+        ownerPlayerId = -1;
+        serverHits = false;
     }
 
+    /**
+     * 발사체를 자신의 풀에 반납합니다. (반납 후에는 참조를 버려야 함)
+     */
+    public abstract void free();
+
     /**
      * 업데이트
      *
@@ -200,10 +222,8 @@ public abstract class BaseProjectile {
         // 몬스터 중앙 좌표 계산
         float centerX = target.getX() + target.getWidth() / 2;
         float centerY = target.getY() + target.getHeight() / 2;
-        Vector2 targetPos = new Vector2(centerX, centerY);
 
-        Vector2 dir = targetPos.sub(position).nor();
-        velocity.set(dir).scl(speed);
+        velocity.set(centerX - position.x, centerY - position.y).nor().scl(speed);
     }
 
     /**
@@ -216,12 +236,16 @@ public abstract class BaseProjectile {
     }
 
     /**
-     * 플레이어 목록 주입 메서드 (PVP 타겟팅용)
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     * 목록은 매 프레임 갱신되는 같은 객체이므로 복사하지 않고 참조만 보관합니다.
      *
-     * @param players 플레이어 목록
+     * @param targets 공용 타겟 목록
      */
-    public void setPlayerList(Collection<Player> players) {
-        this.playerList = new ArrayList<>(players);
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        this.monsterList = targets.getMonsters();
+        this.playerList = targets.getRemotePlayerList();
+        this.ownerPlayerId = targets.getOwnerPlayerId();
     }
 
     /**
@@ -260,19 +284,21 @@ public abstract class BaseProjectile {
                     System.out.println("[BaseProjectile] 충돌 감지! 몬스터 ID=" + monster.getMonsterId() +
                         ", 거리=" + distance + ", 데미지=" + damage);
 
-                    // 서버로 공격 메시지 전송
-                    if (networkManager == null) {
-                        networkManager = NetworkManager.getInstance();
-                    }
-                    if (networkManager != null) {
-                        networkManager.sendAttackMessage(
-                            monster.getMonsterId(),
-                            damage,
-                            position.x,
-                            position.y);
-                        System.out.println("[BaseProjectile] 서버로 공격 메시지 전송 완료");
-                    } else {
-                        System.out.println("[BaseProjectile] ERROR: NetworkManager is null!");
+                    // 서버로 공격 메시지 전송 (서버 판정이면 서버가 같은 규칙으로 처리)
+                    if (!serverHits) {
+                        if (networkManager == null) {
+                            networkManager = NetworkManager.getInstance();
+                        }
+                        if (networkManager != null) {
+                            networkManager.sendAttackMessage(
+                                monster.getMonsterId(),
+                                damage,
+                                position.x,
+                                position.y);
+                            System.out.println("[BaseProjectile] 서버로 공격 메시지 전송 완료");
+                        } else {
+                            System.out.println("[BaseProjectile] ERROR: NetworkManager is null!");
+                        }
                     }
 
                     // 관통 처리
@@ -328,6 +354,42 @@ public abstract class BaseProjectile {
         }
     }
 
+    /**
+     * 서버 피격 판정 규칙을 채웁니다. (직진 발사체만, 유도 발사체는 클라이언트가 보고)
+     *
+     * @param msg 보낼 시전 메시지
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        if (isHoming) {
+            return;
+        }
+        msg.baseDamage = damage;
+        msg.hitRadius = getHitRadius();
+        msg.hitInterval = getHitInterval();
+        msg.maxHits = maxPierceCount == Integer.MAX_VALUE ? 0 : maxPierceCount;
+        msg.projectileLifetime = Math.min(msg.projectileLifetime, maxLifetime);
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
+    /**
+     * 몬스터 피격 반경 (서버 판정용, checkCollision과 같은 값)
+     */
+    protected float getHitRadius() {
+        return size / 2;
+    }
+
+    /**
+     * 같은 몬스터 재피격 간격 (초, 0이면 대상마다 한 번)
+     */
+    protected float getHitInterval() {
+        return 0f;
+    }
+
     /**
      * 몬스터와의 충돌을 처리합니다.
      *
@@ -381,9 +443,9 @@ public abstract class BaseProjectile {
                 1f,                     // scaleX
                 1f,                     // scaleY
                 angle);                 // rotation
-        } else if (texture != null) {
-            // 폴백: Pixmap 텍스처
-            batch.draw(texture,
+        } else {
+            // 폴백: 공용 색상 원 텍스처
+            batch.draw(getFallbackTexture(),
                 position.x - size / 2,
                 position.y - size / 2,
                 size, size);
@@ -391,14 +453,20 @@ public abstract class BaseProjectile {
     }
 
     /**
-     * 텍스처 생성 (임시 - 색상이 적용된 원)
+     * 폴백 텍스처 (현재 색상의 공용 원 텍스처)
+     * 색상이 바뀐 경우에만 캐시에서 다시 빌립니다.
+     *
+     * @return 폴백 텍스처
      */
-    protected void createTexture() {
-        Pixmap pixmap = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
-        pixmap.setColor(red, green, blue, alpha);
-        pixmap.fillCircle(8, 8, 6);
-        texture = new Texture(pixmap);
-        pixmap.dispose();
+    protected Texture getFallbackTexture() {
+        int color = Color.rgba8888(red, green, blue, alpha);
+        if (texture == null || textureColor != color) {
+            SkillTextures textures = SkillTextures.getInstance();
+            textures.release(texture);
+            texture = textures.acquireCircle(red, green, blue, alpha);
+            textureColor = color;
+        }
+        return texture;
     }
 
     /**
@@ -416,12 +484,11 @@ public abstract class BaseProjectile {
     }
 
     /**
-     * 리소스 해제
+     * 리소스 해제 (풀에 반납하지 않고 버릴 때, 공용 텍스처 반납)
      */
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        SkillTextures.getInstance().release(texture);
+        texture = null;
     }
 
     // ===== Getters & Setters =====
@@ -430,6 +497,16 @@ public abstract class BaseProjectile {
         return isAlive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isAlive();
+    }
+
+    @Override
+    public void release() {
+        free();
+    }
+
     public Vector2 getPosition() {
         return position;
     }
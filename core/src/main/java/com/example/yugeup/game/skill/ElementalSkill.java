@@ -1,10 +1,13 @@
 package com.example.yugeup.game.skill;
 
 import com.badlogic.gdx.math.Vector2;
+import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.network.messages.SkillCastMsg;
 
+import java.util.List;
+
 /**
  * 원소 스킬 기본 클래스
  *
@@ -157,6 +160,25 @@ public abstract class ElementalSkill extends Skill {
         System.out.println("[ElementalSkill] " + name + " 사용 (PHASE_14~18에서 구현)");
     }
 
+    /**
+     * 발사체/존을 소유자의 SkillWorld에 등록합니다.
+     * 등록 후 업데이트/렌더/반납은 SkillWorld가 맡습니다.
+     *
+     * @param entity 발사체 또는 존
+     */
+    protected void spawn(SkillEntity entity) {
+        owner.getSkillWorld().add(entity);
+    }
+
+    /**
+     * 이번 프레임의 몬스터 목록 (시전 시 타겟팅용, 읽기 전용)
+     *
+     * @return 몬스터 목록
+     */
+    protected List<Monster> getTargetMonsters() {
+        return owner.getSkillWorld().getTargets().getMonsters();
+    }
+
     // ===== Getters =====
 
     public ElementType getElement() {
@@ -196,9 +218,11 @@ public abstract class ElementalSkill extends Skill {
      * @param speed 투사체 속도
      * @param radius 투사체 크기 (반지름)
      * @param lifetime 투사체 수명
+     * @param hits 서버 피격 판정 대상 (없으면 클라이언트가 직접 피격 보고)
      */
     protected void sendProjectileSkillToNetwork(Vector2 casterPos, Vector2 targetPosition,
-                                                 float speed, float radius, float lifetime) {
+                                                 float speed, float radius, float lifetime,
+                                                 ServerHits... hits) {
         NetworkManager networkManager = NetworkManager.getInstance();
         if (networkManager == null || !networkManager.isConnected()) {
             return;
@@ -222,7 +246,7 @@ public abstract class ElementalSkill extends Skill {
 
         msg.projectileCount = 1;
 
-        networkManager.sendSkillCastFull(msg);
+        sendWithHits(networkManager, msg, hits);
     }
 
     /**
@@ -235,10 +259,12 @@ public abstract class ElementalSkill extends Skill {
      * @param lifetime 투사체 수명
      * @param count 발사체 개수
      * @param angleSpread 발사 각도 간격 (도)
+     * @param hits 서버 피격 판정 대상 (없으면 클라이언트가 직접 피격 보고)
      */
     protected void sendMultiProjectileSkillToNetwork(Vector2 casterPos, Vector2 targetPosition,
                                                       float speed, float radius, float lifetime,
-                                                      int count, float angleSpread) {
+                                                      int count, float angleSpread,
+                                                      ServerHits... hits) {
         NetworkManager networkManager = NetworkManager.getInstance();
         if (networkManager == null || !networkManager.isConnected()) {
             return;
@@ -263,7 +289,7 @@ public abstract class ElementalSkill extends Skill {
         msg.projectileCount = count;
         msg.angleSpread = angleSpread;
 
-        networkManager.sendSkillCastFull(msg);
+        sendWithHits(networkManager, msg, hits);
     }
 
     /**
@@ -272,8 +298,10 @@ public abstract class ElementalSkill extends Skill {
      * @param zonePosition Zone 위치
      * @param radius Zone 크기 (반지름)
      * @param lifetime Zone 지속시간
+     * @param hits 서버 피격 판정 대상 (없으면 클라이언트가 직접 피격 보고)
      */
-    protected void sendFixedZoneSkillToNetwork(Vector2 zonePosition, float radius, float lifetime) {
+    protected void sendFixedZoneSkillToNetwork(Vector2 zonePosition, float radius, float lifetime,
+                                               ServerHits... hits) {
         NetworkManager networkManager = NetworkManager.getInstance();
         if (networkManager == null || !networkManager.isConnected()) {
             return;
@@ -289,7 +317,7 @@ public abstract class ElementalSkill extends Skill {
         msg.projectileRadius = radius;
         msg.projectileLifetime = lifetime;
 
-        networkManager.sendSkillCastFull(msg);
+        sendWithHits(networkManager, msg, hits);
     }
 
     /**
@@ -300,9 +328,11 @@ public abstract class ElementalSkill extends Skill {
      * @param speed Zone 이동 속도
      * @param radius Zone 크기 (반지름)
      * @param range Zone 이동 사거리
+     * @param hits 서버 피격 판정 대상 (없으면 클라이언트가 직접 피격 보고)
      */
     protected void sendMovingZoneSkillToNetwork(Vector2 casterPos, Vector2 targetPosition,
-                                                 float speed, float radius, float range) {
+                                                 float speed, float radius, float range,
+                                                 ServerHits... hits) {
         NetworkManager networkManager = NetworkManager.getInstance();
         if (networkManager == null || !networkManager.isConnected()) {
             return;
@@ -324,7 +354,7 @@ public abstract class ElementalSkill extends Skill {
         msg.directionX = direction.x;
         msg.directionY = direction.y;
 
-        networkManager.sendSkillCastFull(msg);
+        sendWithHits(networkManager, msg, hits);
     }
 
     /**
@@ -332,8 +362,9 @@ public abstract class ElementalSkill extends Skill {
      *
      * @param radius Zone 크기 (반지름)
      * @param duration Zone 지속시간
+     * @param hits 서버 피격 판정 대상 (없으면 클라이언트가 직접 피격 보고)
      */
-    protected void sendPlayerFollowZoneSkillToNetwork(float radius, float duration) {
+    protected void sendPlayerFollowZoneSkillToNetwork(float radius, float duration, ServerHits... hits) {
         NetworkManager networkManager = NetworkManager.getInstance();
         if (networkManager == null || !networkManager.isConnected()) {
             return;
@@ -349,7 +380,24 @@ public abstract class ElementalSkill extends Skill {
         msg.projectileRadius = radius;
         msg.projectileLifetime = duration;
 
+        sendWithHits(networkManager, msg, hits);
+    }
+
+    /**
+     * 피격 규칙을 채워 시전 메시지를 보내고, 서버 판정 여부를 대상에 알립니다.
+     * 대상이 여러 개(다방향 투사체)면 모두 같은 규칙이므로 첫 번째 것으로 채웁니다.
+     */
+    private void sendWithHits(NetworkManager networkManager, SkillCastMsg msg, ServerHits[] hits) {
+        msg.baseDamage = getDamage();
+        if (hits.length > 0) {
+            hits[0].describeHits(msg);
+        }
         networkManager.sendSkillCastFull(msg);
+
+        boolean serverHits = msg.hitRadius > 0f;
+        for (ServerHits hit : hits) {
+            hit.setServerHits(serverHits);
+        }
     }
 
     /**
@@ -100,7 +100,7 @@ public class MagicMissile extends Skill {
         int damage = BASE_DAMAGE + owner.getStats().getAttackPower();
 
         // 발사체 생성 (플레이어 위치도 함께 전달)
-        Projectile projectile = new Projectile(
+        Projectile projectile = Projectile.obtain(
             owner.getPosition(),
             target,
             damage,
@@ -126,7 +126,7 @@ public class MagicMissile extends Skill {
         int pvpDamage = (int) (baseDamage * Constants.PVP_DAMAGE_MULTIPLIER);
 
         // PVP 발사체 생성
-        PvpProjectile projectile = new PvpProjectile(
+        PvpProjectile projectile = PvpProjectile.obtain(
             owner.getPosition(),
             target,
             pvpDamage,
@@ -181,34 +181,29 @@ public class MagicMissile extends Skill {
 
     /**
      * 발사체 목록을 업데이트합니다.
+     * 소멸한 발사체는 목록에서 빼고 풀에 반납합니다. (발사 순서 유지)
      *
      * @param delta 이전 프레임으로부터의 시간 (초)
      */
     public void updateProjectiles(float delta) {
         // 몬스터용 발사체 업데이트
-        List<Projectile> toRemove = new ArrayList<>();
-        for (Projectile projectile : projectiles) {
-            projectile.update(delta);
-            if (!projectile.isAlive()) {
-                toRemove.add(projectile);
-            }
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).update(delta);
         }
-        for (Projectile projectile : toRemove) {
-            projectile.dispose();
-            projectiles.remove(projectile);
+        for (int i = projectiles.size() - 1; i >= 0; i--) {
+            if (!projectiles.get(i).isAlive()) {
+                projectiles.remove(i).free();
+            }
         }
 
         // PVP 발사체 업데이트
-        List<PvpProjectile> pvpToRemove = new ArrayList<>();
-        for (PvpProjectile projectile : pvpProjectiles) {
-            projectile.update(delta);
-            if (!projectile.isAlive()) {
-                pvpToRemove.add(projectile);
-            }
+        for (int i = 0; i < pvpProjectiles.size(); i++) {
+            pvpProjectiles.get(i).update(delta);
         }
-        for (PvpProjectile projectile : pvpToRemove) {
-            projectile.dispose();
-            pvpProjectiles.remove(projectile);
+        for (int i = pvpProjectiles.size() - 1; i >= 0; i--) {
+            if (!pvpProjectiles.get(i).isAlive()) {
+                pvpProjectiles.remove(i).free();
+            }
         }
     }
 
@@ -231,16 +226,16 @@ public class MagicMissile extends Skill {
     }
 
     /**
-     * 리소스 해제
+     * 리소스 해제 (남은 발사체를 풀에 반납)
      */
     public void dispose() {
         for (Projectile projectile : projectiles) {
-            projectile.dispose();
+            projectile.free();
         }
         projectiles.clear();
 
         for (PvpProjectile projectile : pvpProjectiles) {
-            projectile.dispose();
+            projectile.free();
         }
         pvpProjectiles.clear();
     }
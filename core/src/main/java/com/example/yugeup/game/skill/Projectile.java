@@ -1,9 +1,9 @@
 package com.example.yugeup.game.skill;
 
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.utils.Constants;
@@ -13,14 +13,15 @@ import com.example.yugeup.utils.Constants;
  *
  * 스킬의 발사체를 나타냅니다.
  * 위치, 속도, 타겟 추적, 충돌 감지를 처리합니다.
+ * 풀에서 obtain으로 꺼내고 소멸하면 free로 반납합니다. (텍스처는 SkillTextures 공용)
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class Projectile {
+public class Projectile implements Pool.Poolable {
     // 위치 및 이동
-    private Vector2 position;
-    private Vector2 velocity;
+    private final Vector2 position = new Vector2();
+    private final Vector2 velocity = new Vector2();
     private float speed;
 
     // 타겟
@@ -41,33 +42,68 @@ public class Projectile {
     // 충돌 반경은 Constants.PROJECTILE_COLLISION_RADIUS 사용 (24픽셀)
 
     // 네트워크
-    private Vector2 playerPosition;  // 발사 시점의 플레이어 위치 (서버 검증용)
+    private final Vector2 playerPosition = new Vector2();  // 발사 시점의 플레이어 위치 (서버 검증용)
+
+    // 발사체 풀 (소멸한 발사체를 다음 발사에 재사용)
+    private static final Pool<Projectile> POOL = new Pool<Projectile>() {
+        @Override
+        protected Projectile newObject() {
+            return new Projectile();
+        }
+    };
+
+    private Projectile() {
+        // 텍스처 (매직 미사일 이미지, 풀에 있는 동안에도 유지)
+        this.texture = SkillTextures.getInstance().acquireFile("skills/magicmissile.png", 0.7f, 0.3f, 1.0f);
+    }
 
     /**
-     * Projectile 생성자
+     * 풀에서 발사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param target 타겟 몬스터
      * @param damage 데미지
      * @param speed 이동 속도 (픽셀/초)
      * @param playerPos 플레이어 위치 (서버 검증용)
+     * @return 초기화된 발사체
      */
-    public Projectile(Vector2 origin, Monster target, int damage, float speed, Vector2 playerPos) {
-        this.position = new Vector2(origin);
-        this.target = target;
-        this.damage = damage;
-        this.speed = speed;
-        this.isHoming = true;
-        this.isAlive = true;
-        this.lifetime = 0f;
-        this.playerPosition = new Vector2(playerPos);
+    public static Projectile obtain(Vector2 origin, Monster target, int damage, float speed, Vector2 playerPos) {
+        Projectile projectile = POOL.obtain();
+        projectile.position.set(origin);
+        projectile.target = target;
+        projectile.damage = damage;
+        projectile.speed = speed;
+        projectile.isHoming = true;
+        projectile.isAlive = true;
+        projectile.lifetime = 0f;
+        projectile.playerPosition.set(playerPos);
 
         // 초기 방향 설정
-        this.velocity = new Vector2();
-        updateVelocity();
+        projectile.updateVelocity();
+        return projectile;
+    }
 
-        // 텍스처 (임시)
-        createTexture();
+    /**
+     * 발사체를 풀에 반납합니다. (반납 후에는 참조를 버려야 함)
+     */
+    public void free() {
+        POOL.free(this);
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        velocity.setZero();
+        playerPosition.setZero();
+        speed = 0f;
+        target = null;
+        isHoming = false;
+        damage = 0;
+        isAlive = false;
+        lifetime = 0f;
     }
 
     /**
@@ -112,10 +148,8 @@ public class Projectile {
         // 몬스터 중앙 좌표 계산
         float centerX = target.getX() + target.getWidth() / 2;
         float centerY = target.getY() + target.getHeight() / 2;
-        Vector2 targetPos = new Vector2(centerX, centerY);
 
-        Vector2 direction = targetPos.sub(position).nor();
-        velocity.set(direction).scl(speed);
+        velocity.set(centerX - position.x, centerY - position.y).nor().scl(speed);
     }
 
     /**
@@ -180,31 +214,11 @@ public class Projectile {
     }
 
     /**
-     * 텍스처 생성 (매직 미사일 이미지 로드)
-     */
-    private void createTexture() {
-        try {
-            // PNG 파일 로드
-            texture = new Texture(com.badlogic.gdx.Gdx.files.internal("skills/magicmissile.png"));
-            System.out.println("[Projectile] magicmissile.png 로드 성공");
-        } catch (Exception e) {
-            // 폴백: 기존 Pixmap 방식 (보라색 원)
-            System.out.println("[Projectile] magicmissile.png 로드 실패, Pixmap 사용: " + e.getMessage());
-            Pixmap pixmap = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
-            pixmap.setColor(0.7f, 0.3f, 1.0f, 1.0f);  // 보라색 (매직 미사일)
-            pixmap.fillCircle(8, 8, 6);
-            texture = new Texture(pixmap);
-            pixmap.dispose();
-        }
-    }
-
-    /**
-     * 리소스 해제
+     * 리소스 해제 (풀에 반납하지 않고 버릴 때, 공용 텍스처 반납)
      */
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        SkillTextures.getInstance().release(texture);
+        texture = null;
     }
 
     // ===== Getters =====
@@ -1,9 +1,9 @@
 package com.example.yugeup.game.skill;
 
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.utils.Constants;
@@ -13,14 +13,15 @@ import com.example.yugeup.utils.Constants;
  *
  * 플레이어를 타겟으로 하는 발사체입니다.
  * 다른 플레이어에게 데미지를 입히며, 서버로 공격 메시지를 전송합니다.
+ * 풀에서 obtain으로 꺼내고 소멸하면 free로 반납합니다. (텍스처는 SkillTextures 공용)
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class PvpProjectile {
+public class PvpProjectile implements Pool.Poolable {
     // 위치 및 이동
-    private Vector2 position;
-    private Vector2 velocity;
+    private final Vector2 position = new Vector2();
+    private final Vector2 velocity = new Vector2();
     private float speed;
 
     // 타겟 플레이어
@@ -45,34 +46,69 @@ public class PvpProjectile {
     // 충돌 반경 (동적 계산)
     private float collisionRadius;
 
+    // 발사체 풀 (소멸한 발사체를 다음 발사에 재사용)
+    private static final Pool<PvpProjectile> POOL = new Pool<PvpProjectile>() {
+        @Override
+        protected PvpProjectile newObject() {
+            return new PvpProjectile();
+        }
+    };
+
+    private PvpProjectile() {
+        // 텍스처 (매직 미사일 이미지, 로드 실패 시 빨간색 원 - PVP 공격 표시)
+        this.texture = SkillTextures.getInstance().acquireFile("skills/magicmissile.png", 1.0f, 0.3f, 0.3f);
+    }
+
     /**
-     * PvpProjectile 생성자
+     * 풀에서 PVP 발사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param target 타겟 플레이어
      * @param damage 데미지
      * @param speed 이동 속도 (픽셀/초)
      * @param attackerId 공격자 플레이어 ID
+     * @return 초기화된 발사체
      */
-    public PvpProjectile(Vector2 origin, Player target, int damage, float speed, int attackerId) {
-        this.position = new Vector2(origin);
-        this.target = target;
-        this.damage = damage;
-        this.speed = speed;
-        this.attackerId = attackerId;
-        this.isHoming = true;
-        this.isAlive = true;
-        this.lifetime = 0f;
+    public static PvpProjectile obtain(Vector2 origin, Player target, int damage, float speed, int attackerId) {
+        PvpProjectile projectile = POOL.obtain();
+        projectile.position.set(origin);
+        projectile.target = target;
+        projectile.damage = damage;
+        projectile.speed = speed;
+        projectile.attackerId = attackerId;
+        projectile.isHoming = true;
+        projectile.isAlive = true;
+        projectile.lifetime = 0f;
 
         // 발사체 충돌 반경 사용 (몬스터/플레이어 공통)
-        this.collisionRadius = Constants.PROJECTILE_COLLISION_RADIUS;
+        projectile.collisionRadius = Constants.PROJECTILE_COLLISION_RADIUS;
 
         // 초기 방향 설정
-        this.velocity = new Vector2();
-        updateVelocity();
+        projectile.updateVelocity();
+        return projectile;
+    }
+
+    /**
+     * 발사체를 풀에 반납합니다. (반납 후에는 참조를 버려야 함)
+     */
+    public void free() {
+        POOL.free(this);
+    }
 
-        // 텍스처 생성
-        createTexture();
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        velocity.setZero();
+        speed = 0f;
+        target = null;
+        attackerId = 0;
+        damage = 0;
+        isHoming = false;
+        isAlive = false;
+        lifetime = 0f;
     }
 
     /**
@@ -121,12 +157,9 @@ public class PvpProjectile {
         // 타겟 플레이어 좌표 (position이 이미 중앙)
         float centerX = playerPos.x;
         float centerY = playerPos.y;
-        Vector2 targetPosVec = new Vector2(centerX, centerY);
 
         // 방향 계산
-        Vector2 dir = targetPosVec.cpy().sub(position).nor();
-
-        velocity.set(dir).scl(speed);
+        velocity.set(centerX - position.x, centerY - position.y).nor().scl(speed);
     }
 
     /**
@@ -198,29 +231,11 @@ public class PvpProjectile {
     }
 
     /**
-     * 텍스처 생성 (빨간색 원 - PVP 공격 표시)
-     */
-    private void createTexture() {
-        try {
-            // PNG 파일 로드 시도
-            texture = new Texture(com.badlogic.gdx.Gdx.files.internal("skills/magicmissile.png"));
-        } catch (Exception e) {
-            // 폴백: 빨간색 원
-            Pixmap pixmap = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
-            pixmap.setColor(1.0f, 0.3f, 0.3f, 1.0f);  // 빨간색 (PVP 공격)
-            pixmap.fillCircle(8, 8, 6);
-            texture = new Texture(pixmap);
-            pixmap.dispose();
-        }
-    }
-
-    /**
-     * 리소스 해제
+     * 리소스 해제 (풀에 반납하지 않고 버릴 때, 공용 텍스처 반납)
      */
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        SkillTextures.getInstance().release(texture);
+        texture = null;
     }
 
     // ===== Getters =====
@@ -0,0 +1,32 @@
+package com.example.yugeup.game.skill;
+
+import com.example.yugeup.network.messages.SkillCastMsg;
+
+/**
+ * 서버 피격 판정 대상 (투사체/존)
+ *
+ * 시전 메시지에 자신의 피격 규칙(반경, 재피격 간격, 지연, 관통 수)을 담으면
+ * 서버(SkillHitSimulator)가 같은 규칙으로 몬스터 피격을 판정합니다.
+ * 서버 판정이 켜진 동안에는 몬스터 공격 메시지를 보내지 않고 이펙트/소멸 처리만 합니다.
+ * (PVP 피격은 계속 클라이언트가 보고)
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public interface ServerHits {
+
+    /**
+     * 시전 메시지에 피격 규칙을 채웁니다.
+     * (hitRadius, hitRadiusY, hitInterval, hitDelay, maxHits, 필요하면 baseDamage)
+     *
+     * @param msg 보낼 시전 메시지
+     */
+    void describeHits(SkillCastMsg msg);
+
+    /**
+     * 서버 피격 판정 여부를 설정합니다.
+     *
+     * @param serverHits true면 몬스터 공격 메시지를 보내지 않음
+     */
+    void setServerHits(boolean serverHits);
+}
@@ -0,0 +1,48 @@
+package com.example.yugeup.game.skill;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * 스킬 엔티티 (발사체/존)
+ *
+ * 스킬이 시전하면서 만든 발사체와 존은 SkillWorld에 등록되어
+ * 한 번의 업데이트 패스와 한 번의 렌더 패스로 처리됩니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public interface SkillEntity {
+
+    /**
+     * 피격 판정에 쓸 공용 타겟 목록을 연결합니다. (등록할 때 한 번)
+     *
+     * @param targets 공용 타겟 목록 (읽기 전용)
+     */
+    void bindTargets(SkillTargets targets);
+
+    /**
+     * 업데이트
+     *
+     * @param delta 이전 프레임으로부터의 시간 (초)
+     */
+    void update(float delta);
+
+    /**
+     * 렌더링
+     *
+     * @param batch 스프라이트 배치
+     */
+    void render(SpriteBatch batch);
+
+    /**
+     * 수명이 끝났는지 여부 (true면 SkillWorld가 목록에서 빼고 release)
+     *
+     * @return 종료 여부
+     */
+    boolean isFinished();
+
+    /**
+     * 목록에서 빠진 엔티티를 정리합니다. (풀 대상이면 풀에 반납)
+     */
+    void release();
+}
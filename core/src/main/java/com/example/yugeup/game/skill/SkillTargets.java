@@ -0,0 +1,99 @@
+package com.example.yugeup.game.skill;
+
+import com.example.yugeup.game.monster.Monster;
+import com.example.yugeup.game.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스킬 공용 타겟 목록 (읽기 전용)
+ *
+ * 스킬 엔티티(발사체/존)가 피격 판정에 쓰는 몬스터/원격 플레이어 목록입니다.
+ * GameScreen이 프레임마다 한 번 refresh하면 모든 엔티티가 같은 목록을 읽습니다.
+ * (발사체마다 플레이어 목록을 복사하지 않음)
+ *
+ * 몬스터 목록과 원격 플레이어 맵은 GameScreen이 계속 같은 객체를 쓰므로 참조만 보관하고,
+ * 원격 플레이어 리스트는 한 객체를 매 프레임 다시 채웁니다.
+ * 그래서 등록할 때 한 번 받아 간 참조가 이후 프레임에도 그대로 유효합니다.
+ *
+ * 렌더 스레드에서만 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class SkillTargets {
+    // 스킬 시전자 (로컬 플레이어)
+    private final Player owner;
+
+    // 몬스터 목록 (MonsterManager 목록의 읽기 전용 래퍼)
+    private List<Monster> monsters = Collections.emptyList();
+    private List<Monster> monstersSource;
+
+    // 원격 플레이어 맵 (읽기 전용 래퍼)
+    private Map<Integer, Player> remotePlayers = Collections.emptyMap();
+    private Map<Integer, Player> remotePlayersSource;
+
+    // 원격 플레이어 리스트 (매 프레임 다시 채움)
+    private final List<Player> remotePlayerList = new ArrayList<>();
+    private final List<Player> remotePlayerView = Collections.unmodifiableList(remotePlayerList);
+
+    /**
+     * 타겟 목록 생성자
+     *
+     * @param owner 스킬 시전자
+     */
+    public SkillTargets(Player owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * 이번 프레임 타겟 목록을 갱신합니다. (프레임당 한 번)
+     *
+     * @param monsters 몬스터 목록
+     * @param remotePlayers 원격 플레이어 맵
+     */
+    public void refresh(List<Monster> monsters, Map<Integer, Player> remotePlayers) {
+        // 원본이 바뀔 때만 래퍼를 새로 만듦
+        if (monsters != monstersSource) {
+            monstersSource = monsters;
+            this.monsters = monsters != null
+                ? Collections.unmodifiableList(monsters)
+                : Collections.<Monster>emptyList();
+        }
+
+        if (remotePlayers != remotePlayersSource) {
+            remotePlayersSource = remotePlayers;
+            this.remotePlayers = remotePlayers != null
+                ? Collections.unmodifiableMap(remotePlayers)
+                : Collections.<Integer, Player>emptyMap();
+        }
+
+        remotePlayerList.clear();
+        if (remotePlayers != null) {
+            remotePlayerList.addAll(remotePlayers.values());
+        }
+    }
+
+    public Player getOwner() {
+        return owner;
+    }
+
+    public int getOwnerPlayerId() {
+        return owner != null ? owner.getPlayerId() : -1;
+    }
+
+    public List<Monster> getMonsters() {
+        return monsters;
+    }
+
+    public Map<Integer, Player> getRemotePlayers() {
+        return remotePlayers;
+    }
+
+    public List<Player> getRemotePlayerList() {
+        return remotePlayerView;
+    }
+}
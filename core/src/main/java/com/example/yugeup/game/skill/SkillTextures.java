@@ -0,0 +1,165 @@
+package com.example.yugeup.game.skill;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * 스킬 공용 텍스처 캐시
+ *
+ * 발사체 이미지(magicmissile.png 등)와 애니메이션이 없을 때 쓰는 색상 원 텍스처를
+ * 한 번만 만들어 모든 발사체가 나눠 씁니다. (발사할 때마다 GL 업로드하지 않음)
+ * 빌려 간 수를 세어 마지막 사용자가 반납하면 해제합니다.
+ * 풀에 들어간 발사체는 텍스처를 쥔 채로 대기하므로 연사 중에는 해제/재생성이 일어나지 않습니다.
+ *
+ * 렌더 스레드에서만 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class SkillTextures {
+    private static SkillTextures instance;
+
+    // 폴백 원 텍스처 크기 (16x16, 반지름 6)
+    private static final int CIRCLE_SIZE = 16;
+    private static final int CIRCLE_RADIUS = 6;
+
+    /**
+     * 캐시 항목 (텍스처 + 빌려 간 수)
+     */
+    private static class Entry {
+        Texture texture;
+        int refs;
+        String path;    // 파일 텍스처면 경로
+        int color;      // 색상 원이면 RGBA8888
+    }
+
+    // 파일 경로 → 항목
+    private final ObjectMap<String, Entry> files = new ObjectMap<>();
+
+    // RGBA8888 색상 → 원 텍스처 항목
+    private final IntMap<Entry> circles = new IntMap<>();
+
+    // 텍스처 → 항목 (반납용)
+    private final ObjectMap<Texture, Entry> byTexture = new ObjectMap<>();
+
+    /**
+     * private 생성자 (싱글톤 패턴)
+     */
+    private SkillTextures() {
+    }
+
+    /**
+     * 싱글톤 인스턴스 반환
+     *
+     * @return SkillTextures 인스턴스
+     */
+    public static SkillTextures getInstance() {
+        if (instance == null) {
+            instance = new SkillTextures();
+        }
+        return instance;
+    }
+
+    /**
+     * 이미지 파일 텍스처를 빌립니다.
+     * 파일을 읽지 못하면 주어진 색상의 원 텍스처를 대신 만듭니다.
+     *
+     * @param path internal 경로 (예: skills/magicmissile.png)
+     * @param r 폴백 색상 빨강
+     * @param g 폴백 색상 초록
+     * @param b 폴백 색상 파랑
+     * @return 텍스처 (다 쓰면 release)
+     */
+    public Texture acquireFile(String path, float r, float g, float b) {
+        Entry entry = files.get(path);
+        if (entry == null) {
+            entry = new Entry();
+            entry.path = path;
+            try {
+                entry.texture = new Texture(Gdx.files.internal(path));
+                System.out.println("[SkillTextures] " + path + " 로드 성공");
+            } catch (Exception e) {
+                System.out.println("[SkillTextures] " + path + " 로드 실패, Pixmap 사용: " + e.getMessage());
+                entry.texture = createCircle(r, g, b, 1f);
+            }
+            files.put(path, entry);
+            byTexture.put(entry.texture, entry);
+        }
+        entry.refs++;
+        return entry.texture;
+    }
+
+    /**
+     * 색상 원 텍스처(애니메이션 폴백)를 빌립니다.
+     *
+     * @param r 빨강 (0.0 ~ 1.0)
+     * @param g 초록 (0.0 ~ 1.0)
+     * @param b 파랑 (0.0 ~ 1.0)
+     * @param a 투명도 (0.0 ~ 1.0)
+     * @return 텍스처 (다 쓰면 release)
+     */
+    public Texture acquireCircle(float r, float g, float b, float a) {
+        int color = Color.rgba8888(r, g, b, a);
+        Entry entry = circles.get(color);
+        if (entry == null) {
+            entry = new Entry();
+            entry.color = color;
+            entry.texture = createCircle(r, g, b, a);
+            circles.put(color, entry);
+            byTexture.put(entry.texture, entry);
+        }
+        entry.refs++;
+        return entry.texture;
+    }
+
+    /**
+     * 빌린 텍스처를 반납합니다. 아무도 쓰지 않으면 해제합니다.
+     *
+     * @param texture acquire로 받은 텍스처 (null이면 무시)
+     */
+    public void release(Texture texture) {
+        if (texture == null) {
+            return;
+        }
+        Entry entry = byTexture.get(texture);
+        if (entry == null) {
+            System.out.println("[SkillTextures] 캐시에 없는 텍스처 반납 무시");
+            return;
+        }
+        if (--entry.refs > 0) {
+            return;
+        }
+        byTexture.remove(texture);
+        if (entry.path != null) {
+            files.remove(entry.path);
+        } else {
+            circles.remove(entry.color);
+        }
+        texture.dispose();
+    }
+
+    /**
+     * 현재 캐시에 있는 텍스처 수 (디버그용)
+     *
+     * @return 텍스처 수
+     */
+    public int getTextureCount() {
+        return byTexture.size;
+    }
+
+    /**
+     * 색상 원 텍스처 생성
+     */
+    private static Texture createCircle(float r, float g, float b, float a) {
+        Pixmap pixmap = new Pixmap(CIRCLE_SIZE, CIRCLE_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setColor(r, g, b, a);
+        pixmap.fillCircle(CIRCLE_SIZE / 2, CIRCLE_SIZE / 2, CIRCLE_RADIUS);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.yugeup.game.skill;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.example.yugeup.game.player.Player;
+
+/**
+ * 스킬 엔티티 컨테이너
+ *
+ * 플레이어의 모든 원소 스킬이 만든 발사체와 존을 한 목록에 모읍니다.
+ * 스킬 종류별 분기 없이 업데이트/렌더를 한 번씩 돌므로
+ * 프레임 비용은 스킬 종류 수가 아니라 살아 있는 엔티티 수에 비례합니다.
+ *
+ * 등록할 때 공용 타겟 목록(SkillTargets)을 연결하고,
+ * 수명이 끝난 엔티티는 업데이트 패스에서 바로 빼고 release합니다. (목록 순서 유지)
+ *
+ * 렌더 스레드에서만 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class SkillWorld {
+    // 살아 있는 엔티티 목록
+    private final Array<SkillEntity> entities = new Array<>(32);
+
+    // 공용 타겟 목록
+    private final SkillTargets targets;
+
+    /**
+     * 스킬 월드 생성자
+     *
+     * @param owner 스킬 시전자 (로컬 플레이어)
+     */
+    public SkillWorld(Player owner) {
+        this.targets = new SkillTargets(owner);
+    }
+
+    /**
+     * 엔티티를 등록합니다.
+     *
+     * @param entity 발사체 또는 존
+     */
+    public void add(SkillEntity entity) {
+        entity.bindTargets(targets);
+        entities.add(entity);
+    }
+
+    /**
+     * 모든 엔티티를 업데이트하고 종료된 엔티티를 정리합니다.
+     *
+     * @param delta 이전 프레임으로부터의 시간 (초)
+     */
+    public void update(float delta) {
+        int count = entities.size;
+        int live = 0;
+        for (int i = 0; i < count; i++) {
+            SkillEntity entity = entities.get(i);
+            entity.update(delta);
+            if (entity.isFinished()) {
+                entity.release();
+            } else {
+                entities.set(live++, entity);
+            }
+        }
+
+        // 업데이트 도중 등록된 엔티티는 이번 패스에서 건너뛰고 뒤에 붙임
+        for (int i = count; i < entities.size; i++) {
+            entities.set(live++, entities.get(i));
+        }
+        entities.truncate(live);
+    }
+
+    /**
+     * 모든 엔티티를 렌더링합니다.
+     *
+     * @param batch 스프라이트 배치 (begin 상태)
+     */
+    public void render(SpriteBatch batch) {
+        for (int i = 0; i < entities.size; i++) {
+            SkillEntity entity = entities.get(i);
+            if (!entity.isFinished()) {
+                entity.render(batch);
+            }
+        }
+    }
+
+    /**
+     * 모든 엔티티를 정리합니다.
+     */
+    public void clear() {
+        for (int i = 0; i < entities.size; i++) {
+            entities.get(i).release();
+        }
+        entities.clear();
+    }
+
+    /**
+     * 공용 타겟 목록을 반환합니다. (GameScreen이 프레임마다 refresh)
+     *
+     * @return 타겟 목록
+     */
+    public SkillTargets getTargets() {
+        return targets;
+    }
+
+    /**
+     * 살아 있는 엔티티 목록 (디버그 렌더링용, 수정 금지)
+     *
+     * @return 엔티티 목록
+     */
+    public Array<SkillEntity> getEntities() {
+        return entities;
+    }
+
+    /**
+     * 살아 있는 엔티티 수
+     *
+     * @return 엔티티 수
+     */
+    public int size() {
+        return entities.size;
+    }
+}
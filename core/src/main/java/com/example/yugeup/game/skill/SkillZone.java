@@ -4,32 +4,35 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 스킬 존(지속형 범위 공격) 기본 클래스
  *
  * 일정 시간 동안 지정된 위치에서 범위 내 적에게 데미지를 주는 영역입니다.
  * 불 원소의 '플레임 웨이브', 번개 원소의 '전자기장' 등에서 사용됩니다.
+ * 하위 클래스는 타입별 Pool에서 obtain으로 꺼내고, 끝나면 free로 반납합니다.
+ * 스킬이 SkillWorld에 등록하면 공용 타겟 목록이 연결되고, 끝나면 SkillWorld가 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public abstract class SkillZone {
+public abstract class SkillZone implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 스킬 존 고유 ID (GameManager에서 관리)
     protected int zoneId;
 
     // 존의 중심 위치
-    protected Vector2 position;
+    protected final Vector2 position = new Vector2();
 
     // 존의 반경 (픽셀)
     protected float radius;
@@ -53,7 +56,7 @@ public abstract class SkillZone {
     protected float tickRate;
 
     // 이미 데미지를 받은 몬스터 목록 (중복 방지)
-    protected List<Integer> hitMonsters;
+    protected final IntArray hitMonsters = new IntArray();
 
     // 애니메이션 (PHASE_24)
     protected Animation<TextureRegion> animation;
@@ -67,23 +70,19 @@ public abstract class SkillZone {
     // PVP 피격판정용 (원격 플레이어)
     protected Map<Integer, Player> remotePlayers;
     protected Player myPlayer;  // 스킬 시전자 (자기 자신 제외용)
-    protected Set<Integer> hitPlayersThisTick;  // 이번 틱에 피격한 플레이어 (중복 방지)
+    protected final IntSet hitPlayersThisTick = new IntSet();  // 이번 틱에 피격한 플레이어 (중복 방지)
+
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    protected boolean serverHits;
 
     /**
-     * 스킬 존 생성자
-     *
-     * @param x 중심 X 좌표
-     * @param y 중심 Y 좌표
-     * @param radius 존의 반경
-     * @param duration 지속시간 (초)
-     * @param damagePerTick 틱당 데미지
+     * 풀 생성용 생성자 (위치/피격 목록은 필드에서 한 번만 만들고 재사용)
      */
-    public SkillZone(float x, float y, float radius, float duration, int damagePerTick) {
-        this(x, y, radius, duration, damagePerTick, null);
+    protected SkillZone() {
     }
 
     /**
-     * 스킬 존 생성자 (애니메이션 지원)
+     * 스킬 존 초기화 (애니메이션 지원)
      *
      * @param x 중심 X 좌표
      * @param y 중심 Y 좌표
@@ -92,8 +91,8 @@ public abstract class SkillZone {
      * @param damagePerTick 틱당 데미지
      * @param animationName 애니메이션 이름 (null이면 애니메이션 없음)
      */
-    public SkillZone(float x, float y, float radius, float duration, int damagePerTick, String animationName) {
-        this.position = new Vector2(x, y);
+    protected void init(float x, float y, float radius, float duration, int damagePerTick, String animationName) {
+        this.position.set(x, y);
         this.radius = radius;
         this.maxDuration = duration;
         this.remainingDuration = duration;
@@ -101,8 +100,6 @@ public abstract class SkillZone {
         this.damagePerTick = damagePerTick;
         this.damageInterval = 0f;
         this.tickRate = 0.5f;  // 기본값: 0.5초마다 데미지
-        this.hitMonsters = new ArrayList<>();
-        this.hitPlayersThisTick = new HashSet<>();
 
         // 애니메이션 로드
         this.animationName = animationName;
@@ -111,6 +108,36 @@ public abstract class SkillZone {
         }
     }
 
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        zoneId = 0;
+        position.setZero();
+        radius = 0f;
+        maxDuration = 0f;
+        remainingDuration = 0f;
+        isActive = false;
+        damagePerTick = 0;
+        damageInterval = 0f;
+        tickRate = 0.5f;
+        hitMonsters.clear();
+        hitPlayersThisTick.clear();
+        animation = null;
+        animationTime = 0f;
+        animationName = null;
+        monsterList = null;
+        remotePlayers = null;
+        myPlayer = null;
+        serverHits = false;
+    }
+
+    /**
+     * 존을 자신의 풀에 반납합니다. (반납 후에는 참조를 버려야 함)
+     */
+    public abstract void free();
+
     /**
      * 몬스터 목록 주입 메서드
      *
@@ -131,6 +158,17 @@ public abstract class SkillZone {
         this.myPlayer = myPlayer;
     }
 
+    /**
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     *
+     * @param targets 공용 타겟 목록
+     */
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        setMonsterList(targets.getMonsters());
+        setPlayerList(targets.getRemotePlayers(), targets.getOwner());
+    }
+
     /**
      * 스킬 존을 업데이트합니다.
      *
@@ -171,11 +209,11 @@ public abstract class SkillZone {
         for (Monster monster : monsterList) {
             if (isMonsterInRange(monster)) {
                 if (!hitMonsters.contains(monster.getMonsterId())) {
-                    // 서버로 공격 메시지 전송
+                    // 서버로 공격 메시지 전송 (서버 판정이면 생략)
                     if (networkManager == null) {
                         networkManager = NetworkManager.getInstance();
                     }
-                    if (networkManager != null) {
+                    if (networkManager != null && !serverHits) {
                         networkManager.sendAttackMessage(
                             monster.getMonsterId(),
                             damagePerTick,
@@ -186,11 +224,29 @@ public abstract class SkillZone {
                 }
             } else {
                 // 범위 벗어나면 다시 맞을 수 있도록
-                hitMonsters.remove((Integer) monster.getMonsterId());
+                hitMonsters.removeValue(monster.getMonsterId());
             }
         }
     }
 
+    /**
+     * 서버 피격 판정 규칙을 채웁니다.
+     * 범위 안의 몬스터를 한 번씩 맞힙니다. (범위를 벗어났다 다시 들어오는 재피격은 서버에서 생략)
+     *
+     * @param msg 보낼 시전 메시지
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damagePerTick;
+        msg.hitRadius = radius;
+        msg.hitInterval = 0f;
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
     /**
      * 주변 플레이어에게 데미지를 적용합니다 (PVP).
      *
@@ -308,6 +364,16 @@ public abstract class SkillZone {
         return isActive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isActive();
+    }
+
+    @Override
+    public void release() {
+        free();
+    }
+
     /**
      * 존의 중심 위치를 반환합니다.
      *
@@ -1,14 +1,10 @@
 package com.example.yugeup.game.skill.earth;
 
 import com.badlogic.gdx.math.Vector2;
-import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 어스 스파이크 스킬 클래스
@@ -22,12 +18,6 @@ import java.util.List;
  */
 public class EarthSpike extends ElementalSkill {
 
-    // 활성 Zone 목록
-    private transient List<EarthSpikeZone> activeZones;
-
-    // 몬스터 목록 (충돌 감지용)
-    private transient List<Monster> monsterList;
-
     /**
      * 어스 스파이크 생성자
      *
@@ -37,16 +27,6 @@ public class EarthSpike extends ElementalSkill {
         super(5002, "어스 스파이크", Constants.EARTH_SPIKE_MANA_COST,
               Constants.EARTH_SPIKE_COOLDOWN, Constants.EARTH_SPIKE_DAMAGE,
               ElementType.EARTH, owner);
-        this.activeZones = new ArrayList<>();
-    }
-
-    /**
-     * 몬스터 목록 설정
-     *
-     * @param monsters 몬스터 목록
-     */
-    public void setMonsterList(List<Monster> monsters) {
-        this.monsterList = monsters;
     }
 
     /**
@@ -70,52 +50,23 @@ public class EarthSpike extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 어스 스파이크 Zone 생성
-        EarthSpikeZone zone = new EarthSpikeZone(
+        EarthSpikeZone zone = EarthSpikeZone.obtain(
             casterPos,
             direction.x,
             direction.y,
             getDamage()
         );
-        zone.setMonsterList(monsterList);
 
-        activeZones.add(zone);
+        spawn(zone);
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (이동형 Zone)
         sendMovingZoneSkillToNetwork(casterPos, targetPosition,
             Constants.EARTH_SPIKE_SPEED,
             Constants.EARTH_SPIKE_HITBOX_WIDTH,
-            Constants.EARTH_SPIKE_RANGE);
+            Constants.EARTH_SPIKE_RANGE,
+            zone);
 
         System.out.println("[EarthSpike] 어스 스파이크 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        Iterator<EarthSpikeZone> iterator = activeZones.iterator();
-        while (iterator.hasNext()) {
-            EarthSpikeZone zone = iterator.next();
-            zone.update(delta);
-
-            if (!zone.isActive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 Zone 목록을 반환합니다.
-     *
-     * @return Zone 리스트
-     */
-    public List<EarthSpikeZone> getActiveZones() {
-        return activeZones;
-    }
 }
@@ -4,15 +4,19 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
+import com.example.yugeup.game.skill.ServerHits;
 import com.example.yugeup.game.skill.SkillEffectManager;
+import com.example.yugeup.game.skill.SkillEntity;
+import com.example.yugeup.game.skill.SkillTargets;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
 import com.example.yugeup.game.player.Player;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 어스 스파이크 지역 클래스 (이동형)
@@ -21,16 +25,17 @@ import java.util.Set;
  * 사거리 200, 속도 100, 히트박스 24x16
  * 애니메이션이 끝나면 바로 사라짐
  * 각도 고정
+ * 풀에서 obtain으로 꺼내고, 끝나면 SkillWorld가 release로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class EarthSpikeZone {
+public class EarthSpikeZone implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 위치 및 속도
-    private Vector2 position;
-    private Vector2 startPosition;
-    private Vector2 velocity;
+    private final Vector2 position = new Vector2();
+    private final Vector2 startPosition = new Vector2();
+    private final Vector2 velocity = new Vector2();
 
     // 데미지
     private int damage;
@@ -54,42 +59,81 @@ public class EarthSpikeZone {
     private List<Monster> monsterList;
 
     // 이미 맞은 몬스터 (관통 데미지)
-    private Set<Integer> hitMonsters;
+    private final IntSet hitMonsters = new IntSet();
 
     // PVP 피격판정용
     private Map<Integer, Player> remotePlayers;
     private Player myPlayer;
-    private Set<Integer> hitPlayers;
+    private final IntSet hitPlayers = new IntSet();
+
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    private boolean serverHits;
+
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<EarthSpikeZone> POOL = new Pool<EarthSpikeZone>() {
+        @Override
+        protected EarthSpikeZone newObject() {
+            return new EarthSpikeZone();
+        }
+    };
+
+    private EarthSpikeZone() {
+    }
 
     /**
-     * 어스 스파이크 지역 생성자
+     * 풀에서 어스 스파이크 지역을 꺼냅니다.
      *
-     * @param origin 시작 위치
+     * @param origin 시작 위치 (값만 복사)
      * @param directionX 방향 X
      * @param directionY 방향 Y
      * @param damage 데미지
+     * @return 초기화된 지역
      */
-    public EarthSpikeZone(Vector2 origin, float directionX, float directionY, int damage) {
-        this.position = new Vector2(origin);
-        this.startPosition = new Vector2(origin);
-        this.damage = damage;
-        this.maxRange = Constants.EARTH_SPIKE_RANGE;
-        this.isActive = true;
-        this.hitMonsters = new HashSet<>();
-        this.hitPlayers = new HashSet<>();
+    public static EarthSpikeZone obtain(Vector2 origin, float directionX, float directionY, int damage) {
+        EarthSpikeZone zone = POOL.obtain();
+        zone.position.set(origin);
+        zone.startPosition.set(origin);
+        zone.damage = damage;
+        zone.maxRange = Constants.EARTH_SPIKE_RANGE;
+        zone.isActive = true;
 
         // 속도 벡터 설정
         float speed = Constants.EARTH_SPIKE_SPEED;
-        this.velocity = new Vector2(directionX * speed, directionY * speed);
+        zone.velocity.set(directionX * speed, directionY * speed);
 
         // 히트박스 24x16에 스케일 적용
-        this.renderWidth = Constants.EARTH_SPIKE_HITBOX_WIDTH * Constants.EARTH_SPIKE_SCALE;
-        this.renderHeight = Constants.EARTH_SPIKE_HITBOX_HEIGHT * Constants.EARTH_SPIKE_SCALE;
+        zone.renderWidth = Constants.EARTH_SPIKE_HITBOX_WIDTH * Constants.EARTH_SPIKE_SCALE;
+        zone.renderHeight = Constants.EARTH_SPIKE_HITBOX_HEIGHT * Constants.EARTH_SPIKE_SCALE;
 
         // 애니메이션 로드
-        this.animation = SkillEffectManager.getInstance().getAnimation("earth_spike");
+        zone.animation = SkillEffectManager.getInstance().getAnimation("earth_spike");
 
         System.out.println("[EarthSpikeZone] 생성! 방향: (" + directionX + ", " + directionY + ")");
+        return zone;
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        position.setZero();
+        startPosition.setZero();
+        velocity.setZero();
+        damage = 0;
+        maxRange = 0f;
+        traveledDistance = 0f;
+        isActive = false;
+        renderWidth = 0f;
+        renderHeight = 0f;
+        animation = null;
+        animationTime = 0f;
+        monsterList = null;
+        hitMonsters.clear();
+        remotePlayers = null;
+        myPlayer = null;
+        hitPlayers.clear();
+        serverHits = false;
     }
 
     /**
@@ -112,6 +156,17 @@ public class EarthSpikeZone {
         this.myPlayer = myPlayer;
     }
 
+    /**
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     *
+     * @param targets 공용 타겟 목록
+     */
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        setMonsterList(targets.getMonsters());
+        setPlayerList(targets.getRemotePlayers(), targets.getOwner());
+    }
+
     /**
      * 업데이트
      *
@@ -166,8 +221,8 @@ public class EarthSpikeZone {
 
             // 충돌 판정
             if (distance <= hitboxHalfWidth + 20f) {
-                // 서버로 공격 메시지 전송
-                if (nm != null) {
+                // 서버로 공격 메시지 전송 (서버 판정이면 생략)
+                if (nm != null && !serverHits) {
                     nm.sendAttackMessage(monster.getMonsterId(), damage, position.x, position.y);
                 }
                 hitMonsters.add(monster.getMonsterId());
@@ -228,6 +283,21 @@ public class EarthSpikeZone {
             renderWidth, renderHeight);
     }
 
+    /**
+     * 서버 피격 판정 규칙 (이동하며 대상마다 한 번, 관통)
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damage;
+        msg.hitRadius = Constants.EARTH_SPIKE_HITBOX_WIDTH / 2f + 20f;
+        msg.hitInterval = 0f;
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
     /**
      * 활성 상태 확인
      *
@@ -237,6 +307,16 @@ public class EarthSpikeZone {
         return isActive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isActive;
+    }
+
+    @Override
+    public void release() {
+        POOL.free(this);
+    }
+
     /**
      * 위치 반환
      *
@@ -6,8 +6,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -22,12 +20,6 @@ import java.util.List;
  */
 public class RockSmash extends ElementalSkill {
 
-    // 활성 Zone 목록
-    private transient List<RockSmashZone> activeZones;
-
-    // 몬스터 목록 (타겟팅용)
-    private transient List<Monster> monsterList;
-
     /**
      * 록 스매시 생성자
      *
@@ -37,16 +29,6 @@ public class RockSmash extends ElementalSkill {
         super(5001, "록 스매시", Constants.ROCK_SMASH_MANA_COST,
               Constants.ROCK_SMASH_COOLDOWN, Constants.ROCK_SMASH_DAMAGE,
               ElementType.EARTH, owner);
-        this.activeZones = new ArrayList<>();
-    }
-
-    /**
-     * 몬스터 목록 설정 (타겟팅용)
-     *
-     * @param monsters 몬스터 목록
-     */
-    public void setMonsterList(List<Monster> monsters) {
-        this.monsterList = monsters;
     }
 
     /**
@@ -83,19 +65,18 @@ public class RockSmash extends ElementalSkill {
         }
 
         // 록 스매시 Zone 생성
-        RockSmashZone zone = new RockSmashZone(
+        RockSmashZone zone = RockSmashZone.obtain(
             dropPosition.x,
             dropPosition.y,
             getDamage()
         );
-        zone.setMonsterList(monsterList);
 
-        activeZones.add(zone);
+        spawn(zone);
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (고정 Zone)
         float totalDuration = Constants.ROCK_SMASH_FALL_DURATION + Constants.ROCK_SMASH_LINGER_DURATION;
-        sendFixedZoneSkillToNetwork(dropPosition, Constants.ROCK_SMASH_HITBOX_SIZE, totalDuration);
+        sendFixedZoneSkillToNetwork(dropPosition, Constants.ROCK_SMASH_HITBOX_SIZE, totalDuration, zone);
 
         System.out.println("[RockSmash] 록 스매시 시전! 위치: (" + dropPosition.x + ", " + dropPosition.y + ")");
     }
@@ -108,14 +89,15 @@ public class RockSmash extends ElementalSkill {
      * @return 가장 가까운 몬스터 (없으면 null)
      */
     private Monster findNearestMonsterInDirection(Vector2 casterPos, Vector2 direction) {
-        if (monsterList == null || monsterList.isEmpty()) {
+        List<Monster> monsters = getTargetMonsters();
+        if (monsters.isEmpty()) {
             return null;
         }
 
         Monster nearest = null;
         float nearestDistance = Float.MAX_VALUE;
 
-        for (Monster monster : monsterList) {
+        for (Monster monster : monsters) {
             if (monster == null || monster.isDead()) continue;
 
             // 거리 계산
@@ -139,33 +121,4 @@ public class RockSmash extends ElementalSkill {
 
         return nearest;
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        Iterator<RockSmashZone> iterator = activeZones.iterator();
-        while (iterator.hasNext()) {
-            RockSmashZone zone = iterator.next();
-            zone.update(delta);
-
-            if (!zone.isActive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 Zone 목록을 반환합니다.
-     *
-     * @return Zone 리스트
-     */
-    public List<RockSmashZone> getActiveZones() {
-        return activeZones;
-    }
 }
@@ -4,15 +4,19 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
+import com.example.yugeup.game.skill.ServerHits;
 import com.example.yugeup.game.skill.SkillEffectManager;
+import com.example.yugeup.game.skill.SkillEntity;
+import com.example.yugeup.game.skill.SkillTargets;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 록 스매시 지역 클래스
@@ -20,11 +24,12 @@ import java.util.Set;
  * 바라보는 방향의 가장 가까운 적 위에 돌을 떨어뜨립니다.
  * start 애니메이션 → 바닥 도착 → end 애니메이션 → 1초 후 사라짐
  * 히트박스 48x48, 각도 고정
+ * 풀에서 obtain으로 꺼내고, 끝나면 SkillWorld가 release로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class RockSmashZone {
+public class RockSmashZone implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 존 상태
     private enum ZoneState {
@@ -38,7 +43,7 @@ public class RockSmashZone {
     private ZoneState state;
 
     // 존 위치 (타겟 위치)
-    private Vector2 position;
+    private final Vector2 position = new Vector2();
 
     // 데미지
     private int damage;
@@ -62,37 +67,75 @@ public class RockSmashZone {
     private List<Monster> monsterList;
 
     // 이미 맞은 몬스터 (중복 데미지 방지)
-    private Set<Integer> hitMonsters;
+    private final IntSet hitMonsters = new IntSet();
 
     // PVP 피격판정용
     private Map<Integer, Player> remotePlayers;
     private Player myPlayer;
 
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    private boolean serverHits;
+
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<RockSmashZone> POOL = new Pool<RockSmashZone>() {
+        @Override
+        protected RockSmashZone newObject() {
+            return new RockSmashZone();
+        }
+    };
+
+    private RockSmashZone() {
+    }
+
     /**
-     * 록 스매시 지역 생성자
+     * 풀에서 록 스매시 지역을 꺼냅니다.
      *
      * @param targetX 타겟 X 좌표
      * @param targetY 타겟 Y 좌표
      * @param damage 데미지
+     * @return 초기화된 지역
      */
-    public RockSmashZone(float targetX, float targetY, int damage) {
-        this.position = new Vector2(targetX, targetY);
-        this.damage = damage;
-        this.state = ZoneState.FALLING;
-        this.isActive = true;
-        this.fallTimer = Constants.ROCK_SMASH_FALL_DURATION;
-        this.lingerTimer = Constants.ROCK_SMASH_LINGER_DURATION;
-        this.hitMonsters = new HashSet<>();
+    public static RockSmashZone obtain(float targetX, float targetY, int damage) {
+        RockSmashZone zone = POOL.obtain();
+        zone.position.set(targetX, targetY);
+        zone.damage = damage;
+        zone.state = ZoneState.FALLING;
+        zone.isActive = true;
+        zone.fallTimer = Constants.ROCK_SMASH_FALL_DURATION;
+        zone.lingerTimer = Constants.ROCK_SMASH_LINGER_DURATION;
 
         // 히트박스 48x48에 스케일 적용
-        this.renderSize = Constants.ROCK_SMASH_HITBOX_SIZE * Constants.ROCK_SMASH_SCALE;
+        zone.renderSize = Constants.ROCK_SMASH_HITBOX_SIZE * Constants.ROCK_SMASH_SCALE;
 
         // 애니메이션 로드
         SkillEffectManager sem = SkillEffectManager.getInstance();
-        this.startAnimation = sem.getAnimation("rock_smash-start");
-        this.endAnimation = sem.getAnimation("rock_smash-end");
+        zone.startAnimation = sem.getAnimation("rock_smash-start");
+        zone.endAnimation = sem.getAnimation("rock_smash-end");
 
         System.out.println("[RockSmashZone] 생성! 위치: (" + targetX + ", " + targetY + ")");
+        return zone;
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        state = null;
+        position.setZero();
+        damage = 0;
+        fallTimer = 0f;
+        lingerTimer = 0f;
+        isActive = false;
+        renderSize = 0f;
+        startAnimation = null;
+        endAnimation = null;
+        animationTime = 0f;
+        monsterList = null;
+        hitMonsters.clear();
+        remotePlayers = null;
+        myPlayer = null;
+        serverHits = false;
     }
 
     /**
@@ -115,6 +158,17 @@ public class RockSmashZone {
         this.myPlayer = myPlayer;
     }
 
+    /**
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     *
+     * @param targets 공용 타겟 목록
+     */
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        setMonsterList(targets.getMonsters());
+        setPlayerList(targets.getRemotePlayers(), targets.getOwner());
+    }
+
     /**
      * 업데이트
      *
@@ -175,8 +229,8 @@ public class RockSmashZone {
 
             // 충돌 판정 (48x48 범위)
             if (distance <= hitboxRadius + 20f) {
-                // 서버로 공격 메시지 전송
-                if (nm != null) {
+                // 서버로 공격 메시지 전송 (서버 판정이면 생략)
+                if (nm != null && !serverHits) {
                     nm.sendAttackMessage(monster.getMonsterId(), damage, position.x, position.y);
                 }
                 hitMonsters.add(monster.getMonsterId());
@@ -244,6 +298,22 @@ public class RockSmashZone {
         }
     }
 
+    /**
+     * 서버 피격 판정 규칙 (낙하 후 충돌 순간 범위 안의 몬스터만 한 번)
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damage;
+        msg.hitRadius = Constants.ROCK_SMASH_HITBOX_SIZE / 2f + 20f;
+        msg.hitInterval = -1f;
+        msg.hitDelay = Constants.ROCK_SMASH_FALL_DURATION;
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
     /**
      * 활성 상태 확인
      *
@@ -253,6 +323,16 @@ public class RockSmashZone {
         return isActive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isActive;
+    }
+
+    @Override
+    public void release() {
+        POOL.free(this);
+    }
+
     /**
      * 위치 반환
      *
@@ -6,9 +6,6 @@ import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.game.buff.DamageReductionBuff;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 스톤 실드 스킬 클래스
@@ -22,9 +19,6 @@ import java.util.List;
  */
 public class StoneShield extends ElementalSkill {
 
-    // 활성 지역 목록 (시각 이펙트용)
-    private transient List<StoneShieldZone> activeZones;
-
     /**
      * 스톤 실드 생성자
      *
@@ -34,7 +28,6 @@ public class StoneShield extends ElementalSkill {
         super(5003, "스톤 실드", Constants.STONE_SHIELD_MANA_COST,
               Constants.STONE_SHIELD_COOLDOWN, 0,
               ElementType.EARTH, owner);
-        this.activeZones = new ArrayList<>();
     }
 
     /**
@@ -60,11 +53,11 @@ public class StoneShield extends ElementalSkill {
         ));
 
         // 시각 이펙트 존 생성
-        StoneShieldZone zone = new StoneShieldZone(
+        StoneShieldZone zone = StoneShieldZone.obtain(
             caster,
             Constants.STONE_SHIELD_DURATION
         );
-        activeZones.add(zone);
+        spawn(zone);
 
         // 쿨타임 시작
         currentCooldown = getCooldown();
@@ -75,41 +68,4 @@ public class StoneShield extends ElementalSkill {
 
         System.out.println("[StoneShield] 스톤 실드 시전! 8초간 피해 50% 감소");
     }
-
-    /**
-     * 스킬 업데이트
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-        updateZones(delta);
-    }
-
-    /**
-     * 활성 지역을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateZones(float delta) {
-        Iterator<StoneShieldZone> iterator = activeZones.iterator();
-        while (iterator.hasNext()) {
-            StoneShieldZone zone = iterator.next();
-            zone.update(delta);
-
-            if (!zone.isActive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 지역 목록을 반환합니다.
-     *
-     * @return 지역 리스트
-     */
-    public List<StoneShieldZone> getActiveZones() {
-        return activeZones;
-    }
 }
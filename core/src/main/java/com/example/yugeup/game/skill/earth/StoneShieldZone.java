@@ -4,8 +4,11 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.SkillEffectManager;
+import com.example.yugeup.game.skill.SkillEntity;
+import com.example.yugeup.game.skill.SkillTargets;
 import com.example.yugeup.utils.Constants;
 
 /**
@@ -14,11 +17,12 @@ import com.example.yugeup.utils.Constants;
  * 플레이어를 따라다니며 방어막 이펙트를 표시합니다.
  * start 애니메이션 후 loop 애니메이션 진행
  * 각도 고정
+ * 풀에서 obtain으로 꺼내고, 끝나면 SkillWorld가 release로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class StoneShieldZone {
+public class StoneShieldZone implements SkillEntity, Pool.Poolable {
 
     // 존 상태
     private enum ZoneState {
@@ -34,7 +38,7 @@ public class StoneShieldZone {
     private Player owner;
 
     // 존 위치
-    private Vector2 position;
+    private final Vector2 position = new Vector2();
 
     // 지속시간
     private float maxDuration;
@@ -49,29 +53,60 @@ public class StoneShieldZone {
     private Animation<TextureRegion> loopAnimation;
     private float animationTime = 0f;
 
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<StoneShieldZone> POOL = new Pool<StoneShieldZone>() {
+        @Override
+        protected StoneShieldZone newObject() {
+            return new StoneShieldZone();
+        }
+    };
+
+    private StoneShieldZone() {
+    }
+
     /**
-     * 스톤 실드 지역 생성자
+     * 풀에서 스톤 실드 지역을 꺼냅니다.
      *
      * @param owner 스킬 소유자 (플레이어)
      * @param duration 지속시간
+     * @return 초기화된 지역
      */
-    public StoneShieldZone(Player owner, float duration) {
-        this.owner = owner;
-        this.position = new Vector2(owner.getX(), owner.getY());
-        this.maxDuration = duration;
-        this.remainingDuration = duration;
-        this.isActive = true;
-        this.state = ZoneState.START;
+    public static StoneShieldZone obtain(Player owner, float duration) {
+        StoneShieldZone zone = POOL.obtain();
+        zone.owner = owner;
+        zone.position.set(owner.getX(), owner.getY());
+        zone.maxDuration = duration;
+        zone.remainingDuration = duration;
+        zone.isActive = true;
+        zone.state = ZoneState.START;
 
         // 렌더링 크기
-        this.renderSize = 64f * Constants.STONE_SHIELD_SCALE;
+        zone.renderSize = 64f * Constants.STONE_SHIELD_SCALE;
 
         // 애니메이션 로드
         SkillEffectManager sem = SkillEffectManager.getInstance();
-        this.startAnimation = sem.getAnimation("stone_shield-start");
-        this.loopAnimation = sem.getAnimation("stone_shield-loop");
+        zone.startAnimation = sem.getAnimation("stone_shield-start");
+        zone.loopAnimation = sem.getAnimation("stone_shield-loop");
 
         System.out.println("[StoneShieldZone] 생성! 지속시간: " + duration + "초");
+        return zone;
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        state = null;
+        owner = null;
+        position.setZero();
+        maxDuration = 0f;
+        remainingDuration = 0f;
+        isActive = false;
+        renderSize = 0f;
+        startAnimation = null;
+        loopAnimation = null;
+        animationTime = 0f;
     }
 
     /**
@@ -143,6 +178,21 @@ public class StoneShieldZone {
         return isActive;
     }
 
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        // 피격 판정 없음 (시각 이펙트 전용)
+    }
+
+    @Override
+    public boolean isFinished() {
+        return !isActive;
+    }
+
+    @Override
+    public void release() {
+        POOL.free(this);
+    }
+
     /**
      * 위치 반환
      *
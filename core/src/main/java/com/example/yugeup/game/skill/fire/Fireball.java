@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Iterator;
 
 /**
  * 파이어볼 스킬 클래스
@@ -20,9 +17,6 @@ import java.util.Iterator;
  */
 public class Fireball extends ElementalSkill {
 
-    // 발사체 목록
-    private transient List<FireballProjectile> activeProjectiles;
-
     /**
      * 파이어볼 생성자
      *
@@ -32,7 +26,6 @@ public class Fireball extends ElementalSkill {
         super(5101, "파이어볼", Constants.FIREBALL_MANA_COST,
               Constants.FIREBALL_COOLDOWN, Constants.FIREBALL_DAMAGE,
               ElementType.FIRE, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     /**
@@ -60,7 +53,7 @@ public class Fireball extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 발사체 생성 (새 스펙: 속도 100, 사거리 300)
-        FireballProjectile projectile = new FireballProjectile(
+        FireballProjectile projectile = FireballProjectile.obtain(
             casterPos,
             direction.x,
             direction.y,
@@ -69,7 +62,7 @@ public class Fireball extends ElementalSkill {
             Constants.FIREBALL_RANGE   // 300 픽셀
         );
 
-        activeProjectiles.add(projectile);
+        spawn(projectile);
 
         // 쿨타임 시작
         currentCooldown = getCooldown();
@@ -77,48 +70,8 @@ public class Fireball extends ElementalSkill {
         // 네트워크 동기화 (확장 버전 - 속도, 크기, 수명 포함)
         float lifetime = Constants.FIREBALL_RANGE / Constants.FIREBALL_SPEED;
         sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.FIREBALL_SPEED, Constants.FIREBALL_HITBOX_SIZE, lifetime);
+            Constants.FIREBALL_SPEED, Constants.FIREBALL_HITBOX_SIZE, lifetime, projectile);
 
         System.out.println("[Fireball] 파이어볼 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        // 발사체 업데이트
-        updateProjectiles(delta);
-    }
-
-    /**
-     * 활성 발사체를 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateProjectiles(float delta) {
-        Iterator<FireballProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            FireballProjectile projectile = iterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isAlive()) {
-                projectile.dispose();
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 발사체 목록을 반환합니다.
-     *
-     * @return 발사체 리스트
-     */
-    public List<FireballProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
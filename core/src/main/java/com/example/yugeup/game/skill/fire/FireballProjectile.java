@@ -1,6 +1,7 @@
 package com.example.yugeup.game.skill.fire;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.utils.Constants;
@@ -20,10 +21,21 @@ public class FireballProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
+
+    // 발사체 풀 (소멸한 발사체를 다음 발사에 재사용)
+    private static final Pool<FireballProjectile> POOL = new Pool<FireballProjectile>() {
+        @Override
+        protected FireballProjectile newObject() {
+            return new FireballProjectile();
+        }
+    };
+
+    private FireballProjectile() {
+    }
 
     /**
-     * 파이어볼 발사체 생성자 (직진, 사거리 제한)
+     * 풀에서 파이어볼 발사체를 꺼냅니다. (직진, 사거리 제한)
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -31,24 +43,40 @@ public class FireballProjectile extends BaseProjectile {
      * @param damage 데미지
      * @param speed 이동 속도 (픽셀/초)
      * @param maxRange 최대 사거리 (픽셀)
+     * @return 초기화된 발사체
      */
-    public FireballProjectile(Vector2 origin, float directionX, float directionY,
-                              int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "fireball-loop");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
+    public static FireballProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                            int damage, float speed, float maxRange) {
+        FireballProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "fireball-loop");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
         // 히트박스 12x12에 스케일 4배 적용 = 48x48 렌더링
-        this.size = Constants.FIREBALL_HITBOX_SIZE * Constants.FIREBALL_SCALE;
+        projectile.size = Constants.FIREBALL_HITBOX_SIZE * Constants.FIREBALL_SCALE;
         // 불 원소: 주황-빨강색 (폴백용)
-        setColor(1.0f, 0.4f, 0.0f);
+        projectile.setColor(1.0f, 0.4f, 0.0f);
+        return projectile;
     }
 
     /**
-     * 기존 생성자 (하위 호환용)
+     * 기본 사거리로 꺼냅니다. (하위 호환용)
      */
-    public FireballProjectile(Vector2 origin, float directionX, float directionY,
-                              int damage, float speed) {
-        this(origin, directionX, directionY, damage, speed, Constants.FIREBALL_RANGE);
+    public static FireballProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                            int damage, float speed) {
+        return obtain(origin, directionX, directionY, damage, speed, Constants.FIREBALL_RANGE);
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
     }
 
     /**
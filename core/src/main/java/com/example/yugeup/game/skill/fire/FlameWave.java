@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 플레임 웨이브 스킬 클래스
@@ -20,9 +17,6 @@ import java.util.List;
  */
 public class FlameWave extends ElementalSkill {
 
-    // 활성 투사체 목록
-    private transient List<FlameWaveProjectile> activeProjectiles;
-
     /**
      * 플레임 웨이브 생성자
      *
@@ -32,7 +26,6 @@ public class FlameWave extends ElementalSkill {
         super(5102, "플레임 웨이브", Constants.FLAME_WAVE_MANA_COST,
               Constants.FLAME_WAVE_COOLDOWN, Constants.FLAME_WAVE_DAMAGE,
               ElementType.FIRE, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     /**
@@ -58,7 +51,7 @@ public class FlameWave extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 플레임 웨이브 투사체 생성 (도트딜)
-        FlameWaveProjectile projectile = new FlameWaveProjectile(
+        FlameWaveProjectile projectile = FlameWaveProjectile.obtain(
             casterPos,
             direction.x,
             direction.y,
@@ -67,7 +60,7 @@ public class FlameWave extends ElementalSkill {
             Constants.FLAME_WAVE_RANGE
         );
 
-        activeProjectiles.add(projectile);
+        spawn(projectile);
 
         // 쿨타임 시작
         currentCooldown = getCooldown();
@@ -75,47 +68,8 @@ public class FlameWave extends ElementalSkill {
         // 네트워크 동기화 (확장 버전)
         float lifetime = Constants.FLAME_WAVE_RANGE / Constants.FLAME_WAVE_SPEED;
         sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.FLAME_WAVE_SPEED, Constants.FLAME_WAVE_HITBOX_SIZE, lifetime);
+            Constants.FLAME_WAVE_SPEED, Constants.FLAME_WAVE_HITBOX_SIZE, lifetime, projectile);
 
         System.out.println("[FlameWave] 플레임 웨이브 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        // 투사체 업데이트
-        updateProjectiles(delta);
-    }
-
-    /**
-     * 활성 투사체를 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateProjectiles(float delta) {
-        Iterator<FlameWaveProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            FlameWaveProjectile projectile = iterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isAlive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 투사체 목록을 반환합니다.
-     *
-     * @return 투사체 리스트
-     */
-    public List<FlameWaveProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
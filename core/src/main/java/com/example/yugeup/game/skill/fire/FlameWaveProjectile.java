@@ -4,14 +4,14 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.game.skill.SkillEffectManager;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.utils.Constants;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * 플레임 웨이브 투사체 클래스
@@ -27,13 +27,13 @@ public class FlameWaveProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
 
     // 도트딜 관련
     private float tickTimer = 0f;
     private float tickRate;
-    private Set<Integer> recentlyHitMonsters;  // 최근 히트한 몬스터 (틱 내)
-    private Set<Integer> recentlyHitPlayers;   // 최근 히트한 플레이어 (틱 내)
+    private final IntSet recentlyHitMonsters = new IntSet();  // 최근 히트한 몬스터 (틱 내)
+    private final IntSet recentlyHitPlayers = new IntSet();   // 최근 히트한 플레이어 (틱 내)
 
     // 렌더링 크기 (스케일 적용)
     private float renderSize;
@@ -44,8 +44,19 @@ public class FlameWaveProjectile extends BaseProjectile {
     // 애니메이션
     private Animation<TextureRegion> loopAnim;
 
+    // 투사체 풀 (소멸한 투사체를 다음 발사에 재사용)
+    private static final Pool<FlameWaveProjectile> POOL = new Pool<FlameWaveProjectile>() {
+        @Override
+        protected FlameWaveProjectile newObject() {
+            return new FlameWaveProjectile();
+        }
+    };
+
+    private FlameWaveProjectile() {
+    }
+
     /**
-     * 플레임 웨이브 투사체 생성자
+     * 풀에서 플레임 웨이브 투사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -53,33 +64,54 @@ public class FlameWaveProjectile extends BaseProjectile {
      * @param damage 틱당 데미지
      * @param speed 이동 속도 (픽셀/초)
      * @param maxRange 최대 사거리 (픽셀)
+     * @return 초기화된 투사체
      */
-    public FlameWaveProjectile(Vector2 origin, float directionX, float directionY,
-                               int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "flame_wave-loop");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
-        this.tickRate = Constants.FLAME_WAVE_TICK_RATE;
-        this.recentlyHitMonsters = new HashSet<>();
-        this.recentlyHitPlayers = new HashSet<>();
+    public static FlameWaveProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                             int damage, float speed, float maxRange) {
+        FlameWaveProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "flame_wave-loop");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
+        projectile.tickRate = Constants.FLAME_WAVE_TICK_RATE;
 
         // 렌더링 크기: 히트박스 16x16에 스케일 3배 = 48x48
-        this.renderSize = Constants.FLAME_WAVE_HITBOX_SIZE * Constants.FLAME_WAVE_SCALE;
-        this.size = renderSize;
+        projectile.renderSize = Constants.FLAME_WAVE_HITBOX_SIZE * Constants.FLAME_WAVE_SCALE;
+        projectile.size = projectile.renderSize;
 
         // 발사 각도 계산
-        this.angle = new Vector2(directionX, directionY).angleDeg();
+        projectile.angle = projectile.direction.angleDeg();
 
         // 애니메이션 로드
-        this.loopAnim = SkillEffectManager.getInstance().getAnimation("flame_wave-loop");
+        projectile.loopAnim = SkillEffectManager.getInstance().getAnimation("flame_wave-loop");
 
         // 관통 무제한 (도트딜이므로)
-        this.maxPierceCount = Integer.MAX_VALUE;
+        projectile.maxPierceCount = Integer.MAX_VALUE;
 
         // 불 원소: 주황-빨강색 (폴백용)
-        setColor(1.0f, 0.4f, 0.0f);
+        projectile.setColor(1.0f, 0.4f, 0.0f);
 
-        System.out.println("[FlameWaveProjectile] 생성! 방향: (" + directionX + ", " + directionY + "), 속도: " + speed + ", velocity: (" + velocity.x + ", " + velocity.y + ")");
+        System.out.println("[FlameWaveProjectile] 생성! 방향: (" + directionX + ", " + directionY + "), 속도: " + speed + ", velocity: (" + projectile.velocity.x + ", " + projectile.velocity.y + ")");
+        return projectile;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
+        tickTimer = 0f;
+        tickRate = 0f;
+        recentlyHitMonsters.clear();
+        recentlyHitPlayers.clear();
+        renderSize = 0f;
+        angle = 0f;
+        loopAnim = null;
     }
 
     /**
@@ -142,8 +174,8 @@ public class FlameWaveProjectile extends BaseProjectile {
 
             // 충돌 판정 (렌더링 크기 기준 + 몬스터 반경)
             if (distance <= hitboxRadius + 20f) {
-                // 서버로 공격 메시지 전송
-                if (nm != null) {
+                // 서버로 공격 메시지 전송 (서버 판정이면 생략)
+                if (nm != null && !serverHits) {
                     nm.sendAttackMessage(monster.getMonsterId(), damage, position.x, position.y);
                 }
                 recentlyHitMonsters.add(monster.getMonsterId());
@@ -183,6 +215,22 @@ public class FlameWaveProjectile extends BaseProjectile {
         }
     }
 
+    /**
+     * 서버 판정 피격 반경 (checkDotDamage와 같은 값)
+     */
+    @Override
+    protected float getHitRadius() {
+        return renderSize / 2f + 20f;
+    }
+
+    /**
+     * 서버 판정 재피격 간격 (도트딜 틱)
+     */
+    @Override
+    protected float getHitInterval() {
+        return tickRate;
+    }
+
     /**
      * 충돌 감지 오버라이드 (기본 충돌은 비활성화, 도트딜로 처리)
      */
@@ -217,8 +265,8 @@ public class FlameWaveProjectile extends BaseProjectile {
                 renderSize,
                 1f, scaleY,
                 renderAngle);
-        } else if (texture != null) {
-            batch.draw(texture,
+        } else {
+            batch.draw(getFallbackTexture(),
                 position.x - renderSize / 2,
                 position.y - renderSize / 2,
                 renderSize, renderSize);
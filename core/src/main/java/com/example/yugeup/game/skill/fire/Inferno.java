@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 인페르노 스킬 클래스
@@ -20,9 +17,6 @@ import java.util.List;
  */
 public class Inferno extends ElementalSkill {
 
-    // 활성 지역 목록
-    private transient List<InfernoZone> activeZones;
-
     /**
      * 인페르노 생성자
      *
@@ -32,7 +26,6 @@ public class Inferno extends ElementalSkill {
         super(5103, "인페르노", Constants.INFERNO_MANA_COST,
               Constants.INFERNO_COOLDOWN, 100,
               ElementType.FIRE, owner);
-        this.activeZones = new ArrayList<>();
     }
 
     /**
@@ -56,61 +49,22 @@ public class Inferno extends ElementalSkill {
         // 인페르노 지역 생성 (플레이어 중심, 즉발 폭발)
         // 애니메이션 재생시간 계산 (18프레임 * 0.08초 = 약 1.44초)
         float animDuration = 18 * 0.08f;
-        InfernoZone zone = new InfernoZone(
+        InfernoZone zone = InfernoZone.obtain(
             caster.getX(),
             caster.getY(),
             getDamage(),
             animDuration  // 애니메이션 지속시간
         );
 
-        activeZones.add(zone);
+        spawn(zone);
 
         // 쿨타임 시작
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (고정 Zone)
         Vector2 zonePos = new Vector2(caster.getX(), caster.getY());
-        sendFixedZoneSkillToNetwork(zonePos, Constants.INFERNO_RANGE, animDuration);
+        sendFixedZoneSkillToNetwork(zonePos, Constants.INFERNO_RANGE, animDuration, zone);
 
         System.out.println("[Inferno] 인페르노 시전! 위치: (" + caster.getX() + ", " + caster.getY() + ")");
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        // 지역 업데이트
-        updateZones(delta);
-    }
-
-    /**
-     * 활성 지역을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateZones(float delta) {
-        Iterator<InfernoZone> iterator = activeZones.iterator();
-        while (iterator.hasNext()) {
-            InfernoZone zone = iterator.next();
-            zone.update(delta);
-
-            if (!zone.isActive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 지역 목록을 반환합니다.
-     *
-     * @return 지역 리스트
-     */
-    public List<InfernoZone> getActiveZones() {
-        return activeZones;
-    }
 }
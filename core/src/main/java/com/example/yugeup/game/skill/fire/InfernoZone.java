@@ -3,11 +3,13 @@ package com.example.yugeup.game.skill.fire;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.SkillEffectManager;
 import com.example.yugeup.game.skill.SkillZone;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
 
 /**
@@ -30,23 +32,50 @@ public class InfernoZone extends SkillZone {
     // 이펙트 스케일
     private float effectScale;
 
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<InfernoZone> POOL = new Pool<InfernoZone>() {
+        @Override
+        protected InfernoZone newObject() {
+            return new InfernoZone();
+        }
+    };
+
+    private InfernoZone() {
+    }
+
     /**
-     * 인페르노 지역 생성자
+     * 풀에서 인페르노 지역을 꺼냅니다.
      *
      * @param x 중심 X 좌표
      * @param y 중심 Y 좌표
      * @param damage 데미지 (즉발)
      * @param duration 이펙트 지속시간 (애니메이션용)
+     * @return 초기화된 지역
      */
-    public InfernoZone(float x, float y, int damage, float duration) {
-        super(x, y, Constants.INFERNO_HITBOX_SIZE, duration, damage, "inferno");
-        this.effectScale = Constants.INFERNO_SCALE;
+    public static InfernoZone obtain(float x, float y, int damage, float duration) {
+        InfernoZone zone = POOL.obtain();
+        zone.init(x, y, Constants.INFERNO_HITBOX_SIZE, duration, damage, "inferno");
+        zone.effectScale = Constants.INFERNO_SCALE;
 
         // 애니메이션 로드
-        this.infernoAnim = SkillEffectManager.getInstance().getAnimation("inferno");
+        zone.infernoAnim = SkillEffectManager.getInstance().getAnimation("inferno");
 
         // 즉발 데미지이므로 틱 간격 매우 짧게 (첫 프레임에 데미지)
-        this.tickRate = 0.01f;
+        zone.tickRate = 0.01f;
+        return zone;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        damageApplied = false;
+        infernoAnim = null;
+        effectScale = 0f;
     }
 
     /**
@@ -91,8 +120,8 @@ public class InfernoZone extends SkillZone {
                 float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
                 if (distance <= Constants.INFERNO_RANGE) {
-                    // 서버로 공격 메시지 전송
-                    if (nm != null) {
+                    // 서버로 공격 메시지 전송 (서버 판정이면 생략)
+                    if (nm != null && !serverHits) {
                         nm.sendAttackMessage(monster.getMonsterId(), damagePerTick, position.x, position.y);
                     }
                     System.out.println("[InfernoZone] 몬스터 " + monster.getMonsterId() + " 히트! 데미지: " + damagePerTick);
@@ -125,6 +154,17 @@ public class InfernoZone extends SkillZone {
         }
     }
 
+    /**
+     * 서버 피격 판정 규칙 (즉발: 시전 순간 범위 안의 몬스터만 한 번)
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damagePerTick;
+        msg.hitRadius = Constants.INFERNO_RANGE;
+        msg.hitInterval = -1f;
+        msg.hitDelay = 0f;
+    }
+
     /**
      * 기존 틱 데미지 비활성화 (즉발이므로)
      */
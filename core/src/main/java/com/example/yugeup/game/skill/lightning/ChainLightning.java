@@ -6,10 +6,6 @@ import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 /**
  * 체인 라이트닝 스킬 클래스
  *
@@ -22,9 +18,6 @@ import java.util.List;
  */
 public class ChainLightning extends ElementalSkill {
 
-    // 활성 발사체 목록
-    private transient List<ChainLightningProjectile> activeProjectiles;
-
     /**
      * 체인 라이트닝 생성자
      *
@@ -34,7 +27,6 @@ public class ChainLightning extends ElementalSkill {
         super(5402, "체인 라이트닝", Constants.CHAIN_LIGHTNING_MANA_COST,
               Constants.CHAIN_LIGHTNING_COOLDOWN, Constants.CHAIN_LIGHTNING_DAMAGE,
               ElementType.LIGHTNING, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     /**
@@ -58,7 +50,7 @@ public class ChainLightning extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 체인 라이트닝 발사체 생성 (관통 스킬)
-        ChainLightningProjectile projectile = new ChainLightningProjectile(
+        ChainLightningProjectile projectile = ChainLightningProjectile.obtain(
             casterPos,
             direction.x,
             direction.y,
@@ -68,7 +60,7 @@ public class ChainLightning extends ElementalSkill {
         );
         // 무한 관통 (사거리 끝까지)
         projectile.setMaxPierceCount(999);
-        activeProjectiles.add(projectile);
+        spawn(projectile);
 
         // 쿨타임 시작
         currentCooldown = getCooldown();
@@ -76,46 +68,8 @@ public class ChainLightning extends ElementalSkill {
         // 네트워크 동기화 (확장 버전)
         float lifetime = Constants.CHAIN_LIGHTNING_RANGE / Constants.CHAIN_LIGHTNING_SPEED;
         sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.CHAIN_LIGHTNING_SPEED, Constants.CHAIN_LIGHTNING_HITBOX_SIZE, lifetime);
+            Constants.CHAIN_LIGHTNING_SPEED, Constants.CHAIN_LIGHTNING_HITBOX_SIZE, lifetime, projectile);
 
         System.out.println("[ChainLightning] 체인 라이트닝 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    /**
-     * 스킬 업데이트
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-        updateProjectiles(delta);
-    }
-
-    /**
-     * 발사체 업데이트
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateProjectiles(float delta) {
-        Iterator<ChainLightningProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            ChainLightningProjectile projectile = iterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isAlive()) {
-                projectile.dispose();
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 발사체 목록을 반환합니다.
-     *
-     * @return 발사체 리스트
-     */
-    public List<ChainLightningProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
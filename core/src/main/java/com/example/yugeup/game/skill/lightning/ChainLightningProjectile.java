@@ -1,6 +1,7 @@
 package com.example.yugeup.game.skill.lightning;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.utils.Constants;
 
@@ -18,10 +19,21 @@ public class ChainLightningProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
+
+    // 발사체 풀 (소멸한 발사체를 다음 발사에 재사용)
+    private static final Pool<ChainLightningProjectile> POOL = new Pool<ChainLightningProjectile>() {
+        @Override
+        protected ChainLightningProjectile newObject() {
+            return new ChainLightningProjectile();
+        }
+    };
+
+    private ChainLightningProjectile() {
+    }
 
     /**
-     * 체인 라이트닝 발사체 생성자
+     * 풀에서 체인 라이트닝 발사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -29,24 +41,40 @@ public class ChainLightningProjectile extends BaseProjectile {
      * @param damage 데미지
      * @param speed 이동 속도
      * @param maxRange 최대 사거리
+     * @return 초기화된 발사체
      */
-    public ChainLightningProjectile(Vector2 origin, float directionX, float directionY,
-                                    int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "chain_lightning-projectile");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
+    public static ChainLightningProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                                  int damage, float speed, float maxRange) {
+        ChainLightningProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "chain_lightning-projectile");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
         // 히트박스 크기에 스케일 적용
-        this.size = Constants.CHAIN_LIGHTNING_HITBOX_SIZE * Constants.CHAIN_LIGHTNING_SCALE;
+        projectile.size = Constants.CHAIN_LIGHTNING_HITBOX_SIZE * Constants.CHAIN_LIGHTNING_SCALE;
         // 번개 원소: 청백색 (폴백용)
-        setColor(0.5f, 0.8f, 1.0f);
+        projectile.setColor(0.5f, 0.8f, 1.0f);
+        return projectile;
     }
 
     /**
-     * 기존 생성자 (하위 호환용)
+     * 기본 사거리로 꺼냅니다. (하위 호환용)
      */
-    public ChainLightningProjectile(Vector2 origin, float directionX, float directionY,
-                                    int damage, float speed) {
-        this(origin, directionX, directionY, damage, speed, Constants.CHAIN_LIGHTNING_RANGE);
+    public static ChainLightningProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                                  int damage, float speed) {
+        return obtain(origin, directionX, directionY, damage, speed, Constants.CHAIN_LIGHTNING_RANGE);
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
     }
 
     /**
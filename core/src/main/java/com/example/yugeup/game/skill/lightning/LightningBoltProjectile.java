@@ -1,6 +1,7 @@
 package com.example.yugeup.game.skill.lightning;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.skill.BaseProjectile;
 
 /**
@@ -13,20 +14,39 @@ import com.example.yugeup.game.skill.BaseProjectile;
  */
 public class LightningBoltProjectile extends BaseProjectile {
 
+    // 발사체 풀 (소멸한 발사체를 다음 발사에 재사용)
+    private static final Pool<LightningBoltProjectile> POOL = new Pool<LightningBoltProjectile>() {
+        @Override
+        protected LightningBoltProjectile newObject() {
+            return new LightningBoltProjectile();
+        }
+    };
+
+    private LightningBoltProjectile() {
+    }
+
     /**
-     * 라이트닝 볼트 발사체 생성자
+     * 풀에서 라이트닝 볼트 발사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
      * @param directionY 방향 Y
      * @param damage 데미지
      * @param speed 이동 속도
+     * @return 초기화된 발사체
      */
-    public LightningBoltProjectile(Vector2 origin, float directionX, float directionY,
-                                   int damage, float speed) {
-        super(origin, directionX, directionY, damage, speed, "lightning_volt");
+    public static LightningBoltProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                                 int damage, float speed) {
+        LightningBoltProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "lightning_volt");
         // 번개 원소: 밝은 노란색 (폴백용)
-        setColor(1.0f, 1.0f, 0.3f);
+        projectile.setColor(1.0f, 1.0f, 0.3f);
+        return projectile;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
     }
 
     /**
@@ -7,10 +7,15 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
+import com.example.yugeup.game.skill.ServerHits;
 import com.example.yugeup.game.skill.SkillEffectManager;
+import com.example.yugeup.game.skill.SkillEntity;
+import com.example.yugeup.game.skill.SkillTargets;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
 
 import java.util.List;
@@ -22,11 +27,12 @@ import java.util.Map;
  * 타겟 위에 낙뢰를 떨어뜨립니다.
  * 애니메이션 재생 후 자동 종료.
  * 각도 고정.
+ * 풀에서 obtain으로 꺼내고, 끝나면 SkillWorld가 release로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class LightningBoltZone {
+public class LightningBoltZone implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 존 상태
     private enum ZoneState {
@@ -38,7 +44,7 @@ public class LightningBoltZone {
     private ZoneState state;
 
     // 존 위치
-    private Vector2 position;
+    private final Vector2 position = new Vector2();
 
     // 데미지
     private int damage;
@@ -73,35 +79,72 @@ public class LightningBoltZone {
     private transient Map<Integer, Player> remotePlayers;
     private transient Player myPlayer;
 
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    private boolean serverHits;
+
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<LightningBoltZone> POOL = new Pool<LightningBoltZone>() {
+        @Override
+        protected LightningBoltZone newObject() {
+            return new LightningBoltZone();
+        }
+    };
+
+    private LightningBoltZone() {
+    }
+
     /**
-     * 라이트닝 볼트 지역 생성자
+     * 풀에서 라이트닝 볼트 지역을 꺼냅니다.
      *
      * @param x 중심 X 좌표
      * @param y 중심 Y 좌표
      * @param damage 데미지
+     * @return 초기화된 지역
      */
-    public LightningBoltZone(float x, float y, int damage) {
-        this.position = new Vector2(x, y);
-        this.damage = damage;
-        this.isActive = true;
-        this.damageApplied = false;
-        this.state = ZoneState.ACTIVE;
+    public static LightningBoltZone obtain(float x, float y, int damage) {
+        LightningBoltZone zone = POOL.obtain();
+        zone.position.set(x, y);
+        zone.damage = damage;
+        zone.isActive = true;
+        zone.damageApplied = false;
+        zone.state = ZoneState.ACTIVE;
 
         // 히트박스 크기
-        this.hitboxSize = Constants.LIGHTNING_BOLT_HITBOX_SIZE;
+        zone.hitboxSize = Constants.LIGHTNING_BOLT_HITBOX_SIZE;
 
         // 렌더링 크기 (64 기본 * 스케일)
-        this.renderSize = 64f * Constants.LIGHTNING_BOLT_SCALE;
+        zone.renderSize = 64f * Constants.LIGHTNING_BOLT_SCALE;
 
         // 애니메이션 로드 (atlas에서 lightning_volt)
-        this.animation = SkillEffectManager.getInstance().getAnimation("lightning_volt");
+        zone.animation = SkillEffectManager.getInstance().getAnimation("lightning_volt");
 
         // 폴백 텍스처 생성 (한 번만)
         if (fallbackTexture == null) {
             createFallbackTexture();
         }
 
-        System.out.println("[LightningBoltZone] 생성! 위치: (" + x + ", " + y + "), 애니메이션: " + (animation != null));
+        System.out.println("[LightningBoltZone] 생성! 위치: (" + x + ", " + y + "), 애니메이션: " + (zone.animation != null));
+        return zone;
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출, 폴백 텍스처는 공용이라 유지)
+     */
+    @Override
+    public void reset() {
+        state = null;
+        position.setZero();
+        damage = 0;
+        isActive = false;
+        damageApplied = false;
+        hitboxSize = 0f;
+        renderSize = 0f;
+        animation = null;
+        animationTime = 0f;
+        monsterList = null;
+        remotePlayers = null;
+        myPlayer = null;
+        serverHits = false;
     }
 
     /**
@@ -138,6 +181,17 @@ public class LightningBoltZone {
         this.myPlayer = myPlayer;
     }
 
+    /**
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     *
+     * @param targets 공용 타겟 목록
+     */
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        setMonsterList(targets.getMonsters());
+        setPlayerList(targets.getRemotePlayers(), targets.getOwner());
+    }
+
     /**
      * 업데이트
      *
@@ -192,8 +246,8 @@ public class LightningBoltZone {
 
             // 히트박스 반경 내 몬스터에게 데미지
             if (distance <= hitboxSize) {
-                // 서버로 공격 메시지 전송 (클라이언트 측에서 직접 HP 변경 X)
-                if (networkManager != null) {
+                // 서버로 공격 메시지 전송 (클라이언트 측에서 직접 HP 변경 X, 서버 판정이면 생략)
+                if (networkManager != null && !serverHits) {
                     networkManager.sendAttackMessage(
                         monster.getMonsterId(),
                         damage,
@@ -269,6 +323,22 @@ public class LightningBoltZone {
         }
     }
 
+    /**
+     * 서버 피격 판정 규칙 (즉발: 시전 순간 범위 안의 몬스터만 한 번)
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damage;
+        msg.hitRadius = hitboxSize;
+        msg.hitInterval = -1f;
+        msg.hitDelay = 0f;
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
     /**
      * 활성 상태 확인
      *
@@ -278,6 +348,16 @@ public class LightningBoltZone {
         return isActive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isActive;
+    }
+
+    @Override
+    public void release() {
+        POOL.free(this);
+    }
+
     /**
      * 위치 반환
      *
@@ -1,16 +1,11 @@
 package com.example.yugeup.game.skill.lightning;
 
 import com.badlogic.gdx.math.Vector2;
-import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 /**
  * 썬더 스톰 스킬 클래스
  *
@@ -25,12 +20,6 @@ import java.util.List;
  */
 public class ThunderStorm extends ElementalSkill {
 
-    // 활성 지역 목록
-    private transient List<ThunderStormZone> activeZones;
-
-    // 몬스터 목록 참조
-    private transient List<Monster> monsterList;
-
     /**
      * 썬더 스톰 생성자
      *
@@ -40,16 +29,6 @@ public class ThunderStorm extends ElementalSkill {
         super(5403, "썬더 스톰", Constants.THUNDER_STORM_MANA_COST,
               Constants.THUNDER_STORM_COOLDOWN, Constants.THUNDER_STORM_DAMAGE,
               ElementType.LIGHTNING, owner);
-        this.activeZones = new ArrayList<>();
-    }
-
-    /**
-     * 몬스터 목록 설정
-     *
-     * @param monsters 몬스터 목록
-     */
-    public void setMonsterList(List<Monster> monsters) {
-        this.monsterList = monsters;
     }
 
     /**
@@ -73,15 +52,14 @@ public class ThunderStorm extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 썬더 스톰 지역 생성 (플레이어 위치에서 시작)
-        ThunderStormZone zone = new ThunderStormZone(
+        ThunderStormZone zone = ThunderStormZone.obtain(
             casterPos.x,
             casterPos.y,
             direction.x,
             direction.y,
             getDamage()
         );
-        zone.setMonsterList(monsterList);
-        activeZones.add(zone);
+        spawn(zone);
 
         // 쿨타임 시작
         currentCooldown = getCooldown();
@@ -90,45 +68,9 @@ public class ThunderStorm extends ElementalSkill {
         sendMovingZoneSkillToNetwork(casterPos, targetPosition,
             Constants.THUNDER_STORM_CLOUD_SPEED,
             Constants.THUNDER_STORM_LIGHTNING_HITBOX_WIDTH,
-            Constants.THUNDER_STORM_RANGE);
+            Constants.THUNDER_STORM_RANGE,
+            zone);
 
         System.out.println("[ThunderStorm] 썬더 스톰 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-        updateZones(delta);
-    }
-
-    /**
-     * 활성 지역을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateZones(float delta) {
-        Iterator<ThunderStormZone> iterator = activeZones.iterator();
-        while (iterator.hasNext()) {
-            ThunderStormZone zone = iterator.next();
-            zone.update(delta);
-
-            if (!zone.isActive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 지역 목록을 반환합니다.
-     *
-     * @return 지역 리스트
-     */
-    public List<ThunderStormZone> getActiveZones() {
-        return activeZones;
-    }
 }
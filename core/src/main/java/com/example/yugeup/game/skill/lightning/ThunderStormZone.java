@@ -4,16 +4,20 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
+import com.example.yugeup.game.skill.ServerHits;
 import com.example.yugeup.game.skill.SkillEffectManager;
+import com.example.yugeup.game.skill.SkillEntity;
+import com.example.yugeup.game.skill.SkillTargets;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 썬더 스톰 지역 클래스
@@ -21,11 +25,12 @@ import java.util.Set;
  * 보는 방향으로 이동하는 비구름과 그 아래 번개를 생성합니다.
  * 구름: 속도 20, 사거리 200, 각도 고정
  * 번개: 구름 아래 60칸, 54x54 히트박스, 각도 고정
+ * 풀에서 obtain으로 꺼내고, 끝나면 SkillWorld가 release로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class ThunderStormZone {
+public class ThunderStormZone implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 존 상태
     private enum ZoneState {
@@ -37,13 +42,13 @@ public class ThunderStormZone {
     private ZoneState state;
 
     // 구름 위치 (상단)
-    private Vector2 cloudPosition;
+    private final Vector2 cloudPosition = new Vector2();
 
     // 번개 위치 (구름 아래 60칸)
-    private Vector2 lightningPosition;
+    private final Vector2 lightningPosition = new Vector2();
 
     // 시작 위치
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
 
     // 방향 및 속도
     private float directionX;
@@ -82,63 +87,111 @@ public class ThunderStormZone {
     // 네트워크 매니저 (서버 동기화용)
     private transient NetworkManager networkManager;
 
-    // 이미 피격한 몬스터 (중복 피격 방지 - 프레임당)
-    private Set<Monster> hitMonstersThisFrame;
+    // 이미 피격한 몬스터 ID (중복 피격 방지 - 프레임당, Monster 객체는 풀에서 재사용되므로 ID로 기록)
+    private final IntSet hitMonstersThisFrame = new IntSet();
 
     // PVP 피격판정용 (원격 플레이어)
     private transient Map<Integer, Player> remotePlayers;
     private transient Player myPlayer;
-    private Set<Integer> hitPlayersThisFrame;
+    private final IntSet hitPlayersThisFrame = new IntSet();
+
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    private boolean serverHits;
 
     // 데미지 틱 타이머
     private float damageTickTimer = 0f;
     private static final float DAMAGE_TICK_INTERVAL = 0.3f;
 
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<ThunderStormZone> POOL = new Pool<ThunderStormZone>() {
+        @Override
+        protected ThunderStormZone newObject() {
+            return new ThunderStormZone();
+        }
+    };
+
+    private ThunderStormZone() {
+    }
+
     /**
-     * 썬더 스톰 지역 생성자
+     * 풀에서 썬더 스톰 지역을 꺼냅니다.
      *
      * @param startX 시작 X 좌표
      * @param startY 시작 Y 좌표
      * @param directionX 방향 X
      * @param directionY 방향 Y
      * @param damage 데미지
+     * @return 초기화된 지역
      */
-    public ThunderStormZone(float startX, float startY, float directionX, float directionY, int damage) {
+    public static ThunderStormZone obtain(float startX, float startY, float directionX, float directionY, int damage) {
+        ThunderStormZone zone = POOL.obtain();
         // 구름은 플레이어 위 60칸에서 시작
-        this.cloudOffsetY = Constants.THUNDER_STORM_CLOUD_OFFSET_Y;
-        this.cloudPosition = new Vector2(startX, startY + cloudOffsetY);
-        this.lightningPosition = new Vector2(startX, startY);
-        this.startPosition = new Vector2(startX, startY);
-
-        this.directionX = directionX;
-        this.directionY = directionY;
-        this.damage = damage;
-        this.speed = Constants.THUNDER_STORM_CLOUD_SPEED;
-        this.range = Constants.THUNDER_STORM_RANGE;
-        this.traveledDistance = 0f;
-        this.isActive = true;
-        this.state = ZoneState.MOVING;
+        zone.cloudOffsetY = Constants.THUNDER_STORM_CLOUD_OFFSET_Y;
+        zone.cloudPosition.set(startX, startY + zone.cloudOffsetY);
+        zone.lightningPosition.set(startX, startY);
+        zone.startPosition.set(startX, startY);
+
+        zone.directionX = directionX;
+        zone.directionY = directionY;
+        zone.damage = damage;
+        zone.speed = Constants.THUNDER_STORM_CLOUD_SPEED;
+        zone.range = Constants.THUNDER_STORM_RANGE;
+        zone.traveledDistance = 0f;
+        zone.isActive = true;
+        zone.state = ZoneState.MOVING;
 
         // 히트박스 크기 (타원형 - 렌더링과 동일)
-        this.lightningHitboxWidth = Constants.THUNDER_STORM_LIGHTNING_HITBOX_WIDTH;
-        this.lightningHitboxHeight = Constants.THUNDER_STORM_LIGHTNING_HITBOX_HEIGHT;
+        zone.lightningHitboxWidth = Constants.THUNDER_STORM_LIGHTNING_HITBOX_WIDTH;
+        zone.lightningHitboxHeight = Constants.THUNDER_STORM_LIGHTNING_HITBOX_HEIGHT;
 
         // 렌더링 크기 (64 기본 * 가로/세로 별도 스케일)
-        this.cloudRenderWidth = 64f * Constants.THUNDER_STORM_CLOUD_SCALE_X;
-        this.cloudRenderHeight = 64f * Constants.THUNDER_STORM_CLOUD_SCALE_Y;
-        this.lightningRenderWidth = 64f * Constants.THUNDER_STORM_LIGHTNING_SCALE_X;
-        this.lightningRenderHeight = 64f * Constants.THUNDER_STORM_LIGHTNING_SCALE_Y;
-
-        // 초기화
-        this.hitMonstersThisFrame = new HashSet<>();
-        this.hitPlayersThisFrame = new HashSet<>();
+        zone.cloudRenderWidth = 64f * Constants.THUNDER_STORM_CLOUD_SCALE_X;
+        zone.cloudRenderHeight = 64f * Constants.THUNDER_STORM_CLOUD_SCALE_Y;
+        zone.lightningRenderWidth = 64f * Constants.THUNDER_STORM_LIGHTNING_SCALE_X;
+        zone.lightningRenderHeight = 64f * Constants.THUNDER_STORM_LIGHTNING_SCALE_Y;
 
         // 애니메이션 로드
         SkillEffectManager sem = SkillEffectManager.getInstance();
-        this.cloudAnimation = sem.getAnimation("thunder_storm-cloud");
-        this.lightningAnimation = sem.getAnimation("thunder_storm-lightning");
+        zone.cloudAnimation = sem.getAnimation("thunder_storm-cloud");
+        zone.lightningAnimation = sem.getAnimation("thunder_storm-lightning");
 
         System.out.println("[ThunderStormZone] 생성! 방향: (" + directionX + ", " + directionY + ")");
+        return zone;
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        state = null;
+        cloudPosition.setZero();
+        lightningPosition.setZero();
+        startPosition.setZero();
+        directionX = 0f;
+        directionY = 0f;
+        speed = 0f;
+        range = 0f;
+        traveledDistance = 0f;
+        damage = 0;
+        isActive = false;
+        cloudOffsetY = 0f;
+        lightningHitboxWidth = 0f;
+        lightningHitboxHeight = 0f;
+        cloudRenderWidth = 0f;
+        cloudRenderHeight = 0f;
+        lightningRenderWidth = 0f;
+        lightningRenderHeight = 0f;
+        cloudAnimation = null;
+        lightningAnimation = null;
+        animationTime = 0f;
+        monsterList = null;
+        hitMonstersThisFrame.clear();
+        remotePlayers = null;
+        myPlayer = null;
+        hitPlayersThisFrame.clear();
+        serverHits = false;
+        damageTickTimer = 0f;
     }
 
     /**
@@ -161,6 +214,17 @@ public class ThunderStormZone {
         this.myPlayer = myPlayer;
     }
 
+    /**
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     *
+     * @param targets 공용 타겟 목록
+     */
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        setMonsterList(targets.getMonsters());
+        setPlayerList(targets.getRemotePlayers(), targets.getOwner());
+    }
+
     /**
      * 업데이트
      *
@@ -214,7 +278,7 @@ public class ThunderStormZone {
 
         for (Monster monster : monsterList) {
             if (monster == null || monster.isDead()) continue;
-            if (hitMonstersThisFrame.contains(monster)) continue;
+            if (hitMonstersThisFrame.contains(monster.getMonsterId())) continue;
 
             // 타원형 히트박스 충돌 판정 (렌더링과 동일)
             float dx = monster.getX() - lightningPosition.x;
@@ -227,8 +291,8 @@ public class ThunderStormZone {
 
             // 히트박스 내 몬스터에게 데미지
             if (normalizedDist <= 1.0f) {
-                // 서버로 공격 메시지 전송 (클라이언트 측에서 직접 HP 변경 X)
-                if (networkManager != null) {
+                // 서버로 공격 메시지 전송 (클라이언트 측에서 직접 HP 변경 X, 서버 판정이면 생략)
+                if (networkManager != null && !serverHits) {
                     networkManager.sendAttackMessage(
                         monster.getMonsterId(),
                         damage,
@@ -237,7 +301,7 @@ public class ThunderStormZone {
                     );
                     System.out.println("[ThunderStormZone] 몬스터 ID=" + monster.getMonsterId() + "에게 " + damage + " 데미지 서버 전송!");
                 }
-                hitMonstersThisFrame.add(monster);
+                hitMonstersThisFrame.add(monster.getMonsterId());
             }
         }
     }
@@ -313,6 +377,23 @@ public class ThunderStormZone {
         }
     }
 
+    /**
+     * 서버 피격 판정 규칙 (번개 위치의 타원 범위, 데미지 틱마다 재피격)
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damage;
+        msg.hitRadius = lightningHitboxWidth / 2;
+        msg.hitRadiusY = lightningHitboxHeight / 2;
+        msg.hitInterval = DAMAGE_TICK_INTERVAL;
+        msg.hitDelay = DAMAGE_TICK_INTERVAL;
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
     /**
      * 활성 상태 확인
      *
@@ -322,6 +403,16 @@ public class ThunderStormZone {
         return isActive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isActive;
+    }
+
+    @Override
+    public void release() {
+        POOL.free(this);
+    }
+
     /**
      * 구름 위치 반환
      *
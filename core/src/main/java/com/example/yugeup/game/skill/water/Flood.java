@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 플러드 스킬 클래스
@@ -20,14 +17,10 @@ import java.util.List;
  */
 public class Flood extends ElementalSkill {
 
-    // 활성 투사체 목록
-    private transient List<FloodProjectile> activeProjectiles;
-
     public Flood(Player owner) {
         super(5203, "플러드", Constants.FLOOD_MANA_COST,
               Constants.FLOOD_COOLDOWN, Constants.FLOOD_DAMAGE,
               ElementType.WATER, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     @Override
@@ -40,7 +33,7 @@ public class Flood extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 플러드 투사체 생성 (관통형 도트딜)
-        FloodProjectile projectile = new FloodProjectile(
+        FloodProjectile projectile = FloodProjectile.obtain(
             casterPos,
             direction.x,
             direction.y,
@@ -49,39 +42,14 @@ public class Flood extends ElementalSkill {
             Constants.FLOOD_RANGE
         );
 
-        activeProjectiles.add(projectile);
+        spawn(projectile);
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (확장 버전)
         float lifetime = Constants.FLOOD_RANGE / Constants.FLOOD_SPEED;
         sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.FLOOD_SPEED, Constants.FLOOD_HITBOX_WIDTH, lifetime);
+            Constants.FLOOD_SPEED, Constants.FLOOD_HITBOX_WIDTH, lifetime, projectile);
 
         System.out.println("[Flood] 플러드 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        // 투사체 업데이트
-        Iterator<FloodProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            FloodProjectile projectile = iterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isAlive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 투사체 목록을 반환합니다.
-     *
-     * @return 투사체 리스트
-     */
-    public List<FloodProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
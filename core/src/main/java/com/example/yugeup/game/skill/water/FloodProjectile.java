@@ -4,14 +4,14 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.game.skill.SkillEffectManager;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.utils.Constants;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * 플러드 투사체 클래스
@@ -28,13 +28,13 @@ public class FloodProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
 
     // 도트딜 관련
     private float tickTimer = 0f;
     private float tickRate;
-    private Set<Integer> recentlyHitMonsters;
-    private Set<Integer> recentlyHitPlayers;
+    private final IntSet recentlyHitMonsters = new IntSet();
+    private final IntSet recentlyHitPlayers = new IntSet();
 
     // 렌더링 크기
     private float renderWidth;
@@ -43,8 +43,19 @@ public class FloodProjectile extends BaseProjectile {
     // 애니메이션
     private Animation<TextureRegion> loopAnim;
 
+    // 투사체 풀 (소멸한 투사체를 다음 발사에 재사용)
+    private static final Pool<FloodProjectile> POOL = new Pool<FloodProjectile>() {
+        @Override
+        protected FloodProjectile newObject() {
+            return new FloodProjectile();
+        }
+    };
+
+    private FloodProjectile() {
+    }
+
     /**
-     * 플러드 투사체 생성자
+     * 풀에서 플러드 투사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -52,31 +63,52 @@ public class FloodProjectile extends BaseProjectile {
      * @param damage 틱당 데미지
      * @param speed 이동 속도 (픽셀/초)
      * @param maxRange 최대 사거리 (픽셀)
+     * @return 초기화된 투사체
      */
-    public FloodProjectile(Vector2 origin, float directionX, float directionY,
-                           int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "flood_loop");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
-        this.tickRate = Constants.FLOOD_TICK_RATE;
-        this.recentlyHitMonsters = new HashSet<>();
-        this.recentlyHitPlayers = new HashSet<>();
+    public static FloodProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                         int damage, float speed, float maxRange) {
+        FloodProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "flood_loop");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
+        projectile.tickRate = Constants.FLOOD_TICK_RATE;
 
         // 히트박스 30x45에 스케일 1배 적용
-        this.renderWidth = Constants.FLOOD_HITBOX_WIDTH * Constants.FLOOD_SCALE;
-        this.renderHeight = Constants.FLOOD_HITBOX_HEIGHT * Constants.FLOOD_SCALE;
-        this.size = Math.max(renderWidth, renderHeight);
+        projectile.renderWidth = Constants.FLOOD_HITBOX_WIDTH * Constants.FLOOD_SCALE;
+        projectile.renderHeight = Constants.FLOOD_HITBOX_HEIGHT * Constants.FLOOD_SCALE;
+        projectile.size = Math.max(projectile.renderWidth, projectile.renderHeight);
 
         // 애니메이션 로드
-        this.loopAnim = SkillEffectManager.getInstance().getAnimation("flood_loop");
+        projectile.loopAnim = SkillEffectManager.getInstance().getAnimation("flood_loop");
 
         // 관통 무제한 (도트딜이므로)
-        this.maxPierceCount = Integer.MAX_VALUE;
+        projectile.maxPierceCount = Integer.MAX_VALUE;
 
         // 물 원소: 청록색 (폴백용)
-        setColor(0.0f, 0.5f, 1.0f);
+        projectile.setColor(0.0f, 0.5f, 1.0f);
 
         System.out.println("[FloodProjectile] 생성! 방향: (" + directionX + ", " + directionY + "), 속도: " + speed);
+        return projectile;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
+        tickTimer = 0f;
+        tickRate = 0f;
+        recentlyHitMonsters.clear();
+        recentlyHitPlayers.clear();
+        renderWidth = 0f;
+        renderHeight = 0f;
+        loopAnim = null;
     }
 
     /**
@@ -139,8 +171,8 @@ public class FloodProjectile extends BaseProjectile {
 
             // 충돌 판정
             if (distance <= hitboxRadius + 20f) {
-                // 서버로 공격 메시지 전송
-                if (nm != null) {
+                // 서버로 공격 메시지 전송 (서버 판정이면 생략)
+                if (nm != null && !serverHits) {
                     nm.sendAttackMessage(monster.getMonsterId(), damage, position.x, position.y);
                 }
                 recentlyHitMonsters.add(monster.getMonsterId());
@@ -178,6 +210,22 @@ public class FloodProjectile extends BaseProjectile {
         }
     }
 
+    /**
+     * 서버 판정 피격 반경 (checkDotDamage와 같은 값)
+     */
+    @Override
+    protected float getHitRadius() {
+        return Math.max(renderWidth, renderHeight) / 2f + 20f;
+    }
+
+    /**
+     * 서버 판정 재피격 간격 (도트딜 틱)
+     */
+    @Override
+    protected float getHitInterval() {
+        return tickRate;
+    }
+
     /**
      * 충돌 감지 오버라이드 (기본 충돌은 비활성화, 도트딜로 처리)
      */
@@ -200,8 +248,8 @@ public class FloodProjectile extends BaseProjectile {
                 position.x - renderWidth / 2,
                 position.y - renderHeight / 2,
                 renderWidth, renderHeight);
-        } else if (texture != null) {
-            batch.draw(texture,
+        } else {
+            batch.draw(getFallbackTexture(),
                 position.x - renderWidth / 2,
                 position.y - renderHeight / 2,
                 renderWidth, renderHeight);
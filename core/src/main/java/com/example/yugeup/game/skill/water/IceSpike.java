@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 아이스 스파이크 스킬 클래스
@@ -20,14 +17,10 @@ import java.util.List;
  */
 public class IceSpike extends ElementalSkill {
 
-    // 활성 발사체 목록
-    private transient List<IceSpikeProjectile> activeProjectiles;
-
     public IceSpike(Player owner) {
         super(5202, "아이스 스파이크", Constants.ICE_SPIKE_MANA_COST,
               Constants.ICE_SPIKE_COOLDOWN, Constants.ICE_SPIKE_DAMAGE,
               ElementType.WATER, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     @Override
@@ -49,11 +42,13 @@ public class IceSpike extends ElementalSkill {
             baseAngle + Constants.ICE_SPIKE_ANGLE_SPREAD  // 오른쪽 20도
         };
 
-        for (float angle : angles) {
+        IceSpikeProjectile[] spikes = new IceSpikeProjectile[angles.length];
+        for (int i = 0; i < angles.length; i++) {
+            float angle = angles[i];
             // 각도를 방향 벡터로 변환
             Vector2 dir = new Vector2(1, 0).setAngleDeg(angle);
 
-            IceSpikeProjectile projectile = new IceSpikeProjectile(
+            IceSpikeProjectile projectile = IceSpikeProjectile.obtain(
                 casterPos.cpy(),
                 dir.x,
                 dir.y,
@@ -62,7 +57,8 @@ public class IceSpike extends ElementalSkill {
                 Constants.ICE_SPIKE_RANGE
             );
 
-            activeProjectiles.add(projectile);
+            spawn(projectile);
+            spikes[i] = projectile;
         }
 
         // 쿨타임 시작
@@ -72,46 +68,8 @@ public class IceSpike extends ElementalSkill {
         float lifetime = Constants.ICE_SPIKE_RANGE / Constants.ICE_SPIKE_SPEED;
         sendMultiProjectileSkillToNetwork(casterPos, targetPosition,
             Constants.ICE_SPIKE_SPEED, Constants.ICE_SPIKE_HITBOX_SIZE, lifetime,
-            3, Constants.ICE_SPIKE_ANGLE_SPREAD);
+            3, Constants.ICE_SPIKE_ANGLE_SPREAD, spikes);
 
         System.out.println("[IceSpike] 아이스 스파이크 3방향 시전! 기준 각도: " + baseAngle);
     }
-
-    /**
-     * 스킬 업데이트
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-        updateProjectiles(delta);
-    }
-
-    /**
-     * 발사체 업데이트
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    private void updateProjectiles(float delta) {
-        Iterator<IceSpikeProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            IceSpikeProjectile projectile = iterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isAlive()) {
-                projectile.dispose();
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 발사체 목록을 반환합니다.
-     *
-     * @return 발사체 리스트
-     */
-    public List<IceSpikeProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
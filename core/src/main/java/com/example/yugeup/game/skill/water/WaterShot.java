@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 워터 샷 스킬 클래스
@@ -19,13 +16,10 @@ import java.util.List;
  */
 public class WaterShot extends ElementalSkill {
 
-    private transient List<WaterShotProjectile> activeProjectiles;
-
     public WaterShot(Player owner) {
         super(5201, "워터 샷", Constants.WATER_SHOT_MANA_COST,
               Constants.WATER_SHOT_COOLDOWN, Constants.WATER_SHOT_DAMAGE,
               ElementType.WATER, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     @Override
@@ -36,37 +30,19 @@ public class WaterShot extends ElementalSkill {
         Vector2 casterPos = new Vector2(caster.getX(), caster.getY());
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
-        WaterShotProjectile projectile = new WaterShotProjectile(
+        WaterShotProjectile projectile = WaterShotProjectile.obtain(
             casterPos, direction.x, direction.y, getDamage(),
             Constants.WATER_SHOT_SPEED, Constants.WATER_SHOT_RANGE
         );
 
-        activeProjectiles.add(projectile);
+        spawn(projectile);
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (확장 버전)
         float lifetime = Constants.WATER_SHOT_RANGE / Constants.WATER_SHOT_SPEED;
         sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.WATER_SHOT_SPEED, Constants.WATER_SHOT_HITBOX_SIZE, lifetime);
+            Constants.WATER_SHOT_SPEED, Constants.WATER_SHOT_HITBOX_SIZE, lifetime, projectile);
 
         System.out.println("[WaterShot] 워터 샷 시전!");
     }
-
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-        Iterator<WaterShotProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            WaterShotProjectile projectile = iterator.next();
-            projectile.update(delta);
-            if (!projectile.isAlive()) {
-                projectile.dispose();
-                iterator.remove();
-            }
-        }
-    }
-
-    public List<WaterShotProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
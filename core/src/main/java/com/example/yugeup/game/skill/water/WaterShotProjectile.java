@@ -1,6 +1,7 @@
 package com.example.yugeup.game.skill.water;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.utils.Constants;
 
@@ -18,10 +19,21 @@ public class WaterShotProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
+
+    // 투사체 풀 (소멸한 투사체를 다음 발사에 재사용)
+    private static final Pool<WaterShotProjectile> POOL = new Pool<WaterShotProjectile>() {
+        @Override
+        protected WaterShotProjectile newObject() {
+            return new WaterShotProjectile();
+        }
+    };
+
+    private WaterShotProjectile() {
+    }
 
     /**
-     * 워터샷 투사체 생성자
+     * 풀에서 워터샷 투사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -29,18 +41,34 @@ public class WaterShotProjectile extends BaseProjectile {
      * @param damage 데미지
      * @param speed 이동 속도 (픽셀/초)
      * @param maxRange 최대 사거리 (픽셀)
+     * @return 초기화된 투사체
      */
-    public WaterShotProjectile(Vector2 origin, float directionX, float directionY,
-                              int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "water_ball-loop");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
+    public static WaterShotProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                             int damage, float speed, float maxRange) {
+        WaterShotProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "water_ball-loop");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
         // 히트박스 24x24에 스케일 1배 적용
-        this.size = Constants.WATER_SHOT_HITBOX_SIZE * Constants.WATER_SHOT_SCALE;
+        projectile.size = Constants.WATER_SHOT_HITBOX_SIZE * Constants.WATER_SHOT_SCALE;
         // 물 원소: 청록색 (폴백용)
-        setColor(0.0f, 0.7f, 1.0f);
+        projectile.setColor(0.0f, 0.7f, 1.0f);
 
         System.out.println("[WaterShotProjectile] 생성! 방향: (" + directionX + ", " + directionY + "), 속도: " + speed);
+        return projectile;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
     }
 
     /**
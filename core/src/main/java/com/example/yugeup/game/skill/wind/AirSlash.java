@@ -7,8 +7,6 @@ import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.network.NetworkManager;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -23,12 +21,6 @@ import java.util.List;
  */
 public class AirSlash extends ElementalSkill {
 
-    // 발사체 목록 (근접 실패 시 발사)
-    private transient List<AirSlashProjectile> activeProjectiles;
-
-    // 몬스터 목록 (근접 공격용)
-    private transient List<Monster> monsterList;
-
     /**
      * 에어 슬래시 생성자
      *
@@ -38,16 +30,6 @@ public class AirSlash extends ElementalSkill {
         super(5301, "에어 슬래시", Constants.AIR_SLASH_MANA_COST,
               Constants.AIR_SLASH_COOLDOWN, Constants.AIR_SLASH_DAMAGE,
               ElementType.WIND, owner);
-        this.activeProjectiles = new ArrayList<>();
-    }
-
-    /**
-     * 몬스터 목록 설정 (근접 공격 판정용)
-     *
-     * @param monsters 몬스터 목록
-     */
-    public void setMonsterList(List<Monster> monsters) {
-        this.monsterList = monsters;
     }
 
     /**
@@ -68,9 +50,10 @@ public class AirSlash extends ElementalSkill {
         // 근접 범위 내 적 찾기 (보는 방향 24칸 이내)
         boolean meleeHit = tryMeleeAttack(casterPos, direction);
 
+        AirSlashProjectile projectile = null;
         if (!meleeHit) {
             // 근접 실패 시 검기 발사
-            AirSlashProjectile projectile = new AirSlashProjectile(
+            projectile = AirSlashProjectile.obtain(
                 casterPos,
                 direction.x,
                 direction.y,
@@ -78,7 +61,7 @@ public class AirSlash extends ElementalSkill {
                 Constants.AIR_SLASH_SPEED,
                 Constants.AIR_SLASH_RANGE
             );
-            activeProjectiles.add(projectile);
+            spawn(projectile);
             System.out.println("[AirSlash] 근접 실패! 검기 발사!");
         } else {
             System.out.println("[AirSlash] 근접 공격 성공!");
@@ -86,10 +69,15 @@ public class AirSlash extends ElementalSkill {
 
         currentCooldown = getCooldown();
 
-        // 네트워크 동기화 (확장 버전)
+        // 네트워크 동기화 (확장 버전, 근접 타격은 위에서 직접 보고했으므로 검기만 서버 판정)
         float lifetime = Constants.AIR_SLASH_RANGE / Constants.AIR_SLASH_SPEED;
-        sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.AIR_SLASH_SPEED, Constants.AIR_SLASH_HITBOX_WIDTH, lifetime);
+        if (projectile != null) {
+            sendProjectileSkillToNetwork(casterPos, targetPosition,
+                Constants.AIR_SLASH_SPEED, Constants.AIR_SLASH_HITBOX_WIDTH, lifetime, projectile);
+        } else {
+            sendProjectileSkillToNetwork(casterPos, targetPosition,
+                Constants.AIR_SLASH_SPEED, Constants.AIR_SLASH_HITBOX_WIDTH, lifetime);
+        }
     }
 
     /**
@@ -100,14 +88,15 @@ public class AirSlash extends ElementalSkill {
      * @return 적중 여부
      */
     private boolean tryMeleeAttack(Vector2 casterPos, Vector2 direction) {
-        if (monsterList == null || monsterList.isEmpty()) {
+        List<Monster> monsters = getTargetMonsters();
+        if (monsters.isEmpty()) {
             return false;
         }
 
         boolean hitAny = false;
         NetworkManager nm = NetworkManager.getInstance();
 
-        for (Monster monster : monsterList) {
+        for (Monster monster : monsters) {
             if (monster == null || monster.isDead()) continue;
 
             // 몬스터까지의 거리 및 방향 계산
@@ -133,27 +122,4 @@ public class AirSlash extends ElementalSkill {
 
         return hitAny;
     }
-
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-        Iterator<AirSlashProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            AirSlashProjectile projectile = iterator.next();
-            projectile.update(delta);
-            if (!projectile.isAlive()) {
-                projectile.dispose();
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 투사체 목록을 반환합니다.
-     *
-     * @return 투사체 리스트
-     */
-    public List<AirSlashProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.game.skill.SkillEffectManager;
 import com.example.yugeup.utils.Constants;
@@ -23,7 +24,7 @@ public class AirSlashProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
 
     // 렌더링 크기
     private float renderWidth;
@@ -35,8 +36,19 @@ public class AirSlashProjectile extends BaseProjectile {
     // 발사 각도
     private float angle;
 
+    // 투사체 풀 (소멸한 투사체를 다음 발사에 재사용)
+    private static final Pool<AirSlashProjectile> POOL = new Pool<AirSlashProjectile>() {
+        @Override
+        protected AirSlashProjectile newObject() {
+            return new AirSlashProjectile();
+        }
+    };
+
+    private AirSlashProjectile() {
+    }
+
     /**
-     * 에어 슬래시 검기 투사체 생성자
+     * 풀에서 에어 슬래시 검기 투사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -44,31 +56,51 @@ public class AirSlashProjectile extends BaseProjectile {
      * @param damage 데미지
      * @param speed 이동 속도
      * @param maxRange 최대 사거리
+     * @return 초기화된 투사체
      */
-    public AirSlashProjectile(Vector2 origin, float directionX, float directionY,
-                              int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "air_slash-loop");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
+    public static AirSlashProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                            int damage, float speed, float maxRange) {
+        AirSlashProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "air_slash-loop");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
 
         // 히트박스 24x10에 스케일 적용
-        this.renderWidth = Constants.AIR_SLASH_HITBOX_WIDTH * Constants.AIR_SLASH_SCALE;
-        this.renderHeight = Constants.AIR_SLASH_HITBOX_HEIGHT * Constants.AIR_SLASH_SCALE;
-        this.size = Math.max(renderWidth, renderHeight);
+        projectile.renderWidth = Constants.AIR_SLASH_HITBOX_WIDTH * Constants.AIR_SLASH_SCALE;
+        projectile.renderHeight = Constants.AIR_SLASH_HITBOX_HEIGHT * Constants.AIR_SLASH_SCALE;
+        projectile.size = Math.max(projectile.renderWidth, projectile.renderHeight);
 
         // 애니메이션 로드
-        this.loopAnim = SkillEffectManager.getInstance().getAnimation("air_slash-loop");
+        projectile.loopAnim = SkillEffectManager.getInstance().getAnimation("air_slash-loop");
 
         // 발사 각도 계산
-        this.angle = new Vector2(directionX, directionY).angleDeg();
+        projectile.angle = projectile.direction.angleDeg();
 
         // 타격 시 사라짐 (관통 없음)
-        this.maxPierceCount = 1;
+        projectile.maxPierceCount = 1;
 
         // 바람 원소: 밝은 회색/흰색 (폴백용)
-        setColor(0.9f, 0.9f, 0.95f);
+        projectile.setColor(0.9f, 0.9f, 0.95f);
+
+        System.out.println("[AirSlashProjectile] 검기 생성! 방향: (" + directionX + ", " + directionY + "), 각도: " + projectile.angle);
+        return projectile;
+    }
 
-        System.out.println("[AirSlashProjectile] 검기 생성! 방향: (" + directionX + ", " + directionY + "), 각도: " + angle);
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
+        renderWidth = 0f;
+        renderHeight = 0f;
+        loopAnim = null;
+        angle = 0f;
     }
 
     /**
@@ -127,8 +159,8 @@ public class AirSlashProjectile extends BaseProjectile {
                 renderHeight,
                 1f, scaleY,
                 renderAngle);
-        } else if (texture != null) {
-            batch.draw(texture,
+        } else {
+            batch.draw(getFallbackTexture(),
                 position.x - renderWidth / 2,
                 position.y - renderHeight / 2,
                 renderWidth, renderHeight);
@@ -6,9 +6,6 @@ import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.game.buff.SpeedBuff;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 폭풍 스킬 클래스
@@ -22,8 +19,6 @@ import java.util.List;
  */
 public class Storm extends ElementalSkill {
 
-    private transient List<StormZone> activeZones;
-
     /**
      * 폭풍 생성자
      *
@@ -33,7 +28,6 @@ public class Storm extends ElementalSkill {
         super(5303, "폭풍", Constants.STORM_MANA_COST,
               Constants.STORM_COOLDOWN, Constants.STORM_DAMAGE,
               ElementType.WIND, owner);
-        this.activeZones = new ArrayList<>();
     }
 
     /**
@@ -56,37 +50,18 @@ public class Storm extends ElementalSkill {
         caster.addBuff(new SpeedBuff(Constants.STORM_DURATION, Constants.STORM_SPEED_MULTIPLIER));
 
         // 폭풍 지역 생성 (플레이어 추적형)
-        StormZone zone = new StormZone(
+        StormZone zone = StormZone.obtain(
             caster,  // 플레이어 참조 전달 (위치 추적용)
             getDamage(),
             Constants.STORM_DURATION
         );
 
-        activeZones.add(zone);
+        spawn(zone);
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (플레이어 추적형 Zone)
-        sendPlayerFollowZoneSkillToNetwork(Constants.STORM_HITBOX_SIZE, Constants.STORM_DURATION);
+        sendPlayerFollowZoneSkillToNetwork(Constants.STORM_HITBOX_SIZE, Constants.STORM_DURATION, zone);
 
         System.out.println("[Storm] 폭풍 시전! 8초간 플레이어 추적 + 속도 50% 증가");
     }
-
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        Iterator<StormZone> iterator = activeZones.iterator();
-        while (iterator.hasNext()) {
-            StormZone zone = iterator.next();
-            zone.update(delta);
-
-            if (!zone.isActive()) {
-                iterator.remove();
-            }
-        }
-    }
-
-    public List<StormZone> getActiveZones() {
-        return activeZones;
-    }
 }
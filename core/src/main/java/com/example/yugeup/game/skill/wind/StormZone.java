@@ -4,32 +4,37 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.monster.Monster;
 import com.example.yugeup.game.player.Player;
+import com.example.yugeup.game.skill.ServerHits;
 import com.example.yugeup.game.skill.SkillEffectManager;
+import com.example.yugeup.game.skill.SkillEntity;
+import com.example.yugeup.game.skill.SkillTargets;
 import com.example.yugeup.network.NetworkManager;
+import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.utils.Constants;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * 폭풍 지역 클래스 (플레이어 추적형)
  *
  * 8초 동안 플레이어 주위에 따라다니는 소용돌이입니다.
  * 히트박스 64x64, 도트딜, 각도 고정
+ * 풀에서 obtain으로 꺼내고, 끝나면 SkillWorld가 release로 반납합니다.
  *
  * @author YuGeup Development Team
  * @version 1.0
  */
-public class StormZone {
+public class StormZone implements SkillEntity, ServerHits, Pool.Poolable {
 
     // 플레이어 참조 (위치 추적용)
     private Player owner;
 
     // 존 위치 (플레이어 따라감)
-    private Vector2 position;
+    private final Vector2 position = new Vector2();
 
     // 지속시간
     private float maxDuration;
@@ -42,7 +47,7 @@ public class StormZone {
     // 도트딜 관련
     private float tickTimer = 0f;
     private float tickRate;
-    private Set<Integer> recentlyHitMonsters;
+    private final IntSet recentlyHitMonsters = new IntSet();
 
     // 렌더링 크기
     private float renderSize;
@@ -57,33 +62,72 @@ public class StormZone {
     // PVP 피격판정용
     private Map<Integer, Player> remotePlayers;
     private Player myPlayer;
-    private Set<Integer> recentlyHitPlayers;
+    private final IntSet recentlyHitPlayers = new IntSet();
+
+    // 서버 피격 판정 여부 (true면 몬스터 공격 메시지를 보내지 않음)
+    private boolean serverHits;
+
+    // 지역 풀 (끝난 지역을 다음 시전에 재사용)
+    private static final Pool<StormZone> POOL = new Pool<StormZone>() {
+        @Override
+        protected StormZone newObject() {
+            return new StormZone();
+        }
+    };
+
+    private StormZone() {
+    }
 
     /**
-     * 폭풍 지역 생성자
+     * 풀에서 폭풍 지역을 꺼냅니다.
      *
      * @param owner 소유 플레이어 (위치 추적)
      * @param damagePerTick 틱당 데미지
      * @param duration 지속시간
+     * @return 초기화된 지역
      */
-    public StormZone(Player owner, int damagePerTick, float duration) {
-        this.owner = owner;
-        this.position = new Vector2(owner.getX(), owner.getY());
-        this.damagePerTick = damagePerTick;
-        this.maxDuration = duration;
-        this.remainingDuration = duration;
-        this.isActive = true;
-        this.tickRate = Constants.STORM_TICK_RATE;
-        this.recentlyHitMonsters = new HashSet<>();
-        this.recentlyHitPlayers = new HashSet<>();
+    public static StormZone obtain(Player owner, int damagePerTick, float duration) {
+        StormZone zone = POOL.obtain();
+        zone.owner = owner;
+        zone.position.set(owner.getX(), owner.getY());
+        zone.damagePerTick = damagePerTick;
+        zone.maxDuration = duration;
+        zone.remainingDuration = duration;
+        zone.isActive = true;
+        zone.tickRate = Constants.STORM_TICK_RATE;
 
         // 히트박스 64x64에 스케일 적용
-        this.renderSize = Constants.STORM_HITBOX_SIZE * Constants.STORM_SCALE;
+        zone.renderSize = Constants.STORM_HITBOX_SIZE * Constants.STORM_SCALE;
 
         // 애니메이션 로드
-        this.animation = SkillEffectManager.getInstance().getAnimation("storm-loop");
+        zone.animation = SkillEffectManager.getInstance().getAnimation("storm-loop");
 
-        System.out.println("[StormZone] 생성! 지속시간: " + duration + "초, 히트박스: " + renderSize);
+        System.out.println("[StormZone] 생성! 지속시간: " + duration + "초, 히트박스: " + zone.renderSize);
+        return zone;
+    }
+
+    /**
+     * 풀 반납 시 상태 초기화 (Pool.free에서 호출)
+     */
+    @Override
+    public void reset() {
+        owner = null;
+        position.setZero();
+        maxDuration = 0f;
+        remainingDuration = 0f;
+        isActive = false;
+        damagePerTick = 0;
+        tickTimer = 0f;
+        tickRate = 0f;
+        recentlyHitMonsters.clear();
+        recentlyHitPlayers.clear();
+        renderSize = 0f;
+        animation = null;
+        animationTime = 0f;
+        monsterList = null;
+        remotePlayers = null;
+        myPlayer = null;
+        serverHits = false;
     }
 
     /**
@@ -106,6 +150,17 @@ public class StormZone {
         this.myPlayer = myPlayer;
     }
 
+    /**
+     * 공용 타겟 목록 연결 (SkillWorld 등록 시)
+     *
+     * @param targets 공용 타겟 목록
+     */
+    @Override
+    public void bindTargets(SkillTargets targets) {
+        setMonsterList(targets.getMonsters());
+        setPlayerList(targets.getRemotePlayers(), targets.getOwner());
+    }
+
     /**
      * 업데이트 (플레이어 추적 + 도트딜)
      *
@@ -163,8 +218,8 @@ public class StormZone {
 
             // 충돌 판정
             if (distance <= hitboxRadius + 20f) {
-                // 서버로 공격 메시지 전송
-                if (nm != null) {
+                // 서버로 공격 메시지 전송 (서버 판정이면 생략)
+                if (nm != null && !serverHits) {
                     nm.sendAttackMessage(monster.getMonsterId(), damagePerTick, position.x, position.y);
                 }
                 recentlyHitMonsters.add(monster.getMonsterId());
@@ -225,6 +280,21 @@ public class StormZone {
             renderSize, renderSize);
     }
 
+    /**
+     * 서버 피격 판정 규칙 (플레이어를 따라다니며 틱마다 재피격)
+     */
+    @Override
+    public void describeHits(SkillCastMsg msg) {
+        msg.baseDamage = damagePerTick;
+        msg.hitRadius = renderSize / 2f + 20f;
+        msg.hitInterval = tickRate;
+    }
+
+    @Override
+    public void setServerHits(boolean serverHits) {
+        this.serverHits = serverHits;
+    }
+
     /**
      * 활성 상태 확인
      *
@@ -234,6 +304,16 @@ public class StormZone {
         return isActive;
     }
 
+    @Override
+    public boolean isFinished() {
+        return !isActive;
+    }
+
+    @Override
+    public void release() {
+        POOL.free(this);
+    }
+
     /**
      * 위치 반환
      *
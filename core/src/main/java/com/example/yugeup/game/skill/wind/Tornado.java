@@ -5,9 +5,6 @@ import com.example.yugeup.game.player.Player;
 import com.example.yugeup.game.skill.ElementType;
 import com.example.yugeup.game.skill.ElementalSkill;
 import com.example.yugeup.utils.Constants;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 
 /**
  * 토네이도 스킬 클래스
@@ -21,9 +18,6 @@ import java.util.List;
  */
 public class Tornado extends ElementalSkill {
 
-    // 활성 투사체 목록
-    private transient List<TornadoProjectile> activeProjectiles;
-
     /**
      * 토네이도 생성자
      *
@@ -33,7 +27,6 @@ public class Tornado extends ElementalSkill {
         super(5302, "토네이도", Constants.TORNADO_MANA_COST,
               Constants.TORNADO_COOLDOWN, Constants.TORNADO_DAMAGE,
               ElementType.WIND, owner);
-        this.activeProjectiles = new ArrayList<>();
     }
 
     /**
@@ -52,7 +45,7 @@ public class Tornado extends ElementalSkill {
         Vector2 direction = targetPosition.cpy().sub(casterPos).nor();
 
         // 토네이도 투사체 생성
-        TornadoProjectile projectile = new TornadoProjectile(
+        TornadoProjectile projectile = TornadoProjectile.obtain(
             casterPos,
             direction.x,
             direction.y,
@@ -61,44 +54,14 @@ public class Tornado extends ElementalSkill {
             Constants.TORNADO_RANGE
         );
 
-        activeProjectiles.add(projectile);
+        spawn(projectile);
         currentCooldown = getCooldown();
 
         // 네트워크 동기화 (확장 버전)
         float lifetime = Constants.TORNADO_RANGE / Constants.TORNADO_SPEED;
         sendProjectileSkillToNetwork(casterPos, targetPosition,
-            Constants.TORNADO_SPEED, Constants.TORNADO_HITBOX_SIZE, lifetime);
+            Constants.TORNADO_SPEED, Constants.TORNADO_HITBOX_SIZE, lifetime, projectile);
 
         System.out.println("[Tornado] 토네이도 시전! 방향: (" + direction.x + ", " + direction.y + ")");
     }
-
-    /**
-     * 스킬을 업데이트합니다.
-     *
-     * @param delta 이전 프레임으로부터의 시간 (초)
-     */
-    @Override
-    public void update(float delta) {
-        super.update(delta);
-
-        Iterator<TornadoProjectile> iterator = activeProjectiles.iterator();
-        while (iterator.hasNext()) {
-            TornadoProjectile projectile = iterator.next();
-            projectile.update(delta);
-
-            if (!projectile.isAlive()) {
-                projectile.dispose();
-                iterator.remove();
-            }
-        }
-    }
-
-    /**
-     * 활성 투사체 목록을 반환합니다.
-     *
-     * @return 투사체 리스트
-     */
-    public List<TornadoProjectile> getActiveProjectiles() {
-        return activeProjectiles;
-    }
 }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.example.yugeup.game.skill.BaseProjectile;
 import com.example.yugeup.game.skill.SkillEffectManager;
 import com.example.yugeup.utils.Constants;
@@ -23,7 +24,7 @@ public class TornadoProjectile extends BaseProjectile {
     // 사거리 제한
     private float maxRange;
     private float traveledDistance = 0f;
-    private Vector2 startPosition;
+    private final Vector2 startPosition = new Vector2();
 
     // 렌더링 크기
     private float renderSize;
@@ -31,8 +32,19 @@ public class TornadoProjectile extends BaseProjectile {
     // 애니메이션
     private Animation<TextureRegion> loopAnim;
 
+    // 투사체 풀 (소멸한 투사체를 다음 발사에 재사용)
+    private static final Pool<TornadoProjectile> POOL = new Pool<TornadoProjectile>() {
+        @Override
+        protected TornadoProjectile newObject() {
+            return new TornadoProjectile();
+        }
+    };
+
+    private TornadoProjectile() {
+    }
+
     /**
-     * 토네이도 투사체 생성자
+     * 풀에서 토네이도 투사체를 꺼냅니다.
      *
      * @param origin 발사 위치
      * @param directionX 방향 X
@@ -40,27 +52,45 @@ public class TornadoProjectile extends BaseProjectile {
      * @param damage 데미지
      * @param speed 이동 속도
      * @param maxRange 최대 사거리
+     * @return 초기화된 투사체
      */
-    public TornadoProjectile(Vector2 origin, float directionX, float directionY,
-                             int damage, float speed, float maxRange) {
-        super(origin, directionX, directionY, damage, speed, "tornado-loop");
-        this.maxRange = maxRange;
-        this.startPosition = new Vector2(origin);
+    public static TornadoProjectile obtain(Vector2 origin, float directionX, float directionY,
+                                           int damage, float speed, float maxRange) {
+        TornadoProjectile projectile = POOL.obtain();
+        projectile.init(origin, directionX, directionY, damage, speed, "tornado-loop");
+        projectile.maxRange = maxRange;
+        projectile.startPosition.set(origin);
 
         // 히트박스 18x18에 스케일 적용
-        this.renderSize = Constants.TORNADO_HITBOX_SIZE * Constants.TORNADO_SCALE;
-        this.size = renderSize;
+        projectile.renderSize = Constants.TORNADO_HITBOX_SIZE * Constants.TORNADO_SCALE;
+        projectile.size = projectile.renderSize;
 
         // 애니메이션 로드
-        this.loopAnim = SkillEffectManager.getInstance().getAnimation("tornado-loop");
+        projectile.loopAnim = SkillEffectManager.getInstance().getAnimation("tornado-loop");
 
         // 관통 (사거리 내 모든 적 타격)
-        this.maxPierceCount = Integer.MAX_VALUE;
+        projectile.maxPierceCount = Integer.MAX_VALUE;
 
         // 바람 원소: 연한 청록색 (폴백용)
-        setColor(0.8f, 0.95f, 1.0f);
+        projectile.setColor(0.8f, 0.95f, 1.0f);
 
         System.out.println("[TornadoProjectile] 생성! 방향: (" + directionX + ", " + directionY + "), 속도: " + speed);
+        return projectile;
+    }
+
+    @Override
+    public void free() {
+        POOL.free(this);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        maxRange = 0f;
+        traveledDistance = 0f;
+        startPosition.setZero();
+        renderSize = 0f;
+        loopAnim = null;
     }
 
     /**
@@ -107,8 +137,8 @@ public class TornadoProjectile extends BaseProjectile {
                 position.x - renderSize / 2,
                 position.y - renderSize / 2,
                 renderSize, renderSize);
-        } else if (texture != null) {
-            batch.draw(texture,
+        } else {
+            batch.draw(getFallbackTexture(),
                 position.x - renderSize / 2,
                 position.y - renderSize / 2,
                 renderSize, renderSize);
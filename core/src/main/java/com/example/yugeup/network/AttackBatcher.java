@@ -0,0 +1,97 @@
+package com.example.yugeup.network;
+
+import org.example.AttackBatchMsg;
+
+import java.util.Arrays;
+
+/**
+ * 피격 보고 누적기
+ *
+ * 스킬이 프레임마다 보고하는 몬스터/PVP 피격을 모아 두었다가
+ * 네트워크 틱마다 AttackBatchMsg 하나로 보냅니다.
+ * 같은 대상을 같은 스킬로 다시 맞히면 새 항목을 만들지 않고 데미지를 더합니다.
+ * (한 틱에 맞히는 대상이 적으므로 선형 탐색)
+ *
+ * 렌더 스레드에서만 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class AttackBatcher {
+    // 한 묶음에 담는 최대 항목 수 (가득 차면 틱 전에 먼저 보냄)
+    public static final int MAX_ENTRIES = AttackBatchMsg.MAX_ENTRIES;
+
+    private final byte[] targetTypes = new byte[MAX_ENTRIES];
+    private final int[] targetIds = new int[MAX_ENTRIES];
+    private final int[] damage = new int[MAX_ENTRIES];
+    private final String[] skillTypes = new String[MAX_ENTRIES];
+    private int count;
+
+    /**
+     * 몬스터 피격을 기록합니다.
+     *
+     * @param monsterId 몬스터 ID
+     * @param amount 데미지
+     * @return 묶음이 가득 차 기록하지 못했으면 false (보낸 뒤 다시 호출)
+     */
+    public boolean addMonsterHit(int monsterId, int amount) {
+        return add(AttackBatchMsg.TARGET_MONSTER, monsterId, amount, null);
+    }
+
+    /**
+     * PVP 피격을 기록합니다.
+     *
+     * @param playerId 피격자 플레이어 ID
+     * @param amount 데미지 (PVP 배율 적용됨)
+     * @param skillType 스킬 타입
+     * @return 묶음이 가득 차 기록하지 못했으면 false (보낸 뒤 다시 호출)
+     */
+    public boolean addPlayerHit(int playerId, int amount, String skillType) {
+        return add(AttackBatchMsg.TARGET_PLAYER, playerId, amount, skillType);
+    }
+
+    private boolean add(byte targetType, int targetId, int amount, String skillType) {
+        for (int i = 0; i < count; i++) {
+            if (targetIds[i] == targetId && targetTypes[i] == targetType
+                && (skillType == null ? skillTypes[i] == null : skillType.equals(skillTypes[i]))) {
+                damage[i] += amount;
+                return true;
+            }
+        }
+        if (count == MAX_ENTRIES) {
+            return false;
+        }
+        targetTypes[count] = targetType;
+        targetIds[count] = targetId;
+        damage[count] = amount;
+        skillTypes[count] = skillType;
+        count++;
+        return true;
+    }
+
+    /**
+     * 모아 둔 피격을 메시지로 만들고 비웁니다.
+     *
+     * @return 보낼 피격이 없으면 null
+     */
+    public AttackBatchMsg drain() {
+        if (count == 0) {
+            return null;
+        }
+        AttackBatchMsg msg = new AttackBatchMsg(count);
+        System.arraycopy(targetTypes, 0, msg.targetTypes, 0, count);
+        System.arraycopy(targetIds, 0, msg.targetIds, 0, count);
+        System.arraycopy(damage, 0, msg.damage, 0, count);
+        System.arraycopy(skillTypes, 0, msg.skillTypes, 0, count);
+        Arrays.fill(skillTypes, 0, count, null);
+        count = 0;
+        return msg;
+    }
+
+    /**
+     * 모아 둔 항목 수
+     */
+    public int size() {
+        return count;
+    }
+}
@@ -3,9 +3,12 @@ package com.example.yugeup.network;
 import org.example.Main.*;
 import org.example.MonsterSpawnMsg;
 import org.example.MonsterUpdateMsg;
+import org.example.MonsterSnapshotMsg;
 import org.example.MonsterDeathMsg;
+import org.example.MonsterDamageBatchMsg;
 import org.example.MonsterDamageMsg;
 import org.example.PlayerAttackMonsterMsg;
+import org.example.PlayerStateMsg;
 import com.example.yugeup.network.messages.FogZoneMsg;
 import com.example.yugeup.network.messages.FogDamageMsg;
 import com.example.yugeup.network.messages.MonsterAttackPlayerMsg;
@@ -29,11 +32,14 @@ public class MessageHandler {
     // 몬스터 관련 메시지 큐 (PHASE_07에서 사용)
     private ConcurrentLinkedQueue<MonsterSpawnMsg> monsterSpawnQueue;
     private ConcurrentLinkedQueue<MonsterUpdateMsg> monsterUpdateQueue;
+    private ConcurrentLinkedQueue<MonsterSnapshotMsg> monsterSnapshotQueue;
     private ConcurrentLinkedQueue<MonsterDeathMsg> monsterDeathQueue;
     private ConcurrentLinkedQueue<MonsterDamageMsg> monsterDamageQueue;
+    private ConcurrentLinkedQueue<MonsterDamageBatchMsg> monsterDamageBatchQueue;
 
     // 플레이어 동기화 메시지 큐 (PHASE_23에서 사용)
     private ConcurrentLinkedQueue<PlayerMoveMsg> playerMoveQueue;
+    private ConcurrentLinkedQueue<PlayerStateMsg> playerStateQueue;
 
     // 발사체 메시지 큐
     private ConcurrentLinkedQueue<ProjectileFiredMsg> projectileFiredQueue;
@@ -61,11 +67,14 @@ public class MessageHandler {
         // 몬스터 메시지 큐 초기화
         this.monsterSpawnQueue = new ConcurrentLinkedQueue<>();
         this.monsterUpdateQueue = new ConcurrentLinkedQueue<>();
+        this.monsterSnapshotQueue = new ConcurrentLinkedQueue<>();
         this.monsterDeathQueue = new ConcurrentLinkedQueue<>();
         this.monsterDamageQueue = new ConcurrentLinkedQueue<>();
+        this.monsterDamageBatchQueue = new ConcurrentLinkedQueue<>();
 
         // 플레이어 동기화 메시지 큐 초기화
         this.playerMoveQueue = new ConcurrentLinkedQueue<>();
+        this.playerStateQueue = new ConcurrentLinkedQueue<>();
 
         // 발사체 메시지 큐 초기화
         this.projectileFiredQueue = new ConcurrentLinkedQueue<>();
@@ -117,6 +126,10 @@ public class MessageHandler {
             }
         } else if (message instanceof MonsterUpdateMsg) {
             monsterUpdateQueue.offer((MonsterUpdateMsg) message);
+        } else if (message instanceof MonsterSnapshotMsg) {
+            // 도착 시각이 정확하도록 네트워크 스레드에서 서버 시각 표본을 기록
+            ServerClock.getInstance().observe(((MonsterSnapshotMsg) message).serverTime);
+            monsterSnapshotQueue.offer((MonsterSnapshotMsg) message);
         } else if (message instanceof MonsterDeathMsg) {
             monsterDeathQueue.offer((MonsterDeathMsg) message);
             if (Constants.LOG_NETWORK) {
@@ -127,11 +140,22 @@ public class MessageHandler {
             if (Constants.LOG_NETWORK) {
                 System.out.println("[MessageHandler] MonsterDamageMsg 수신");
             }
+        } else if (message instanceof MonsterDamageBatchMsg) {
+            monsterDamageBatchQueue.offer((MonsterDamageBatchMsg) message);
+            if (Constants.LOG_NETWORK) {
+                System.out.println("[MessageHandler] MonsterDamageBatchMsg 수신 ("
+                    + ((MonsterDamageBatchMsg) message).count() + "개)");
+            }
         }
         // 플레이어 이동 메시지 처리 (PHASE_23에서 사용)
         else if (message instanceof PlayerMoveMsg) {
+            ServerClock.getInstance().observe(((PlayerMoveMsg) message).serverTime);
             playerMoveQueue.offer((PlayerMoveMsg) message);
         }
+        // 본인 이동 입력 처리 결과 (서버 권한 위치)
+        else if (message instanceof PlayerStateMsg) {
+            playerStateQueue.offer((PlayerStateMsg) message);
+        }
         // 발사체 메시지 처리
         else if (message instanceof ProjectileFiredMsg) {
             projectileFiredQueue.offer((ProjectileFiredMsg) message);
@@ -206,6 +230,10 @@ public class MessageHandler {
         return monsterUpdateQueue.poll();
     }
 
+    public MonsterSnapshotMsg pollMonsterSnapshotMsg() {
+        return monsterSnapshotQueue.poll();
+    }
+
     public MonsterDeathMsg pollMonsterDeathMsg() {
         return monsterDeathQueue.poll();
     }
@@ -214,12 +242,20 @@ public class MessageHandler {
         return monsterDamageQueue.poll();
     }
 
+    public MonsterDamageBatchMsg pollMonsterDamageBatchMsg() {
+        return monsterDamageBatchQueue.poll();
+    }
+
     // ===== 플레이어 동기화 메시지 Getter (PHASE_23에서 사용) =====
 
     public PlayerMoveMsg pollPlayerMoveMsg() {
         return playerMoveQueue.poll();
     }
 
+    public PlayerStateMsg pollPlayerStateMsg() {
+        return playerStateQueue.poll();
+    }
+
     // ===== 발사체 메시지 Getter =====
 
     public ProjectileFiredMsg pollProjectileFiredMsg() {
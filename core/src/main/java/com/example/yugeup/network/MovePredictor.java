@@ -0,0 +1,130 @@
+package com.example.yugeup.network;
+
+import org.example.PlayerInputMsg;
+import org.example.PlayerMotion;
+import org.example.PlayerStateMsg;
+
+/**
+ * 로컬 플레이어 이동 예측 / 서버 보정
+ *
+ * 프레임마다 조이스틱 입력을 양자화(방향 byte, 시간 ms)하여 순번을 붙여 기록하고,
+ * 서버와 같은 규칙(PlayerMotion)으로 바로 적용해 입력 지연 없이 움직입니다.
+ * 서버가 확인하지 않은 입력은 묶어서 보내고(PlayerInputMsg),
+ * 서버 위치(PlayerStateMsg)를 받으면 확인된 입력을 버리고 남은 입력만 그 위치에서 다시 실행합니다.
+ *
+ * 렌더 스레드에서만 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class MovePredictor {
+    // 한 패킷에 담는 최대 입력 수 (60fps 기준 약 0.8초, 넘으면 오래된 입력부터 버림)
+    public static final int MAX_INPUTS_PER_PACKET = PlayerInputMsg.MAX_INPUTS;
+
+    // 확인 안 된 입력 (pending[0]의 순번 = firstSequence)
+    private final byte[] dirX = new byte[MAX_INPUTS_PER_PACKET];
+    private final byte[] dirY = new byte[MAX_INPUTS_PER_PACKET];
+    private final byte[] millis = new byte[MAX_INPUTS_PER_PACKET];
+    private int firstSequence = 1;
+    private int count;
+
+    // ms 단위로 자르고 남은 프레임 시간 (입력 시간 합이 실제 시간과 같도록)
+    private float millisCarry;
+
+    /**
+     * 이번 프레임 입력을 기록하고 예측 위치에 적용합니다.
+     * 입력이 없는 프레임은 기록하지 않습니다. (서버에서도 움직이지 않음)
+     *
+     * @param moveX 이동 방향 X * 속도 배수
+     * @param moveY 이동 방향 Y * 속도 배수
+     * @param delta 프레임 시간 (초)
+     * @param position [x, y] 예측 위치 (결과로 덮어씀)
+     * @param walls 벽 조회 (null이면 벽 없음)
+     */
+    public void record(float moveX, float moveY, float delta, float[] position, PlayerMotion.Walls walls) {
+        byte qx = PlayerMotion.quantizeDirection(moveX);
+        byte qy = PlayerMotion.quantizeDirection(moveY);
+        if (qx == 0 && qy == 0) {
+            millisCarry = 0f;
+            return;
+        }
+
+        millisCarry += delta * 1000f;
+        int inputMillis = Math.min((int) millisCarry, PlayerMotion.MAX_INPUT_MILLIS);
+        if (inputMillis <= 0) {
+            return;
+        }
+        millisCarry = Math.min(millisCarry - inputMillis, 1f);
+
+        if (count == MAX_INPUTS_PER_PACKET) {
+            drop(1);  // 서버는 빠진 입력을 움직이지 않은 것으로 처리 → 다음 보정에서 맞춰짐
+        }
+        dirX[count] = qx;
+        dirY[count] = qy;
+        millis[count] = (byte) inputMillis;
+        count++;
+
+        PlayerMotion.step(position, qx, qy, inputMillis, walls);
+    }
+
+    /**
+     * 확인 안 된 입력을 모두 담은 메시지를 만듭니다.
+     *
+     * @return 보낼 입력이 없으면 null
+     */
+    public PlayerInputMsg buildMessage() {
+        if (count == 0) {
+            return null;
+        }
+        PlayerInputMsg msg = new PlayerInputMsg(firstSequence, count);
+        System.arraycopy(dirX, 0, msg.dirX, 0, count);
+        System.arraycopy(dirY, 0, msg.dirY, 0, count);
+        System.arraycopy(millis, 0, msg.millis, 0, count);
+        return msg;
+    }
+
+    /**
+     * 서버 위치에서 확인 안 된 입력만 다시 실행합니다.
+     *
+     * @param state 서버 권한 위치
+     * @param position [x, y] 보정된 예측 위치 (결과로 덮어씀)
+     * @param walls 벽 조회 (null이면 벽 없음)
+     * @return 늦게 도착한 이전 상태라 무시했으면 false
+     */
+    public boolean reconcile(PlayerStateMsg state, float[] position, PlayerMotion.Walls walls) {
+        int acked = state.lastInput - firstSequence + 1;
+        if (acked < 0) {
+            return false;
+        }
+        drop(Math.min(acked, count));
+
+        position[0] = state.x;
+        position[1] = state.y;
+        for (int i = 0; i < count; i++) {
+            PlayerMotion.step(position, dirX[i], dirY[i], millis[i] & 0xFF, walls);
+        }
+        return true;
+    }
+
+    private void drop(int dropped) {
+        System.arraycopy(dirX, dropped, dirX, 0, count - dropped);
+        System.arraycopy(dirY, dropped, dirY, 0, count - dropped);
+        System.arraycopy(millis, dropped, millis, 0, count - dropped);
+        firstSequence += dropped;
+        count -= dropped;
+    }
+
+    /**
+     * 서버가 확인하지 않은 입력 수
+     */
+    public int getPendingCount() {
+        return count;
+    }
+
+    /**
+     * 다음 입력 순번
+     */
+    public int getNextSequence() {
+        return firstSequence + count;
+    }
+}
@@ -3,22 +3,11 @@ package com.example.yugeup.network;
 import com.esotericsoftware.kryonet.Client;
 import com.esotericsoftware.kryonet.Connection;
 import com.esotericsoftware.kryonet.Listener;
-import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.minlog.Log;
 import org.example.Main.*;
-import org.example.MonsterSpawnMsg;
-import org.example.MonsterUpdateMsg;
-import org.example.MonsterDeathMsg;
-import org.example.MonsterDamageMsg;
-import org.example.PlayerAttackMonsterMsg;
-import com.example.yugeup.network.messages.ProjectileFiredMsg;
+import org.example.AttackBatchMsg;
+import org.example.NetChannel;
 import com.example.yugeup.network.messages.SkillCastMsg;
-import com.example.yugeup.network.messages.FogZoneMsg;
-import com.example.yugeup.network.messages.FogDamageMsg;
-import com.example.yugeup.network.messages.MonsterAttackPlayerMsg;
-import com.example.yugeup.network.messages.PlayerAttackPlayerMsg;
-import com.example.yugeup.network.messages.PlayerDeathMsg;
-import com.example.yugeup.network.messages.PlayerLevelUpMsg;
 import com.example.yugeup.utils.Constants;
 
 import java.io.IOException;
@@ -49,6 +38,9 @@ public class NetworkManager {
   // KryoNet 클라이언트
   private Client client;
 
+  // UDP 상태/이벤트 채널 (서버 org.example.NetChannel과 같은 구현)
+  private NetChannel channel;
+
   // 연결 상태
   private boolean connected;
 
@@ -58,6 +50,10 @@ public class NetworkManager {
   // 메시지 핸들러
   private MessageHandler messageHandler;
 
+  // 피격 보고 누적 (네트워크 틱마다 AttackBatchMsg 하나로 전송)
+  private final AttackBatcher attackBatcher = new AttackBatcher();
+  private float attackFlushTimer;
+
   /**
    * Private 생성자 - 싱글톤 패턴
    */
@@ -99,6 +95,7 @@ public class NetworkManager {
 
       // 메시지 클래스 등록
       registerMessages();
+      channel = new NetChannel(client);
 
       // 리스너 추가
       client.addListener(new Listener() {
@@ -118,6 +115,10 @@ public class NetworkManager {
 
         @Override
         public void received(Connection connection, Object object) {
+          // 채널 봉투는 풀어서 전달 (늦게 온 상태/중복 이벤트는 버림, 이벤트는 순서대로)
+          if (channel.receive(object, messageHandler::handleMessage)) {
+            return;
+          }
           // 메시지 핸들러로 전달
           messageHandler.handleMessage(object);
         }
@@ -139,49 +140,11 @@ public class NetworkManager {
   /**
    * KryoNet에 메시지 클래스들을 등록합니다.
    *
-   * 중요: 서버와 클라이언트의 등록 순서가 정확히 일치해야 합니다!
+   * 고정 ID 등록표(Protocol)를 사용하므로 서버 org.example.Protocol과 ID가 같아야 합니다.
    */
   private void registerMessages() {
-    Kryo kryo = client.getKryo();
-
-    // 서버와 동일한 Kryo 설정
-    kryo.setRegistrationRequired(false); // 클래스명으로 직렬화
-    kryo.setReferences(true);
-
-    // 서버와 동일한 순서로 클래스 등록 (순서가 중요!)
-    kryo.register(CreateRoomMsg.class); // ID: 10
-    kryo.register(CreateRoomResponse.class); // ID: 11
-    kryo.register(GetRoomListMsg.class); // ID: 12
-    kryo.register(RoomInfo.class); // ID: 13
-    kryo.register(RoomInfo[].class); // ID: 14
-    kryo.register(RoomListResponse.class); // ID: 15
-    kryo.register(JoinRoomMsg.class); // ID: 16
-    kryo.register(JoinRoomResponse.class); // ID: 17
-    kryo.register(PlayerInfo.class); // ID: 18
-    kryo.register(PlayerInfo[].class); // ID: 19
-    kryo.register(LeaveRoomMsg.class); // ID: 20
-    kryo.register(RoomUpdateMsg.class); // ID: 21
-    kryo.register(StartGameMsg.class); // ID: 22
-    kryo.register(GameStartNotification.class); // ID: 23
-    kryo.register(ChatMsg.class); // ID: 24
-    kryo.register(PlayerMoveMsg.class); // ID: 25
-    kryo.register(SkillCastMsg.class); // ID: 26
-    kryo.register(MonsterSpawnMsg.class); // ID: 27
-    kryo.register(MonsterUpdateMsg.class); // ID: 28
-    kryo.register(MonsterDeathMsg.class); // ID: 29
-    kryo.register(PlayerAttackMonsterMsg.class); // ID: 30
-    kryo.register(MonsterDamageMsg.class); // ID: 31
-    kryo.register(ProjectileFiredMsg.class); // ID: 32
-    kryo.register(SetPlayerNameMsg.class); // ID: 33
-    kryo.register(SetPlayerNameResponse.class); // ID: 34
-    kryo.register(FogZoneMsg.class); // ID: 35 (PHASE_24)
-    kryo.register(FogDamageMsg.class); // ID: 36 (PHASE_24)
-    kryo.register(MonsterAttackPlayerMsg.class); // ID: 37 (PHASE_25)
-    kryo.register(PlayerAttackPlayerMsg.class); // ID: 38 (PHASE_25 PVP)
-    kryo.register(PlayerDeathMsg.class); // ID: 39 (PHASE_25)
-    kryo.register(PlayerLevelUpMsg.class); // ID: 40 (레벨업 HP 동기화)
-
-    System.out.println("[NetworkManager] Kryo 메시지 등록 완료 (서버와 동일한 순서)");
+    Protocol.register(client.getKryo());
+    System.out.println("[NetworkManager] Kryo 메시지 등록 완료 (고정 ID, 서버와 동일)");
   }
 
   /**
@@ -189,6 +152,12 @@ public class NetworkManager {
    */
   public void disconnect() {
     if (client != null) {
+      System.out.println("[NetworkManager] 상태 채널: " + channel.getStateStats().summary());
+      System.out.println("[NetworkManager] 이벤트 채널: " + channel.getEventStats().summary());
+      System.out.printf("[NetworkManager] 서버 시각 오프셋: %.0fms%n", ServerClock.getInstance().getOffsetMillis());
+      ServerClock.getInstance().reset();
+      attackBatcher.drain();  // 보내지 못한 피격 보고는 버림
+      attackFlushTimer = 0f;
       client.stop();
       client = null;
       connected = false;
@@ -229,26 +198,47 @@ public class NetworkManager {
   }
 
   /**
-   * 몬스터 공격 메시지를 서버로 전송합니다.
+   * 상태 메시지를 UDP 상태 채널로 전송합니다. (최신 값 우선, 늦게 도착한 이전 값은 서버가 버림)
+   *
+   * @param stream  스트림 ID (NetChannel.STREAM_PLAYER_MOVE 등)
+   * @param message 전송할 메시지 객체
+   */
+  public void sendState(int stream, Object message) {
+    if (connected && client != null) {
+      channel.sendState(stream, message);
+    } else {
+      System.err.println("[NetworkManager] 연결되지 않음 - 메시지 전송 실패");
+    }
+  }
+
+  /**
+   * UDP 채널 통계 (손실/늦음/재전송, 이벤트 RTT)
+   *
+   * @return 연결 전이면 null
+   */
+  public NetChannel getChannel() {
+    return channel;
+  }
+
+  /**
+   * 몬스터 공격을 피격 보고 묶음에 기록합니다.
+   * 다음 네트워크 틱(update)에 같은 틱의 다른 피격과 함께 전송됩니다.
+   * 서버는 공격자의 서버 위치로 사거리를 검증합니다.
    *
    * @param monsterId 몬스터 ID
    * @param damage    데미지
-   * @param attackerX 공격자 X 위치 (검증용)
-   * @param attackerY 공격자 Y 위치 (검증용)
+   * @param attackerX 공격자 X 위치 (사용하지 않음)
+   * @param attackerY 공격자 Y 위치 (사용하지 않음)
    */
   public void sendAttackMessage(int monsterId, int damage, float attackerX, float attackerY) {
     if (!connected || client == null) {
       return;
     }
 
-    org.example.PlayerAttackMonsterMsg msg = new org.example.PlayerAttackMonsterMsg();
-    msg.monsterId = monsterId;
-    msg.skillDamage = damage;
-    msg.attackerX = attackerX;
-    msg.attackerY = attackerY;
-    // playerId는 서버에서 자동으로 설정됨
-
-    sendTCP(msg);
+    if (!attackBatcher.addMonsterHit(monsterId, damage)) {
+      flushAttacks();
+      attackBatcher.addMonsterHit(monsterId, damage);
+    }
   }
 
   /**
@@ -320,7 +310,8 @@ public class NetworkManager {
   }
 
   /**
-   * PVP 공격 메시지를 서버로 전송합니다.
+   * PVP 공격을 피격 보고 묶음에 기록합니다.
+   * 다음 네트워크 틱(update)에 같은 틱의 다른 피격과 함께 전송됩니다.
    *
    * @param targetPlayerId 타겟 플레이어 ID
    * @param damage         데미지 (이미 PVP 배율 적용됨)
@@ -331,9 +322,21 @@ public class NetworkManager {
       return;
     }
 
-    PlayerAttackPlayerMsg msg = new PlayerAttackPlayerMsg(targetPlayerId, damage, skillType);
-    sendTCP(msg);
-    System.out.println("[NetworkManager] PVP 공격 전송: 타겟=" + targetPlayerId + ", 데미지=" + damage + ", 스킬=" + skillType);
+    if (!attackBatcher.addPlayerHit(targetPlayerId, damage, skillType)) {
+      flushAttacks();
+      attackBatcher.addPlayerHit(targetPlayerId, damage, skillType);
+    }
+    System.out.println("[NetworkManager] PVP 공격 기록: 타겟=" + targetPlayerId + ", 데미지=" + damage + ", 스킬=" + skillType);
+  }
+
+  /**
+   * 모아 둔 피격 보고를 AttackBatchMsg 하나로 전송합니다.
+   */
+  public void flushAttacks() {
+    AttackBatchMsg msg = attackBatcher.drain();
+    if (msg != null) {
+      sendTCP(msg);
+    }
   }
 
   /**
@@ -362,8 +365,12 @@ public class NetworkManager {
    * @param delta 이전 프레임으로부터의 시간 (초)
    */
   public void update(float delta) {
-    // KryoNet은 내부적으로 별도 스레드에서 처리하므로
-    // 여기서는 특별한 업데이트가 필요 없음
+    // KryoNet 수신은 별도 스레드에서 처리하므로 여기서는 피격 보고만 주기적으로 보냄
+    attackFlushTimer += delta;
+    if (attackFlushTimer >= Constants.NETWORK_TICK_RATE / 1000f) {
+      flushAttacks();
+      attackFlushTimer = 0f;
+    }
   }
 
   // Getters
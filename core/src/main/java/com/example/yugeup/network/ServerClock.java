@@ -0,0 +1,140 @@
+package com.example.yugeup.network;
+
+import com.example.yugeup.utils.Constants;
+
+/**
+ * 서버 시각 추정기
+ *
+ * 상태 메시지(몬스터 스냅샷, 플레이어 이동)에 담긴 서버 시각과 도착 시각의 차이로
+ * 서버 시계와 로컬 시계의 오프셋을 추정합니다.
+ * 전송 지연은 항상 양수이므로 최근 몇 초 동안의 최댓값(지연이 가장 짧았던 표본)을 기준으로 삼고,
+ * 화면이 튀지 않도록 조금씩 따라갑니다. 남은 최소 지연과 지터는 보간 지연(INTERPOLATION_DELAY)이 흡수합니다.
+ *
+ * 네트워크 스레드에서 observe를, 렌더 스레드에서 getRenderTime을 호출합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class ServerClock {
+    private static ServerClock instance;
+
+    // 최댓값 창: 1초 칸 4개 (시계 드리프트/경로 변경 시 오래된 표본이 빠지도록)
+    private static final long BUCKET_MILLIS = 1000;
+    private static final int BUCKET_COUNT = 4;
+    // 목표 오프셋으로 한 번에 따라가는 비율
+    private static final double SMOOTHING = 0.1;
+    // 이 이상 차이 나면 바로 맞춤 (서버 재시작, 재접속)
+    private static final double RESYNC_MILLIS = 1000;
+
+    private final long startNanos = System.nanoTime();
+    private final long[] bucketMax = new long[BUCKET_COUNT];
+    private long bucketStart;
+    private int bucketIndex;
+
+    // 서버 시각 = 로컬 시각 + offset (밀리초)
+    private volatile double offset;
+    private volatile boolean synced;
+
+    ServerClock() {
+        reset();
+    }
+
+    public static synchronized ServerClock getInstance() {
+        if (instance == null) {
+            instance = new ServerClock();
+        }
+        return instance;
+    }
+
+    /**
+     * 서버 시각이 담긴 메시지를 받았을 때 호출합니다.
+     *
+     * @param serverTime 메시지의 서버 시각 (서버 시작 기준 ms)
+     */
+    public void observe(int serverTime) {
+        observe(serverTime, localMillis());
+    }
+
+    synchronized void observe(int serverTime, long localTime) {
+        long sample = serverTime - localTime;
+
+        if (!synced) {
+            bucketStart = localTime;
+            bucketMax[bucketIndex] = sample;
+            offset = sample;
+            synced = true;
+            return;
+        }
+
+        // 칸이 바뀌면 지나간 만큼 오래된 칸을 비움
+        long elapsedBuckets = (localTime - bucketStart) / BUCKET_MILLIS;
+        if (elapsedBuckets > 0) {
+            int clear = (int) Math.min(elapsedBuckets, BUCKET_COUNT);
+            for (int i = 0; i < clear; i++) {
+                bucketIndex = (bucketIndex + 1) % BUCKET_COUNT;
+                bucketMax[bucketIndex] = Long.MIN_VALUE;
+            }
+            bucketStart += elapsedBuckets * BUCKET_MILLIS;
+        }
+        if (sample > bucketMax[bucketIndex]) {
+            bucketMax[bucketIndex] = sample;
+        }
+
+        long target = Long.MIN_VALUE;
+        for (long max : bucketMax) {
+            if (max > target) {
+                target = max;
+            }
+        }
+
+        double diff = target - offset;
+        offset = Math.abs(diff) > RESYNC_MILLIS ? target : offset + diff * SMOOTHING;
+    }
+
+    /**
+     * 추정한 현재 서버 시각 (ms)
+     */
+    public double getServerTime() {
+        return getServerTime(localMillis());
+    }
+
+    double getServerTime(long localTime) {
+        return localTime + offset;
+    }
+
+    /**
+     * 원격 엔티티를 그릴 서버 시각 (ms) = 현재 서버 시각 - 보간 지연
+     */
+    public double getRenderTime() {
+        return getServerTime() - Constants.INTERPOLATION_DELAY * 1000.0;
+    }
+
+    /**
+     * 서버 시각을 한 번 이상 받았는지 여부
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * 추정 오프셋 (ms, 로그용)
+     */
+    public double getOffsetMillis() {
+        return offset;
+    }
+
+    /**
+     * 추정값을 버립니다. (연결 종료 시)
+     */
+    public synchronized void reset() {
+        java.util.Arrays.fill(bucketMax, Long.MIN_VALUE);
+        bucketIndex = 0;
+        bucketStart = 0;
+        offset = 0;
+        synced = false;
+    }
+
+    private long localMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+}
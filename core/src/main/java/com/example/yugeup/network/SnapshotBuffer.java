@@ -0,0 +1,184 @@
+package com.example.yugeup.network;
+
+import com.example.yugeup.utils.Constants;
+
+/**
+ * 원격 엔티티 위치 스냅샷 버퍼 (엔티티마다 하나)
+ *
+ * 서버 시각이 찍힌 위치를 고정 크기 링 버퍼에 쌓아 두고,
+ * 렌더 시각(ServerClock.getRenderTime, 현재보다 보간 지연만큼 과거)의 위치를
+ * 앞뒤 스냅샷 사이 선형 보간으로 구합니다.
+ * 렌더 시각이 가장 최근 스냅샷보다 늦으면(패킷 손실/지연) 마지막 속도로
+ * MAX_EXTRAPOLATION 동안만 외삽하고 그 자리에서 멈춥니다.
+ *
+ * 렌더 스레드에서만 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class SnapshotBuffer {
+    private final int[] times;
+    private final float[] xs, ys;
+    private final float[] vxs, vys;
+    private int newest = -1;  // 가장 최근 스냅샷 인덱스
+    private int count;
+
+    // 이 간격의 2배 넘게 스냅샷이 없었으면 그동안 제자리에 있었던 것으로 봄
+    // (서버는 변경된 엔티티만 보내므로 멈춰 있던 엔티티가 다시 움직일 때 긴 구간을 보간하지 않도록)
+    private final int holdGapMillis;
+
+    // 마지막 sample 결과
+    private float sampledX, sampledY;
+    private float sampledVx, sampledVy;
+    private boolean extrapolating;
+
+    /**
+     * @param syncInterval 상대가 보내는 동기화 간격 (초)
+     */
+    public SnapshotBuffer(float syncInterval) {
+        this(Constants.SNAPSHOT_BUFFER_SIZE, syncInterval);
+    }
+
+    public SnapshotBuffer(int capacity, float syncInterval) {
+        times = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+        vxs = new float[capacity];
+        vys = new float[capacity];
+        holdGapMillis = Math.round(syncInterval * 1000f);
+    }
+
+    /**
+     * 속도 없이 위치만 받은 경우 (플레이어 이동) - 직전 스냅샷과의 차이로 속도를 추정합니다.
+     *
+     * @param serverTime 서버 시각 (ms)
+     */
+    public void add(int serverTime, float x, float y) {
+        float vx = 0f;
+        float vy = 0f;
+        if (count > 0) {
+            int dt = serverTime - times[newest];
+            if (dt > holdGapMillis * 2) {
+                dt = holdGapMillis;  // 멈춰 있던 구간 뒤 (add에서 한 간격 전 위치를 채움)
+            }
+            if (dt > 0) {
+                vx = (x - xs[newest]) * 1000f / dt;
+                vy = (y - ys[newest]) * 1000f / dt;
+            }
+        }
+        add(serverTime, x, y, vx, vy);
+    }
+
+    /**
+     * 서버 시각이 찍힌 위치/속도를 추가합니다.
+     * 가장 최근 스냅샷보다 이전 시각이면 버리고, 같은 시각이면 덮어씁니다.
+     *
+     * @param serverTime 서버 시각 (ms)
+     * @param vx X 속도 (픽셀/초, 외삽용)
+     * @param vy Y 속도 (픽셀/초, 외삽용)
+     */
+    public void add(int serverTime, float x, float y, float vx, float vy) {
+        if (count > 0) {
+            int dt = serverTime - times[newest];
+            if (dt < 0) {
+                return;
+            }
+            if (dt == 0) {
+                put(newest, serverTime, x, y, vx, vy);
+                return;
+            }
+            if (dt > holdGapMillis * 2) {
+                // 멈춰 있던 구간: 새 스냅샷 한 간격 전까지 이전 위치에 있었던 것으로 기록
+                push(serverTime - holdGapMillis, xs[newest], ys[newest], 0f, 0f);
+            }
+        }
+        push(serverTime, x, y, vx, vy);
+    }
+
+    private void push(int serverTime, float x, float y, float vx, float vy) {
+        newest = (newest + 1) % times.length;
+        put(newest, serverTime, x, y, vx, vy);
+        if (count < times.length) {
+            count++;
+        }
+    }
+
+    private void put(int index, int serverTime, float x, float y, float vx, float vy) {
+        times[index] = serverTime;
+        xs[index] = x;
+        ys[index] = y;
+        vxs[index] = vx;
+        vys[index] = vy;
+    }
+
+    /**
+     * 렌더 시각의 위치를 계산합니다. 결과는 getX/getY로 읽습니다.
+     *
+     * @param renderTime 렌더 시각 (서버 시각 기준 ms)
+     * @return 스냅샷이 하나도 없으면 false
+     */
+    public boolean sample(double renderTime) {
+        if (count == 0) {
+            return false;
+        }
+
+        // 최근 스냅샷보다 늦음: 제한된 외삽
+        if (renderTime >= times[newest]) {
+            double limit = Constants.MAX_EXTRAPOLATION * 1000.0;
+            double ahead = Math.min(renderTime - times[newest], limit) / 1000.0;
+            sampledX = (float) (xs[newest] + vxs[newest] * ahead);
+            sampledY = (float) (ys[newest] + vys[newest] * ahead);
+            // 외삽 한도를 넘으면 그 자리에 멈춘 것으로 표시
+            boolean held = renderTime - times[newest] >= limit;
+            sampledVx = held ? 0f : vxs[newest];
+            sampledVy = held ? 0f : vys[newest];
+            extrapolating = ahead > 0;
+            return true;
+        }
+        extrapolating = false;
+
+        // 최근 스냅샷부터 거꾸로 렌더 시각 직전 스냅샷을 찾음
+        int later = newest;
+        for (int i = 1; i < count; i++) {
+            int earlier = Math.floorMod(newest - i, times.length);
+            if (times[earlier] <= renderTime) {
+                float span = times[later] - times[earlier];
+                float t = (float) ((renderTime - times[earlier]) / span);
+                sampledX = xs[earlier] + (xs[later] - xs[earlier]) * t;
+                sampledY = ys[earlier] + (ys[later] - ys[earlier]) * t;
+                sampledVx = (xs[later] - xs[earlier]) * 1000f / span;
+                sampledVy = (ys[later] - ys[earlier]) * 1000f / span;
+                return true;
+            }
+            later = earlier;
+        }
+
+        // 가장 오래된 스냅샷보다 이전: 그 위치에 둠
+        sampledX = xs[later];
+        sampledY = ys[later];
+        sampledVx = 0f;
+        sampledVy = 0f;
+        return true;
+    }
+
+    /**
+     * 스냅샷을 모두 버립니다. (스폰/순간이동 시)
+     */
+    public void clear() {
+        newest = -1;
+        count = 0;
+        extrapolating = false;
+    }
+
+    public float getX() { return sampledX; }
+    public float getY() { return sampledY; }
+
+    /** 렌더 시각의 이동 속도 (픽셀/초, 방향/애니메이션용) */
+    public float getVelocityX() { return sampledVx; }
+    public float getVelocityY() { return sampledVy; }
+
+    /** 마지막 sample이 서버 확인 전 추정(외삽)인지 여부 */
+    public boolean isExtrapolating() { return extrapolating; }
+
+    public int size() { return count; }
+}
@@ -37,5 +37,12 @@ public class SkillCastMsg {
     public int projectileCount;      // 발사체 개수 (1이면 단일, 3이면 3방향 등)
     public float angleSpread;        // 발사 각도 간격 (도)
 
+    // 서버 피격 판정 규칙 (ServerHits.describeHits, hitRadius 0이면 클라이언트가 직접 피격 보고)
+    public float hitRadius;          // 피격 반경 (타원이면 가로 반지름)
+    public float hitRadiusY;         // 타원 세로 반지름 (0이면 원)
+    public float hitInterval;        // > 0 재피격 간격(초), 0 대상마다 한 번, < 0 hitDelay 시점에 한 번만 판정
+    public float hitDelay;           // 첫 판정까지 지연 (초)
+    public int maxHits;              // 최대 피격 수 (관통, 0이면 무제한)
+
     public SkillCastMsg() {}
 }
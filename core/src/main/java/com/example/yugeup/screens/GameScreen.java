@@ -29,9 +29,11 @@ import com.example.yugeup.utils.AssetManager;
 import com.example.yugeup.utils.Constants;
 import org.example.Main.*;
 import org.example.MonsterSpawnMsg;
-import org.example.MonsterUpdateMsg;
+import org.example.MonsterSnapshotMsg;
 import org.example.MonsterDeathMsg;
+import org.example.MonsterDamageBatchMsg;
 import org.example.MonsterDamageMsg;
+import org.example.PlayerStateMsg;
 import com.example.yugeup.network.messages.SkillCastMsg;
 import com.example.yugeup.network.messages.FogZoneMsg;
 import com.example.yugeup.network.messages.FogDamageMsg;
@@ -95,9 +97,6 @@ public class GameScreen implements Screen {
   // 몬스터 관리자 (PHASE_20)
   private com.example.yugeup.game.monster.MonsterManager monsterManager;
 
-  // 몬스터 HP 동기화 문제 해결용 타임스탬프 맵
-  private Map<Integer, Long> lastDamageTimestamp;
-
   // HUD 렌더러 (PHASE_11)
   private HUDRenderer hudRenderer;
 
@@ -144,7 +143,6 @@ public class GameScreen implements Screen {
     this.remotePlayers = new HashMap<>();
     this.otherPlayerProjectiles = new java.util.ArrayList<>();
     this.otherPlayerPvpProjectiles = new java.util.ArrayList<>();  // PVP 발사체 초기화
-    this.lastDamageTimestamp = new HashMap<>();  // HP 동기화용 타임스탬프 초기화
     this.remoteSkillEffects = new java.util.ArrayList<>();  // 원격 스킬 이펙트 초기화
   }
 
@@ -438,6 +436,9 @@ public class GameScreen implements Screen {
       return;
     }
 
+    // 스킬 공용 타겟 목록 갱신 (프레임당 한 번, 시전 입력 처리 전에)
+    myPlayer.getSkillWorld().getTargets().refresh(monsterManager.getMonsters(), remotePlayers);
+
     // 플레이어 컨트롤러 업데이트
     playerController.update(delta);
 
@@ -461,6 +462,7 @@ public class GameScreen implements Screen {
       com.example.yugeup.game.effect.RemoteSkillEffect effect = effectIterator.next();
       effect.update(delta);
       if (!effect.isAlive()) {
+        effect.free();
         effectIterator.remove();
       }
     }
@@ -476,113 +478,8 @@ public class GameScreen implements Screen {
       myPlayer.getMagicMissile().updateProjectiles(delta);
     }
 
-    // 원소 스킬 업데이트 (존 및 발사체)
-    if (myPlayer.getElementSkillSet() != null) {
-      java.util.List<com.example.yugeup.game.monster.Monster> monsters = monsterManager.getMonsters();
-
-      for (int i = 0; i < 3; i++) {
-        com.example.yugeup.game.skill.ElementalSkill skill = myPlayer.getElementSkillSet().getSkill(i);
-        if (skill != null) {
-          // 발사체에 몬스터 리스트 주입 (update 전에 먼저!)
-          if (skill instanceof com.example.yugeup.game.skill.fire.Fireball) {
-            for (com.example.yugeup.game.skill.fire.FireballProjectile proj : ((com.example.yugeup.game.skill.fire.Fireball) skill).getActiveProjectiles()) {
-              proj.setMonsterList(monsters);
-              proj.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              proj.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.water.WaterShot) {
-            for (com.example.yugeup.game.skill.water.WaterShotProjectile proj : ((com.example.yugeup.game.skill.water.WaterShot) skill).getActiveProjectiles()) {
-              proj.setMonsterList(monsters);
-              proj.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              proj.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.water.IceSpike) {
-            for (com.example.yugeup.game.skill.water.IceSpikeProjectile proj : ((com.example.yugeup.game.skill.water.IceSpike) skill).getActiveProjectiles()) {
-              proj.setMonsterList(monsters);
-              proj.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              proj.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.wind.AirSlash) {
-            // 스킬 자체에 몬스터 리스트 주입 (근접 공격용)
-            ((com.example.yugeup.game.skill.wind.AirSlash) skill).setMonsterList(monsters);
-            for (com.example.yugeup.game.skill.wind.AirSlashProjectile proj : ((com.example.yugeup.game.skill.wind.AirSlash) skill).getActiveProjectiles()) {
-              proj.setMonsterList(monsters);
-              proj.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              proj.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.earth.RockSmash) {
-            // 스킬 자체에 몬스터 리스트 주입 (타겟팅용)
-            ((com.example.yugeup.game.skill.earth.RockSmash) skill).setMonsterList(monsters);
-            for (com.example.yugeup.game.skill.earth.RockSmashZone zone : ((com.example.yugeup.game.skill.earth.RockSmash) skill).getActiveZones()) {
-              zone.setMonsterList(monsters);
-              zone.setPlayerList(remotePlayers, myPlayer);
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.lightning.LightningBolt) {
-            // 스킬 자체에 몬스터 리스트 주입 (타겟팅용)
-            ((com.example.yugeup.game.skill.lightning.LightningBolt) skill).setMonsterList(monsters);
-            for (com.example.yugeup.game.skill.lightning.LightningBoltZone zone : ((com.example.yugeup.game.skill.lightning.LightningBolt) skill).getActiveZones()) {
-              zone.setMonsterList(monsters);
-              zone.setPlayerList(remotePlayers, myPlayer);
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.lightning.ChainLightning) {
-            // 투사체에 몬스터 리스트 주입
-            for (com.example.yugeup.game.skill.lightning.ChainLightningProjectile proj : ((com.example.yugeup.game.skill.lightning.ChainLightning) skill).getActiveProjectiles()) {
-              proj.setMonsterList(monsters);
-              proj.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              proj.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          }
-
-          // 존/투사체에 몬스터 리스트 주입
-          if (skill instanceof com.example.yugeup.game.skill.fire.FlameWave) {
-            for (com.example.yugeup.game.skill.fire.FlameWaveProjectile proj : ((com.example.yugeup.game.skill.fire.FlameWave) skill).getActiveProjectiles()) {
-              proj.setMonsterList(monsters);
-              proj.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              proj.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.fire.Inferno) {
-            for (com.example.yugeup.game.skill.fire.InfernoZone zone : ((com.example.yugeup.game.skill.fire.Inferno) skill).getActiveZones()) {
-              zone.setMonsterList(monsters);
-              zone.setPlayerList(remotePlayers, myPlayer);
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.water.Flood) {
-            for (com.example.yugeup.game.skill.water.FloodProjectile projectile : ((com.example.yugeup.game.skill.water.Flood) skill).getActiveProjectiles()) {
-              projectile.setMonsterList(monsters);
-              projectile.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              projectile.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.wind.Tornado) {
-            for (com.example.yugeup.game.skill.wind.TornadoProjectile projectile : ((com.example.yugeup.game.skill.wind.Tornado) skill).getActiveProjectiles()) {
-              projectile.setMonsterList(monsters);
-              projectile.setPlayerList(new java.util.ArrayList<>(remotePlayers.values()));
-              projectile.setOwnerPlayerId(myPlayer.getPlayerId());
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.wind.Storm) {
-            for (com.example.yugeup.game.skill.wind.StormZone zone : ((com.example.yugeup.game.skill.wind.Storm) skill).getActiveZones()) {
-              zone.setMonsterList(monsters);
-              zone.setPlayerList(remotePlayers, myPlayer);
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.earth.EarthSpike) {
-            // 스킬 자체에 몬스터 리스트 주입
-            ((com.example.yugeup.game.skill.earth.EarthSpike) skill).setMonsterList(monsters);
-            for (com.example.yugeup.game.skill.earth.EarthSpikeZone zone : ((com.example.yugeup.game.skill.earth.EarthSpike) skill).getActiveZones()) {
-              zone.setMonsterList(monsters);
-              zone.setPlayerList(remotePlayers, myPlayer);
-            }
-          } else if (skill instanceof com.example.yugeup.game.skill.lightning.ThunderStorm) {
-            // 스킬 자체에 몬스터 리스트 주입
-            ((com.example.yugeup.game.skill.lightning.ThunderStorm) skill).setMonsterList(monsters);
-            for (com.example.yugeup.game.skill.lightning.ThunderStormZone zone : ((com.example.yugeup.game.skill.lightning.ThunderStorm) skill).getActiveZones()) {
-              zone.setMonsterList(monsters);
-              zone.setPlayerList(remotePlayers, myPlayer);
-            }
-          }
-
-          // 몬스터 리스트 주입 후 스킬 업데이트
-          skill.update(delta);
-        }
-      }
-    }
+    // 원소 스킬 발사체/존 업데이트 (쿨타임은 Player.update에서 처리)
+    myPlayer.getSkillWorld().update(delta);
 
     // 게임 맵 업데이트 (PHASE_09)
     gameMap.update(delta);
@@ -619,6 +516,9 @@ public class GameScreen implements Screen {
     // 게임 시간 업데이트 (PHASE_24)
     gameTime += delta;
 
+    // 이번 프레임까지 모은 피격 보고 전송 (네트워크 틱마다 한 묶음)
+    NetworkManager.getInstance().update(delta);
+
     // ===== 렌더링 시작 =====
     // 1. 뷰포트 적용
     viewport.apply();
@@ -818,6 +718,16 @@ public class GameScreen implements Screen {
     MessageHandler handler = MessageHandler.getInstance();
     int myPlayerId = NetworkManager.getInstance().getCurrentPlayerId();
 
+    // 내 이동 입력의 서버 처리 결과 - 가장 최근 것만 적용 (예측 위치 보정)
+    PlayerStateMsg latestState = null;
+    PlayerStateMsg stateMsg;
+    while ((stateMsg = handler.pollPlayerStateMsg()) != null) {
+      latestState = stateMsg;
+    }
+    if (latestState != null) {
+      playerController.applyServerState(latestState);
+    }
+
     // 서버로부터 받은 모든 PlayerMoveMsg 처리
     PlayerMoveMsg moveMsg;
     while ((moveMsg = handler.pollPlayerMoveMsg()) != null) {
@@ -836,8 +746,8 @@ public class GameScreen implements Screen {
         // System.out.println("[GameScreen] 원격 플레이어 추가: ID=" + moveMsg.playerId);
       }
 
-      // 목표 위치 업데이트 (보간으로 부드럽게 이동)
-      remotePlayer.setTargetPosition(moveMsg.x, moveMsg.y);
+      // 서버 시각이 찍힌 위치 추가 (보간 지연만큼 과거 시점으로 부드럽게 이동)
+      remotePlayer.addSnapshot(moveMsg.serverTime, moveMsg.x, moveMsg.y);
     }
   }
 
@@ -859,11 +769,8 @@ public class GameScreen implements Screen {
           com.example.yugeup.game.monster.MonsterType.fromString(spawnMsg.monsterType);
 
       if (monsterType != null) {
-        com.example.yugeup.game.monster.Monster monster =
-            com.example.yugeup.game.monster.MonsterFactory.createMonster(monsterType);
-        monster.setMonsterId(spawnMsg.monsterId);
-        monster.setPosition(spawnMsg.x, spawnMsg.y);
-        monsterManager.addMonster(monster);
+        // 같은 타입의 반납된 몬스터 재사용
+        monsterManager.spawnMonster(monsterType, spawnMsg.monsterId, spawnMsg.x, spawnMsg.y);
         System.out.println("[GameScreen] 몬스터 스폰 완료: ID=" + spawnMsg.monsterId);
       } else {
         System.out.println("[GameScreen] ❌ MonsterType 변환 실패: " + spawnMsg.monsterType);
@@ -873,35 +780,37 @@ public class GameScreen implements Screen {
       System.out.println("[GameScreen] 이번 프레임 총 " + spawnCount + "마리 스폰 처리");
     }
 
-    // 몬스터 업데이트 메시지 처리 (보간 이동)
-    MonsterUpdateMsg updateMsg;
-    int updateCount = 0;
-    while ((updateMsg = handler.pollMonsterUpdateMsg()) != null) {
-      updateCount++;
-      com.example.yugeup.game.monster.Monster monster = monsterManager.getMonster(updateMsg.monsterId);
-      if (monster != null) {
-        // 서버 위치를 목표 위치로 설정 (부드러운 보간 이동)
-        monster.setTargetPosition(updateMsg.x, updateMsg.y);
-        monster.setMaxHealth(updateMsg.maxHp);
+    // 몬스터 스냅샷 메시지 처리 (변경된 몬스터만 포함, 보간 이동)
+    MonsterSnapshotMsg snapshot;
+    while ((snapshot = handler.pollMonsterSnapshotMsg()) != null) {
+      long now = System.currentTimeMillis();
+      int count = snapshot.count();
+      for (int i = 0; i < count; i++) {
+        int monsterId = snapshot.ids[i];
+        com.example.yugeup.game.monster.Monster monster = monsterManager.getMonster(monsterId);
+        if (monster == null) {
+          continue;
+        }
+
+        // 서버 시각이 찍힌 위치/속도 추가 (보간 지연만큼 과거 시점으로 부드럽게 이동)
+        monster.addSnapshot(snapshot.serverTime,
+            MonsterSnapshotMsg.dequantize(snapshot.x[i]),
+            MonsterSnapshotMsg.dequantize(snapshot.y[i]),
+            MonsterSnapshotMsg.dequantize(snapshot.vx[i]),
+            MonsterSnapshotMsg.dequantize(snapshot.vy[i]));
+        monster.setMaxHealth(snapshot.maxHp[i]);
 
         // 서버 state 동기화 (ATTACKING 등의 상태 반영)
-        if (updateMsg.state != null && !updateMsg.state.isEmpty()) {
-          monster.setStateFromString(updateMsg.state);
-        }
+        monster.setStateFromCode(snapshot.state[i]);
 
         // HP는 최근 데미지 메시지 후 200ms 경과 시에만 업데이트
-        // (데미지 메시지와 업데이트 메시지의 순서가 뒤바뀌는 문제 방지)
-        Long lastDamage = lastDamageTimestamp.get(updateMsg.monsterId);
-        if (lastDamage == null || System.currentTimeMillis() - lastDamage > 200) {
-          monster.setCurrentHealth(updateMsg.hp);
+        // (데미지 메시지와 스냅샷의 순서가 뒤바뀌는 문제 방지)
+        if (now - monster.getLastDamageMillis() > 200) {
+          monster.setCurrentHealth(snapshot.hp[i]);
         }
         // 200ms 이내면 DamageMsg의 HP를 우선 신뢰
       }
     }
-    // 업데이트 로그는 너무 많아서 주석 처리
-    // if (updateCount > 0) {
-    //   System.out.println("[GameScreen] 몬스터 업데이트 " + updateCount + "개 처리");
-    // }
 
     // 스킬 시전 메시지 처리 (다른 플레이어의 스킬 이펙트)
     SkillCastMsg skillMsg;
@@ -922,18 +831,18 @@ public class GameScreen implements Screen {
           int count = skillMsg.projectileCount > 0 ? skillMsg.projectileCount : 3;
           for (int i = 0; i < count; i++) {
             com.example.yugeup.game.effect.RemoteSkillEffect effect =
-              new com.example.yugeup.game.effect.RemoteSkillEffect(skillMsg, remotePlayer.getX(), remotePlayer.getY(), i);
+              com.example.yugeup.game.effect.RemoteSkillEffect.obtain(skillMsg, remotePlayer.getX(), remotePlayer.getY(), i);
             remoteSkillEffects.add(effect);
           }
         } else if (skillType == com.example.yugeup.game.skill.ElementalSkill.SKILL_TYPE_ZONE_PLAYER_FOLLOW) {
           // 플레이어 추적형 Zone (Storm, StoneShield): 플레이어 참조 전달
           com.example.yugeup.game.effect.RemoteSkillEffect effect =
-            new com.example.yugeup.game.effect.RemoteSkillEffect(skillMsg, remotePlayer);
+            com.example.yugeup.game.effect.RemoteSkillEffect.obtain(skillMsg, remotePlayer);
           remoteSkillEffects.add(effect);
         } else {
           // 일반 투사체, 고정 Zone, 이동 Zone: 기존 방식
           com.example.yugeup.game.effect.RemoteSkillEffect effect =
-            new com.example.yugeup.game.effect.RemoteSkillEffect(skillMsg, remotePlayer.getX(), remotePlayer.getY());
+            com.example.yugeup.game.effect.RemoteSkillEffect.obtain(skillMsg, remotePlayer.getX(), remotePlayer.getY());
           remoteSkillEffects.add(effect);
         }
       }
@@ -964,7 +873,20 @@ public class GameScreen implements Screen {
       if (monster != null) {
         monster.setCurrentHealth(damageMsg.newHp);
         // 데미지 발생 시각 기록 (HP 동기화 우선순위 처리용)
-        lastDamageTimestamp.put(damageMsg.monsterId, System.currentTimeMillis());
+        monster.setLastDamageMillis(System.currentTimeMillis());
+      }
+    }
+
+    // 몬스터 피격 결과 묶음 처리 (서버 피격 판정, 틱마다 하나)
+    MonsterDamageBatchMsg batchMsg;
+    while ((batchMsg = handler.pollMonsterDamageBatchMsg()) != null) {
+      long now = System.currentTimeMillis();
+      for (int i = 0; i < batchMsg.count(); i++) {
+        com.example.yugeup.game.monster.Monster monster = monsterManager.getMonster(batchMsg.monsterIds[i]);
+        if (monster != null) {
+          monster.setCurrentHealth(batchMsg.newHp[i]);
+          monster.setLastDamageMillis(now);
+        }
       }
     }
   }
@@ -1108,7 +1030,7 @@ public class GameScreen implements Screen {
 
         if (targetPlayer != null) {
           // PVP 발사체 생성 (데미지 0 - 시각 효과용)
-          com.example.yugeup.game.skill.PvpProjectile pvpProjectile = new com.example.yugeup.game.skill.PvpProjectile(
+          com.example.yugeup.game.skill.PvpProjectile pvpProjectile = com.example.yugeup.game.skill.PvpProjectile.obtain(
               startPos,
               targetPlayer,
               0,  // 데미지 0 (시각 효과용, 실제 데미지는 서버에서 처리)
@@ -1124,7 +1046,7 @@ public class GameScreen implements Screen {
       else if (msg.targetMonsterId >= 0) {
         com.example.yugeup.game.monster.Monster target = monsterManager.getMonster(msg.targetMonsterId);
         if (target != null) {
-          com.example.yugeup.game.skill.Projectile projectile = new com.example.yugeup.game.skill.Projectile(
+          com.example.yugeup.game.skill.Projectile projectile = com.example.yugeup.game.skill.Projectile.obtain(
               startPos,
               target,
               0,  // 데미지 0 (시각 효과용)
@@ -1152,7 +1074,7 @@ public class GameScreen implements Screen {
       projectile.update(delta);
 
       if (!projectile.isAlive()) {
-        projectile.dispose();
+        projectile.free();
         iterator.remove();
       }
     }
@@ -1164,7 +1086,7 @@ public class GameScreen implements Screen {
       pvpProjectile.update(delta);
 
       if (!pvpProjectile.isAlive()) {
-        pvpProjectile.dispose();
+        pvpProjectile.free();
         pvpIterator.remove();
       }
     }
@@ -1328,36 +1250,14 @@ public class GameScreen implements Screen {
     }
 
     // 원소 스킬 발사체 타격 범위
-    if (myPlayer.getElementSkillSet() != null) {
-      for (int i = 0; i < 3; i++) {
-        com.example.yugeup.game.skill.ElementalSkill skill = myPlayer.getElementSkillSet().getSkill(i);
-        if (skill == null) continue;
-
-        // 각 스킬 타입별 발사체 처리
-        java.util.List<? extends com.example.yugeup.game.skill.BaseProjectile> projectiles = null;
-
-        if (skill instanceof com.example.yugeup.game.skill.fire.Fireball) {
-          projectiles = ((com.example.yugeup.game.skill.fire.Fireball) skill).getActiveProjectiles();
-          shapeRenderer.setColor(Color.RED);
-        } else if (skill instanceof com.example.yugeup.game.skill.water.WaterShot) {
-          projectiles = ((com.example.yugeup.game.skill.water.WaterShot) skill).getActiveProjectiles();
-          shapeRenderer.setColor(Color.BLUE);
-        } else if (skill instanceof com.example.yugeup.game.skill.water.IceSpike) {
-          projectiles = ((com.example.yugeup.game.skill.water.IceSpike) skill).getActiveProjectiles();
-          shapeRenderer.setColor(Color.CYAN);
-        } else if (skill instanceof com.example.yugeup.game.skill.wind.AirSlash) {
-          projectiles = ((com.example.yugeup.game.skill.wind.AirSlash) skill).getActiveProjectiles();
-          shapeRenderer.setColor(Color.WHITE);
-        }
-        // LightningBolt, ChainLightning은 Zone 방식이므로 Projectile 디버그 렌더링에서 제외
-
-        if (projectiles != null) {
-          for (com.example.yugeup.game.skill.BaseProjectile proj : projectiles) {
-            if (proj != null && proj.isAlive()) {
-              shapeRenderer.circle(proj.getPosition().x, proj.getPosition().y, elementalSkillRadius, 16);
-            }
-          }
-        }
+    shapeRenderer.setColor(Color.ORANGE);
+    com.badlogic.gdx.utils.Array<com.example.yugeup.game.skill.SkillEntity> entities = myPlayer.getSkillWorld().getEntities();
+    for (int i = 0; i < entities.size; i++) {
+      com.example.yugeup.game.skill.SkillEntity entity = entities.get(i);
+      // 존은 범위가 제각각이므로 발사체만 표시
+      if (entity instanceof com.example.yugeup.game.skill.BaseProjectile && !entity.isFinished()) {
+        com.example.yugeup.game.skill.BaseProjectile proj = (com.example.yugeup.game.skill.BaseProjectile) entity;
+        shapeRenderer.circle(proj.getPosition().x, proj.getPosition().y, elementalSkillRadius, 16);
       }
     }
 
@@ -1401,126 +1301,8 @@ public class GameScreen implements Screen {
       }
     }
 
-    // 원소 스킬 발사체 렌더링 (원소 선택된 경우만)
-    if (myPlayer.getElementSkillSet() != null) {
-      // 스킬 A, B, C 순회
-      for (int i = 0; i < 3; i++) {
-        com.example.yugeup.game.skill.ElementalSkill skill = myPlayer.getElementSkillSet().getSkill(i);
-        if (skill == null)
-          continue;
-
-        // 발사체를 가진 스킬인 경우 렌더링
-        if (skill instanceof com.example.yugeup.game.skill.fire.Fireball) {
-          com.example.yugeup.game.skill.fire.Fireball fireball = (com.example.yugeup.game.skill.fire.Fireball) skill;
-          for (com.example.yugeup.game.skill.fire.FireballProjectile proj : fireball.getActiveProjectiles()) {
-            if (proj != null && proj.isAlive()) {
-              proj.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.water.WaterShot) {
-          com.example.yugeup.game.skill.water.WaterShot waterShot = (com.example.yugeup.game.skill.water.WaterShot) skill;
-          for (com.example.yugeup.game.skill.water.WaterShotProjectile proj : waterShot.getActiveProjectiles()) {
-            if (proj != null && proj.isAlive()) {
-              proj.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.water.IceSpike) {
-          com.example.yugeup.game.skill.water.IceSpike iceSpike = (com.example.yugeup.game.skill.water.IceSpike) skill;
-          for (com.example.yugeup.game.skill.water.IceSpikeProjectile proj : iceSpike.getActiveProjectiles()) {
-            if (proj != null && proj.isAlive()) {
-              proj.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.wind.AirSlash) {
-          com.example.yugeup.game.skill.wind.AirSlash airSlash = (com.example.yugeup.game.skill.wind.AirSlash) skill;
-          for (com.example.yugeup.game.skill.wind.AirSlashProjectile proj : airSlash.getActiveProjectiles()) {
-            if (proj != null && proj.isAlive()) {
-              proj.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.earth.RockSmash) {
-          com.example.yugeup.game.skill.earth.RockSmash rockSmash = (com.example.yugeup.game.skill.earth.RockSmash) skill;
-          for (com.example.yugeup.game.skill.earth.RockSmashZone zone : rockSmash.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.lightning.LightningBolt) {
-          com.example.yugeup.game.skill.lightning.LightningBolt lightningBolt = (com.example.yugeup.game.skill.lightning.LightningBolt) skill;
-          for (com.example.yugeup.game.skill.lightning.LightningBoltZone zone : lightningBolt.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.lightning.ChainLightning) {
-          com.example.yugeup.game.skill.lightning.ChainLightning chainLightning = (com.example.yugeup.game.skill.lightning.ChainLightning) skill;
-          for (com.example.yugeup.game.skill.lightning.ChainLightningProjectile proj : chainLightning.getActiveProjectiles()) {
-            if (proj != null && proj.isAlive()) {
-              proj.render(batch);
-            }
-          }
-        }
-
-        // 존/투사체 스킬 렌더링
-        else if (skill instanceof com.example.yugeup.game.skill.fire.FlameWave) {
-          com.example.yugeup.game.skill.fire.FlameWave flameWave = (com.example.yugeup.game.skill.fire.FlameWave) skill;
-          for (com.example.yugeup.game.skill.fire.FlameWaveProjectile proj : flameWave.getActiveProjectiles()) {
-            if (proj != null && proj.isAlive()) {
-              proj.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.fire.Inferno) {
-          com.example.yugeup.game.skill.fire.Inferno inferno = (com.example.yugeup.game.skill.fire.Inferno) skill;
-          for (com.example.yugeup.game.skill.fire.InfernoZone zone : inferno.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.water.Flood) {
-          com.example.yugeup.game.skill.water.Flood flood = (com.example.yugeup.game.skill.water.Flood) skill;
-          for (com.example.yugeup.game.skill.water.FloodProjectile projectile : flood.getActiveProjectiles()) {
-            if (projectile != null && projectile.isAlive()) {
-              projectile.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.wind.Tornado) {
-          com.example.yugeup.game.skill.wind.Tornado tornado = (com.example.yugeup.game.skill.wind.Tornado) skill;
-          for (com.example.yugeup.game.skill.wind.TornadoProjectile projectile : tornado.getActiveProjectiles()) {
-            if (projectile != null && projectile.isAlive()) {
-              projectile.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.wind.Storm) {
-          com.example.yugeup.game.skill.wind.Storm storm = (com.example.yugeup.game.skill.wind.Storm) skill;
-          for (com.example.yugeup.game.skill.wind.StormZone zone : storm.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.earth.EarthSpike) {
-          com.example.yugeup.game.skill.earth.EarthSpike earthSpike = (com.example.yugeup.game.skill.earth.EarthSpike) skill;
-          for (com.example.yugeup.game.skill.earth.EarthSpikeZone zone : earthSpike.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.lightning.ThunderStorm) {
-          com.example.yugeup.game.skill.lightning.ThunderStorm thunderStorm = (com.example.yugeup.game.skill.lightning.ThunderStorm) skill;
-          for (com.example.yugeup.game.skill.lightning.ThunderStormZone zone : thunderStorm.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        } else if (skill instanceof com.example.yugeup.game.skill.earth.StoneShield) {
-          com.example.yugeup.game.skill.earth.StoneShield stoneShield = (com.example.yugeup.game.skill.earth.StoneShield) skill;
-          for (com.example.yugeup.game.skill.earth.StoneShieldZone zone : stoneShield.getActiveZones()) {
-            if (zone != null && zone.isActive()) {
-              zone.render(batch);
-            }
-          }
-        }
-      }
-    }
+    // 원소 스킬 발사체/존 렌더링
+    myPlayer.getSkillWorld().render(batch);
 
     // 원격 스킬 이펙트 렌더링
     for (com.example.yugeup.game.effect.RemoteSkillEffect effect : remoteSkillEffects) {
@@ -947,7 +947,7 @@ public class Constants {
     /** 플레이어 초기 스폰 위치 Y (중앙 구역 중심) */
     public static final float PLAYER_SPAWN_Y = GAME_MAP_HEIGHT / 2f;
 
-    /** 플레이어 이동 속도 (픽셀/초) */
+    /** 플레이어 이동 속도 (픽셀/초) - 서버 PlayerMotion.MOVE_SPEED와 같게 유지 */
     public static final float PLAYER_MOVE_SPEED = 150f;  // 300 → 150 감소 (이동속도 더 느리게)
 
     /** 플레이어 스프라이트 크기 (화면에 표시되는 크기) */
@@ -979,8 +979,20 @@ public class Constants {
     /** 조이스틱 터치 범위 여유 (반경의 1.5배) */
     public static final float JOYSTICK_TOUCH_RANGE = 1.5f;
 
-    /** 플레이어 위치 동기화 주기 (초) */
-    public static final float PLAYER_SYNC_INTERVAL = 0.1f;
+    /** 플레이어 위치 동기화 주기 (초) - 받는 쪽은 서버 시각 기준으로 보간 */
+    public static final float PLAYER_SYNC_INTERVAL = 0.2f;
+
+    /** 몬스터 스냅샷 주기 (초) - 서버 ServerMonsterManager.SYNC_INTERVAL과 같게 유지 */
+    public static final float MONSTER_SYNC_INTERVAL = 0.15f;
+
+    /** 원격 엔티티 보간 지연 (초) - 가장 긴 동기화 간격(0.2초) + 지터 여유 */
+    public static final float INTERPOLATION_DELAY = 0.25f;
+
+    /** 스냅샷이 끊겼을 때 마지막 속도로 외삽하는 최대 시간 (초) - 스냅샷 한 개 손실까지 */
+    public static final float MAX_EXTRAPOLATION = 0.2f;
+
+    /** 엔티티별 스냅샷 버퍼 크기 (보간 지연보다 충분히 긴 구간) */
+    public static final int SNAPSHOT_BUFFER_SIZE = 8;
 
 
     /**
@@ -0,0 +1,38 @@
+package org.example;
+
+/**
+ * 한 네트워크 틱 동안의 피격 보고 묶음 (클라이언트 → 서버)
+ *
+ * 클라이언트가 판정한 몬스터/PVP 피격을 프레임마다 따로 보내지 않고 모아서 한 번에 보냅니다.
+ * 같은 대상을 같은 스킬로 여러 번 맞히면 데미지를 합쳐 한 항목으로 보냅니다.
+ * 항목 i = (targetTypes[i], targetIds[i], damage[i], skillTypes[i])
+ * 공격자는 보낸 연결로 정하므로 담지 않습니다.
+ */
+public class AttackBatchMsg {
+    public static final byte TARGET_MONSTER = 0;
+    public static final byte TARGET_PLAYER = 1;
+
+    // 한 묶음에 담을 수 있는 최대 항목 수 (서버는 넘는 묶음을 받지 않음)
+    public static final int MAX_ENTRIES = 64;
+
+    public byte[] targetTypes;   // TARGET_MONSTER / TARGET_PLAYER
+    public int[] targetIds;      // 몬스터 ID 또는 플레이어 ID
+    public int[] damage;         // 데미지 합 (PVP는 배율 적용된 값)
+    public String[] skillTypes;  // 스킬 타입 (PVP 결과 중계용, 몬스터는 null)
+
+    public AttackBatchMsg() {}
+
+    public AttackBatchMsg(int count) {
+        this.targetTypes = new byte[count];
+        this.targetIds = new int[count];
+        this.damage = new int[count];
+        this.skillTypes = new String[count];
+    }
+
+    /**
+     * 담긴 피격 개수
+     */
+    public int count() {
+        return targetIds != null ? targetIds.length : 0;
+    }
+}
@@ -8,6 +8,19 @@ package org.example;
  */
 public class Main {
 
+    public static class SetPlayerNameMsg {
+        public String playerName;
+
+        public SetPlayerNameMsg() {}
+    }
+
+    public static class SetPlayerNameResponse {
+        public boolean success;
+        public String message;
+
+        public SetPlayerNameResponse() {}
+    }
+
     public static class GetRoomListMsg {
         public GetRoomListMsg() {}
     }
@@ -103,6 +116,7 @@ public class Main {
     public static class PlayerMoveMsg {
         public int playerId;
         public float x, y;
+        public int serverTime;  // 서버가 받은 시각 (서버 시작 기준 ms, 보낼 때는 0)
 
         public PlayerMoveMsg() {}
     }
@@ -112,12 +126,35 @@ public class Main {
         public int skillId;
         public float targetX, targetY;
 
+        // 시전자 위치 (방향 계산에 필수)
+        public float casterX;
+        public float casterY;
+
+        // 스킬의 모든 필요한 정보 (클라이언트에서 전송)
         public String skillName;
-        public String elementColor;
+        public String elementColor;      // "불", "물", "바람" 등
         public int baseDamage;
-        public float projectileSpeed;
-        public float projectileRadius;
-        public float projectileLifetime;
+        public float projectileSpeed;    // 스킬별 속도
+        public float projectileRadius;   // 투사체 크기
+        public float projectileLifetime; // 투사체 수명
+
+        // 스킬 타입 (동기화 방식 결정용)
+        public int skillType;            // 0: Projectile, 1: Zone(고정), 2: Zone(이동), 3: Zone(플레이어 추적)
+
+        // 이동형 Zone용 추가 데이터
+        public float directionX;         // 이동 방향 X
+        public float directionY;         // 이동 방향 Y
+
+        // 다방향 발사용 (IceSpike)
+        public int projectileCount;      // 발사체 개수 (1이면 단일, 3이면 3방향 등)
+        public float angleSpread;        // 발사 각도 간격 (도)
+
+        // 서버 피격 판정 규칙 (SkillHitSimulator, hitRadius 0이면 클라이언트가 직접 피격 보고)
+        public float hitRadius;          // 피격 반경 (타원이면 가로 반지름)
+        public float hitRadiusY;         // 타원 세로 반지름 (0이면 원)
+        public float hitInterval;        // > 0 재피격 간격(초), 0 대상마다 한 번, < 0 hitDelay 시점에 한 번만 판정
+        public float hitDelay;           // 첫 판정까지 지연 (초)
+        public int maxHits;              // 최대 피격 수 (관통, 0이면 무제한)
 
         public SkillCastMsg() {}
     }
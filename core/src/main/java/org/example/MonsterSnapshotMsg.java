@@ -0,0 +1,74 @@
+package org.example;
+
+/**
+ * 몬스터 스냅샷 메시지
+ *
+ * 서버가 변경된 몬스터 상태를 방 단위로 묶어 클라이언트에 동기화합니다.
+ * 서버의 org.example.MonsterSnapshotMsg와 필드가 정확히 일치해야 합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class MonsterSnapshotMsg {
+    // 상태 코드 (서버 MonsterEngine 상태 배열 값)
+    public static final byte STATE_IDLE = 0;
+    public static final byte STATE_PURSUING = 1;
+    public static final byte STATE_ATTACKING = 2;
+    public static final byte STATE_DEAD = 3;
+
+    // 위치/속도 양자화 배율 (1/8 픽셀 단위, short 범위로 최대 4095px)
+    public static final float POSITION_SCALE = 8f;
+
+    public int sequence;       // 스냅샷 번호 (방마다 증가)
+    public boolean full;       // true면 전체 스냅샷 (변경 여부와 무관하게 모든 몬스터 포함)
+    public int serverTime;     // 스냅샷 시각 (서버 시작 기준 ms, 보간 기준)
+
+    public int[] ids;          // 몬스터 ID
+    public short[] x, y;       // 양자화된 위치
+    public short[] vx, vy;     // 양자화된 속도
+    public short[] hp;         // 현재 HP
+    public short[] maxHp;      // 최대 HP
+    public byte[] state;       // 상태 코드
+
+    public MonsterSnapshotMsg() {}
+
+    public MonsterSnapshotMsg(int capacity) {
+        ids = new int[capacity];
+        x = new short[capacity];
+        y = new short[capacity];
+        vx = new short[capacity];
+        vy = new short[capacity];
+        hp = new short[capacity];
+        maxHp = new short[capacity];
+        state = new byte[capacity];
+    }
+
+    /**
+     * 포함된 몬스터 수
+     */
+    public int count() {
+        return ids != null ? ids.length : 0;
+    }
+
+    public static short quantize(float value) {
+        int q = Math.round(value * POSITION_SCALE);
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, q));
+    }
+
+    public static float dequantize(short value) {
+        return value / POSITION_SCALE;
+    }
+
+    /**
+     * 상태 문자열을 상태 코드로 변환합니다.
+     */
+    public static byte stateCode(String state) {
+        if (state == null) return STATE_IDLE;
+        switch (state) {
+            case "PURSUING": return STATE_PURSUING;
+            case "ATTACKING": return STATE_ATTACKING;
+            case "DEAD": return STATE_DEAD;
+            default: return STATE_IDLE;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example;
+
+/**
+ * 플레이어 이동 입력 묶음 (클라이언트 → 서버, 상태 채널)
+ *
+ * 프레임마다 기록한 조이스틱 입력에 순번을 붙여 여러 개를 한 번에 보냅니다.
+ * 서버가 아직 확인하지 않은 입력을 매번 다시 담으므로 패킷 하나가 빠져도 다음 패킷이 채웁니다.
+ * 입력 i의 순번은 firstSequence + i 입니다.
+ */
+public class PlayerInputMsg {
+    // 한 패킷에 담을 수 있는 최대 입력 수 (서버는 넘는 패킷을 받지 않음)
+    public static final int MAX_INPUTS = 48;
+
+    public int firstSequence;   // 첫 입력 순번 (1부터 증가)
+    public byte[] dirX, dirY;   // 이동 방향 * 속도 배수 (PlayerMotion.quantizeDirection)
+    public byte[] millis;       // 입력 시간 (ms, 부호 없는 값 1~250)
+
+    public transient int serverTime;  // 서버가 받은 시각 (직렬화하지 않음, 다른 플레이어에게 중계할 때 사용)
+
+    public PlayerInputMsg() {}
+
+    public PlayerInputMsg(int firstSequence, int count) {
+        this.firstSequence = firstSequence;
+        this.dirX = new byte[count];
+        this.dirY = new byte[count];
+        this.millis = new byte[count];
+    }
+
+    /**
+     * 담긴 입력 개수
+     */
+    public int count() {
+        return dirX != null ? dirX.length : 0;
+    }
+
+    public int getMillis(int index) {
+        return millis[index] & 0xFF;
+    }
+}
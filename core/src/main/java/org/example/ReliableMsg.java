@@ -0,0 +1,24 @@
+package org.example;
+
+/**
+ * 이벤트 채널 봉투 (NetChannel, UDP)
+ *
+ * 스폰/사망/피해/fog처럼 빠지면 안 되는 메시지를 담습니다.
+ * 확인응답은 누적 ack(이 순번까지 모두 받음) + 그 뒤 32개 순번의 수신 비트(선택적 ack)입니다.
+ * payload가 null이면 확인응답 전용 봉투입니다.
+ */
+public class ReliableMsg {
+    public int sequence;     // 이벤트 순번 (1부터 증가, 확인응답 전용이면 0, TCP 전환 표시면 -1)
+    public int ack;          // 상대에게서 순서대로 받은 마지막 순번
+    public int ackBits;      // 비트 i = 순번 ack + 1 + i 수신 여부
+    public Object payload;   // 실제 메시지 (null = 확인응답 전용)
+
+    public ReliableMsg() {}
+
+    public ReliableMsg(int sequence, int ack, int ackBits, Object payload) {
+        this.sequence = sequence;
+        this.ack = ack;
+        this.ackBits = ackBits;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example;
+
+/**
+ * 서버 상태 측정 메시지
+ *
+ * 서버의 부하 테스트 봇(LoadBot)이 방 틱 통계와 왕복 시간을 측정할 때 사용합니다.
+ * 게임 클라이언트는 보내지 않지만, 서버와 같은 고정 ID로 등록해 등록표를 맞춥니다.
+ * 서버의 org.example.ServerProbeMsg와 필드가 정확히 일치해야 합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+public class ServerProbeMsg {
+    public int sequence;          // 측정 번호
+    public long clientNanos;      // 전송 시각 (System.nanoTime)
+
+    public int roomId;            // 방 ID (방에 없으면 -1)
+    public int tickCount;         // 방 누적 틱 수
+    public int overrunCount;      // 방 누적 틱 초과 횟수
+    public float lastTickMillis;  // 최근 틱 소요 시간
+    public float maxTickMillis;   // 최대 틱 소요 시간
+    public int scheduledRooms;    // 서버 전체에서 틱 중인 방 개수
+
+    public ServerProbeMsg() {}
+}
@@ -0,0 +1,85 @@
+package com.example.yugeup.network;
+
+import org.example.AttackBatchMsg;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AttackBatcher 테스트
+ *
+ * 프레임마다 보고한 피격이 대상/스킬별로 합쳐져 한 묶음으로 나가는지,
+ * 묶음이 가득 차면 보낸 뒤 다시 기록하도록 알려주는지 확인합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestAttackBatcher {
+
+    private AttackBatcher batcher;
+
+    @BeforeEach
+    public void setUp() {
+        batcher = new AttackBatcher();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("같은 대상 피격 합산 테스트")
+    public void 같은_대상을_같은_스킬로_맞히면_데미지를_합친다() {
+        // Given & When: 여러 프레임에 걸친 지속 피해
+        for (int frame = 0; frame < 5; frame++) {
+            batcher.addMonsterHit(101, 10);
+            batcher.addPlayerHit(7, 3, "Storm");
+        }
+        batcher.addPlayerHit(7, 20, "Inferno");
+        batcher.addMonsterHit(102, 15);
+        AttackBatchMsg msg = batcher.drain();
+
+        // Then
+        assertEquals(4, msg.count(), "대상 + 스킬 조합마다 한 항목이어야 합니다");
+        assertEquals(101, msg.targetIds[0]);
+        assertEquals(50, msg.damage[0]);
+        assertEquals(AttackBatchMsg.TARGET_PLAYER, msg.targetTypes[1]);
+        assertEquals(15, msg.damage[1]);
+        assertEquals("Inferno", msg.skillTypes[2]);
+        assertEquals(20, msg.damage[2]);
+        assertEquals(102, msg.targetIds[3]);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("몬스터/플레이어 ID 구분 테스트")
+    public void 같은_ID라도_몬스터와_플레이어는_따로_기록한다() {
+        // Given & When
+        batcher.addMonsterHit(5, 10);
+        batcher.addPlayerHit(5, 10, null);
+        AttackBatchMsg msg = batcher.drain();
+
+        // Then
+        assertEquals(2, msg.count());
+        assertEquals(AttackBatchMsg.TARGET_MONSTER, msg.targetTypes[0]);
+        assertEquals(AttackBatchMsg.TARGET_PLAYER, msg.targetTypes[1]);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("비우기/가득 참 테스트")
+    public void 보낸_뒤에는_비고_가득_차면_기록을_거부한다() {
+        // Given & When & Then
+        assertNull(batcher.drain(), "기록이 없으면 보낼 것이 없어야 합니다");
+
+        for (int i = 0; i < AttackBatcher.MAX_ENTRIES; i++) {
+            assertTrue(batcher.addMonsterHit(i, 1));
+        }
+        assertFalse(batcher.addMonsterHit(AttackBatcher.MAX_ENTRIES, 1), "가득 차면 false");
+        assertTrue(batcher.addMonsterHit(0, 1), "이미 있는 대상은 가득 차도 합칠 수 있어야 합니다");
+
+        AttackBatchMsg msg = batcher.drain();
+        assertEquals(AttackBatcher.MAX_ENTRIES, msg.count());
+        assertEquals(2, msg.damage[0]);
+        assertEquals(0, batcher.size());
+        assertNull(batcher.drain());
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.yugeup.network;
+
+import org.example.PlayerInputMsg;
+import org.example.PlayerMotion;
+import org.example.PlayerStateMsg;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MovePredictor 테스트
+ *
+ * 프레임 입력이 순번/ms 단위로 기록되는지, 서버 위치를 받았을 때
+ * 확인 안 된 입력만 다시 실행해 서버와 같은 결과가 나오는지 확인합니다.
+ * 서버 실행은 org.example.PlayerMotion을 직접 호출해 흉내 냅니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestMovePredictor {
+
+    // x >= 200 은 벽
+    private static final PlayerMotion.Walls WALL_AT_200 = (x, y) -> x >= 200f;
+
+    private MovePredictor predictor;
+    private float[] position;
+
+    @BeforeEach
+    public void setUp() {
+        predictor = new MovePredictor();
+        position = new float[] {100f, 100f};
+    }
+
+    /**
+     * 서버가 입력 묶음 중 앞의 count개를 실행한 결과
+     */
+    private PlayerStateMsg serverRun(PlayerInputMsg msg, float startX, float startY, int count) {
+        float[] server = {startX, startY};
+        for (int i = 0; i < count; i++) {
+            PlayerMotion.step(server, msg.dirX[i], msg.dirY[i], msg.getMillis(i), WALL_AT_200);
+        }
+        PlayerStateMsg state = new PlayerStateMsg();
+        state.lastInput = msg.firstSequence + count - 1;
+        state.x = server[0];
+        state.y = server[1];
+        return state;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("프레임 입력 기록 테스트")
+    public void 움직인_프레임만_순번과_ms로_기록된다() {
+        // Given & When
+        predictor.record(1f, 0f, 1f / 60f, position, WALL_AT_200);
+        predictor.record(0f, 0f, 1f / 60f, position, WALL_AT_200);  // 정지
+        predictor.record(0f, 1f, 1f / 60f, position, WALL_AT_200);
+        PlayerInputMsg msg = predictor.buildMessage();
+
+        // Then
+        assertEquals(2, msg.count(), "정지 프레임은 기록하지 않아야 합니다");
+        assertEquals(1, msg.firstSequence);
+        assertEquals(64, msg.dirX[0]);
+        assertEquals(0, msg.dirY[0]);
+        assertEquals(16, msg.getMillis(0));
+        assertEquals(100f + PlayerMotion.MOVE_SPEED * 0.016f, position[0], 1e-3f);
+        assertEquals(3, predictor.getNextSequence());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("프레임 시간 누적 테스트")
+    public void 입력_시간의_합은_실제_프레임_시간과_같다() {
+        // Given & When: 30fps로 1초 (프레임 시간이 ms로 나누어떨어지지 않음)
+        for (int i = 0; i < 30; i++) {
+            predictor.record(1f, 0f, 1f / 30f, position, null);
+        }
+        PlayerInputMsg msg = predictor.buildMessage();
+
+        // Then
+        int total = 0;
+        for (int i = 0; i < msg.count(); i++) {
+            total += msg.getMillis(i);
+        }
+        assertTrue(Math.abs(total - 1000) <= 1, "입력 시간 합: " + total);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("서버 위치 보정 테스트")
+    public void 확인된_입력은_버리고_남은_입력만_다시_실행한다() {
+        // Given: 벽 쪽으로 이동하다가 대각선으로 미끄러짐
+        for (int i = 0; i < 40; i++) {
+            predictor.record(i < 20 ? 1f : 0.7f, i < 20 ? 0f : 0.7f, 1f / 30f, position, WALL_AT_200);
+        }
+        float predictedX = position[0];
+        float predictedY = position[1];
+        PlayerInputMsg msg = predictor.buildMessage();
+
+        // When: 서버가 앞의 25개만 처리한 위치를 받음
+        PlayerStateMsg state = serverRun(msg, 100f, 100f, 25);
+        float[] corrected = new float[2];
+        boolean applied = predictor.reconcile(state, corrected, WALL_AT_200);
+
+        // Then: 남은 15개를 다시 실행한 결과가 예측과 정확히 같음
+        assertTrue(applied);
+        assertEquals(15, predictor.getPendingCount());
+        assertEquals(predictedX, corrected[0], 0f, "같은 규칙이면 보정량이 0이어야 합니다");
+        assertEquals(predictedY, corrected[1], 0f);
+        assertTrue(corrected[0] < 200f - PlayerMotion.RADIUS + 1e-3f, "벽을 넘으면 안 됩니다");
+        assertEquals(26, predictor.buildMessage().firstSequence);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("서버와 어긋난 예측 보정 테스트")
+    public void 서버가_입력을_놓치면_서버_위치_기준으로_맞춰진다() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            predictor.record(1f, 0f, 0.02f, position, null);
+        }
+        PlayerInputMsg msg = predictor.buildMessage();
+
+        // When: 서버는 입력을 모두 처리했지만 시작 위치가 달랐음 (예: 순간이동)
+        PlayerStateMsg state = serverRun(msg, 50f, 50f, 10);
+        float[] corrected = new float[2];
+        predictor.reconcile(state, corrected, null);
+
+        // Then
+        assertEquals(0, predictor.getPendingCount());
+        assertNull(predictor.buildMessage(), "확인 안 된 입력이 없으면 보낼 것이 없어야 합니다");
+        assertEquals(state.x, corrected[0], 0f);
+        assertEquals(state.y, corrected[1], 0f);
+
+        // When & Then: 늦게 도착한 이전 상태는 무시
+        state.lastInput = 0;
+        assertFalse(predictor.reconcile(state, corrected, null));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("확인 안 된 입력 상한 테스트")
+    public void 입력이_너무_많이_쌓이면_오래된_것부터_버린다() {
+        // Given & When
+        int total = MovePredictor.MAX_INPUTS_PER_PACKET + 10;
+        for (int i = 0; i < total; i++) {
+            predictor.record(1f, 0f, 0.02f, position, null);
+        }
+        PlayerInputMsg msg = predictor.buildMessage();
+
+        // Then
+        assertEquals(MovePredictor.MAX_INPUTS_PER_PACKET, msg.count());
+        assertEquals(11, msg.firstSequence);
+    }
+}
@@ -0,0 +1,439 @@
+package com.example.yugeup.network;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Registration;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.example.yugeup.network.messages.SkillCastMsg;
+import org.example.AttackBatchMsg;
+import org.example.Main;
+import org.example.MonsterDamageBatchMsg;
+import org.example.MonsterDamageMsg;
+import org.example.MonsterUpdateMsg;
+import org.example.PlayerAttackMonsterMsg;
+import org.example.PlayerInputMsg;
+import org.example.PlayerStateMsg;
+import org.example.ReliableMsg;
+import org.example.SequencedMsg;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Protocol 테스트
+ *
+ * 클라이언트와 서버의 Kryo 등록표(ID/직렬화)가 같은지,
+ * 전용 직렬화 메시지가 양방향으로 같은 값으로 읽히는지 확인합니다.
+ * 서버 클래스는 ../3_2_J_Server/untitled/target/classes 의존성으로 사용합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestProtocolRegistry {
+
+    // 좌표 양자화 오차 (1/8 픽셀)
+    private static final float POSITION_EPSILON = 1f / 8f;
+
+    // 서버 빌드 결과 (클라이언트 복제본에 가려지지 않게 따로 읽음)
+    private static final File SERVER_CLASSES = new File("../3_2_J_Server/untitled/target/classes");
+
+    private Kryo clientKryo;
+    private Kryo serverKryo;
+
+    @BeforeEach
+    public void setUp() {
+        clientKryo = new Kryo();
+        Protocol.register(clientKryo);
+        serverKryo = new Kryo();
+        org.example.Protocol.register(serverKryo);
+    }
+
+    /**
+     * 한쪽 Kryo로 쓰고 다른 쪽 Kryo로 읽습니다.
+     */
+    private Object transfer(Kryo writer, Kryo reader, Object message) {
+        Output output = new Output(256, -1);
+        writer.writeClassAndObject(output, message);
+        Input input = new Input(output.toBytes());
+        return reader.readClassAndObject(input);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("클라이언트와 서버 등록표 일치 테스트")
+    public void 클라이언트와_서버의_등록_ID와_직렬화가_같다() {
+        // Given & When
+        java.util.List<String> client = Protocol.describe(clientKryo);
+        java.util.List<String> server = org.example.Protocol.describe(serverKryo);
+
+        // Then
+        assertFalse(client.isEmpty(), "등록된 메시지가 있어야 합니다");
+        assertEquals(server, client, "ID, 클래스 이름, 직렬화가 서버와 같아야 합니다");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("등록 필수/참조 추적 설정 테스트")
+    public void 등록되지_않은_클래스는_거부되고_참조_추적은_꺼진다() {
+        // Given & When & Then
+        assertTrue(clientKryo.isRegistrationRequired(), "등록 필수여야 합니다");
+        assertFalse(clientKryo.getReferences(), "참조 추적은 꺼져 있어야 합니다");
+        assertTrue(serverKryo.isRegistrationRequired(), "서버도 등록 필수여야 합니다");
+        assertFalse(serverKryo.getReferences(), "서버도 참조 추적이 꺼져 있어야 합니다");
+        assertThrows(IllegalArgumentException.class,
+            () -> clientKryo.writeClassAndObject(new Output(64, -1), new java.util.ArrayList<>()),
+            "등록되지 않은 클래스는 전송할 수 없어야 합니다");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("스킬 시전 메시지 양방향 변환 테스트")
+    public void 스킬_시전_메시지가_서버에서_같은_값으로_읽힌다() {
+        // Given
+        SkillCastMsg msg = new SkillCastMsg();
+        msg.playerId = 3;
+        msg.skillId = 5102;
+        msg.skillType = 0;
+        msg.casterX = 812.4f;
+        msg.casterY = 1290.75f;
+        msg.targetX = 900.1f;
+        msg.targetY = 1200.6f;
+        msg.directionX = 0.6f;
+        msg.directionY = -0.8f;
+        msg.skillName = "아이스 스파이크";
+        msg.elementColor = "물";
+        msg.baseDamage = 35;
+        msg.projectileSpeed = 450f;
+        msg.projectileRadius = 12.5f;
+        msg.projectileLifetime = 1.2f;
+        msg.projectileCount = 3;
+        msg.angleSpread = 15f;
+        msg.hitRadius = 56f;
+        msg.hitRadiusY = 28.5f;
+        msg.hitInterval = -1f;
+        msg.hitDelay = 0.5f;
+        msg.maxHits = 999;
+
+        // When
+        Main.SkillCastMsg server = (Main.SkillCastMsg) transfer(clientKryo, serverKryo, msg);
+        SkillCastMsg back = (SkillCastMsg) transfer(serverKryo, clientKryo, server);
+
+        // Then
+        assertEquals(3, back.playerId);
+        assertEquals(5102, back.skillId);
+        assertEquals(812.4f, back.casterX, POSITION_EPSILON);
+        assertEquals(1290.75f, back.casterY, POSITION_EPSILON);
+        assertEquals(900.1f, back.targetX, POSITION_EPSILON);
+        assertEquals(1200.6f, back.targetY, POSITION_EPSILON);
+        assertEquals(0.6f, back.directionX, 1e-3f);
+        assertEquals(-0.8f, back.directionY, 1e-3f);
+        assertEquals("아이스 스파이크", back.skillName);
+        assertEquals("물", back.elementColor);
+        assertEquals(35, back.baseDamage);
+        assertEquals(450f, back.projectileSpeed, POSITION_EPSILON);
+        assertEquals(12.5f, back.projectileRadius, POSITION_EPSILON);
+        assertEquals(1.2f, back.projectileLifetime, 1e-3f);
+        assertEquals(3, back.projectileCount);
+        assertEquals(15f, back.angleSpread, POSITION_EPSILON);
+        assertEquals(56f, server.hitRadius, POSITION_EPSILON, "서버가 피격 규칙을 읽어야 합니다");
+        assertEquals(28.5f, back.hitRadiusY, POSITION_EPSILON);
+        assertEquals(-1f, back.hitInterval, 1e-3f, "즉발(음수) 간격이 보존되어야 합니다");
+        assertEquals(0.5f, back.hitDelay, 1e-3f);
+        assertEquals(999, back.maxHits);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("스킬/원소 이름 표 변환 테스트")
+    public void 표에_있는_이름과_없는_이름이_모두_보존된다() {
+        // Given
+        String[] names = new String[WireSerializers.SKILL_NAMES.length + 2];
+        System.arraycopy(WireSerializers.SKILL_NAMES, 0, names, 0, WireSerializers.SKILL_NAMES.length);
+        names[names.length - 2] = "새 스킬";
+        names[names.length - 1] = null;
+
+        for (String name : names) {
+            SkillCastMsg msg = new SkillCastMsg();
+            msg.skillName = name;
+            msg.elementColor = name == null ? "얼음" : WireSerializers.ELEMENT_NAMES[0];
+
+            // When
+            Main.SkillCastMsg server = (Main.SkillCastMsg) transfer(clientKryo, serverKryo, msg);
+
+            // Then
+            assertEquals(name, server.skillName, "스킬 이름이 보존되어야 합니다");
+            assertEquals(msg.elementColor, server.elementColor, "원소 이름이 보존되어야 합니다");
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("이동/입력/공격/피격/몬스터 갱신 메시지 변환 테스트")
+    public void 자주_오가는_메시지가_양방향으로_같은_값으로_읽힌다() {
+        // Given
+        Main.PlayerMoveMsg move = new Main.PlayerMoveMsg();
+        move.playerId = 7;
+        move.x = 1024.3f;
+        move.y = 55.9f;
+        move.serverTime = 3_600_123;
+
+        PlayerAttackMonsterMsg attack = new PlayerAttackMonsterMsg();
+        attack.playerId = 7;
+        attack.monsterId = 120;
+        attack.attackerX = 1000f;
+        attack.attackerY = 60f;
+        attack.skillDamage = 22.5f;
+
+        MonsterDamageMsg damage = new MonsterDamageMsg();
+        damage.monsterId = 120;
+        damage.newHp = 0;
+        damage.damageAmount = 23;
+        damage.attackerId = -1;
+
+        MonsterUpdateMsg update = new MonsterUpdateMsg();
+        update.monsterId = 120;
+        update.x = 640.2f;
+        update.y = 320.7f;
+        update.vx = -40f;
+        update.vy = 12.5f;
+        update.hp = 77;
+        update.maxHp = 100;
+        update.state = "PURSUING";
+
+        PlayerInputMsg input = new PlayerInputMsg(70_001, 3);
+        input.dirX[0] = 64;
+        input.dirY[1] = -96;
+        input.millis[2] = (byte) 200;
+
+        MonsterDamageBatchMsg batch = new MonsterDamageBatchMsg(2);
+        batch.monsterIds[0] = 1001;
+        batch.newHp[0] = 40;
+        batch.damage[0] = 60;
+        batch.attackerIds[0] = 3;
+        batch.monsterIds[1] = 1002;
+        batch.damage[1] = 15;
+        batch.attackerIds[1] = -1;
+
+        PlayerStateMsg state = new PlayerStateMsg();
+        state.lastInput = 70_003;
+        state.x = 812.5f;
+        state.y = 96.25f;
+
+        // When
+        Main.PlayerMoveMsg moveRead = (Main.PlayerMoveMsg) transfer(serverKryo, clientKryo, move);
+        PlayerInputMsg inputRead = (PlayerInputMsg) transfer(clientKryo, serverKryo, input);
+        PlayerStateMsg stateRead = (PlayerStateMsg) transfer(serverKryo, clientKryo, state);
+        PlayerAttackMonsterMsg attackRead = (PlayerAttackMonsterMsg) transfer(clientKryo, serverKryo, attack);
+        MonsterDamageMsg damageRead = (MonsterDamageMsg) transfer(serverKryo, clientKryo, damage);
+        MonsterDamageBatchMsg batchRead = (MonsterDamageBatchMsg) transfer(serverKryo, clientKryo, batch);
+        MonsterUpdateMsg updateRead = (MonsterUpdateMsg) transfer(serverKryo, clientKryo, update);
+
+        // Then
+        assertEquals(7, moveRead.playerId);
+        assertEquals(1024.3f, moveRead.x, POSITION_EPSILON);
+        assertEquals(55.9f, moveRead.y, POSITION_EPSILON);
+        assertEquals(3_600_123, moveRead.serverTime, "보간 기준 서버 시각이 보존되어야 합니다");
+
+        assertEquals(70_001, inputRead.firstSequence);
+        assertEquals(3, inputRead.count());
+        assertEquals(64, inputRead.dirX[0]);
+        assertEquals(-96, inputRead.dirY[1]);
+        assertEquals(200, inputRead.getMillis(2), "입력 시간은 부호 없는 byte로 읽혀야 합니다");
+        assertEquals(70_003, stateRead.lastInput);
+        assertEquals(812.5f, stateRead.x, 0f);
+        assertEquals(96.25f, stateRead.y, 0f);
+
+        assertEquals(120, attackRead.monsterId);
+        assertEquals(1000f, attackRead.attackerX, POSITION_EPSILON);
+        assertEquals(22.5f, attackRead.skillDamage, POSITION_EPSILON);
+
+        assertEquals(120, damageRead.monsterId);
+        assertEquals(0, damageRead.newHp);
+        assertEquals(23, damageRead.damageAmount);
+        assertEquals(-1, damageRead.attackerId);
+
+        assertEquals(2, batchRead.count());
+        assertEquals(1001, batchRead.monsterIds[0]);
+        assertEquals(40, batchRead.newHp[0]);
+        assertEquals(60, batchRead.damage[0]);
+        assertEquals(3, batchRead.attackerIds[0]);
+        assertEquals(0, batchRead.newHp[1]);
+        assertEquals(-1, batchRead.attackerIds[1]);
+
+        assertEquals(640.2f, updateRead.x, POSITION_EPSILON);
+        assertEquals(-40f, updateRead.vx, POSITION_EPSILON);
+        assertEquals(77, updateRead.hp);
+        assertEquals(100, updateRead.maxHp);
+        assertEquals("PURSUING", updateRead.state);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("UDP 채널 봉투 변환 테스트")
+    public void 채널_봉투와_안의_메시지가_함께_보존된다() {
+        // Given
+        Main.PlayerMoveMsg move = new Main.PlayerMoveMsg();
+        move.playerId = 4;
+        move.x = 300f;
+        move.y = 200f;
+        SequencedMsg state = new SequencedMsg(-1, 1234, move);
+
+        MonsterDamageMsg damage = new MonsterDamageMsg();
+        damage.monsterId = 9;
+        damage.newHp = 12;
+        ReliableMsg event = new ReliableMsg(77, 40, 0x80000005, damage);
+        ReliableMsg ackOnly = new ReliableMsg(0, 41, 0, null);
+
+        // When
+        SequencedMsg stateRead = (SequencedMsg) transfer(clientKryo, serverKryo, state);
+        ReliableMsg eventRead = (ReliableMsg) transfer(serverKryo, clientKryo, event);
+        ReliableMsg ackRead = (ReliableMsg) transfer(clientKryo, serverKryo, ackOnly);
+
+        // Then
+        assertEquals(-1, stateRead.stream);
+        assertEquals(1234, stateRead.sequence);
+        assertEquals(300f, ((Main.PlayerMoveMsg) stateRead.payload).x, POSITION_EPSILON);
+
+        assertEquals(77, eventRead.sequence);
+        assertEquals(40, eventRead.ack);
+        assertEquals(0x80000005, eventRead.ackBits, "선택적 ack 비트 32개가 모두 보존되어야 합니다");
+        assertEquals(12, ((MonsterDamageMsg) eventRead.payload).newHp);
+
+        assertEquals(41, ackRead.ack);
+        assertNull(ackRead.payload, "확인응답 전용 봉투는 메시지가 없어야 합니다");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("피격 보고 묶음 변환 테스트")
+    public void 피격_보고_묶음이_대상_종류와_스킬까지_같은_값으로_읽힌다() {
+        // Given: 몬스터 피격 + 표에 있는 PVP 스킬 + 표에 없는 PVP 스킬
+        AttackBatcher batcher = new AttackBatcher();
+        batcher.addMonsterHit(70_000, 35);
+        batcher.addPlayerHit(12, 8, "ThunderStorm");
+        batcher.addPlayerHit(12, 4, "NewSkill");
+        AttackBatchMsg batch = batcher.drain();
+
+        // When
+        AttackBatchMsg batchRead = (AttackBatchMsg) transfer(clientKryo, serverKryo, batch);
+
+        // Then
+        assertEquals(3, batchRead.count());
+        assertEquals(AttackBatchMsg.TARGET_MONSTER, batchRead.targetTypes[0]);
+        assertEquals(70_000, batchRead.targetIds[0]);
+        assertEquals(35, batchRead.damage[0]);
+        assertNull(batchRead.skillTypes[0], "몬스터 피격은 스킬 타입이 없어야 합니다");
+
+        assertEquals(AttackBatchMsg.TARGET_PLAYER, batchRead.targetTypes[1]);
+        assertEquals(12, batchRead.targetIds[1]);
+        assertEquals("ThunderStorm", batchRead.skillTypes[1]);
+        assertEquals("NewSkill", batchRead.skillTypes[2], "표에 없는 스킬은 문자열로 보내야 합니다");
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("복제된 메시지 클래스 필드 일치 테스트")
+    public void 클라이언트_복제본과_서버_메시지의_필드_목록이_같다() throws Exception {
+        // Given: 같은 이름의 org.example 클래스가 클라이언트에도 있으므로 서버 클래스는 별도 로더로 읽음
+        assertTrue(SERVER_CLASSES.isDirectory(), "서버를 먼저 빌드해야 합니다: " + SERVER_CLASSES);
+        int compared = 0;
+        try (URLClassLoader serverLoader = new URLClassLoader(
+                new URL[] { SERVER_CLASSES.toURI().toURL() }, ClassLoader.getPlatformClassLoader())) {
+            for (int id = Protocol.FIRST_ID; ; id++) {
+                Registration client = clientKryo.getRegistration(id);
+                Registration server = serverKryo.getRegistration(id);
+                if (client == null || server == null) {
+                    break;
+                }
+                Class<?> clientType = client.getType();
+                if (!isMessageClass(clientType)) {
+                    continue;  // 기본형 배열, String 등
+                }
+
+                // When
+                Class<?> serverType = Class.forName(server.getType().getName(), false, serverLoader);
+
+                // Then
+                assertEquals(fieldList(serverType), fieldList(clientType),
+                    clientType.getName() + "의 필드가 서버 " + serverType.getName() + "와 달라졌습니다");
+                compared++;
+            }
+        }
+        assertTrue(compared > 0, "비교한 메시지가 있어야 합니다");
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("이동 입력 개수 범위 검사 테스트")
+    public void 범위_밖_입력_개수는_배열을_만들기_전에_거부된다() {
+        // Given: 한도 초과 개수, 5바이트 varint로 만든 음수 개수
+        int[] counts = {PlayerInputMsg.MAX_INPUTS + 1, 100_000_000, -1};
+
+        for (int count : counts) {
+            Output output = new Output(16, -1);
+            output.writeVarInt(1, true);
+            output.writeVarInt(count, true);
+            byte[] bytes = output.toBytes();
+
+            // When & Then
+            for (Kryo kryo : new Kryo[] { serverKryo, clientKryo }) {
+                assertThrows(KryoException.class,
+                    () -> kryo.readObject(new Input(bytes), PlayerInputMsg.class),
+                    "입력 개수 " + count + "는 거부되어야 합니다");
+            }
+        }
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("몬스터 피격 묶음 개수 범위 검사 테스트")
+    public void 범위_밖_몬스터_피격_개수는_배열을_만들기_전에_거부된다() {
+        // Given
+        int[] counts = {MonsterDamageBatchMsg.MAX_ENTRIES + 1, -1};
+
+        for (int count : counts) {
+            Output output = new Output(16, -1);
+            output.writeVarInt(count, true);
+            byte[] bytes = output.toBytes();
+
+            // When & Then
+            for (Kryo kryo : new Kryo[] { serverKryo, clientKryo }) {
+                assertThrows(KryoException.class,
+                    () -> kryo.readObject(new Input(bytes), MonsterDamageBatchMsg.class),
+                    "항목 수 " + count + "는 거부되어야 합니다");
+            }
+        }
+    }
+
+    private static boolean isMessageClass(Class<?> type) {
+        return !type.isArray() && !type.isPrimitive() && !type.isEnum()
+            && (type.getName().startsWith("org.example.") || type.getName().startsWith("com.example."));
+    }
+
+    /**
+     * 직렬화되는 필드 목록 (이름 순, "이름:타입"), 타입은 패키지가 달라도 비교되도록 단순 이름 사용
+     */
+    private static List<String> fieldList(Class<?> type) {
+        List<String> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+            fields.add(field.getName() + ":" + field.getType().getSimpleName());
+        }
+        Collections.sort(fields);
+        return fields;
+    }
+}
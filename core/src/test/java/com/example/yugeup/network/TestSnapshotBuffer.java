@@ -0,0 +1,129 @@
+package com.example.yugeup.network;
+
+import com.example.yugeup.utils.Constants;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SnapshotBuffer / ServerClock 테스트
+ *
+ * 서버 시각이 찍힌 위치를 렌더 시각 기준으로 보간/외삽하는지,
+ * 서버 시각 오프셋을 지연이 가장 짧은 표본 기준으로 추정하는지 확인합니다.
+ *
+ * @author YuGeup Development Team
+ * @version 1.0
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestSnapshotBuffer {
+
+    private static final float EPSILON = 0.01f;
+
+    private SnapshotBuffer buffer;
+
+    @BeforeEach
+    public void setUp() {
+        buffer = new SnapshotBuffer(0.2f);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("스냅샷 사이 선형 보간 테스트")
+    public void 렌더_시각의_위치는_앞뒤_스냅샷_사이로_보간된다() {
+        // Given
+        buffer.add(1000, 0f, 0f);
+        buffer.add(1200, 100f, 50f);
+
+        // When
+        boolean sampled = buffer.sample(1050);
+
+        // Then
+        assertTrue(sampled);
+        assertFalse(buffer.isExtrapolating(), "두 스냅샷 사이는 보간이어야 합니다");
+        assertEquals(25f, buffer.getX(), EPSILON);
+        assertEquals(12.5f, buffer.getY(), EPSILON);
+        assertEquals(500f, buffer.getVelocityX(), EPSILON, "구간 속도 = 100px / 0.2초");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("최근 스냅샷 이후 외삽 한도 테스트")
+    public void 최근_스냅샷보다_늦으면_제한된_시간만_외삽한다() {
+        // Given
+        buffer.add(1000, 0f, 0f, 100f, 0f);
+        float limitMillis = Constants.MAX_EXTRAPOLATION * 1000f;
+
+        // When & Then: 한도 안에서는 속도대로 이동
+        buffer.sample(1100);
+        assertTrue(buffer.isExtrapolating());
+        assertEquals(10f, buffer.getX(), EPSILON);
+
+        // When & Then: 한도를 넘으면 그 자리에 멈춤
+        buffer.sample(1000 + limitMillis * 5);
+        assertEquals(100f * Constants.MAX_EXTRAPOLATION, buffer.getX(), EPSILON);
+        assertEquals(0f, buffer.getVelocityX(), EPSILON, "멈춘 뒤에는 속도가 0이어야 합니다");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("늦게 도착한 스냅샷/빈 버퍼 테스트")
+    public void 이전_시각의_스냅샷은_버리고_빈_버퍼는_샘플하지_않는다() {
+        // Given & When & Then
+        assertFalse(buffer.sample(1000), "스냅샷이 없으면 false");
+
+        buffer.add(1000, 0f, 0f);
+        buffer.add(1200, 100f, 0f);
+        buffer.add(1100, 999f, 999f);  // 늦게 도착
+        assertEquals(2, buffer.size());
+
+        buffer.sample(1100);
+        assertEquals(50f, buffer.getX(), EPSILON);
+
+        buffer.clear();
+        assertFalse(buffer.sample(1100), "clear 후에는 스냅샷이 없어야 합니다");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("오래 멈춰 있던 엔티티 테스트")
+    public void 긴_공백_뒤_스냅샷은_한_간격_동안만_이동한다() {
+        // Given: 변경이 없어 2초 동안 스냅샷이 오지 않음
+        buffer.add(1000, 0f, 0f);
+        buffer.add(3000, 40f, 0f);
+
+        // When
+        buffer.sample(2500);
+        float beforeMove = buffer.getX();
+        buffer.sample(2900);
+        float midMove = buffer.getX();
+
+        // Then: 새 스냅샷 0.2초 전까지는 이전 위치에 있음
+        assertEquals(0f, beforeMove, EPSILON);
+        assertEquals(20f, midMove, EPSILON);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("서버 시각 오프셋 추정 테스트")
+    public void 지연이_가장_짧은_표본을_기준으로_서버_시각을_추정한다() {
+        // Given: 서버 시계가 로컬보다 5000ms 앞서고, 전송 지연은 20~80ms
+        ServerClock clock = new ServerClock();
+        int[] delays = {80, 20, 50, 35, 60, 20, 75, 40};
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            long local = 100L + i * 50L;
+            int serverSent = (int) (local + 5000 - delays[i % delays.length]);
+            clock.observe(serverSent, local);
+        }
+
+        // Then: 오프셋 = 5000 - 최소 지연(20)
+        assertTrue(clock.isSynced());
+        assertEquals(4980.0, clock.getOffsetMillis(), 1.0);
+        assertEquals(10000 + 4980.0, clock.getServerTime(10000), 1.0);
+
+        // When & Then: 서버 재시작 등으로 크게 바뀌면 바로 맞춤
+        clock.observe(100, 20000);
+        assertEquals(100 - 20000, clock.getOffsetMillis(), 1.0);
+    }
+}